@@ -0,0 +1,157 @@
+package main;
+
+import model.StudentRecord;
+import tree.BST;
+import tree.BTree;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * B-TREE BENCHMARK - Binary BST vs high-fanout BTree
+ *
+ * Hardware cache-miss counters are not reachable from Java, so the memory
+ * behaviour is shown two ways:
+ *  - Nodes visited per search (each node is at least one dependent miss
+ *    once the tree is larger than the CPU caches)
+ *  - Lookup latency at growing n: the BST slows down sharply once its
+ *    nodes no longer fit in cache, the BTree much less
+ *
+ * Requirements:
+ *  ✓ BTree gives the same answers as BST under random insert/delete/update
+ *  ✓ Every fanout (16 / 32 / 64) keeps all B-tree invariants
+ *  ✓ Search latency and nodes per search vs BST
+ *  ✓ Sorted input does not degrade the BTree
+ */
+public class BTreeBenchmark {
+
+    private static final int[] SIZES = {10000, 100000, 1000000};
+    private static final int[] FANOUTS = {16, 32, 64};
+    private static final int LOOKUPS = 300000;
+    private static final int ROUNDS = 3;
+
+    public static void main(String[] args) {
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("⚡ B-TREE BENCHMARK");
+        System.out.println("=".repeat(70) + "\n");
+
+        // ========== TEST 1: CORRECTNESS ==========
+        System.out.println("📝 TEST 1: Random operations vs BST");
+        System.out.println("-".repeat(70));
+
+        for (int fanout : FANOUTS) {
+            System.out.println("  • maxKeys=" + fanout + ": " + (randomOperationsAgree(fanout) ? "agrees with BST, " +
+                    "invariants hold ✓" : "MISMATCH ❌"));
+        }
+
+        BTree sorted = new BTree();
+        sorted.setVerbose(false);
+        List<StudentRecord> ascending = TestData.generateStudentRecords(200000, 1000000);
+        for (StudentRecord record : ascending) {
+            sorted.insert(record);
+        }
+        System.out.println("  • 200000 sorted inserts: height " + sorted.getHeight() +
+                (sorted.isValidBTree() && sorted.getHeight() <= 5 ? " ✓" : " ❌"));
+
+        BTree bulk = new BTree();
+        bulk.bulkLoadSorted(ascending);
+        System.out.println("  • bulkLoadSorted: " + bulk.size() + " records, height " + bulk.getHeight() +
+                (bulk.isValidBTree() && bulk.inOrderTraversal().equals(ascending) ? " ✓" : " ❌"));
+
+        // ========== TEST 2: SEARCH LATENCY ==========
+        System.out.println("\n📝 TEST 2: Search latency (" + LOOKUPS + " random hits, best of " + ROUNDS + ")");
+        System.out.println("-".repeat(70));
+        System.out.printf("  %-10s %-14s %12s %14s %10s\n", "N", "TREE", "ns/SEARCH", "NODES/SEARCH", "SPEEDUP");
+
+        for (int n : SIZES) {
+            List<StudentRecord> records = TestData.generateStudentRecords(n, 1000000);
+            Collections.shuffle(records, new Random(42));
+
+            BST bst = new BST();
+            bst.setVerbose(false);
+            for (StudentRecord record : records) {
+                bst.insert(record);
+            }
+
+            String[] probes = new String[LOOKUPS];
+            Random random = new Random(7);
+            for (int i = 0; i < LOOKUPS; i++) {
+                probes[i] = records.get(random.nextInt(n)).getMatricNumber();
+            }
+
+            double bstNanos = timeLookups(probes, bst::search);
+            System.out.printf("  %-10d %-14s %12.1f %14.1f %10s\n", n, "BST", bstNanos,
+                    bst.getAverageSearchCost(), "1.00x");
+
+            for (int fanout : FANOUTS) {
+                BTree btree = new BTree(fanout);
+                btree.setVerbose(false);
+                for (StudentRecord record : records) {
+                    btree.insert(record);
+                }
+                double nanos = timeLookups(probes, btree::search);
+                System.out.printf("  %-10s %-14s %12.1f %14d %9.2fx\n", "", "BTree(" + fanout + ")", nanos,
+                        btree.getHeight(), bstNanos / nanos);
+            }
+        }
+
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("✅ B-TREE BENCHMARK COMPLETE");
+        System.out.println("=".repeat(70) + "\n");
+    }
+
+    /**
+     * Best-of-ROUNDS average ns per lookup (every probe must hit)
+     */
+    private static double timeLookups(String[] probes, java.util.function.Function<String, StudentRecord> search) {
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            int hits = 0;
+            long start = System.nanoTime();
+            for (String probe : probes) {
+                if (search.apply(probe) != null) {
+                    hits++;
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+            if (hits != probes.length) {
+                System.out.println("  ❌ Only " + hits + " of " + probes.length + " lookups hit");
+            }
+            best = Math.min(best, elapsed);
+        }
+        return best / (double) probes.length;
+    }
+
+    /**
+     * 200k mixed operations on a small key space (so deletes hit and
+     * nodes underflow often), checked against BST at the end
+     */
+    private static boolean randomOperationsAgree(int fanout) {
+        BST bst = new BST();
+        bst.setVerbose(false);
+        BTree btree = new BTree(fanout);
+        btree.setVerbose(false);
+        Random random = new Random(fanout);
+
+        boolean agree = true;
+        for (int i = 0; i < 200000 && agree; i++) {
+            String matric = "AIU" + (1000 + random.nextInt(5000));
+            int op = random.nextInt(10);
+            if (op < 5) {
+                StudentRecord record = new StudentRecord("Student " + i, matric, random.nextInt(401) / 100.0);
+                agree = bst.insert(record) == btree.insert(record);
+            } else if (op < 9) {
+                agree = bst.delete(matric) == btree.delete(matric);
+            } else {
+                StudentRecord record = new StudentRecord("Updated " + i, matric, 4.0);
+                agree = bst.update(record) == btree.update(record);
+            }
+            if (i % 10000 == 0) {
+                agree &= btree.isValidBTree();
+            }
+        }
+        return agree && btree.isValidBTree() && btree.size() == bst.size() &&
+                btree.inOrderTraversal().equals(bst.inOrderTraversal()) &&
+                (btree.isEmpty() || btree.findMin() == bst.findMin() && btree.findMax() == bst.findMax());
+    }
+}
@@ -0,0 +1,161 @@
+package main;
+
+import model.StudentRecord;
+import tree.BST;
+import utilities.CountingBloomFilter;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * BLOOM FILTER TEST - Membership filter in front of BST.search
+ *
+ * Requirements:
+ *  ✓ Present keys are ALWAYS found (no false negatives)
+ *  ✓ Absent keys are mostly rejected without a tree descent
+ *  ✓ Deleted keys stop matching (counting filter supports deletes)
+ *  ✓ Observed false-positive rate is close to the configured target
+ *  ✓ Compare lookup time for a 30% miss workload with and without the filter
+ */
+public class BloomFilterTest {
+
+    private static final int RECORD_COUNT = 20000;
+    private static final int LOOKUP_COUNT = 200000;
+    private static final double TARGET_FPP = 0.01;
+
+    public static void main(String[] args) {
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("🧪 BLOOM FILTER TEST (n=" + RECORD_COUNT + ")");
+        System.out.println("=".repeat(70) + "\n");
+
+        List<StudentRecord> records = TestData.generateStudentRecords(RECORD_COUNT, 1000);
+        Collections.shuffle(records, new Random(42)); // Avoid a skewed tree
+
+        BST bst = new BST();
+        bst.setVerbose(false);
+        for (StudentRecord record : records) {
+            bst.insert(record);
+        }
+        System.out.println("✓ Tree built with " + bst.countNodes() + " students");
+
+        bst.enableMembershipFilter(RECORD_COUNT, TARGET_FPP);
+        CountingBloomFilter filter = bst.getMembershipFilter();
+        System.out.println("✓ Filter: " + filter.getCounterCount() + " counters, " +
+                filter.getHashCount() + " hash functions");
+
+        // ========== TEST 1: NO FALSE NEGATIVES ==========
+        System.out.println("\n📝 TEST 1: Every present key is found");
+        System.out.println("-".repeat(70));
+
+        int found = 0;
+        for (StudentRecord record : records) {
+            if (bst.search(record.getMatricNumber()) != null) {
+                found++;
+            }
+        }
+        System.out.println("  • Found: " + found + "/" + records.size() +
+                (found == records.size() ? " ✓" : " ❌"));
+
+        // ========== TEST 2: FALSE-POSITIVE RATE ==========
+        System.out.println("\n📝 TEST 2: Absent keys (typos / unknown matrics)");
+        System.out.println("-".repeat(70));
+
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            bst.search("AIU9" + (1000000 + i)); // Never inserted
+        }
+        System.out.println("  • Rejected by filter: " + bst.getFilterRejections());
+        System.out.println("  • False positives: " + bst.getFilterFalsePositives());
+        System.out.println("  • Observed FP rate: " +
+                String.format("%.4f", bst.getFilterFalsePositiveRate()));
+        System.out.println("  • Expected FP rate: " +
+                String.format("%.4f", filter.getExpectedFalsePositiveRate()));
+        System.out.println("  • Within 2x target: " +
+                (bst.getFilterFalsePositiveRate() <= TARGET_FPP * 2 ? "YES ✓" : "NO ❌"));
+
+        // ========== TEST 3: DELETES ==========
+        System.out.println("\n📝 TEST 3: Deleted students (graduated)");
+        System.out.println("-".repeat(70));
+
+        List<StudentRecord> graduated = records.subList(0, RECORD_COUNT / 4);
+        long rejectionsBefore = bst.getFilterRejections();
+        long falsePositivesBefore = bst.getFilterFalsePositives();
+        for (StudentRecord record : graduated) {
+            bst.delete(record.getMatricNumber());
+        }
+        for (int i = 0; i < 1000; i++) {
+            bst.delete("XYZ" + i); // not in the tree
+        }
+        System.out.println("  • Deletes leave lookup statistics unchanged: " +
+                (bst.getFilterRejections() == rejectionsBefore &&
+                        bst.getFilterFalsePositives() == falsePositivesBefore ? "YES ✓" : "NO ❌"));
+
+        int stillFound = 0;
+        int rejected = 0;
+        for (StudentRecord record : graduated) {
+            if (bst.search(record.getMatricNumber()) != null) {
+                stillFound++;
+            }
+            if (!filter.mightContain(record.getMatricNumber())) {
+                rejected++;
+            }
+        }
+        int remainingFound = 0;
+        for (StudentRecord record : records.subList(RECORD_COUNT / 4, RECORD_COUNT)) {
+            if (bst.search(record.getMatricNumber()) != null) {
+                remainingFound++;
+            }
+        }
+        System.out.println("  • Deleted: " + graduated.size());
+        System.out.println("  • Deleted keys still found: " + stillFound + (stillFound == 0 ? " ✓" : " ❌"));
+        System.out.println("  • Deleted keys rejected by filter: " + rejected + "/" + graduated.size());
+        System.out.println("  • Remaining keys found: " + remainingFound + "/" + (RECORD_COUNT - graduated.size()) +
+                (remainingFound == RECORD_COUNT - graduated.size() ? " ✓" : " ❌"));
+        System.out.println("  • Is valid BST: " + bst.isValidBST() + " ✓");
+
+        // ========== TEST 4: 30% MISS WORKLOAD ==========
+        System.out.println("\n📝 TEST 4: Lookup time, 30% misses (" + LOOKUP_COUNT + " lookups)");
+        System.out.println("-".repeat(70));
+
+        List<StudentRecord> remaining = records.subList(RECORD_COUNT / 4, RECORD_COUNT);
+        String[] workload = new String[LOOKUP_COUNT];
+        Random random = new Random(7);
+        for (int i = 0; i < LOOKUP_COUNT; i++) {
+            if (random.nextInt(100) < 30) {
+                workload[i] = "AIU" + (500000 + random.nextInt(500000)); // Miss
+            } else {
+                workload[i] = remaining.get(random.nextInt(remaining.size())).getMatricNumber();
+            }
+        }
+
+        long withFilter = timeLookups(bst, workload);
+        bst.disableMembershipFilter();
+        long withoutFilter = timeLookups(bst, workload);
+
+        System.out.println("  • Without filter: " + withoutFilter / 1000 + " µs");
+        System.out.println("  • With filter:    " + withFilter / 1000 + " µs");
+        System.out.println("  • Speedup: " + String.format("%.2fx", (double) withoutFilter / withFilter));
+
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("✅ BLOOM FILTER TEST COMPLETE");
+        System.out.println("=".repeat(70) + "\n");
+    }
+
+    /**
+     * Run the workload twice (warm-up + measured) and return measured nanoseconds
+     */
+    private static long timeLookups(BST bst, String[] workload) {
+        int hits = 0;
+        for (String matric : workload) {
+            if (bst.search(matric) != null) hits++;
+        }
+
+        long start = System.nanoTime();
+        for (String matric : workload) {
+            if (bst.search(matric) != null) hits++;
+        }
+        long elapsed = System.nanoTime() - start;
+
+        if (hits < 0) System.out.println(hits); // Keep the loop from being optimized away
+        return elapsed;
+    }
+}
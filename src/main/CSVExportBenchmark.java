@@ -0,0 +1,130 @@
+package main;
+
+import model.StudentRecord;
+import tree.BST;
+import utilities.CSVDataLoader;
+import utilities.CSVExporter;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * CSV EXPORT BENCHMARK - toCSVString() loop vs CSVExporter
+ *
+ * Requirements:
+ *  ✓ CSVExporter output is byte-identical to writing toCSVString() rows
+ *  ✓ Tricky CGPA values (ties such as 2.675, 1.005) format identically
+ *  ✓ Exported file loads back into the same records
+ *  ✓ Export throughput (rows/sec, MB/s)
+ */
+public class CSVExportBenchmark {
+
+    private static final int RECORD_COUNT = 1000000;
+    private static final int ROUNDS = 3;
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("⚡ CSV EXPORT BENCHMARK (n=" + RECORD_COUNT + ")");
+        System.out.println("=".repeat(70) + "\n");
+
+        File dir = new File(System.getProperty("java.io.tmpdir"));
+        File baselineFile = new File(dir, "export-baseline.csv");
+        File exporterFile = new File(dir, "export-fast.csv");
+
+        List<StudentRecord> records = TestData.generateStudentRecords(RECORD_COUNT, 1000000);
+        Collections.shuffle(records, new Random(42));
+        BST bst = new BST();
+        bst.setVerbose(false);
+        for (StudentRecord record : records) {
+            bst.insert(record);
+        }
+        records = null;
+
+        // ========== TIMING ==========
+        System.out.printf("  %-30s %10s %12s %10s\n", "EXPORTER", "BEST (ms)", "ROWS/SEC", "MB/s");
+        System.out.println("  " + "-".repeat(66));
+
+        long baseline = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            exportWithToCSVString(bst, baselineFile);
+            baseline = Math.min(baseline, System.nanoTime() - start);
+        }
+        printRow("toCSVString() + BufferedWriter", baseline, baselineFile.length(), 0);
+
+        long fast = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            CSVExporter.exportToCSV(bst, exporterFile.getPath());
+            fast = Math.min(fast, System.nanoTime() - start);
+        }
+        printRow("CSVExporter.exportToCSV", fast, exporterFile.length(), baseline);
+
+        // ========== CORRECTNESS ==========
+        System.out.println();
+        boolean identical = Arrays.equals(Files.readAllBytes(baselineFile.toPath()),
+                Files.readAllBytes(exporterFile.toPath()));
+        System.out.println("  • Byte-identical to toCSVString(): " + (identical ? "YES ✓" : "NO ❌"));
+
+        BST tricky = new BST();
+        tricky.setVerbose(false);
+        double[] ties = {2.675, 1.005, 0.125, 0.005, 3.445, 3.995, 0.0, 4.0};
+        for (int i = 0; i < ties.length; i++) {
+            tricky.insert(new StudentRecord("Müller Ümit " + i, "AIU" + i, ties[i]));
+        }
+        exportWithToCSVString(tricky, baselineFile);
+        CSVExporter.exportToCSV(tricky, exporterFile.getPath());
+        boolean tiesIdentical = Arrays.equals(Files.readAllBytes(baselineFile.toPath()),
+                Files.readAllBytes(exporterFile.toPath()));
+        System.out.println("  • Half-way CGPAs and UTF-8 names identical: " + (tiesIdentical ? "YES ✓" : "NO ❌"));
+
+        // Exported rows are sorted: reload with a balanced bulk build, not n inserts
+        CSVExporter.exportToCSV(bst, exporterFile.getPath());
+        BST reloaded = new BST();
+        reloaded.setVerbose(false);
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        reloaded.bulkLoadSorted(Arrays.asList(CSVDataLoader.loadFromCSV(exporterFile.getPath())));
+        System.setOut(out);
+        System.out.println("  • Reloaded record count: " + reloaded.countNodes() +
+                (reloaded.countNodes() == RECORD_COUNT ? " ✓" : " ❌"));
+
+        baselineFile.delete();
+        exporterFile.delete();
+
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("✅ CSV EXPORT BENCHMARK COMPLETE");
+        System.out.println("=".repeat(70) + "\n");
+    }
+
+    /**
+     * The straightforward export: one toCSVString() per record
+     */
+    private static void exportWithToCSVString(BST bst, File file) throws IOException {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file),
+                StandardCharsets.UTF_8), 1 << 16)) {
+            writer.write("matric,name,cgpa\n");
+            for (StudentRecord record : bst) {
+                writer.write(record.toCSVString());
+                writer.write('\n');
+            }
+        }
+    }
+
+    private static void printRow(String label, long nanos, long bytes, long baseline) {
+        System.out.printf("  %-30s %10d %12.0f %10.1f%s\n", label, nanos / 1000000,
+                RECORD_COUNT / (nanos / 1e9), bytes / (1024.0 * 1024.0) / (nanos / 1e9),
+                baseline > 0 ? String.format("   (%.1fx)", (double) baseline / nanos) : "");
+    }
+}
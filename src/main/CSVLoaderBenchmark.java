@@ -0,0 +1,222 @@
+package main;
+
+import model.StudentRecord;
+import utilities.CSVDataLoader;
+import utilities.LoadReport;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * CSV LOADER BENCHMARK - Ingestion throughput (MB/s)
+ *
+ * Generates a synthetic student CSV and loads it with each loader,
+ * then measures loadFromCSVParallel() with 1 to 16 threads.
+ * A small edge-case file (LF and CRLF, trailing commas, quotes) checks
+ * that every loader gives the same records and the same LoadReport.
+ * The file is read once before timing so every loader sees a warm page cache.
+ *
+ * Usage: java main.CSVLoaderBenchmark [sizeMB]   (default 64 MB)
+ * Note: the loaders return every record, so the heap must hold the whole
+ * dataset (about 6x the CSV size); e.g. a 2 GB run needs -Xmx12g or more.
+ */
+public class CSVLoaderBenchmark {
+
+    private static final int ROUNDS = 3;
+
+    public static void main(String[] args) throws IOException {
+        int sizeMB = (args.length > 0) ? Integer.parseInt(args[0]) : 64;
+
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("⚡ CSV LOADER BENCHMARK (" + sizeMB + " MB)");
+        System.out.println("=".repeat(70) + "\n");
+
+        File csv = File.createTempFile("csv-benchmark", ".csv");
+        csv.deleteOnExit();
+        long rows = generateCSV(csv, sizeMB * 1024L * 1024L);
+        double megabytes = csv.length() / (1024.0 * 1024.0);
+        System.out.println("✓ Generated " + rows + " rows (" + String.format("%.1f", megabytes) + " MB)");
+
+        // Warm page cache and JIT, and check both loaders agree
+        StudentRecord[] reference = quietly(() -> CSVDataLoader.loadFromCSV(csv.getPath()));
+        StudentRecord[] mapped = quietly(() -> CSVDataLoader.loadFromCSVMapped(csv.getPath()));
+        System.out.println("✓ Mapped loader matches BufferedReader loader: " +
+                (TestData.sameRecords(Arrays.asList(reference), Arrays.asList(mapped)) ? "YES ✓" : "NO ❌"));
+        reference = null;
+        mapped = null;
+
+        // Edge cases: same records and report with LF and CRLF line endings
+        File edge = File.createTempFile("csv-edge", ".csv");
+        edge.deleteOnExit();
+        for (String newline : new String[]{"\n", "\r\n"}) {
+            writeEdgeCaseCSV(edge, newline);
+            String endings = newline.length() == 1 ? "LF" : "CRLF";
+            System.out.println("✓ Mapped loader matches on " + endings + " edge cases: " +
+                    (sameLoad(edge.getPath(), CSVDataLoader::loadFromCSVMapped) ? "YES ✓" : "NO ❌"));
+            for (int threads : new int[]{2, 4}) {
+                System.out.println("✓ Parallel loader (" + threads + " threads) matches on " + endings +
+                        " edge cases: " + (sameLoad(edge.getPath(),
+                        (path, report) -> CSVDataLoader.loadFromCSVParallel(path, threads, report)) ? "YES ✓" : "NO ❌"));
+            }
+        }
+        edge.delete();
+
+        System.out.printf("\n  %-28s %10s %10s %10s\n", "LOADER", "RECORDS", "BEST (ms)", "MB/s");
+        System.out.println("  " + "-".repeat(62));
+
+        long baseline = 0;
+        for (String loader : new String[]{"loadFromCSV (BufferedReader)", "loadFromCSVMapped (mmap)"}) {
+            long best = Long.MAX_VALUE;
+            int count = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                System.gc();
+                long start = System.nanoTime();
+                StudentRecord[] records = loader.startsWith("loadFromCSVMapped")
+                        ? quietly(() -> CSVDataLoader.loadFromCSVMapped(csv.getPath()))
+                        : quietly(() -> CSVDataLoader.loadFromCSV(csv.getPath()));
+                best = Math.min(best, System.nanoTime() - start);
+                count = records.length;
+            }
+            if (baseline == 0) baseline = best;
+            System.out.printf("  %-28s %10d %10d %10.1f   (%.2fx)\n", loader, count, best / 1000000,
+                    megabytes / (best / 1e9), (double) baseline / best);
+        }
+
+        // ========== PARALLEL SCALING ==========
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.println("\n  Parallel scaling (" + cores + " available processor" + (cores == 1 ? "" : "s") +
+                "; speedup is capped by core count)");
+        System.out.printf("  %-28s %10s %10s %10s\n", "THREADS", "MATCHES", "BEST (ms)", "MB/s");
+        System.out.println("  " + "-".repeat(62));
+
+        long single = 0;
+        for (int threads : new int[]{1, 2, 4, 8, 16}) {
+            long best = Long.MAX_VALUE;
+            boolean matches = true;
+            for (int round = 0; round < ROUNDS; round++) {
+                System.gc();
+                long start = System.nanoTime();
+                StudentRecord[] records = quietly(() -> CSVDataLoader.loadFromCSVParallel(csv.getPath(), threads));
+                best = Math.min(best, System.nanoTime() - start);
+                if (round == 0) {
+                    StudentRecord[] expected = quietly(() -> CSVDataLoader.loadFromCSVMapped(csv.getPath()));
+                    matches = TestData.sameRecords(Arrays.asList(expected), Arrays.asList(records));
+                }
+            }
+            if (single == 0) single = best;
+            System.out.printf("  %-28d %10s %10d %10.1f   (%.2fx)\n", threads, matches ? "YES ✓" : "NO ❌",
+                    best / 1000000, megabytes / (best / 1e9), (double) single / best);
+        }
+
+        csv.delete();
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("✅ CSV LOADER BENCHMARK COMPLETE");
+        System.out.println("=".repeat(70) + "\n");
+    }
+
+    /**
+     * true if a silent loader returns the same records, counts, error
+     * categories and sampled errors as loadFromCSV(filename, report)
+     */
+    private static boolean sameLoad(String filename, BiFunction<String, LoadReport, StudentRecord[]> loader) {
+        LoadReport expected = new LoadReport(filename);
+        LoadReport actual = new LoadReport(filename);
+        StudentRecord[] reference = CSVDataLoader.loadFromCSV(filename, expected);
+        StudentRecord[] records = loader.apply(filename, actual);
+        if (!TestData.sameRecords(Arrays.asList(reference), Arrays.asList(records)) ||
+                expected.getLineCount() != actual.getLineCount() ||
+                expected.getSkippedCount() != actual.getSkippedCount() ||
+                !expected.getErrorCounts().equals(actual.getErrorCounts()) ||
+                expected.getErrorSample().size() != actual.getErrorSample().size()) {
+            return false;
+        }
+        for (int i = 0; i < expected.getErrorSample().size(); i++) {
+            LoadReport.LoadError a = expected.getErrorSample().get(i);
+            LoadReport.LoadError b = actual.getErrorSample().get(i);
+            if (a.getLineNumber() != b.getLineNumber() || !a.getMessage().equals(b.getMessage())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Write a small CSV of tricky rows with the given line ending
+     * (trailing commas, quoted fields, blank lines, no final newline)
+     */
+    private static void writeEdgeCaseCSV(File file, String newline) throws IOException {
+        String[] lines = {
+                "matric,name,cgpa",
+                "AIU1000001,Ali Ahmed,3.50",
+                "AIU1000002,Aisyah Rahman,3.75,",
+                "M1,\"x\"\"y\",",
+                "5.,1e0,1e0,",
+                "AIU1000003,\"Tan, Mei Ling\",3.20",
+                "AIU1000004,Bilal Hassan,",
+                "",
+                "   ",
+                "AIU1000005,Citra Dewi,abc",
+                "AIU1000006,,3.00",
+                "AIU1000007,Daniel Lim,3.10,,",
+                "AIU1000008,\"Eka \"\"E\"\" Putri\",2.95",
+                "AIU1000009,Farah Ahmad,3.33",
+                "AIU1000010,Geeta Kumar,\"3\"\"5\","
+        };
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(file))) {
+            for (int i = 0; i < lines.length; i++) {
+                writer.write(lines[i]);
+                if (i < lines.length - 1) {
+                    writer.write(newline);
+                }
+            }
+        }
+    }
+
+    /**
+     * Run a loader with its statistics banner suppressed
+     */
+    private static StudentRecord[] quietly(Supplier<StudentRecord[]> loader) {
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            return loader.get();
+        } finally {
+            System.setOut(out);
+        }
+    }
+
+    /**
+     * Write rows until the file reaches targetBytes
+     * Names use the shared first/last name pools (TestData).
+     */
+    private static long generateCSV(File file, long targetBytes) throws IOException {
+        Random random = new Random(42);
+
+        long bytes = 0;
+        long rows = 0;
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(file), 1 << 16)) {
+            String header = "matric,name,cgpa\n";
+            writer.write(header);
+            bytes += header.length();
+
+            while (bytes < targetBytes) {
+                int hundredths = 200 + random.nextInt(201);
+                String line = "AIU" + (1000000 + rows) + "," +
+                        TestData.FIRST_NAMES[random.nextInt(TestData.FIRST_NAMES.length)] + " " +
+                        TestData.LAST_NAMES[random.nextInt(TestData.LAST_NAMES.length)] + "," +
+                        (hundredths / 100) + "." + (hundredths % 100 < 10 ? "0" : "") + (hundredths % 100) + "\n";
+                writer.write(line);
+                bytes += line.length();
+                rows++;
+            }
+        }
+        return rows;
+    }
+}
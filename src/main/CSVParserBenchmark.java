@@ -0,0 +1,147 @@
+package main;
+
+import model.StudentRecord;
+import utilities.CSVLineParser;
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+/**
+ * CSV PARSER BENCHMARK - Per-line parse cost
+ *
+ * Compares, on the same in-memory lines:
+ *  1. Legacy:       String.split + 3 × trim() + Double.parseDouble
+ *  2. CSVLineParser: parseRecord() (offset splitting + fixed-point CGPA)
+ *  3. CSVLineParser: split() + parseHundredths() only (no Strings at all)
+ *
+ * Reports ns/line and bytes allocated per line (HotSpot thread
+ * allocation counter). Each variant is warmed up before measuring.
+ */
+public class CSVParserBenchmark {
+
+    private static final int LINE_COUNT = 200000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 5;
+
+    private static long sink; // Consumed results, so the JIT cannot drop the work
+
+    public static void main(String[] args) {
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("⚡ CSV PARSER BENCHMARK (" + LINE_COUNT + " lines)");
+        System.out.println("=".repeat(70) + "\n");
+
+        String[] lines = generateLines(LINE_COUNT);
+
+        // ========== CORRECTNESS ==========
+        CSVLineParser parser = new CSVLineParser();
+        boolean same = true;
+        for (String line : lines) {
+            StudentRecord a = legacyParse(line);
+            StudentRecord b = parser.parseRecord(line);
+            same &= a.getMatricNumber().equals(b.getMatricNumber()) &&
+                    a.getName().equals(b.getName()) && a.getCgpa() == b.getCgpa();
+        }
+        System.out.println("✓ CSVLineParser matches legacy parse on every line: " + (same ? "YES ✓" : "NO ❌"));
+        StudentRecord quoted = parser.parseRecord("AIU999,\"Tan, Mei Ling\",3.80");
+        System.out.println("✓ Quoted field with comma: \"" + quoted.getName() + "\"" +
+                (quoted.getName().equals("Tan, Mei Ling") ? " ✓" : " ❌"));
+
+        // ========== TIMING ==========
+        System.out.printf("\n  %-36s %10s %14s\n", "PARSER", "ns/line", "bytes/line");
+        System.out.println("  " + "-".repeat(62));
+
+        double legacy = measure("split + trim + parseDouble", lines, 0, line -> {
+            StudentRecord record = legacyParse(line);
+            return record.getMatricNumber().length() + (long) (record.getCgpa() * 100);
+        });
+        measure("CSVLineParser.parseRecord", lines, legacy, line -> {
+            StudentRecord record = parser.parseRecord(line);
+            return record.getMatricNumber().length() + (long) (record.getCgpa() * 100);
+        });
+        measure("CSVLineParser.split + hundredths", lines, legacy, line -> {
+            parser.split(line);
+            return parser.fieldHundredths(2);
+        });
+
+        System.out.println("\n  (JMH is not available in this project; rounds are best-of-" + MEASURED_ROUNDS +
+                " after " + WARMUP_ROUNDS + " warm-up rounds)");
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("✅ CSV PARSER BENCHMARK COMPLETE");
+        System.out.println("=".repeat(70) + "\n");
+    }
+
+    private interface LineTask {
+        long run(String line);
+    }
+
+    /**
+     * @param baseline ns/line to compare against (0 = this is the baseline)
+     * @return Best ns/line over the measured rounds
+     */
+    private static double measure(String label, String[] lines, double baseline, LineTask task) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            runAll(lines, task);
+        }
+
+        long best = Long.MAX_VALUE;
+        long allocated = 0;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            runAll(lines, task);
+            best = Math.min(best, System.nanoTime() - start);
+            allocated = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+        }
+
+        double nsPerLine = (double) best / lines.length;
+        System.out.printf("  %-36s %10.1f %14.1f%s\n", label, nsPerLine, (double) allocated / lines.length,
+                baseline > 0 ? String.format("   (%.2fx)", baseline / nsPerLine) : "");
+        return nsPerLine;
+    }
+
+    private static void runAll(String[] lines, LineTask task) {
+        long total = 0;
+        for (String line : lines) {
+            total += task.run(line);
+        }
+        sink += total;
+    }
+
+    /**
+     * The original CSVDataLoader.parseCSVLine() algorithm, kept as the baseline
+     */
+    private static StudentRecord legacyParse(String line) {
+        String[] parts = line.split(",");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Expected 3 fields, got " + parts.length);
+        }
+        String matric = parts[0].trim();
+        String name = parts[1].trim();
+        String cgpaStr = parts[2].trim();
+        if (matric.isEmpty() || name.isEmpty() || cgpaStr.isEmpty()) {
+            throw new IllegalArgumentException("One or more fields are empty");
+        }
+        return new StudentRecord(name, matric, Double.parseDouble(cgpaStr));
+    }
+
+    /**
+     * Generate CSV lines in the StudentRecord.toCSVString() format
+     */
+    private static String[] generateLines(int n) {
+        String[] firstNames = {"Ali", "Aisyah", "Bilal", "Citra", "Daniel", "Eka", "Farah", "Geeta"};
+        String[] lastNames = {"Ahmed", "Rahman", "Hassan", "Dewi", "Lim", "Putri", "Kumar", "Chen"};
+        Random random = new Random(42);
+
+        String[] lines = new String[n];
+        for (int i = 0; i < n; i++) {
+            double cgpa = Math.round((2.0 + random.nextDouble() * 2.0) * 100.0) / 100.0;
+            String name = firstNames[random.nextInt(firstNames.length)] + " " +
+                    lastNames[random.nextInt(lastNames.length)];
+            lines[i] = new StudentRecord(name, "AIU" + (1000000 + i), cgpa).toCSVString();
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,147 @@
+package main;
+
+import model.StudentRecord;
+import storage.DurableBST;
+import storage.WriteAheadLog;
+import storage.WriteAheadLog.Durability;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * CHECKPOINT TEST - Bounded recovery time with WAL truncation
+ *
+ * Requirements:
+ *  ✓ Recovery without checkpoints replays the whole WAL
+ *  ✓ Recovery with checkpoints = checkpoint load + short WAL tail
+ *  ✓ Mutations continue while a checkpoint is being written
+ *  ✓ Old WAL segments and old checkpoints are deleted
+ *  ✓ Nothing is lost across checkpoint + reopen
+ */
+public class CheckpointTest {
+
+    private static final int RECORD_COUNT = 200000;
+    private static final int CHECKPOINT_INTERVAL = 50000;
+    private static final long SEGMENT_BYTES = 1L << 20;
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("🧪 CHECKPOINT TEST (n=" + RECORD_COUNT + ")");
+        System.out.println("=".repeat(70) + "\n");
+
+        File baseDir = Files.createTempDirectory("checkpoint-test").toFile();
+        List<StudentRecord> records = TestData.generateStudentRecords(RECORD_COUNT, 1000000);
+        Collections.shuffle(records, new Random(42));
+
+        // ========== TEST 1: RECOVERY TIME ==========
+        System.out.println("📝 TEST 1: Recovery time with and without checkpoints");
+        System.out.println("-".repeat(70));
+
+        File plainDir = new File(baseDir, "no-checkpoints");
+        File checkpointDir = new File(baseDir, "checkpoints");
+        try (DurableBST plain = open(plainDir); DurableBST checkpointed = open(checkpointDir)) {
+            checkpointed.setCheckpointInterval(CHECKPOINT_INTERVAL);
+            for (int i = 0; i < RECORD_COUNT; i++) {
+                plain.insert(records.get(i));
+                checkpointed.insert(records.get(i));
+            }
+            for (int i = 0; i < 5000; i++) {
+                plain.delete(records.get(i).getMatricNumber());
+                checkpointed.delete(records.get(i).getMatricNumber());
+            }
+        }
+
+        try (DurableBST plain = open(plainDir); DurableBST checkpointed = open(checkpointDir)) {
+            System.out.printf("  %-18s %12s %14s %12s %10s\n", "", "CHECKPOINT", "LOAD (ms)", "WAL TAIL", "REPLAY (ms)");
+            printRecovery("No checkpoints", plain);
+            printRecovery("Every " + CHECKPOINT_INTERVAL + " ops", checkpointed);
+
+            double plainTotal = plain.getCheckpointLoadMillis() + plain.getReplayMillis();
+            double checkpointTotal = checkpointed.getCheckpointLoadMillis() + checkpointed.getReplayMillis();
+            System.out.println("  • Recovery: " + String.format("%.0f ms → %.0f ms", plainTotal, checkpointTotal));
+            System.out.println("  • WAL tail ≤ interval: " +
+                    (checkpointed.getReplayedRecords() <= CHECKPOINT_INTERVAL ? "YES ✓" : "NO ❌"));
+            System.out.println("  • Same tree: " +
+                    (TestData.sameRecords(plain.getTree().inOrderTraversal(),
+                            checkpointed.getTree().inOrderTraversal()) &&
+                            plain.getTree().countNodes() == RECORD_COUNT - 5000 ? "YES ✓" : "NO ❌"));
+            System.out.println("  • Files left: " + countFiles(checkpointDir, "wal-") + " WAL segment(s) (vs " +
+                    countFiles(plainDir, "wal-") + " without checkpoints), " +
+                    countFiles(checkpointDir, "checkpoint-") + " checkpoint" +
+                    (countFiles(checkpointDir, "checkpoint-") == 1 ? " ✓" : " ❌"));
+        }
+
+        // ========== TEST 2: MUTATIONS DURING A CHECKPOINT ==========
+        System.out.println("\n📝 TEST 2: Mutations continue while a checkpoint is written");
+        System.out.println("-".repeat(70));
+
+        File liveDir = new File(baseDir, "live");
+        long checkpointLsn;
+        int duringCheckpoint = 0;
+        try (DurableBST db = open(liveDir)) {
+            for (int i = 0; i < 100000; i++) {
+                db.insert(records.get(i));
+            }
+            long start = System.nanoTime();
+            CompletableFuture<Long> checkpoint = db.checkpointAsync();
+            long captureMicros = (System.nanoTime() - start) / 1000;
+
+            int next = 100000;
+            while (!checkpoint.isDone() && next < RECORD_COUNT) {
+                db.insert(records.get(next++));
+                duringCheckpoint++;
+            }
+            checkpointLsn = checkpoint.join();
+            while (next < RECORD_COUNT) {
+                db.insert(records.get(next++));
+            }
+
+            System.out.println("  • Capture (lock held): " + captureMicros + " µs; full checkpoint: " +
+                    String.format("%.1f", db.getLastCheckpointMillis()) + " ms");
+            System.out.println("  • Inserts applied while writing: " + duringCheckpoint);
+            System.out.println("  • Checkpoint LSN: " + checkpointLsn +
+                    (checkpointLsn == 100000 ? " ✓" : " ❌") + " (last checkpoint LSN reported: " +
+                    db.getLastCheckpointLsn() + ")");
+        }
+
+        try (DurableBST reopened = open(liveDir)) {
+            System.out.println("  • After reopen: " + reopened.getTree().countNodes() + " records, WAL tail " +
+                    reopened.getReplayedRecords() +
+                    (reopened.getTree().countNodes() == RECORD_COUNT &&
+                            reopened.getReplayedRecords() == RECORD_COUNT - 100000 ? " ✓" : " ❌"));
+
+            // Everything checkpointed: new LSNs continue after the checkpoint
+            reopened.checkpoint();
+        }
+        try (DurableBST reopened = open(liveDir)) {
+            reopened.insert(new StudentRecord("New Student", "AIU9999999", 3.00));
+            System.out.println("  • LSN after full checkpoint + reopen: " + reopened.getLog().getLastLsn() +
+                    (reopened.getLog().getLastLsn() == RECORD_COUNT + 1 ? " ✓" : " ❌"));
+        }
+
+        TestData.deleteRecursively(baseDir);
+
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("✅ CHECKPOINT TEST COMPLETE");
+        System.out.println("=".repeat(70) + "\n");
+    }
+
+    private static DurableBST open(File dir) throws IOException {
+        return new DurableBST(new WriteAheadLog(dir.getPath(), Durability.GROUP,
+                WriteAheadLog.DEFAULT_GROUP_COMMIT_MILLIS, WriteAheadLog.DEFAULT_GROUP_COMMIT_BYTES, SEGMENT_BYTES));
+    }
+
+    private static void printRecovery(String label, DurableBST db) {
+        System.out.printf("  %-18s %12d %14.1f %12d %10.1f\n", label, db.getLastCheckpointLsn(),
+                db.getCheckpointLoadMillis(), db.getReplayedRecords(), db.getReplayMillis());
+    }
+
+    private static int countFiles(File dir, String prefix) {
+        File[] files = dir.listFiles((d, name) -> name.startsWith(prefix));
+        return (files == null) ? 0 : files.length;
+    }
+}
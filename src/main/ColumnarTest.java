@@ -0,0 +1,167 @@
+package main;
+
+import model.StudentRecord;
+import storage.ColumnarFile;
+import tree.BST;
+import utilities.CSVExporter;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * COLUMNAR TEST - Compressed columnar file vs CSV
+ *
+ * Requirements:
+ *  ✓ File size against the same data exported as CSV
+ *  ✓ Write / full-read time against CSV export / load
+ *  ✓ Round trip is lossless (including odd matrics, names and CGPAs)
+ *  ✓ CGPA range scans skip blocks using min/max statistics
+ *  ✓ Corrupted blocks are detected by checksum
+ */
+public class ColumnarTest {
+
+    private static final int RECORD_COUNT = 500000;
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("🧪 COLUMNAR FILE TEST (n=" + RECORD_COUNT + ")");
+        System.out.println("=".repeat(70) + "\n");
+
+        File dir = Files.createTempDirectory("columnar-test").toFile();
+        File csvFile = new File(dir, "students.csv");
+        File columnarFile = new File(dir, "students.col");
+        File byCgpaFile = new File(dir, "students-by-cgpa.col");
+
+        List<StudentRecord> records = TestData.generateNamedStudentRecords(RECORD_COUNT, 1000);
+        Collections.shuffle(records, new Random(42));
+        BST bst = new BST();
+        bst.setVerbose(false);
+        for (StudentRecord record : records) {
+            bst.insert(record);
+        }
+        List<StudentRecord> inOrder = bst.inOrderTraversal();
+
+        // ========== TEST 1: SIZE ==========
+        System.out.println("📝 TEST 1: File size");
+        System.out.println("-".repeat(70));
+
+        long start = System.nanoTime();
+        CSVExporter.exportToCSV(bst, csvFile.getPath());
+        double csvMillis = (System.nanoTime() - start) / 1e6;
+
+        start = System.nanoTime();
+        long written = ColumnarFile.write(bst, columnarFile.getPath());
+        double columnarMillis = (System.nanoTime() - start) / 1e6;
+
+        System.out.printf("  %-28s %12s %10s %10s\n", "FORMAT", "BYTES", "B/ROW", "WRITE ms");
+        System.out.printf("  %-28s %12d %10.2f %10.1f\n", "CSV", csvFile.length(),
+                csvFile.length() / (double) RECORD_COUNT, csvMillis);
+        System.out.printf("  %-28s %12d %10.2f %10.1f\n", "Columnar", columnarFile.length(),
+                columnarFile.length() / (double) RECORD_COUNT, columnarMillis);
+        System.out.printf("  • Compression ratio: %.1fx smaller than CSV %s\n",
+                csvFile.length() / (double) columnarFile.length(),
+                columnarFile.length() * 3 < csvFile.length() ? "✓" : "❌");
+        System.out.println("  • Records written: " + written + (written == RECORD_COUNT ? " ✓" : " ❌"));
+
+        // ========== TEST 2: ROUND TRIP ==========
+        System.out.println("\n📝 TEST 2: Round trip");
+        System.out.println("-".repeat(70));
+
+        try (ColumnarFile file = ColumnarFile.open(columnarFile.getPath())) {
+            start = System.nanoTime();
+            List<StudentRecord> readBack = file.readAll();
+            double readMillis = (System.nanoTime() - start) / 1e6;
+            System.out.println("  • Blocks: " + file.getBlockCount() + ", dictionary tokens: " +
+                    file.getDictionarySize());
+            System.out.printf("  • Full read: %.1f ms\n", readMillis);
+            System.out.println("  • Same records as the tree: " +
+                    (TestData.sameRecords(inOrder, readBack) ? "YES ✓" : "NO ❌"));
+        }
+
+        List<StudentRecord> odd = Arrays.asList(
+                new StudentRecord("Ali Ahmed", "AIU007", 3.45),
+                new StudentRecord("Ali Ahmed", "AIU008", 3.456),              // not a hundredth
+                new StudentRecord("Zoë  Çelik", "AIU1000", 0.1 + 0.2),        // UTF-8, double space
+                new StudentRecord("Single", "EXCHANGE-B", -0.0),
+                new StudentRecord("", "AIU99999999999999999999", 1e9),       // suffix too long
+                new StudentRecord("Ali Ahmed ", "AIU999", Double.NaN));
+        File oddFile = new File(dir, "odd.col");
+        ColumnarFile.write(odd, oddFile.getPath());
+        try (ColumnarFile file = ColumnarFile.open(oddFile.getPath())) {
+            System.out.println("  • Unusual values survive exactly: " +
+                    (TestData.sameRecords(odd, file.readAll()) ? "YES ✓" : "NO ❌"));
+        }
+
+        // ========== TEST 3: RANGE SCAN ==========
+        System.out.println("\n📝 TEST 3: CGPA range scan [3.90, 4.00]");
+        System.out.println("-".repeat(70));
+
+        long expected = inOrder.stream().filter(r -> r.getCgpa() >= 3.90 && r.getCgpa() <= 4.00).count();
+        List<StudentRecord> byCgpa = new ArrayList<>(inOrder);
+        byCgpa.sort(Comparator.comparingDouble(StudentRecord::getCgpa));
+        ColumnarFile.write(byCgpa, byCgpaFile.getPath());
+
+        System.out.printf("  %-28s %10s %10s %10s %10s\n", "FILE ORDER", "MATCHES", "SKIPPED", "READ", "ms");
+        scanRange("matric (tree order)", columnarFile, expected);
+        scanRange("clustered by CGPA", byCgpaFile, expected);
+
+        // ========== TEST 4: CORRUPTION ==========
+        System.out.println("\n📝 TEST 4: Corruption detection");
+        System.out.println("-".repeat(70));
+
+        try (RandomAccessFile file = new RandomAccessFile(columnarFile, "rw")) {
+            file.seek(1000);
+            int b = file.read();
+            file.seek(1000);
+            file.write(b ^ 0x01);
+        }
+        try (ColumnarFile file = ColumnarFile.open(columnarFile.getPath())) {
+            file.readAll();
+            System.out.println("  • Corrupt block detected: NO ❌");
+        } catch (IOException e) {
+            System.out.println("  • Corrupt block detected: YES ✓ (" +
+                    e.getMessage().replace(dir.getPath(), "…") + ")");
+        }
+
+        try (RandomAccessFile file = new RandomAccessFile(byCgpaFile, "rw")) {
+            file.setLength(file.length() - 5);
+        }
+        try {
+            ColumnarFile truncated = ColumnarFile.open(byCgpaFile.getPath());
+            truncated.close();
+            System.out.println("  • Truncated file detected: NO ❌");
+        } catch (IOException e) {
+            System.out.println("  • Truncated file detected: YES ✓ (" +
+                    e.getMessage().replace(dir.getPath(), "…") + ")");
+        }
+
+        TestData.deleteRecursively(dir);
+
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("✅ COLUMNAR FILE TEST COMPLETE");
+        System.out.println("=".repeat(70) + "\n");
+    }
+
+    private static void scanRange(String label, File columnar, long expected) throws IOException {
+        try (ColumnarFile file = ColumnarFile.open(columnar.getPath())) {
+            long[] valid = new long[1];
+            long start = System.nanoTime();
+            long matches = file.scanCgpaRange(3.90, 4.00, record -> {
+                if (record.getCgpa() >= 3.90 && record.getCgpa() <= 4.00) {
+                    valid[0]++;
+                }
+            });
+            double millis = (System.nanoTime() - start) / 1e6;
+            boolean ok = matches == expected && valid[0] == expected;
+            System.out.printf("  %-28s %10d %10d %10d %10.1f %s\n", label, matches,
+                    file.getBlocksSkipped(), file.getBlocksRead(), millis, ok ? "✓" : "❌");
+        }
+    }
+}
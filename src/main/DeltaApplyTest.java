@@ -0,0 +1,172 @@
+package main;
+
+import model.StudentRecord;
+import tree.BST;
+import utilities.CSVDataLoader;
+import utilities.CSVDeltaApplier;
+import utilities.CSVExporter;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * DELTA APPLY TEST - Nightly full export applied as a delta
+ *
+ * Requirements:
+ *  ✓ 1% changed rows (updates, deletes, new students) → tree matches the new file
+ *  ✓ Only the changed rows are touched (counts reported)
+ *  ✓ Delta apply vs full reload (loadFromCSV + rebuild) timing
+ *  ✓ Unsorted file / invalid rows / missing file leave the tree untouched
+ */
+public class DeltaApplyTest {
+
+    private static final int RECORD_COUNT = 500000;
+    private static final int ROUNDS = 3;
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("🧪 DELTA APPLY TEST (n=" + RECORD_COUNT + ", ~1% changed)");
+        System.out.println("=".repeat(70) + "\n");
+
+        File dir = Files.createTempDirectory("delta-test").toFile();
+        File nightFile = new File(dir, "students-night2.csv");
+
+        // Night 1: tree as loaded yesterday
+        List<StudentRecord> night1 = TestData.generateStudentRecords(RECORD_COUNT, 1000000);
+
+        // Night 2: 0.4% CGPA updates, 0.3% deletions, 0.3% new students (half appended)
+        Random random = new Random(7);
+        List<StudentRecord> night2 = new ArrayList<>();
+        int expectedUpdates = 0;
+        int expectedDeletes = 0;
+        int expectedInserts = 0;
+        for (int i = 0; i < night1.size(); i++) {
+            StudentRecord record = night1.get(i);
+            int roll = random.nextInt(1000);
+            if (roll < 3) {
+                expectedDeletes++;
+                continue;
+            }
+            if (roll < 7) {
+                double cgpa = (record.getCgpa() >= 3.99) ? 3.50 : record.getCgpa() + 0.01;
+                record = new StudentRecord(record.getName(), record.getMatricNumber(), Math.round(cgpa * 100) / 100.0);
+                expectedUpdates++;
+            } else if (roll < 9) {
+                // A new student squeezed in between existing matric numbers
+                night2.add(record);
+                record = new StudentRecord("New Student " + i, record.getMatricNumber() + "A", 3.00);
+                expectedInserts++;
+            }
+            night2.add(record);
+        }
+        for (int i = 0; i < RECORD_COUNT / 1000; i++) {
+            night2.add(new StudentRecord("Freshman " + i, "AIU" + (1000000 + RECORD_COUNT + i), 3.00));
+            expectedInserts++;
+        }
+        writeCSV(night2, nightFile);
+
+        // ========== TEST 1: DELTA vs FULL RELOAD ==========
+        System.out.println("📝 TEST 1: Apply night-2 file");
+        System.out.println("-".repeat(70));
+
+        long deltaBest = Long.MAX_VALUE;
+        long reloadBest = Long.MAX_VALUE;
+        CSVDeltaApplier.Result result = null;
+        BST bst = null;
+        PrintStream console = System.out;
+        for (int round = 0; round < ROUNDS; round++) {
+            bst = new BST();
+            bst.setVerbose(false);
+            bst.bulkLoadSorted(night1);
+
+            long start = System.nanoTime();
+            result = CSVDeltaApplier.apply(nightFile.getPath(), bst);
+            deltaBest = Math.min(deltaBest, System.nanoTime() - start);
+
+            System.setOut(new PrintStream(OutputStream.nullOutputStream())); // loader report
+            start = System.nanoTime();
+            StudentRecord[] reloaded = CSVDataLoader.loadFromCSV(nightFile.getPath());
+            BST rebuilt = new BST();
+            rebuilt.setVerbose(false);
+            List<StudentRecord> sorted = new ArrayList<>(List.of(reloaded));
+            rebuilt.bulkLoadSorted(sorted);
+            reloadBest = Math.min(reloadBest, System.nanoTime() - start);
+            System.setOut(console);
+        }
+        CSVDeltaApplier.printReport(nightFile.getName(), result);
+
+        System.out.println("  • Inserted " + result.getInserted() + (result.getInserted() == expectedInserts ? " ✓" : " ❌") +
+                ", updated " + result.getUpdated() + (result.getUpdated() == expectedUpdates ? " ✓" : " ❌") +
+                ", deleted " + result.getDeleted() + (result.getDeleted() == expectedDeletes ? " ✓" : " ❌"));
+        System.out.println("  • Tree matches night-2 file: " +
+                (TestData.sameRecords(night2, bst.inOrderTraversal()) ? "YES ✓" : "NO ❌"));
+        System.out.println("  • Tree is valid BST: " + (bst.isValidBST() ? "YES ✓" : "NO ❌") +
+                ", height " + bst.getHeight());
+        System.out.printf("  • Delta apply:  %8.1f ms (best of %d)\n", deltaBest / 1e6, ROUNDS);
+        System.out.printf("  • Full reload:  %8.1f ms (loadFromCSV + bulkLoadSorted)\n", reloadBest / 1e6);
+
+        CSVDeltaApplier.Result again = CSVDeltaApplier.apply(nightFile.getPath(), bst);
+        System.out.println("  • Re-applying the same file touches " + again.getTouched() + " rows" +
+                (again.isApplied() && again.getTouched() == 0 ? " ✓" : " ❌"));
+
+        // ========== TEST 2: REJECTED FILES ==========
+        System.out.println("\n📝 TEST 2: Bad files leave the tree untouched");
+        System.out.println("-".repeat(70));
+
+        List<StudentRecord> before = bst.inOrderTraversal();
+        PrintStream errors = System.err;
+        ByteArrayOutputStream errorOutput = new ByteArrayOutputStream();
+        System.setErr(new PrintStream(errorOutput)); // apply() itself must print nothing
+
+        List<StudentRecord> unsorted = new ArrayList<>(night2);
+        Collections.swap(unsorted, 100, 200);
+        File unsortedFile = new File(dir, "unsorted.csv");
+        writeCSV(unsorted, unsortedFile);
+        checkRejected("Unsorted file", CSVDeltaApplier.apply(unsortedFile.getPath(), bst), bst, before);
+
+        File invalidFile = new File(dir, "invalid.csv");
+        writeCSV(night2, invalidFile);
+        try (FileWriter writer = new FileWriter(invalidFile, true)) {
+            writer.write("AIU9999999,Broken Row,not-a-number\n");
+        }
+        checkRejected("Invalid row", CSVDeltaApplier.apply(invalidFile.getPath(), bst), bst, before);
+
+        checkRejected("Missing file", CSVDeltaApplier.apply(new File(dir, "missing.csv").getPath(), bst),
+                bst, before);
+        System.setErr(errors);
+        System.out.println("  • Rejections printed nothing to stderr (failure is in the Result): " +
+                (errorOutput.size() == 0 ? "YES ✓" : "NO ❌"));
+
+        for (File file : dir.listFiles()) {
+            file.delete();
+        }
+        dir.delete();
+
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("✅ DELTA APPLY TEST COMPLETE");
+        System.out.println("=".repeat(70) + "\n");
+    }
+
+    private static void checkRejected(String label, CSVDeltaApplier.Result result, BST bst,
+                                      List<StudentRecord> before) {
+        boolean untouched = !result.isApplied() && TestData.sameRecords(before, bst.inOrderTraversal());
+        System.out.println("  • " + label + ": " + (untouched ? "rejected, tree unchanged ✓" : "APPLIED ❌"));
+        System.out.println("      (" + result.getFailure() + ")");
+    }
+
+    private static void writeCSV(List<StudentRecord> records, File file) throws IOException {
+        try (CSVExporter exporter = new CSVExporter(file.getPath())) {
+            for (StudentRecord record : records) {
+                exporter.write(record);
+            }
+        }
+    }
+}
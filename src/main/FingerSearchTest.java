@@ -0,0 +1,115 @@
+package main;
+
+import model.StudentRecord;
+import tree.BST;
+import tree.Finger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * FINGER SEARCH TEST - Nearly ascending batch lookups
+ *
+ * Requirements:
+ *  ✓ Finger returns exactly the same results as BST.search
+ *  ✓ Fewer nodes compared per lookup (only the climb to the common
+ *    ancestor and the descent from it, not a full root-to-node path)
+ *  ✓ Finger recovers after the tree is modified
+ *  ✓ Timing comparison on an ascending batch
+ */
+public class FingerSearchTest {
+
+    private static final int RECORD_COUNT = 200000;
+
+    public static void main(String[] args) {
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("🧪 FINGER SEARCH TEST (n=" + RECORD_COUNT + ")");
+        System.out.println("=".repeat(70) + "\n");
+
+        List<StudentRecord> records = TestData.generateStudentRecords(RECORD_COUNT, 100000);
+        List<StudentRecord> insertOrder = new ArrayList<>(records);
+        Collections.shuffle(insertOrder, new Random(42)); // Avoid a skewed tree
+
+        BST bst = new BST();
+        bst.setVerbose(false);
+        for (StudentRecord record : insertOrder) {
+            bst.insert(record);
+        }
+        System.out.println("✓ Tree built with " + bst.countNodes() + " students (height " +
+                bst.getHeight() + ")");
+
+        // Batch: ascending with random gaps of 1-3 (some keys missing)
+        List<String> batch = new ArrayList<>();
+        Random random = new Random(7);
+        for (int i = 100000; i < 100000 + RECORD_COUNT + 50; i += 1 + random.nextInt(3)) {
+            batch.add("AIU" + i);
+        }
+
+        // ========== TEST 1: CORRECTNESS ==========
+        System.out.println("\n📝 TEST 1: Same results as BST.search (" + batch.size() + " keys)");
+        System.out.println("-".repeat(70));
+
+        Finger finger = bst.finger();
+        int mismatches = 0;
+        long fingerVisits = 0;
+        long rootVisits = 0;
+        for (String matric : batch) {
+            StudentRecord expected = bst.search(matric);
+            StudentRecord actual = finger.search(matric);
+            if (expected != actual) {
+                mismatches++;
+            }
+            fingerVisits += finger.getLastVisitCount();
+            int depth = bst.getNodeDepth(matric);
+            rootVisits += (depth >= 0) ? depth + 1 : bst.getHeight() / 2 + 1;
+        }
+        System.out.println("  • Mismatches: " + mismatches + (mismatches == 0 ? " ✓" : " ❌"));
+        System.out.println("  • Avg nodes compared (root descent): " +
+                String.format("%.2f", (double) rootVisits / batch.size()));
+        System.out.println("  • Avg nodes compared (finger):       " +
+                String.format("%.2f", (double) fingerVisits / batch.size()));
+
+        // ========== TEST 2: MODIFICATION ==========
+        System.out.println("\n📝 TEST 2: Finger after insert/delete");
+        System.out.println("-".repeat(70));
+
+        bst.delete("AIU100500");
+        bst.insert(new StudentRecord("New Student", "AIU999999", 3.10));
+        boolean ok = finger.search("AIU100500") == null &&
+                finger.search("AIU999999") != null &&
+                finger.search("AIU100501") != null;
+        System.out.println("  • Results correct after modification: " + (ok ? "YES ✓" : "NO ❌"));
+
+        // ========== TEST 3: TIMING ==========
+        System.out.println("\n📝 TEST 3: Ascending batch timing");
+        System.out.println("-".repeat(70));
+
+        long rootTime = Long.MAX_VALUE;
+        long fingerTime = Long.MAX_VALUE;
+        for (int round = 0; round < 5; round++) {
+            long start = System.nanoTime();
+            int hits = 0;
+            for (String matric : batch) {
+                if (bst.search(matric) != null) hits++;
+            }
+            rootTime = Math.min(rootTime, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            Finger timed = bst.finger();
+            for (String matric : batch) {
+                if (timed.search(matric) != null) hits--;
+            }
+            fingerTime = Math.min(fingerTime, System.nanoTime() - start);
+
+            if (hits != 0) System.out.println("  ⚠️  Hit counts differ");
+        }
+        System.out.println("  • BST.search:    " + rootTime / 1000 + " µs");
+        System.out.println("  • Finger.search: " + fingerTime / 1000 + " µs");
+        System.out.println("  • Speedup: " + String.format("%.2fx", (double) rootTime / fingerTime));
+
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("✅ FINGER SEARCH TEST COMPLETE");
+        System.out.println("=".repeat(70) + "\n");
+    }
+}
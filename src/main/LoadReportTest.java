@@ -0,0 +1,249 @@
+package main;
+
+import utilities.CSVDataLoader;
+import utilities.LoadReport;
+import model.StudentRecord;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * LOAD REPORT TEST - Structured, bounded error collection
+ *
+ * Requirements:
+ *  ✓ Every invalid line is counted in the right ErrorCategory
+ *  ✓ Only the first maxSamples errors are kept, with absolute line numbers
+ *  ✓ Reader, mapped and parallel loaders produce the same report, also
+ *    when a row's data reads like another category's error message
+ *  ✓ Nothing is printed while loading; console output no longer grows
+ *    with the number of bad lines
+ */
+public class LoadReportTest {
+
+    private static final int LINE_COUNT = 1000000;
+    private static final int BAD_EVERY = 10;   // 10% corrupt lines, 5 kinds in rotation
+    private static final int ROUNDS = 3;
+
+    private static final LoadReport.ErrorCategory[] KINDS = {
+            LoadReport.ErrorCategory.FIELD_COUNT,
+            LoadReport.ErrorCategory.EMPTY_FIELD,
+            LoadReport.ErrorCategory.UNTERMINATED_QUOTE,
+            LoadReport.ErrorCategory.BAD_CGPA,
+            LoadReport.ErrorCategory.INVALID_RECORD
+    };
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("🧪 LOAD REPORT TEST (" + LINE_COUNT + " lines, 1 in " + BAD_EVERY + " corrupt)");
+        System.out.println("=".repeat(70) + "\n");
+
+        File csvFile = File.createTempFile("load-report-test", ".csv");
+        long[] expected = writeCorruptFile(csvFile);
+        long expectedErrors = Arrays.stream(expected).sum();
+        long expectedLoaded = (LINE_COUNT - 1) - expectedErrors;   // line 1 is the header
+        String path = csvFile.getPath();
+
+        // ========== TEST 1: COUNTS AND SAMPLE ==========
+        System.out.println("📝 TEST 1: Categories and bounded sample");
+        System.out.println("-".repeat(70));
+
+        LoadReport report = new LoadReport(path);
+        StudentRecord[] records = CSVDataLoader.loadFromCSV(path, report);
+        System.out.println("  • Loaded " + records.length + " records" +
+                (records.length == expectedLoaded && report.getLoadedCount() == expectedLoaded ? " ✓" : " ❌") +
+                ", " + report.getErrorCount() + " invalid" +
+                (report.getErrorCount() == expectedErrors ? " ✓" : " ❌") +
+                ", " + report.getSkippedCount() + " skipped (header)" +
+                (report.getSkippedCount() == 1 ? " ✓" : " ❌"));
+        for (LoadReport.ErrorCategory category : KINDS) {
+            long count = report.getErrorCount(category);
+            System.out.printf("  • %-20s %7d%s\n", category, count,
+                    count == expected[category.ordinal()] ? " ✓" : " ❌ (expected " + expected[category.ordinal()] + ")");
+        }
+        System.out.println("  • Sample holds " + report.getErrorSample().size() + " of " + report.getErrorCount() +
+                " errors" + (report.getErrorSample().size() == LoadReport.DEFAULT_MAX_SAMPLES ? " ✓" : " ❌"));
+        System.out.println("  • Sampled line numbers and categories correct: " +
+                (sampleIsCorrect(report) ? "YES ✓" : "NO ❌"));
+        System.out.println("  • First sampled error: " + report.getErrorSample().get(0));
+
+        LoadReport countsOnly = new LoadReport(path, 0);
+        CSVDataLoader.forEachRecord(path, record -> { }, countsOnly);
+        System.out.println("  • maxSamples=0 keeps counts only: " +
+                (countsOnly.getErrorSample().isEmpty() && countsOnly.getErrorCount() == expectedErrors ? "YES ✓" : "NO ❌"));
+
+        // ========== TEST 2: SAME REPORT FROM EVERY LOADER ==========
+        System.out.println("\n📝 TEST 2: Reader, mapped and parallel loaders agree");
+        System.out.println("-".repeat(70));
+
+        LoadReport mapped = new LoadReport(path);
+        StudentRecord[] mappedRecords = CSVDataLoader.loadFromCSVMapped(path, mapped);
+        System.out.println("  • loadFromCSVMapped:      " +
+                (sameReport(report, mapped) && mappedRecords.length == records.length ? "same report ✓" : "DIFFERENT ❌"));
+        for (int threads : new int[] {2, 4}) {
+            LoadReport parallel = new LoadReport(path);
+            StudentRecord[] parallelRecords = CSVDataLoader.loadFromCSVParallel(path, threads, parallel);
+            System.out.println("  • loadFromCSVParallel(" + threads + "): " +
+                    (sameReport(report, parallel) && parallelRecords.length == records.length
+                            ? "same report ✓" : "DIFFERENT ❌"));
+        }
+
+        PrintStream errors = System.err;
+        System.setErr(new PrintStream(OutputStream.nullOutputStream())); // expected: file not found
+        LoadReport missing = new LoadReport("no-such-file.csv");
+        StudentRecord[] none = CSVDataLoader.loadFromCSV("no-such-file.csv", missing);
+        LoadReport missingMapped = new LoadReport("no-such-file.csv");
+        CSVDataLoader.loadFromCSVMapped("no-such-file.csv", missingMapped);
+        System.setErr(errors);
+        System.out.println("  • Missing file recorded, not thrown: " +
+                (none.length == 0 && missing.isFileNotFound() && missingMapped.isFileNotFound() ? "YES ✓" : "NO ❌"));
+
+        // ========== TEST 3: CONSOLE OUTPUT ==========
+        System.out.println("\n📝 TEST 3: Load + print, bounded sample vs every error (best of " + ROUNDS + ")");
+        System.out.println("-".repeat(70));
+        System.out.printf("  %-24s %12s %14s %12s\n", "LOADER", "TIME (ms)", "CONSOLE LINES", "CONSOLE KB");
+
+        measure("loadFromCSV", path, LoadReport.DEFAULT_MAX_SAMPLES, CSVDataLoader::loadFromCSV);
+        measure("loadFromCSV (all)", path, Integer.MAX_VALUE, CSVDataLoader::loadFromCSV);
+        measure("loadFromCSVMapped", path, LoadReport.DEFAULT_MAX_SAMPLES, CSVDataLoader::loadFromCSVMapped);
+        measure("loadFromCSVMapped (all)", path, Integer.MAX_VALUE, CSVDataLoader::loadFromCSVMapped);
+        System.out.println("  ('all' keeps and prints every error, like the old per-line warnings)");
+
+        csvFile.delete();
+
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("✅ LOAD REPORT TEST COMPLETE");
+        System.out.println("=".repeat(70) + "\n");
+    }
+
+    /**
+     * Time load + print() with console output captured and counted
+     */
+    private static void measure(String label, String path, int maxSamples,
+                                BiFunction<String, LoadReport, StudentRecord[]> loader) {
+        long best = Long.MAX_VALUE;
+        CountingStream console = new CountingStream();
+        PrintStream out = System.out;
+        PrintStream err = System.err;
+        for (int round = 0; round < ROUNDS; round++) {
+            console.reset();
+            PrintStream capture = new PrintStream(console, false);
+            System.setOut(capture);
+            System.setErr(capture);
+            long start = System.nanoTime();
+            LoadReport report = new LoadReport(path, maxSamples);
+            loader.apply(path, report);
+            report.print();
+            capture.flush();
+            best = Math.min(best, System.nanoTime() - start);
+            System.setOut(out);
+            System.setErr(err);
+        }
+        System.out.printf("  %-24s %12.1f %14d %12.1f\n", label, best / 1e6, console.lines, console.bytes / 1024.0);
+    }
+
+    /**
+     * Write the test file; returns the number of bad lines per category
+     * Bad line i (every BAD_EVERY-th line) has kind (i / BAD_EVERY) % 5.
+     * BAD_CGPA and INVALID_RECORD rows carry the wording of other error
+     * messages as data: the category must come from the parser, not the text.
+     */
+    private static long[] writeCorruptFile(File file) throws IOException {
+        long[] counts = new long[LoadReport.ErrorCategory.values().length];
+        try (PrintWriter writer = new PrintWriter(file)) {
+            writer.println("matric,name,cgpa");
+            for (int i = 1; i < LINE_COUNT; i++) {
+                String matric = "AIU" + (1000000 + i);
+                if (i % BAD_EVERY != 0) {
+                    writer.println(matric + ",Student " + i + "," + (200 + i % 201) / 100.0);
+                    continue;
+                }
+                LoadReport.ErrorCategory kind = KINDS[(i / BAD_EVERY) % KINDS.length];
+                counts[kind.ordinal()]++;
+                switch (kind) {
+                    case FIELD_COUNT:
+                        writer.println(matric + ",Student " + i);
+                        break;
+                    case EMPTY_FIELD:
+                        writer.println(matric + ",,3.00");
+                        break;
+                    case UNTERMINATED_QUOTE:
+                        writer.println(matric + ",\"Student " + i + ",3.00");
+                        break;
+                    case BAD_CGPA:
+                        writer.println(matric + ",Student " + i + ",fields are empty");
+                        break;
+                    default:
+                        writer.println(matric + ",Unterminated quoted field,5.50");
+                        break;
+                }
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Sampled error k must be file line (k+1)*BAD_EVERY + 1 (header is line 1)
+     */
+    private static boolean sampleIsCorrect(LoadReport report) {
+        List<LoadReport.LoadError> sample = report.getErrorSample();
+        for (int k = 0; k < sample.size(); k++) {
+            int dataLine = (k + 1) * BAD_EVERY;
+            if (sample.get(k).getLineNumber() != dataLine + 1 ||
+                    sample.get(k).getCategory() != KINDS[(dataLine / BAD_EVERY) % KINDS.length]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean sameReport(LoadReport a, LoadReport b) {
+        if (a.getLineCount() != b.getLineCount() || a.getLoadedCount() != b.getLoadedCount() ||
+                a.getSkippedCount() != b.getSkippedCount() || !a.getErrorCounts().equals(b.getErrorCounts()) ||
+                a.getErrorSample().size() != b.getErrorSample().size()) {
+            return false;
+        }
+        for (int i = 0; i < a.getErrorSample().size(); i++) {
+            if (a.getErrorSample().get(i).getLineNumber() != b.getErrorSample().get(i).getLineNumber() ||
+                    a.getErrorSample().get(i).getCategory() != b.getErrorSample().get(i).getCategory()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Discards console output, counting bytes and lines
+     */
+    private static final class CountingStream extends OutputStream {
+        long bytes;
+        long lines;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            bytes += length;
+            for (int i = offset; i < offset + length; i++) {
+                if (buffer[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+
+        void reset() {
+            bytes = 0;
+            lines = 0;
+        }
+    }
+}
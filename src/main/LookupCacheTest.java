@@ -0,0 +1,160 @@
+package main;
+
+import model.StudentRecord;
+import tree.BST;
+import utilities.LookupCache;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * LOOKUP CACHE TEST - W-TinyLFU cache in front of BST.search
+ *
+ * Requirements:
+ *  ✓ Cached lookups return the same records as the tree
+ *  ✓ delete() and update() invalidate cached entries
+ *  ✓ Hit/miss/eviction counters are reported
+ *  ✓ Capacities above LookupCache.MAX_CAPACITY are rejected, not overflowed
+ *  ✓ Throughput with and without the cache under a Zipf (s=1.0) workload
+ */
+public class LookupCacheTest {
+
+    private static final int RECORD_COUNT = 200000;
+    private static final int LOOKUP_COUNT = 2000000;
+    private static final double ZIPF_EXPONENT = 1.0;
+
+    public static void main(String[] args) {
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("🧪 LOOKUP CACHE TEST (n=" + RECORD_COUNT + ")");
+        System.out.println("=".repeat(70) + "\n");
+
+        List<StudentRecord> records = TestData.generateStudentRecords(RECORD_COUNT, 100000);
+        List<StudentRecord> insertOrder = new ArrayList<>(records);
+        Collections.shuffle(insertOrder, new Random(42)); // Avoid a skewed tree
+
+        BST bst = new BST();
+        bst.setVerbose(false);
+        for (StudentRecord record : insertOrder) {
+            bst.insert(record);
+        }
+        System.out.println("✓ Tree built with " + bst.countNodes() + " students (height " +
+                bst.getHeight() + ")");
+
+        // ========== TEST 1: INVALIDATION ==========
+        System.out.println("\n📝 TEST 1: Invalidation on delete and update");
+        System.out.println("-".repeat(70));
+
+        bst.enableLookupCache(1000);
+        String hot = records.get(10).getMatricNumber();
+        bst.search(hot);
+        bst.search(hot);
+
+        StudentRecord updated = new StudentRecord("Updated Name", hot, 3.99);
+        bst.update(updated);
+        StudentRecord afterUpdate = bst.search(hot);
+        System.out.println("  • After update returns new record: " +
+                (afterUpdate == updated ? "YES ✓" : "NO ❌"));
+
+        LookupCache stats = bst.getLookupCache();
+        long hits = stats.getHits();
+        long misses = stats.getMisses();
+        bst.delete(hot);
+        bst.delete("XYZ0"); // not in the tree
+        System.out.println("  • Deletes leave hit/miss counts unchanged: " +
+                (stats.getHits() == hits && stats.getMisses() == misses ? "YES ✓" : "NO ❌"));
+        System.out.println("  • After delete returns null: " +
+                (bst.search(hot) == null ? "YES ✓" : "NO ❌"));
+        bst.insert(records.get(10));
+
+        boolean rejected = true;
+        for (int capacity : new int[]{LookupCache.MAX_CAPACITY + 1, 300000000, Integer.MAX_VALUE}) {
+            try {
+                new LookupCache(capacity);
+                rejected = false;
+            } catch (IllegalArgumentException e) {
+                // expected
+            }
+        }
+        System.out.println("  • Capacity above " + LookupCache.MAX_CAPACITY + " rejected: " +
+                (rejected ? "YES ✓" : "NO ❌"));
+
+        // ========== TEST 2: ZIPF THROUGHPUT ==========
+        System.out.println("\n📝 TEST 2: Zipf workload (" + LOOKUP_COUNT + " lookups, s=" + ZIPF_EXPONENT + ")");
+        System.out.println("-".repeat(70));
+
+        String[] workload = zipfWorkload(records, LOOKUP_COUNT, ZIPF_EXPONENT, new Random(7));
+
+        bst.disableLookupCache();
+        long baseline = timeLookups(bst, workload);
+        System.out.printf("  %-18s %10s %10s %12s %10s\n", "CONFIG", "TIME (ms)", "M ops/s", "EVICTIONS", "HIT RATE");
+        System.out.printf("  %-18s %10d %10.2f %12s %10s\n", "no cache",
+                baseline / 1000000, LOOKUP_COUNT * 1000.0 / baseline, "-", "-");
+
+        int[] capacities = {1000, 10000, 50000};
+        for (int capacity : capacities) {
+            bst.enableLookupCache(capacity);
+            long elapsed = timeLookups(bst, workload);
+            LookupCache cache = bst.getLookupCache();
+
+            System.out.printf("  %-18s %10d %10.2f %12d %9.1f%%\n", "cache " + capacity,
+                    elapsed / 1000000, LOOKUP_COUNT * 1000.0 / elapsed,
+                    cache.getEvictions(), cache.getHitRate() * 100);
+            System.out.println("      hits=" + cache.getHits() + " misses=" + cache.getMisses() +
+                    " speedup=" + String.format("%.2fx", (double) baseline / elapsed));
+        }
+        bst.disableLookupCache();
+
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("✅ LOOKUP CACHE TEST COMPLETE");
+        System.out.println("=".repeat(70) + "\n");
+    }
+
+    /**
+     * Run the workload once and return elapsed nanoseconds
+     * (The cache warms up during the run, as it would in production)
+     */
+    private static long timeLookups(BST bst, String[] workload) {
+        int hits = 0;
+        long start = System.nanoTime();
+        for (String matric : workload) {
+            if (bst.search(matric) != null) hits++;
+        }
+        long elapsed = System.nanoTime() - start;
+
+        if (hits != workload.length) System.out.println("  ⚠️  Unexpected misses: " + (workload.length - hits));
+        return elapsed;
+    }
+
+    /**
+     * Draw keys where rank r is requested with probability ∝ 1 / r^s
+     * Ranks are mapped to random records so hot keys are spread over the tree.
+     */
+    private static String[] zipfWorkload(List<StudentRecord> records, int count,
+                                         double exponent, Random random) {
+        int n = records.size();
+        double[] cumulative = new double[n];
+        double sum = 0;
+        for (int rank = 1; rank <= n; rank++) {
+            sum += 1.0 / Math.pow(rank, exponent);
+            cumulative[rank - 1] = sum;
+        }
+
+        List<StudentRecord> byRank = new ArrayList<>(records);
+        Collections.shuffle(byRank, random);
+
+        String[] workload = new String[count];
+        for (int i = 0; i < count; i++) {
+            double u = random.nextDouble() * sum;
+            int low = 0;
+            int high = n - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (cumulative[mid] < u) low = mid + 1;
+                else high = mid;
+            }
+            workload[i] = byRank.get(low).getMatricNumber();
+        }
+        return workload;
+    }
+}
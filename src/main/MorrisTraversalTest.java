@@ -0,0 +1,148 @@
+package main;
+
+import model.StudentRecord;
+import tree.BST;
+import tree.Node;
+import tree.TraversalMode;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * MORRIS TRAVERSAL TEST - Constant-space in-order traversal
+ *
+ * Requirements:
+ *  ✓ All three modes produce identical in-order output
+ *  ✓ Morris restores every link (tree is valid and unchanged afterwards)
+ *  ✓ Skewed tree (h ≈ n): recursion overflows, ITERATIVE/MORRIS succeed
+ *  ✓ Aggregates (countNodes, getHeight, getLeafCount, isValidBST,
+ *    linearSearchByCGPA) honour the selected mode, also on skewed trees
+ *  ✓ Benchmark Morris vs stack-based iteration
+ */
+public class MorrisTraversalTest {
+
+    private static final int BALANCED_COUNT = 500000;
+    private static final int SKEWED_COUNT = 20000;
+
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("🧪 MORRIS TRAVERSAL TEST");
+        System.out.println("=".repeat(70) + "\n");
+
+        // ========== TEST 1: RANDOM TREE ==========
+        System.out.println("📝 TEST 1: Random tree (n=" + BALANCED_COUNT + ")");
+        System.out.println("-".repeat(70));
+
+        List<StudentRecord> records = TestData.generateStudentRecords(BALANCED_COUNT, 1000000);
+        Collections.shuffle(records, new Random(42));
+        BST balanced = new BST();
+        balanced.setVerbose(false);
+        for (StudentRecord record : records) {
+            balanced.insert(record);
+        }
+
+        List<StudentRecord> recursive = balanced.inOrderTraversal(TraversalMode.RECURSIVE);
+        List<StudentRecord> iterative = balanced.inOrderTraversal(TraversalMode.ITERATIVE);
+        List<StudentRecord> morris = balanced.inOrderTraversal(TraversalMode.MORRIS);
+        System.out.println("  • ITERATIVE matches RECURSIVE: " + (iterative.equals(recursive) ? "YES ✓" : "NO ❌"));
+        System.out.println("  • MORRIS matches RECURSIVE:    " + (morris.equals(recursive) ? "YES ✓" : "NO ❌"));
+        System.out.println("  • Tree intact after MORRIS:    " +
+                (balanced.isValidBST() && balanced.preOrderTraversal().size() == BALANCED_COUNT ? "YES ✓" : "NO ❌"));
+
+        balanced.setTraversalMode(TraversalMode.MORRIS);
+        int morrisCount = balanced.countNodes();
+        int morrisMatches = balanced.linearSearchByCGPA(3.50).size();
+        balanced.setTraversalMode(TraversalMode.RECURSIVE);
+        System.out.println("  • countNodes() in MORRIS mode: " + morrisCount +
+                (morrisCount == balanced.countNodes() ? " ✓" : " ❌"));
+        System.out.println("  • linearSearchByCGPA(3.50) in MORRIS mode: " + morrisMatches +
+                (morrisMatches == balanced.linearSearchByCGPA(3.50).size() ? " ✓" : " ❌"));
+
+        int height = balanced.getHeight();
+        int leaves = balanced.getLeafCount();
+        for (TraversalMode mode : new TraversalMode[]{TraversalMode.ITERATIVE, TraversalMode.MORRIS}) {
+            balanced.setTraversalMode(mode);
+            boolean same = balanced.getHeight() == height && balanced.getLeafCount() == leaves &&
+                    balanced.isValidBST();
+            balanced.setTraversalMode(TraversalMode.RECURSIVE);
+            System.out.println("  • getHeight/getLeafCount/isValidBST in " + mode + " mode: " + height + "/" +
+                    leaves + "/true" + (same ? " ✓" : " ❌"));
+        }
+        System.out.println("  • Tree intact after MORRIS aggregates: " +
+                (balanced.inOrderTraversal().equals(recursive) && balanced.getHeight() == height ? "YES ✓" : "NO ❌"));
+
+        // Break the ordering: swap the root's record with its successor's
+        StudentRecord rootRecord = balanced.getRoot().getData();
+        Node next = balanced.getRoot().getRight();
+        while (next.getLeft() != null) {
+            next = next.getLeft();
+        }
+        balanced.getRoot().setData(next.getData());
+        next.setData(rootRecord);
+        for (TraversalMode mode : TraversalMode.values()) {
+            balanced.setTraversalMode(mode);
+            System.out.println("  • Out-of-order tree rejected by isValidBST in " + mode + " mode: " +
+                    (!balanced.isValidBST() ? "YES ✓" : "NO ❌"));
+        }
+        balanced.setTraversalMode(TraversalMode.RECURSIVE);
+        next.setData(balanced.getRoot().getData());
+        balanced.getRoot().setData(rootRecord);
+
+        // ========== TEST 2: BENCHMARK ==========
+        System.out.println("\n📝 TEST 2: Traversal time (best of 5, n=" + BALANCED_COUNT + ")");
+        System.out.println("-".repeat(70));
+
+        for (TraversalMode mode : TraversalMode.values()) {
+            long best = Long.MAX_VALUE;
+            for (int round = 0; round < 5; round++) {
+                long[] sum = new long[1];
+                long start = System.nanoTime();
+                balanced.inOrderVisit(record -> sum[0] += record.getMatricNumber().length(), mode);
+                best = Math.min(best, System.nanoTime() - start);
+            }
+            System.out.printf("  • %-10s %8d µs\n", mode, best / 1000);
+        }
+
+        // ========== TEST 3: SKEWED TREE ==========
+        System.out.println("\n📝 TEST 3: Skewed tree (sorted inserts, n=" + SKEWED_COUNT + ")");
+        System.out.println("-".repeat(70));
+
+        BST skewed = new BST();
+        skewed.setVerbose(false);
+        // insert() itself recurses to depth n on sorted input - build on a large stack
+        Thread builder = new Thread(null, () -> {
+            for (StudentRecord record : TestData.generateStudentRecords(SKEWED_COUNT, 1000000)) {
+                skewed.insert(record);
+            }
+        }, "skewed-builder", 512L * 1024 * 1024);
+        builder.start();
+        builder.join();
+
+        for (TraversalMode mode : TraversalMode.values()) {
+            try {
+                long start = System.nanoTime();
+                int size = skewed.inOrderTraversal(mode).size();
+                long elapsed = System.nanoTime() - start;
+                System.out.printf("  • %-10s %d records in %d µs ✓\n", mode, size, elapsed / 1000);
+            } catch (StackOverflowError e) {
+                System.out.printf("  • %-10s StackOverflowError (expected for h ≈ n)\n", mode);
+            }
+        }
+
+        // Aggregates on the skewed tree: height n-1, one leaf, valid
+        for (TraversalMode mode : new TraversalMode[]{TraversalMode.ITERATIVE, TraversalMode.MORRIS}) {
+            skewed.setTraversalMode(mode);
+            int skewedHeight = skewed.getHeight();
+            int skewedLeaves = skewed.getLeafCount();
+            boolean skewedValid = skewed.isValidBST();
+            System.out.printf("  • %-10s getHeight=%d getLeafCount=%d isValidBST=%b %s\n", mode,
+                    skewedHeight, skewedLeaves, skewedValid,
+                    (skewedHeight == SKEWED_COUNT - 1 && skewedLeaves == 1 && skewedValid) ? "✓" : "❌");
+        }
+        skewed.setTraversalMode(TraversalMode.RECURSIVE);
+
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("✅ MORRIS TRAVERSAL TEST COMPLETE");
+        System.out.println("=".repeat(70) + "\n");
+    }
+}
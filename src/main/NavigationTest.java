@@ -0,0 +1,157 @@
+package main;
+
+import model.StudentRecord;
+import tree.BST;
+import tree.Node;
+import tree.RecordCursor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * NAVIGATION TEST - Parent links, successor/predecessor and cursors
+ *
+ * Requirements:
+ *  ✓ Parent links stay correct through random inserts and deletes
+ *  ✓ Forward/backward cursor scans match in-order traversal
+ *  ✓ successor()/predecessor() work for present AND absent keys
+ *  ✓ Cursor survives deletion of the record under it
+ *  ✓ Cursor scan vs re-descending from root for every step
+ */
+public class NavigationTest {
+
+    private static final int RECORD_COUNT = 100000;
+
+    public static void main(String[] args) {
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("🧪 NAVIGATION TEST (n=" + RECORD_COUNT + ")");
+        System.out.println("=".repeat(70) + "\n");
+
+        List<StudentRecord> records = new ArrayList<>();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            records.add(new StudentRecord("Student " + i, "AIU" + (100000 + 2 * i), 3.00));
+        }
+        Collections.shuffle(records, new Random(42));
+
+        BST bst = new BST();
+        bst.setVerbose(false);
+        for (StudentRecord record : records) {
+            bst.insert(record);
+        }
+        for (int i = 0; i < RECORD_COUNT / 5; i++) {
+            bst.delete(records.get(i).getMatricNumber());
+        }
+        System.out.println("✓ Tree has " + bst.countNodes() + " students after random deletes");
+
+        // ========== TEST 1: PARENT LINKS ==========
+        System.out.println("\n📝 TEST 1: Parent links consistent");
+        System.out.println("-".repeat(70));
+        System.out.println("  • Root parent is null: " +
+                (bst.getRoot().getParent() == null ? "YES ✓" : "NO ❌"));
+        System.out.println("  • Every child points to its parent: " +
+                (checkParents(bst.getRoot()) ? "YES ✓" : "NO ❌"));
+
+        // ========== TEST 2: CURSOR SCANS ==========
+        System.out.println("\n📝 TEST 2: Cursor scans");
+        System.out.println("-".repeat(70));
+
+        List<StudentRecord> inOrder = bst.inOrderTraversal();
+        List<StudentRecord> forward = new ArrayList<>();
+        for (StudentRecord record : bst) {
+            forward.add(record);
+        }
+        List<StudentRecord> backward = new ArrayList<>();
+        RecordCursor cursor = bst.cursor();
+        cursor.last();
+        do {
+            backward.add(cursor.get());
+        } while (cursor.previous());
+        Collections.reverse(backward);
+
+        System.out.println("  • Forward scan matches in-order:  " + (forward.equals(inOrder) ? "YES ✓" : "NO ❌"));
+        System.out.println("  • Backward scan matches in-order: " + (backward.equals(inOrder) ? "YES ✓" : "NO ❌"));
+
+        // ========== TEST 3: SUCCESSOR / PREDECESSOR ==========
+        System.out.println("\n📝 TEST 3: successor() / predecessor()");
+        System.out.println("-".repeat(70));
+
+        String present = inOrder.get(100).getMatricNumber();
+        String absent = "AIU" + (Integer.parseInt(present.substring(3)) + 1); // odd = never inserted
+        System.out.println("  • successor(" + present + ") = " + bst.successor(present).getMatricNumber() +
+                (bst.successor(present) == inOrder.get(101) ? " ✓" : " ❌"));
+        System.out.println("  • predecessor(" + present + ") = " + bst.predecessor(present).getMatricNumber() +
+                (bst.predecessor(present) == inOrder.get(99) ? " ✓" : " ❌"));
+        System.out.println("  • successor(" + absent + ") = " + bst.successor(absent).getMatricNumber() +
+                (bst.successor(absent) == inOrder.get(101) ? " ✓" : " ❌"));
+        System.out.println("  • successor(max) = " + bst.successor(bst.findMax().getMatricNumber()) +
+                (bst.successor(bst.findMax().getMatricNumber()) == null ? " ✓" : " ❌"));
+
+        // ========== TEST 4: PAGING WITH MODIFICATION ==========
+        System.out.println("\n📝 TEST 4: Paging while the tree changes");
+        System.out.println("-".repeat(70));
+
+        RecordCursor page = bst.cursorAt(present);
+        bst.delete(present); // Delete the record under the cursor
+        page.next();
+        System.out.println("  • After deleting current, next() lands on: " +
+                page.get().getMatricNumber() + (page.get() == inOrder.get(101) ? " ✓" : " ❌"));
+        page.previous();
+        System.out.println("  • previous() lands on: " +
+                page.get().getMatricNumber() + (page.get() == inOrder.get(99) ? " ✓" : " ❌"));
+
+        // ========== TEST 5: TIMING ==========
+        System.out.println("\n📝 TEST 5: Full scan timing (" + bst.countNodes() + " records)");
+        System.out.println("-".repeat(70));
+
+        long cursorTime = Long.MAX_VALUE;
+        long redescendTime = Long.MAX_VALUE;
+        for (int round = 0; round < 5; round++) {
+            long start = System.nanoTime();
+            int count = 0;
+            RecordCursor scan = bst.cursor();
+            while (scan.isValid()) {
+                count++;
+                scan.next();
+            }
+            cursorTime = Math.min(cursorTime, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            StudentRecord record = bst.findMin();
+            while (record != null) {
+                count--;
+                record = bst.successor(record.getMatricNumber());
+            }
+            redescendTime = Math.min(redescendTime, System.nanoTime() - start);
+
+            if (count != 0) System.out.println("  ⚠️  Scan lengths differ");
+        }
+        System.out.println("  • Cursor (parent links): " + cursorTime / 1000 + " µs");
+        System.out.println("  • successor() from root: " + redescendTime / 1000 + " µs");
+        System.out.println("  • Speedup: " + String.format("%.2fx", (double) redescendTime / cursorTime));
+
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("✅ NAVIGATION TEST COMPLETE");
+        System.out.println("=".repeat(70) + "\n");
+    }
+
+    /**
+     * Iteratively verify child.getParent() == node for every edge
+     */
+    private static boolean checkParents(Node root) {
+        List<Node> stack = new ArrayList<>();
+        stack.add(root);
+        while (!stack.isEmpty()) {
+            Node node = stack.remove(stack.size() - 1);
+            for (Node child : new Node[]{node.getLeft(), node.getRight()}) {
+                if (child != null) {
+                    if (child.getParent() != node) {
+                        return false;
+                    }
+                    stack.add(child);
+                }
+            }
+        }
+        return true;
+    }
+}
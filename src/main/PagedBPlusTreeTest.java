@@ -0,0 +1,208 @@
+package main;
+
+import model.StudentRecord;
+import storage.BufferPool;
+import storage.PagedBPlusTree;
+import tree.BST;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * PAGED B+-TREE TEST - Disk-resident tree with a bounded buffer pool
+ *
+ * Requirements:
+ *  ✓ Data set is at least 10× the buffer pool (256 pages = 1 MB)
+ *  ✓ insert / search / delete / update / range give the same answers as tree.BST
+ *  ✓ In-order scan walks the chained leaves (one page read per leaf)
+ *  ✓ Emptied pages are reused; the file reopens with the same contents
+ *  ✓ Throughput and buffer pool hit rate for each phase
+ */
+public class PagedBPlusTreeTest {
+
+    private static final int RECORD_COUNT = 300000;
+    private static final int POOL_PAGES = 256;
+    private static final int LOOKUPS = 200000;
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("🧪 PAGED B+-TREE TEST (n=" + RECORD_COUNT + ", pool=" + POOL_PAGES + " pages)");
+        System.out.println("=".repeat(70) + "\n");
+
+        File dir = Files.createTempDirectory("bplustree-test").toFile();
+        File treeFile = new File(dir, "students.bpt");
+
+        List<StudentRecord> records = TestData.generateNamedStudentRecords(RECORD_COUNT, 100000);
+        Collections.shuffle(records, new Random(42));
+        BST reference = new BST();
+        reference.setVerbose(false);
+        for (StudentRecord record : records) {
+            reference.insert(record);
+        }
+
+        try (PagedBPlusTree tree = PagedBPlusTree.open(treeFile.getPath(), POOL_PAGES)) {
+            BufferPool<?> pool = tree.getBufferPool();
+
+            // ========== TEST 1: INSERT ==========
+            System.out.println("📝 TEST 1: Insert (random order)");
+            System.out.println("-".repeat(70));
+            System.out.printf("  %-22s %10s %12s %10s %10s\n", "PHASE", "OPS", "OPS/SEC", "HIT RATE", "READS");
+
+            long start = System.nanoTime();
+            int inserted = 0;
+            for (StudentRecord record : records) {
+                if (tree.insert(record)) {
+                    inserted++;
+                }
+            }
+            printPhase("insert", inserted, System.nanoTime() - start, pool);
+            boolean duplicateRejected = !tree.insert(records.get(0));
+
+            tree.flush();
+            double ratio = tree.getPageCount() / (double) POOL_PAGES;
+            System.out.println("\n  • Pages: " + tree.getPageCount() + " (" + (treeFile.length() >> 20) +
+                    " MB), height " + tree.getHeight());
+            System.out.printf("  • Data / buffer pool: %.1fx %s\n", ratio, ratio >= 10 ? "✓" : "❌");
+            System.out.println("  • Size: " + tree.size() + (tree.size() == RECORD_COUNT ? " ✓" : " ❌"));
+            System.out.println("  • Duplicate rejected: " + (duplicateRejected ? "YES ✓" : "NO ❌"));
+
+            // ========== TEST 2: POINT LOOKUPS ==========
+            System.out.println("\n📝 TEST 2: Point lookups (uniform random)");
+            System.out.println("-".repeat(70));
+
+            Random random = new Random(7);
+            int found = 0;
+            pool.resetStatistics();
+            start = System.nanoTime();
+            for (int i = 0; i < LOOKUPS; i++) {
+                StudentRecord record = records.get(random.nextInt(RECORD_COUNT));
+                if (tree.search(record.getMatricNumber()) != null) {
+                    found++;
+                }
+            }
+            printPhase("B+-tree search", LOOKUPS, System.nanoTime() - start, pool);
+
+            random = new Random(7);
+            start = System.nanoTime();
+            int bstFound = 0;
+            for (int i = 0; i < LOOKUPS; i++) {
+                if (reference.search(records.get(random.nextInt(RECORD_COUNT)).getMatricNumber()) != null) {
+                    bstFound++;
+                }
+            }
+            long bstNanos = System.nanoTime() - start;
+            System.out.printf("  %-22s %10d %12.0f %10s %10s\n", "in-memory BST", LOOKUPS,
+                    LOOKUPS / (bstNanos / 1e9), "-", "-");
+            System.out.println("\n  • All keys found: " +
+                    (found == LOOKUPS && bstFound == LOOKUPS ? "YES ✓" : "NO ❌"));
+            System.out.println("  • Missing key: " +
+                    (tree.search("AIU0000000") == null ? "null ✓" : "found ❌"));
+
+            // ========== TEST 3: SCANS ==========
+            System.out.println("\n📝 TEST 3: In-order and range scans");
+            System.out.println("-".repeat(70));
+
+            List<StudentRecord> expected = reference.inOrderTraversal();
+            List<StudentRecord> scanned = new ArrayList<>();
+            pool.resetStatistics();
+            start = System.nanoTime();
+            tree.inOrderVisit(scanned::add);
+            printPhase("full scan (records)", scanned.size(), System.nanoTime() - start, pool);
+            System.out.println("\n  • Leaf-chain scan matches BST in-order: " +
+                    (TestData.sameRecords(expected, scanned) ? "YES ✓" : "NO ❌"));
+            System.out.println("  • Page reads per 1000 records: " +
+                    String.format("%.1f", pool.getPageReads() * 1000.0 / scanned.size()));
+
+            List<StudentRecord> range = tree.range("AIU100000", "AIU100999");
+            long expectedRange = expected.stream().filter(r -> r.getMatricNumber().compareTo("AIU100000") >= 0 &&
+                    r.getMatricNumber().compareTo("AIU100999") <= 0).count();
+            System.out.println("  • range(AIU100000, AIU100999): " + range.size() + " records" +
+                    (range.size() == expectedRange ? " ✓" : " ❌"));
+
+            // ========== TEST 4: DELETE / UPDATE ==========
+            System.out.println("\n📝 TEST 4: Delete half, update, reinsert");
+            System.out.println("-".repeat(70));
+
+            pool.resetStatistics();
+            start = System.nanoTime();
+            int deleted = 0;
+            for (int i = 0; i < RECORD_COUNT / 2; i++) {
+                String matric = records.get(i).getMatricNumber();
+                reference.delete(matric);
+                if (tree.delete(matric)) {
+                    deleted++;
+                }
+            }
+            printPhase("delete", deleted, System.nanoTime() - start, pool);
+            boolean deleteMissing = !tree.delete(records.get(0).getMatricNumber());
+
+            int updated = 0;
+            for (int i = RECORD_COUNT / 2; i < RECORD_COUNT / 2 + 1000; i++) {
+                StudentRecord old = records.get(i);
+                StudentRecord renamed = new StudentRecord(old.getName() + " bin " + "X".repeat(i % 200),
+                        old.getMatricNumber(), 4.0);
+                reference.update(renamed);
+                if (tree.update(renamed)) {
+                    updated++;
+                }
+            }
+
+            List<StudentRecord> afterDelete = new ArrayList<>();
+            tree.inOrderVisit(afterDelete::add);
+            System.out.println("\n  • Deleted: " + deleted + (deleted == RECORD_COUNT / 2 ? " ✓" : " ❌") +
+                    ", updated: " + updated + (updated == 1000 ? " ✓" : " ❌") +
+                    ", delete of missing key rejected: " + (deleteMissing ? "✓" : "❌"));
+            System.out.println("  • Contents match BST: " +
+                    (TestData.sameRecords(reference.inOrderTraversal(), afterDelete) ? "YES ✓" : "NO ❌"));
+
+            int pagesBefore = tree.getPageCount();
+            for (int i = 0; i < RECORD_COUNT / 2; i++) {
+                tree.insert(records.get(i));
+                reference.insert(records.get(i));
+            }
+            System.out.println("  • Pages after reinsert: " + tree.getPageCount() + " (was " + pagesBefore +
+                    ") " + (tree.getPageCount() < pagesBefore * 1.5 ? "✓ freed pages reused" : "❌"));
+        }
+
+        // ========== TEST 5: REOPEN ==========
+        System.out.println("\n📝 TEST 5: Close and reopen");
+        System.out.println("-".repeat(70));
+
+        try (PagedBPlusTree reopened = PagedBPlusTree.open(treeFile.getPath(), POOL_PAGES)) {
+            List<StudentRecord> contents = new ArrayList<>();
+            reopened.inOrderVisit(contents::add);
+            System.out.println("  • Size after reopen: " + reopened.size() +
+                    (reopened.size() == RECORD_COUNT ? " ✓" : " ❌"));
+            System.out.println("  • Same records after reopen: " +
+                    (TestData.sameRecords(reference.inOrderTraversal(), contents) ? "YES ✓" : "NO ❌"));
+        }
+
+        // Emptying the tree collapses it back to a single leaf
+        try (PagedBPlusTree tree = PagedBPlusTree.open(treeFile.getPath(), POOL_PAGES)) {
+            for (StudentRecord record : records) {
+                tree.delete(record.getMatricNumber());
+            }
+            System.out.println("  • Delete everything: size " + tree.size() + ", height " + tree.getHeight() +
+                    (tree.isEmpty() && tree.getHeight() == 1 ? " ✓" : " ❌"));
+            tree.insert(records.get(0));
+            System.out.println("  • Usable after emptying: " +
+                    (tree.search(records.get(0).getMatricNumber()) != null ? "YES ✓" : "NO ❌"));
+        }
+
+        new File(dir, "students.bpt").delete();
+        dir.delete();
+
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("✅ PAGED B+-TREE TEST COMPLETE");
+        System.out.println("=".repeat(70) + "\n");
+    }
+
+    private static void printPhase(String label, int ops, long nanos, BufferPool<?> pool) {
+        System.out.printf("  %-22s %10d %12.0f %9.1f%% %10d\n", label, ops, ops / (nanos / 1e9),
+                pool.getHitRate() * 100, pool.getPageReads());
+    }
+}
@@ -0,0 +1,94 @@
+package main;
+
+import model.StudentRecord;
+import sorting.MergeSort;
+import sorting.ParallelMergeSort;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * PARALLEL SORT BENCHMARK - Fork/join merge sort by name
+ *
+ * Requirements:
+ *  ✓ ParallelMergeSort gives exactly the same (stable) order as
+ *    Arrays.sort with a name comparator, at every thread count
+ *  ✓ Speedup over the sequential MergeSort at 1, 2, 4, 8, 16 threads
+ *
+ * Usage: java main.ParallelSortBenchmark [records]
+ *  The default roster is 2M records: 10M StudentRecords (with their name
+ *  and matric Strings) need more heap than the default -Xmx here; pass
+ *  10000000 with e.g. -Xmx4g for the full-size run.
+ */
+public class ParallelSortBenchmark {
+
+    private static final int DEFAULT_RECORDS = 2000000;
+    private static final int[] THREADS = {1, 2, 4, 8, 16};
+    private static final int ROUNDS = 3;
+
+
+    private static final Comparator<StudentRecord> BY_NAME = Comparator.comparing(StudentRecord::getName);
+
+    public static void main(String[] args) {
+        int n = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_RECORDS;
+
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("⚡ PARALLEL SORT BENCHMARK (n=" + n + ", " +
+                Runtime.getRuntime().availableProcessors() + " processor(s) available)");
+        System.out.println("=".repeat(70) + "\n");
+
+        // ========== TEST 1: CORRECTNESS ==========
+        System.out.println("📝 TEST 1: Same order as Arrays.sort (stable)");
+        System.out.println("-".repeat(70));
+
+        for (int size : new int[] {0, 1, 8192, 8193, 50000, 300001}) {
+            StudentRecord[] records = TestData.shuffledNamedRecords(size, size, 2);
+            StudentRecord[] expected = records.clone();
+            Arrays.sort(expected, BY_NAME);
+            boolean ok = true;
+            for (int threads : new int[] {1, 3, 8}) {
+                StudentRecord[] sorted = records.clone();
+                ParallelMergeSort.sortByName(sorted, threads);
+                ok &= Arrays.equals(sorted, expected);
+            }
+            System.out.println("  • n=" + size + " (heavy ties), 1/3/8 threads: " +
+                    (ok ? "identical order ✓" : "DIFFERENT ❌"));
+        }
+
+        // ========== TEST 2: SPEEDUP ==========
+        System.out.println("\n📝 TEST 2: Sort " + n + " records (best of " + ROUNDS + ")");
+        System.out.println("-".repeat(70));
+
+        StudentRecord[] roster = TestData.shuffledNamedRecords(n, 42, TestData.FIRST_NAMES.length);
+        StudentRecord[] expected = roster.clone();
+        MergeSort.sortByName(expected);
+
+        double sequential = Double.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            StudentRecord[] copy = roster.clone();
+            long start = System.nanoTime();
+            MergeSort.sortByName(copy);
+            sequential = Math.min(sequential, (System.nanoTime() - start) / 1e6);
+        }
+        System.out.printf("  %-32s %10s %10s\n", "SORT", "ms", "SPEEDUP");
+        System.out.printf("  %-32s %10.1f %10s\n", "MergeSort.sortByName", sequential, "1.00x");
+
+        for (int threads : THREADS) {
+            double best = Double.MAX_VALUE;
+            boolean same = true;
+            for (int round = 0; round < ROUNDS; round++) {
+                StudentRecord[] copy = roster.clone();
+                long start = System.nanoTime();
+                ParallelMergeSort.sortByName(copy, threads);
+                best = Math.min(best, (System.nanoTime() - start) / 1e6);
+                same &= Arrays.equals(copy, expected);
+            }
+            System.out.printf("  %-32s %10.1f %9.2fx%s\n", "ParallelMergeSort (" + threads + " threads)",
+                    best, sequential / best, same ? "" : "  DIFFERENT ❌");
+        }
+        System.out.println("  (speedup is bounded by the processors available)");
+
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("✅ PARALLEL SORT BENCHMARK COMPLETE");
+        System.out.println("=".repeat(70) + "\n");
+    }
+}
@@ -35,7 +35,7 @@ public class PerformanceTest {
         System.out.println("STEP 1: GENERATING 1000 STUDENT RECORDS");
         System.out.println("-".repeat(80) + "\n");
 
-        List<StudentRecord> records1000 = generateStudentRecords(1000);
+        List<StudentRecord> records1000 = TestData.generateNamedStudentRecords(1000, 1000);
         System.out.println("✓ Generated " + records1000.size() + " student records");
         System.out.println("  • Matric range: " + records1000.get(0).getMatricNumber() +
                 " to " + records1000.get(records1000.size() - 1).getMatricNumber());
@@ -211,34 +211,4 @@ public class PerformanceTest {
         System.out.println("✓ BST implementation is efficient and correct!");
         System.out.println("=".repeat(80) + "\n");
     }
-
-    /**
-     * Generate n random student records
-     * Matric: AIU1000 to AIU(1000+n-1)
-     * CGPA: Random between 2.00 and 4.00
-     */
-    private static List<StudentRecord> generateStudentRecords(int n) {
-        List<StudentRecord> records = new ArrayList<>();
-        Random random = new Random(42); // Fixed seed for reproducibility
-
-        String[] firstNames = {"Ali", "Aisyah", "Bilal", "Citra", "Daniel", "Eka", "Farah",
-                "Geeta", "Hafiz", "Iris", "Jenna", "Kavya", "Lara", "Maya",
-                "Naveen", "Olivia", "Priya", "Qasim", "Ravi", "Sneha"};
-        String[] lastNames = {"Ahmed", "Rahman", "Hassan", "Dewi", "Lim", "Putri", "Ahmad",
-                "Kumar", "Ibrahim", "Chen", "Fernandez", "Nair", "Tan", "Subramanian",
-                "Singh", "Wang", "Sharma", "Abdullah", "Chandran", "Gupta"};
-
-        for (int i = 0; i < n; i++) {
-            String matric = String.format("AIU%d", 1000 + i);
-            String firstName = firstNames[random.nextInt(firstNames.length)];
-            String lastName = lastNames[random.nextInt(lastNames.length)];
-            String name = firstName + " " + lastName;
-            double cgpa = 2.0 + (random.nextDouble() * 2.0); // 2.0 to 4.0
-            cgpa = Math.round(cgpa * 100.0) / 100.0; // Round to 2 decimals
-
-            records.add(new StudentRecord(name, matric, cgpa));
-        }
-
-        return records;
-    }
 }
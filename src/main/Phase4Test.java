@@ -104,9 +104,9 @@ public class Phase4Test {
         System.out.println("-".repeat(70));
 
         System.out.println("\nNodes grouped by depth level:");
-        int height = bst.getHeight();
-        for (int d = 0; d <= height; d++) {
-            List<StudentRecord> atDepth = bst.getNodesAtDepth(d);
+        List<List<StudentRecord>> levels = bst.getLevels();
+        for (int d = 0; d < levels.size(); d++) {
+            List<StudentRecord> atDepth = levels.get(d);
             System.out.print("  Depth " + d + ": ");
             for (int i = 0; i < atDepth.size(); i++) {
                 System.out.print(atDepth.get(i).getMatricNumber());
@@ -0,0 +1,116 @@
+package main;
+
+import model.StudentRecord;
+import sorting.QuickSort;
+import sorting.RadixSort;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.Consumer;
+
+/**
+ * RADIX SORT BENCHMARK - Counting / LSD radix sort vs comparison sorts
+ *
+ * Requirements:
+ *  ✓ RadixSort.sortByCGPA gives exactly the stable order (Arrays.sort),
+ *    ascending and descending
+ *  ✓ sortByCGPAThenMatric gives exactly the (CGPA, matric) order,
+ *    including matrics of different lengths
+ *  ✓ CGPAs that are not two-decimal values still sort correctly (fallback)
+ *  ✓ Time vs QuickSort and Arrays.sort at growing n
+ *
+ * Usage: java main.RadixSortBenchmark [maxRecords]
+ *  Sizes double from 1M up to maxRecords (default 4M: larger rosters need
+ *  more heap than the default -Xmx here, e.g. -Xmx16g for 50M).
+ */
+public class RadixSortBenchmark {
+
+    private static final int DEFAULT_MAX_RECORDS = 4000000;
+    private static final int ROUNDS = 3;
+
+    private static final Comparator<StudentRecord> BY_CGPA = Comparator.comparingDouble(StudentRecord::getCgpa);
+    private static final Comparator<StudentRecord> RANK_ORDER =
+            BY_CGPA.reversed().thenComparing(StudentRecord::getMatricNumber);
+
+    public static void main(String[] args) {
+        int maxRecords = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_MAX_RECORDS;
+
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("⚡ RADIX SORT BENCHMARK");
+        System.out.println("=".repeat(70) + "\n");
+
+        // ========== TEST 1: CORRECTNESS ==========
+        System.out.println("📝 TEST 1: Same order as a stable comparison sort");
+        System.out.println("-".repeat(70));
+
+        StudentRecord[] sample = TestData.shuffledStudentRecords(200000, 3).toArray(new StudentRecord[0]);
+        StudentRecord[] expected = sample.clone();
+        Arrays.sort(expected, BY_CGPA);
+        StudentRecord[] sorted = sample.clone();
+        RadixSort.sortByCGPA(sorted, false);
+        System.out.println("  • sortByCGPA ascending:  " + (Arrays.equals(sorted, expected) ? "identical ✓" : "DIFFERENT ❌"));
+
+        expected = sample.clone();
+        Arrays.sort(expected, BY_CGPA.reversed());
+        sorted = sample.clone();
+        RadixSort.sortByCGPA(sorted, true);
+        System.out.println("  • sortByCGPA descending: " + (Arrays.equals(sorted, expected) ? "identical ✓" : "DIFFERENT ❌"));
+
+        expected = sample.clone();
+        Arrays.sort(expected, RANK_ORDER);
+        sorted = sample.clone();
+        RadixSort.sortByCGPAThenMatric(sorted, true);
+        System.out.println("  • sortByCGPAThenMatric (rank list, mixed-length matrics): " +
+                (Arrays.equals(sorted, expected) ? "identical ✓" : "DIFFERENT ❌"));
+
+        StudentRecord[] odd = {
+                new StudentRecord("Ali", "AIU3", 3.333),
+                new StudentRecord("Bilal", "AIU1", 3.5),
+                new StudentRecord("Citra", "AIU2", 3.333)
+        };
+        RadixSort.sortByCGPAThenMatric(odd, false);
+        System.out.println("  • Non two-decimal CGPAs (fallback): " +
+                (odd[0].getMatricNumber().equals("AIU2") && odd[1].getMatricNumber().equals("AIU3") ? "sorted ✓" : "WRONG ❌"));
+
+        // ========== TEST 2: SPEED ==========
+        System.out.println("\n📝 TEST 2: ms per sort (best of " + ROUNDS + ")");
+        System.out.println("-".repeat(70));
+        System.out.printf("  %-10s %-34s %10s %10s\n", "N", "SORT", "ms", "vs QUICK");
+
+        StudentRecord[] pool = TestData.shuffledStudentRecords(maxRecords, 42).toArray(new StudentRecord[0]);
+        for (int n = 1000000; n <= maxRecords; n *= 2) {
+            StudentRecord[] input = Arrays.copyOf(pool, n);
+
+            double quick = time(input, copy -> QuickSort.sortByCGPA(copy, true));
+            double jdk = time(input, copy -> Arrays.sort(copy, BY_CGPA.reversed()));
+            double counting = time(input, copy -> RadixSort.sortByCGPA(copy, true));
+            double jdkRank = time(input, copy -> Arrays.sort(copy, RANK_ORDER));
+            double radixRank = time(input, copy -> RadixSort.sortByCGPAThenMatric(copy, true));
+
+            System.out.printf("  %-10d %-34s %10.1f %10s\n", n, "QuickSort.sortByCGPA (unstable)", quick, "1.00x");
+            System.out.printf("  %-10s %-34s %10.1f %9.2fx\n", "", "Arrays.sort by CGPA", jdk, quick / jdk);
+            System.out.printf("  %-10s %-34s %10.1f %9.2fx\n", "", "RadixSort.sortByCGPA", counting, quick / counting);
+            System.out.printf("  %-10s %-34s %10.1f %9.2fx\n", "", "Arrays.sort by (CGPA, matric)", jdkRank,
+                    quick / jdkRank);
+            System.out.printf("  %-10s %-34s %10.1f %9.2fx\n", "", "RadixSort.sortByCGPAThenMatric", radixRank,
+                    quick / radixRank);
+        }
+
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("✅ RADIX SORT BENCHMARK COMPLETE");
+        System.out.println("=".repeat(70) + "\n");
+    }
+
+    /**
+     * Best-of-ROUNDS ms to sort a fresh copy of the input
+     */
+    private static double time(StudentRecord[] input, Consumer<StudentRecord[]> sort) {
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            StudentRecord[] copy = input.clone();
+            long start = System.nanoTime();
+            sort.accept(copy);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1e6;
+    }
+}
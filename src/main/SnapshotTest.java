@@ -0,0 +1,181 @@
+package main;
+
+import model.StudentRecord;
+import storage.BSTSnapshot;
+import tree.BST;
+import tree.Node;
+import utilities.CSVDataLoader;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.RandomAccessFile;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * SNAPSHOT TEST - Binary save/reload vs CSV reload
+ *
+ * Requirements:
+ *  ✓ PRE_ORDER snapshot restores the exact same tree shape
+ *  ✓ IN_ORDER snapshot restores the same records as a balanced tree
+ *  ✓ Corrupt files are rejected by the checksum
+ *  ✓ replaceStructure rejects out-of-order, wrong-size and cyclic
+ *    structures and leaves the tree unchanged
+ *  ✓ Reload time: CSV + insert vs snapshot
+ */
+public class SnapshotTest {
+
+    private static final int RECORD_COUNT = 500000;
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("🧪 SNAPSHOT TEST (n=" + RECORD_COUNT + ")");
+        System.out.println("=".repeat(70) + "\n");
+
+        File dir = new File(System.getProperty("java.io.tmpdir"));
+        String csvFile = new File(dir, "snapshot-test.csv").getPath();
+        String preOrderFile = new File(dir, "snapshot-test-pre.snap").getPath();
+        String inOrderFile = new File(dir, "snapshot-test-in.snap").getPath();
+
+        List<StudentRecord> records = TestData.generateStudentRecords(RECORD_COUNT, 1000000);
+        Collections.shuffle(records, new Random(42));
+
+        BST bst = new BST();
+        bst.setVerbose(false);
+        for (StudentRecord record : records) {
+            bst.insert(record);
+        }
+        System.out.println("✓ Tree built with " + bst.countNodes() + " students (height " +
+                bst.getHeight() + ")");
+
+        try (PrintWriter writer = new PrintWriter(csvFile)) {
+            writer.println("matric,name,cgpa");
+            for (StudentRecord record : records) {
+                writer.println(record.toCSVString());
+            }
+        }
+
+        // ========== TEST 1: WRITE ==========
+        System.out.println("\n📝 TEST 1: Write snapshots");
+        System.out.println("-".repeat(70));
+
+        long start = System.nanoTime();
+        BSTSnapshot.write(bst, preOrderFile, BSTSnapshot.Layout.PRE_ORDER);
+        long preWrite = System.nanoTime() - start;
+        start = System.nanoTime();
+        BSTSnapshot.write(bst, inOrderFile, BSTSnapshot.Layout.IN_ORDER);
+        long inWrite = System.nanoTime() - start;
+
+        System.out.println("  • CSV size:       " + new File(csvFile).length() / 1024 + " KB");
+        System.out.println("  • PRE_ORDER size: " + new File(preOrderFile).length() / 1024 + " KB (" +
+                preWrite / 1000000 + " ms)");
+        System.out.println("  • IN_ORDER size:  " + new File(inOrderFile).length() / 1024 + " KB (" +
+                inWrite / 1000000 + " ms)");
+
+        // ========== TEST 2: RELOAD ==========
+        System.out.println("\n📝 TEST 2: Reload");
+        System.out.println("-".repeat(70));
+
+        start = System.nanoTime();
+        StudentRecord[] loaded = CSVDataLoader.loadFromCSV(csvFile);
+        BST fromCsv = new BST();
+        fromCsv.setVerbose(false);
+        for (StudentRecord record : loaded) {
+            fromCsv.insert(record);
+        }
+        long csvTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        BST fromPreOrder = BSTSnapshot.read(preOrderFile);
+        long preTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        BST fromInOrder = BSTSnapshot.read(inOrderFile);
+        long inTime = System.nanoTime() - start;
+
+        System.out.println("  • CSV + insert:       " + csvTime / 1000000 + " ms");
+        System.out.println("  • PRE_ORDER snapshot: " + preTime / 1000000 + " ms (" +
+                String.format("%.1fx", (double) csvTime / preTime) + " faster)");
+        System.out.println("  • IN_ORDER snapshot:  " + inTime / 1000000 + " ms (" +
+                String.format("%.1fx", (double) csvTime / inTime) + " faster)");
+
+        // ========== TEST 3: FIDELITY ==========
+        System.out.println("\n📝 TEST 3: Fidelity");
+        System.out.println("-".repeat(70));
+
+        boolean sameShape = TestData.sameRecords(fromPreOrder.preOrderTraversal(), bst.preOrderTraversal());
+        boolean sameRecords = TestData.sameRecords(fromInOrder.inOrderTraversal(), bst.inOrderTraversal());
+        System.out.println("  • PRE_ORDER: same pre-order sequence (exact shape): " + (sameShape ? "YES ✓" : "NO ❌"));
+        System.out.println("  • PRE_ORDER: height " + fromPreOrder.getHeight() + " = " + bst.getHeight() +
+                (fromPreOrder.getHeight() == bst.getHeight() ? " ✓" : " ❌"));
+        System.out.println("  • IN_ORDER: same records: " + (sameRecords ? "YES ✓" : "NO ❌"));
+        System.out.println("  • IN_ORDER: height " + fromInOrder.getHeight() + " (balanced: " +
+                (fromInOrder.isBalanced() ? "YES ✓" : "NO ❌") + ")");
+        System.out.println("  • Restored trees valid: " +
+                (fromPreOrder.isValidBST() && fromInOrder.isValidBST() ? "YES ✓" : "NO ❌"));
+
+        // ========== TEST 4: CORRUPTION ==========
+        System.out.println("\n📝 TEST 4: Corrupt snapshot rejected");
+        System.out.println("-".repeat(70));
+
+        try (RandomAccessFile file = new RandomAccessFile(preOrderFile, "rw")) {
+            file.seek(file.length() / 2);
+            int b = file.read();
+            file.seek(file.length() / 2);
+            file.write(b ^ 0x01);
+        }
+        try {
+            BSTSnapshot.read(preOrderFile);
+            System.out.println("  • Corruption detected: NO ❌");
+        } catch (IOException e) {
+            System.out.println("  • Corruption detected: YES ✓ (" + e.getMessage() + ")");
+        }
+
+        // ========== TEST 5: STRUCTURE CHECKS ==========
+        System.out.println("\n📝 TEST 5: replaceStructure validates before swapping");
+        System.out.println("-".repeat(70));
+
+        BST small = new BST();
+        small.setVerbose(false);
+        small.insert(new StudentRecord("Ali", "AIU100", 3.50));
+        List<StudentRecord> before = small.inOrderTraversal();
+
+        Node outOfOrder = new Node(new StudentRecord("Bilal", "AIU200", 3.10));
+        outOfOrder.setLeft(new Node(new StudentRecord("Citra", "AIU300", 3.20)));
+        checkRejected(small, before, "Out-of-order structure", outOfOrder, 2);
+
+        Node valid = new Node(new StudentRecord("Bilal", "AIU200", 3.10));
+        valid.setRight(new Node(new StudentRecord("Citra", "AIU300", 3.20)));
+        checkRejected(small, before, "Wrong size", valid, 3);
+
+        Node cyclic = new Node(new StudentRecord("Daniel", "AIU400", 2.90));
+        cyclic.setLeft(cyclic);
+        checkRejected(small, before, "Cycle", cyclic, 5);
+
+        small.replaceStructure(valid, 2);
+        System.out.println("  • Valid structure installed: " +
+                (small.size() == 2 && small.isValidBST() && valid.getRight().getParent() == valid ? "YES ✓" : "NO ❌"));
+
+        new File(csvFile).delete();
+        new File(preOrderFile).delete();
+        new File(inOrderFile).delete();
+
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("✅ SNAPSHOT TEST COMPLETE");
+        System.out.println("=".repeat(70) + "\n");
+    }
+
+    /**
+     * replaceStructure must throw and leave the tree as it was
+     */
+    private static void checkRejected(BST bst, List<StudentRecord> before, String label, Node root, int size) {
+        try {
+            bst.replaceStructure(root, size);
+            System.out.println("  • " + label + " rejected: NO ❌");
+        } catch (IllegalArgumentException e) {
+            System.out.println("  • " + label + " rejected, tree unchanged: " +
+                    (bst.inOrderTraversal().equals(before) ? "YES ✓" : "NO ❌") + " (" + e.getMessage() + ")");
+        }
+    }
+}
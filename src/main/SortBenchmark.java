@@ -0,0 +1,185 @@
+package main;
+
+import model.StudentRecord;
+import sorting.MergeSort;
+import sorting.MultiKeySort;
+import sorting.QuickSort;
+import sorting.SortSpec;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * SORT BENCHMARK - Array merge sort and quick sort vs the JDK
+ *
+ * Requirements:
+ *  ✓ MergeSort.sortByName(StudentRecord[]) gives exactly the same order
+ *    as Arrays.sort with a name comparator (both are stable)
+ *  ✓ Random, already sorted and reversed input
+ *  ✓ Time per sort vs Arrays.sort (TimSort) at growing n
+ *  ✓ QuickSort.sortByCGPA: sorted, reversed and duplicate-heavy CGPA
+ *    input stay O(n log n) with a shallow stack
+ *  ✓ MultiKeySort with packed keys gives the same order as the spec's
+ *    Comparator, faster
+ */
+public class SortBenchmark {
+
+    private static final int[] SIZES = {10000, 100000, 1000000};
+    private static final int ROUNDS = 5;
+    private static final int CGPA_RECORDS = 1000000;
+
+
+    private static final Comparator<StudentRecord> BY_NAME = Comparator.comparing(StudentRecord::getName);
+    private static final Comparator<StudentRecord> BY_CGPA = Comparator.comparingDouble(StudentRecord::getCgpa);
+    private static final Comparator<StudentRecord> BY_MATRIC = Comparator.comparing(StudentRecord::getMatricNumber);
+
+    public static void main(String[] args) {
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("⚡ SORT BENCHMARK");
+        System.out.println("=".repeat(70) + "\n");
+
+        // ========== TEST 1: CORRECTNESS ==========
+        System.out.println("📝 TEST 1: Same order as Arrays.sort (stable)");
+        System.out.println("-".repeat(70));
+
+        for (int n : new int[] {0, 1, 2, 23, 24, 25, 100, 1000, 54321}) {
+            StudentRecord[] records = TestData.shuffledNamedRecords(n, n, TestData.FIRST_NAMES.length);
+            StudentRecord[] expected = records.clone();
+            Arrays.sort(expected, BY_NAME);
+            StudentRecord[] sorted = records.clone();
+            MergeSort.sortByName(sorted);
+            List<StudentRecord> listSorted = MergeSort.sortByName(Arrays.asList(records));
+            boolean ok = Arrays.equals(sorted, expected) && listSorted.equals(Arrays.asList(expected)) &&
+                    MergeSort.isSortedByName(sorted);
+            System.out.println("  • n=" + n + ": " + (ok ? "identical order ✓" : "DIFFERENT ❌"));
+        }
+
+        // ========== TEST 2: SPEED ==========
+        System.out.println("\n📝 TEST 2: ms per sort (best of " + ROUNDS + ")");
+        System.out.println("-".repeat(70));
+        System.out.printf("  %-10s %-10s %-28s %10s %10s\n", "N", "INPUT", "SORT", "ms", "vs JDK");
+
+        for (int n : SIZES) {
+            StudentRecord[] random = TestData.shuffledNamedRecords(n, 42, TestData.FIRST_NAMES.length);
+            StudentRecord[] ascending = random.clone();
+            Arrays.sort(ascending, BY_NAME);
+            StudentRecord[] descending = ascending.clone();
+            Collections.reverse(Arrays.asList(descending));
+
+            String[] labels = {"random", "sorted", "reversed"};
+            StudentRecord[][] inputs = {random, ascending, descending};
+            for (int c = 0; c < inputs.length; c++) {
+                double jdk = time(inputs[c], copy -> Arrays.sort(copy, BY_NAME));
+                double merge = time(inputs[c], MergeSort::sortByName);
+                System.out.printf("  %-10s %-10s %-28s %10.2f %10s\n", c == 0 ? String.valueOf(n) : "", labels[c],
+                        "Arrays.sort(BY_NAME)", jdk, "1.00x");
+                System.out.printf("  %-10s %-10s %-28s %10.2f %9.2fx\n", "", "",
+                        "MergeSort.sortByName(array)", merge, jdk / merge);
+            }
+        }
+
+        // ========== TEST 3: QUICK SORT BY CGPA ==========
+        System.out.println("\n📝 TEST 3: QuickSort.sortByCGPA, n=" + CGPA_RECORDS + " (best of " + ROUNDS + ")");
+        System.out.println("-".repeat(70));
+        System.out.printf("  %-16s %-12s %12s %12s %10s\n", "INPUT", "DISTINCT", "JDK ms", "QUICK ms", "vs JDK");
+
+        StudentRecord[] base = TestData.shuffledNamedRecords(CGPA_RECORDS, 7, TestData.FIRST_NAMES.length);
+        StudentRecord[] ascendingCgpa = base.clone();
+        Arrays.sort(ascendingCgpa, BY_CGPA);
+        StudentRecord[] descendingCgpa = ascendingCgpa.clone();
+        Collections.reverse(Arrays.asList(descendingCgpa));
+
+        String[] labels = {"random", "sorted", "reversed", "5 values", "all equal"};
+        StudentRecord[][] inputs = {base, ascendingCgpa, descendingCgpa, withCgpas(base, 5), withCgpas(base, 1)};
+        String[] distinct = {"401", "401", "401", "5", "1"};
+        for (int c = 0; c < inputs.length; c++) {
+            StudentRecord[] sorted = inputs[c].clone();
+            QuickSort.sortByCGPA(sorted, false);
+            StudentRecord[] sortedDesc = inputs[c].clone();
+            QuickSort.sortByCGPA(sortedDesc, true);
+            boolean ok = QuickSort.isSortedByCGPA(sorted, false) && QuickSort.isSortedByCGPA(sortedDesc, true) &&
+                    samePermutation(inputs[c], sorted) && samePermutation(inputs[c], sortedDesc);
+
+            double jdk = time(inputs[c], copy -> Arrays.sort(copy, BY_CGPA));
+            double quick = time(inputs[c], copy -> QuickSort.sortByCGPA(copy, false));
+            System.out.printf("  %-16s %-12s %12.2f %12.2f %9.2fx %s\n", labels[c], distinct[c], jdk, quick,
+                    jdk / quick, ok ? "✓" : "❌");
+        }
+        System.out.println("  (✓ = ascending and descending output sorted, same records)");
+
+        // ========== TEST 4: MULTI-KEY SORT ==========
+        System.out.println("\n📝 TEST 4: MultiKeySort vs Arrays.sort(spec.comparator()), n=" + CGPA_RECORDS);
+        System.out.println("-".repeat(70));
+        System.out.printf("  %-36s %12s %12s %10s\n", "SPEC", "JDK ms", "PACKED ms", "vs JDK");
+
+        SortSpec[] specs = {
+                SortSpec.by(SortSpec.Field.CGPA, SortSpec.Direction.DESCENDING)
+                        .thenBy(SortSpec.Field.NAME, SortSpec.Direction.ASCENDING)
+                        .thenBy(SortSpec.Field.MATRIC, SortSpec.Direction.ASCENDING),
+                SortSpec.by(SortSpec.Field.NAME, SortSpec.Direction.DESCENDING)
+                        .thenBy(SortSpec.Field.CGPA, SortSpec.Direction.ASCENDING),
+                SortSpec.by(SortSpec.Field.MATRIC, SortSpec.Direction.DESCENDING),
+                SortSpec.by(SortSpec.Field.CGPA, SortSpec.Direction.ASCENDING)
+        };
+        StudentRecord[] oddCgpas = base.clone();
+        oddCgpas[0] = new StudentRecord(base[0].getName(), base[0].getMatricNumber(), 3.333);
+        for (SortSpec spec : specs) {
+            boolean ok = true;
+            for (StudentRecord[] input : new StudentRecord[][] {base, oddCgpas}) {
+                StudentRecord[] expected = input.clone();
+                Arrays.sort(expected, spec.comparator());
+                StudentRecord[] sorted = input.clone();
+                MultiKeySort.sort(sorted, spec);
+                ok &= Arrays.equals(sorted, expected);
+            }
+            double jdk = time(base, copy -> Arrays.sort(copy, spec.comparator()));
+            double packed = time(base, copy -> MultiKeySort.sort(copy, spec));
+            System.out.printf("  %-36s %12.2f %12.2f %9.2fx %s\n", spec, jdk, packed, jdk / packed, ok ? "✓" : "❌");
+        }
+        System.out.println("  (✓ = identical order, also with a non two-decimal CGPA in the data)");
+
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("✅ SORT BENCHMARK COMPLETE");
+        System.out.println("=".repeat(70) + "\n");
+    }
+
+    /**
+     * Copy of the records with CGPAs limited to the given number of values
+     */
+    private static StudentRecord[] withCgpas(StudentRecord[] records, int values) {
+        StudentRecord[] result = new StudentRecord[records.length];
+        for (int i = 0; i < records.length; i++) {
+            double cgpa = 2.00 + (i * 31 % values) * 0.25;
+            result[i] = new StudentRecord(records[i].getName(), records[i].getMatricNumber(), cgpa);
+        }
+        return result;
+    }
+
+    /**
+     * true if both arrays hold the same records (matric numbers are unique)
+     */
+    private static boolean samePermutation(StudentRecord[] a, StudentRecord[] b) {
+        StudentRecord[] left = a.clone();
+        StudentRecord[] right = b.clone();
+        Arrays.sort(left, BY_MATRIC);
+        Arrays.sort(right, BY_MATRIC);
+        return Arrays.equals(left, right);
+    }
+
+    /**
+     * Best-of-ROUNDS ms to sort a fresh copy of the input
+     */
+    private static double time(StudentRecord[] input, Consumer<StudentRecord[]> sort) {
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            StudentRecord[] copy = input.clone();
+            long start = System.nanoTime();
+            sort.accept(copy);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1e6;
+    }
+}
@@ -0,0 +1,164 @@
+package main;
+
+import model.StudentRecord;
+import tree.BST;
+import utilities.CSVDataLoader;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * STREAMING LOAD TEST - Bounded-memory CSV ingestion
+ *
+ * Requirements:
+ *  ✓ streamFromCSV / forEachRecord return the same records as loadFromCSV
+ *  ✓ Invalid lines are reported and skipped exactly as before
+ *  ✓ Live heap: array load vs streaming aggregate
+ *  ✓ loadIntoTree builds the tree without an intermediate array
+ */
+public class StreamingLoadTest {
+
+    private static final int RECORD_COUNT = 500000;
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("🧪 STREAMING LOAD TEST (n=" + RECORD_COUNT + ")");
+        System.out.println("=".repeat(70) + "\n");
+
+        String csvFile = new File(System.getProperty("java.io.tmpdir"), "streaming-test.csv").getPath();
+        List<StudentRecord> records = TestData.generateStudentRecords(RECORD_COUNT, 1000000);
+        Collections.shuffle(records, new Random(42));
+        try (PrintWriter writer = new PrintWriter(csvFile)) {
+            writer.println("matric,name,cgpa");
+            for (StudentRecord record : records) {
+                writer.println(record.toCSVString());
+            }
+        }
+        records = null;
+
+        // ========== TEST 1: SAME RECORDS ==========
+        System.out.println("📝 TEST 1: Streaming matches loadFromCSV");
+        System.out.println("-".repeat(70));
+
+        StudentRecord[] loaded = quietly(() -> CSVDataLoader.loadFromCSV(csvFile));
+        List<StudentRecord> streamed = new ArrayList<>();
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try (Stream<StudentRecord> stream = CSVDataLoader.streamFromCSV(csvFile)) {
+            stream.forEach(streamed::add);
+        }
+        List<StudentRecord> callback = new ArrayList<>();
+        int callbackCount = CSVDataLoader.forEachRecord(csvFile, callback::add);
+        System.setOut(out);
+
+        System.out.println("  • streamFromCSV records: " + streamed.size() +
+                (TestData.sameRecords(Arrays.asList(loaded), streamed) ? " (identical ✓)" : " (DIFFERENT ❌)"));
+        System.out.println("  • forEachRecord records: " + callbackCount +
+                (TestData.sameRecords(Arrays.asList(loaded), callback) ? " (identical ✓)" : " (DIFFERENT ❌)"));
+        loaded = null;
+        streamed = null;
+        callback = null;
+
+        // ========== TEST 2: INVALID LINES ==========
+        System.out.println("\n📝 TEST 2: Invalid lines are skipped (messages expected below)");
+        System.out.println("-".repeat(70));
+
+        String badFile = new File(System.getProperty("java.io.tmpdir"), "streaming-test-bad.csv").getPath();
+        try (PrintWriter writer = new PrintWriter(badFile)) {
+            writer.println("matric,name,cgpa");
+            writer.println("AIU1,Ali,3.45");
+            writer.println("AIU2,Bob");
+            writer.println("");
+            writer.println("AIU3,Cat,abc");
+            writer.println("AIU4,Dan,3.10");
+        }
+        long valid;
+        try (Stream<StudentRecord> stream = CSVDataLoader.streamFromCSV(badFile)) {
+            valid = stream.count();
+        }
+        System.out.println("  • Valid records streamed: " + valid + (valid == 2 ? " ✓" : " ❌"));
+        new File(badFile).delete();
+
+        // ========== TEST 3: LIVE HEAP ==========
+        System.out.println("\n📝 TEST 3: Live heap halfway through computing the average CGPA");
+        System.out.println("-".repeat(70));
+
+        long baseline = liveHeap();
+        long[] arrayLive = new long[1];
+        double arrayAverage = quietly(() -> {
+            StudentRecord[] all = CSVDataLoader.loadFromCSV(csvFile);
+            double sum = 0;
+            for (int i = 0; i < all.length; i++) {
+                if (i == all.length / 2) {
+                    arrayLive[0] = liveHeap() - baseline;
+                }
+                sum += all[i].getCgpa();
+            }
+            return sum / all.length;
+        });
+
+        long[] streamLive = new long[1];
+        int[] seen = new int[1];
+        double streamAverage = quietly(() -> {
+            try (Stream<StudentRecord> stream = CSVDataLoader.streamFromCSV(csvFile)) {
+                return stream.peek(record -> {
+                    if (++seen[0] == RECORD_COUNT / 2) {
+                        streamLive[0] = liveHeap() - baseline;
+                    }
+                }).mapToDouble(StudentRecord::getCgpa).average().orElse(0);
+            }
+        });
+
+        System.out.println("  • loadFromCSV + loop: " + Math.max(0, arrayLive[0]) / 1024 + " KB live");
+        System.out.println("  • streamFromCSV:      " + Math.max(0, streamLive[0]) / 1024 + " KB live");
+        System.out.println("  • Same average: " + (Math.abs(arrayAverage - streamAverage) < 1e-9 ? "YES ✓" : "NO ❌") +
+                String.format(" (%.4f)", streamAverage));
+
+        // ========== TEST 4: LOAD INTO TREE ==========
+        System.out.println("\n📝 TEST 4: loadIntoTree");
+        System.out.println("-".repeat(70));
+
+        BST bst = new BST();
+        bst.setVerbose(false);
+        long start = System.nanoTime();
+        int inserted = quietly(() -> CSVDataLoader.loadIntoTree(csvFile, bst));
+        long elapsed = System.nanoTime() - start;
+        System.out.println("  • Records streamed into tree: " + inserted + " in " + elapsed / 1000000 + " ms");
+        System.out.println("  • Tree size: " + bst.countNodes() +
+                (bst.countNodes() == RECORD_COUNT && bst.isValidBST() ? " ✓" : " ❌"));
+
+        new File(csvFile).delete();
+
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("✅ STREAMING LOAD TEST COMPLETE");
+        System.out.println("=".repeat(70) + "\n");
+    }
+
+    /**
+     * Heap in use after a full GC (approximately the live set)
+     */
+    private static long liveHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static <T> T quietly(Supplier<T> action) {
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            return action.get();
+        } finally {
+            System.setOut(out);
+        }
+    }
+}
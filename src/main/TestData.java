@@ -0,0 +1,158 @@
+package main;
+
+import model.StudentRecord;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * TEST DATA - Synthetic student records and checks shared by the test drivers
+ *
+ * Every generator uses a fixed seed, so each run of a driver sees the
+ * same roster:
+ *  - generateStudentRecords:      "Student i", matrics in ascending order
+ *  - generateNamedStudentRecords: random "First Last" names (PerformanceTest)
+ *  - shuffledNamedRecords:        random order, "First First Last" names
+ *                                 (name sorting, tunable duplicate names)
+ *  - shuffledStudentRecords:      random order, matrics of mixed lengths,
+ *                                 every CGPA from 0.00 to 4.00 (CGPA sorting)
+ *
+ * Checks and cleanup:
+ *  - sameRecords:       same records in the same order (matric, name, CGPA bits)
+ *  - deleteRecursively: remove a temporary directory tree
+ */
+final class TestData {
+
+    // ============ CONSTANTS ============
+    private static final long SEED = 42;
+
+    static final String[] FIRST_NAMES = {"Ali", "Aisyah", "Bilal", "Citra", "Daniel", "Eka", "Farah",
+            "Geeta", "Hafiz", "Iris", "Jenna", "Kavya", "Lara", "Maya",
+            "Naveen", "Olivia", "Priya", "Qasim", "Ravi", "Sneha"};
+    static final String[] LAST_NAMES = {"Ahmed", "Rahman", "Hassan", "Dewi", "Lim", "Putri", "Ahmad",
+            "Kumar", "Ibrahim", "Chen", "Fernandez", "Nair", "Tan", "Subramanian",
+            "Singh", "Wang", "Sharma", "Abdullah", "Chandran", "Gupta"};
+
+    private TestData() {
+    }
+
+    // ============ ROSTERS ============
+
+    /**
+     * Generate n student records "Student i" with matric AIU(firstMatric + i)
+     * and CGPA 2.00-4.00, in ascending matric order
+     */
+    static List<StudentRecord> generateStudentRecords(int n, int firstMatric) {
+        List<StudentRecord> records = new ArrayList<>();
+        Random random = new Random(SEED);
+
+        for (int i = 0; i < n; i++) {
+            records.add(new StudentRecord("Student " + i, "AIU" + (firstMatric + i), randomCgpa(random)));
+        }
+        return records;
+    }
+
+    /**
+     * Generate n student records with random "First Last" names, matric
+     * AIU(firstMatric + i) and CGPA 2.00-4.00, in ascending matric order
+     */
+    static List<StudentRecord> generateNamedStudentRecords(int n, int firstMatric) {
+        List<StudentRecord> records = new ArrayList<>();
+        Random random = new Random(SEED);
+
+        for (int i = 0; i < n; i++) {
+            String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " +
+                    LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            records.add(new StudentRecord(name, "AIU" + (firstMatric + i), randomCgpa(random)));
+        }
+        return records;
+    }
+
+    /**
+     * Generate n student records with random "First First Last" names,
+     * matric AIU(1000000 + i) and CGPA 2.00-4.00, in random order
+     *
+     * @param firstNames Only the first 'firstNames' first names are used for
+     *                   the leading name (fewer = more duplicate names)
+     */
+    static StudentRecord[] shuffledNamedRecords(int n, long seed, int firstNames) {
+        List<StudentRecord> records = new ArrayList<>(n);
+        Random random = new Random(seed);
+
+        for (int i = 0; i < n; i++) {
+            records.add(new StudentRecord(randomName(random, firstNames), "AIU" + (1000000 + i),
+                    randomCgpa(random)));
+        }
+        Collections.shuffle(records, random);
+        return records.toArray(new StudentRecord[0]);
+    }
+
+    /**
+     * Generate n student records "Student i" in random order
+     * Matrics are unique but of different lengths (AIU100000 upwards in
+     * steps of 37), CGPAs cover every value from 0.00 to 4.00.
+     */
+    static List<StudentRecord> shuffledStudentRecords(int n, long seed) {
+        List<StudentRecord> records = new ArrayList<>(n);
+        Random random = new Random(seed);
+
+        for (int i = 0; i < n; i++) {
+            records.add(new StudentRecord("Student " + i, "AIU" + (100000 + 37L * i), random.nextInt(401) / 100.0));
+        }
+        Collections.shuffle(records, random);
+        return records;
+    }
+
+    // ============ CHECKS ============
+
+    /**
+     * true if both lists hold the same records in the same order
+     * CGPAs are compared bit for bit, so -0.0 and NaN must survive exactly.
+     */
+    static boolean sameRecords(List<StudentRecord> a, List<StudentRecord> b) {
+        if (a.size() != b.size()) {
+            return false;
+        }
+        for (int i = 0; i < a.size(); i++) {
+            if (!a.get(i).getMatricNumber().equals(b.get(i).getMatricNumber()) ||
+                    !a.get(i).getName().equals(b.get(i).getName()) ||
+                    Double.doubleToRawLongBits(a.get(i).getCgpa()) != Double.doubleToRawLongBits(b.get(i).getCgpa())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Delete a file, or a directory and everything below it
+     */
+    static void deleteRecursively(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteRecursively(child);
+            }
+        }
+        file.delete();
+    }
+
+    // ============ HELPERS ============
+
+    /**
+     * Random "First First Last" name (leading name from the first 'firstNames')
+     */
+    private static String randomName(Random random, int firstNames) {
+        return FIRST_NAMES[random.nextInt(firstNames)] + " " +
+                FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " +
+                LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+    }
+
+    /**
+     * Random CGPA 2.00-4.00, rounded to two decimals
+     */
+    private static double randomCgpa(Random random) {
+        return Math.round((2.0 + random.nextDouble() * 2.0) * 100.0) / 100.0;
+    }
+}
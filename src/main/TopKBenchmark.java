@@ -0,0 +1,126 @@
+package main;
+
+import model.StudentRecord;
+import sorting.QuickSort;
+import sorting.RadixSort;
+import sorting.TopK;
+import tree.BST;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * TOP-K BENCHMARK - "Top K students by CGPA" without a full sort
+ *
+ * Requirements:
+ *  ✓ HEAP, SELECT, AUTO, the BST-iterator and the stream collector all
+ *    return exactly the first K of a full (CGPA desc, matric asc) sort,
+ *    also for K far larger than the input
+ *  ✓ K = 10 / 100 / 10k (and n/4) vs QuickSort.sortByCGPA + take K
+ *    (CGPA only, ties unordered) and vs a full sort in the same
+ *    (CGPA, matric) order
+ *
+ * Usage: java main.TopKBenchmark [records]
+ *  Default 4M records: 10M StudentRecords need more heap than the
+ *  default -Xmx here (e.g. -Xmx4g for 10000000).
+ */
+public class TopKBenchmark {
+
+    private static final int DEFAULT_RECORDS = 4000000;
+    private static final int ROUNDS = 3;
+
+    public static void main(String[] args) {
+        int n = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_RECORDS;
+
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("⚡ TOP-K BENCHMARK (n=" + n + ")");
+        System.out.println("=".repeat(70) + "\n");
+
+        // ========== TEST 1: CORRECTNESS ==========
+        System.out.println("📝 TEST 1: Same K records as a full sort");
+        System.out.println("-".repeat(70));
+
+        List<StudentRecord> sample = TestData.shuffledStudentRecords(200000, 3);
+        List<StudentRecord> fullySorted = new ArrayList<>(sample);
+        fullySorted.sort(TopK.TOP_ORDER);
+        BST bst = new BST();
+        bst.setVerbose(false);
+        List<StudentRecord> byMatric = new ArrayList<>(sample);
+        byMatric.sort(Comparator.comparing(StudentRecord::getMatricNumber));
+        bst.bulkLoadSorted(byMatric);
+
+        for (int k : new int[] {0, 1, 10, 1000, 50000, 200000, 200005}) {
+            List<StudentRecord> expected = fullySorted.subList(0, Math.min(k, fullySorted.size()));
+            boolean ok = TopK.topByCGPA(sample, k, TopK.Strategy.HEAP).equals(expected) &&
+                    TopK.topByCGPA(sample, k, TopK.Strategy.SELECT).equals(expected) &&
+                    TopK.topByCGPA(sample, k).equals(expected) &&
+                    TopK.topByCGPA(bst.iterator(), k).equals(expected) &&
+                    sample.parallelStream().collect(TopK.toTopByCGPA(k)).equals(expected);
+            System.out.println("  • K=" + k + ": heap / select / auto / BST iterator / collector " +
+                    (ok ? "identical ✓" : "DIFFERENT ❌"));
+        }
+        List<StudentRecord> ties = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            ties.add(new StudentRecord("Tied " + i, "AIU" + (5000 - i), 3.50));
+        }
+        System.out.println("  • All CGPAs equal, K=10: lowest matrics win " +
+                (TopK.topByCGPA(ties, 10, TopK.Strategy.SELECT).get(0).getMatricNumber().equals("AIU4001") &&
+                        TopK.topByCGPA(ties, 10, TopK.Strategy.HEAP).get(9).getMatricNumber().equals("AIU4010")
+                        ? "✓" : "❌"));
+
+        // K far above n: memory follows the input, not K
+        List<StudentRecord> few = sample.subList(0, 10);
+        List<StudentRecord> fewSorted = new ArrayList<>(few);
+        fewSorted.sort(TopK.TOP_ORDER);
+        System.out.println("  • K=Integer.MAX_VALUE on 10 records: heap / select / iterator / collector " +
+                (TopK.topByCGPA(few, Integer.MAX_VALUE, TopK.Strategy.HEAP).equals(fewSorted) &&
+                        TopK.topByCGPA(few, Integer.MAX_VALUE, TopK.Strategy.SELECT).equals(fewSorted) &&
+                        TopK.topByCGPA(few.iterator(), Integer.MAX_VALUE).equals(fewSorted) &&
+                        few.parallelStream().collect(TopK.toTopByCGPA(Integer.MAX_VALUE)).equals(fewSorted)
+                        ? "identical ✓" : "DIFFERENT ❌"));
+
+        // ========== TEST 2: SPEED ==========
+        System.out.println("\n📝 TEST 2: ms per query (best of " + ROUNDS + ")");
+        System.out.println("-".repeat(70));
+        System.out.printf("  %-10s %-34s %10s %10s\n", "K", "METHOD", "ms", "vs SORT");
+
+        List<StudentRecord> records = TestData.shuffledStudentRecords(n, 42);
+        for (int k : new int[] {10, 100, 10000, n / 4}) {
+            double sort = time(() -> new ArrayList<>(QuickSort.sortByCGPA(records, true).subList(0, k)));
+            double sameOrder = time(() -> {
+                StudentRecord[] copy = records.toArray(new StudentRecord[0]);
+                RadixSort.sortByCGPAThenMatric(copy, true);
+                return new ArrayList<>(Arrays.asList(copy).subList(0, k));
+            });
+            double heap = time(() -> TopK.topByCGPA(records, k, TopK.Strategy.HEAP));
+            double select = time(() -> TopK.topByCGPA(records, k, TopK.Strategy.SELECT));
+            System.out.printf("  %-10d %-34s %10.1f %10s\n", k, "QuickSort.sortByCGPA + take K", sort, "1.00x");
+            System.out.printf("  %-10s %-34s %10.1f %9.2fx\n", "", "Radix sort (CGPA, matric) + take K",
+                    sameOrder, sort / sameOrder);
+            System.out.printf("  %-10s %-34s %10.1f %9.2fx\n", "", "TopK HEAP", heap, sort / heap);
+            System.out.printf("  %-10s %-34s %10.1f %9.2fx\n", "", "TopK SELECT", select, sort / select);
+        }
+
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("✅ TOP-K BENCHMARK COMPLETE");
+        System.out.println("=".repeat(70) + "\n");
+    }
+
+    /**
+     * Best-of-ROUNDS ms of one query
+     */
+    private static double time(Supplier<List<StudentRecord>> query) {
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            List<StudentRecord> result = query.get();
+            best = Math.min(best, System.nanoTime() - start);
+            if (result.isEmpty()) {
+                System.out.println("  ❌ Empty result");
+            }
+        }
+        return best / 1e6;
+    }
+}
@@ -0,0 +1,207 @@
+package main;
+
+import model.StudentRecord;
+import storage.DurableBST;
+import storage.WriteAheadLog;
+import storage.WriteAheadLog.Durability;
+import tree.BST;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * WAL TEST - Write-ahead logging, group commit and crash recovery
+ *
+ * Requirements:
+ *  ✓ Insert throughput: in-memory vs NONE / GROUP / SYNC durability
+ *  ✓ Reopening replays inserts, deletes and updates exactly
+ *  ✓ A torn record at the end of the log is cut off on reopen
+ *  ✓ Corruption inside the log is reported, not silently skipped
+ *  ✓ Durable mutations leave the filter and cache statistics unchanged
+ */
+public class WALTest {
+
+    private static final int RECORD_COUNT = 100000;
+    private static final int SYNC_RECORD_COUNT = 2000; // one fsync each
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("🧪 WAL TEST");
+        System.out.println("=".repeat(70) + "\n");
+
+        File baseDir = Files.createTempDirectory("wal-test").toFile();
+        List<StudentRecord> records = TestData.generateStudentRecords(RECORD_COUNT, 1000000);
+        Collections.shuffle(records, new Random(42));
+
+        // ========== TEST 1: THROUGHPUT ==========
+        System.out.println("📝 TEST 1: Insert throughput by durability");
+        System.out.println("-".repeat(70));
+        System.out.printf("  %-22s %8s %12s %10s\n", "MODE", "INSERTS", "OPS/SEC", "FSYNCS");
+
+        BST plain = new BST();
+        plain.setVerbose(false);
+        long start = System.nanoTime();
+        for (StudentRecord record : records) {
+            plain.insert(record);
+        }
+        printThroughput("in-memory (no log)", RECORD_COUNT, System.nanoTime() - start, 0);
+
+        for (Durability durability : Durability.values()) {
+            int count = (durability == Durability.SYNC) ? SYNC_RECORD_COUNT : RECORD_COUNT;
+            File dir = new File(baseDir, "throughput-" + durability);
+            try (DurableBST db = new DurableBST(dir.getPath(), durability)) {
+                start = System.nanoTime();
+                for (int i = 0; i < count; i++) {
+                    db.insert(records.get(i));
+                }
+                db.sync();
+                long elapsed = System.nanoTime() - start;
+                printThroughput(durability + (durability == Durability.GROUP ? " (10 ms)" : ""),
+                        count, elapsed, db.getLog().getSyncCount());
+            }
+        }
+
+        // ========== TEST 2: REPLAY ==========
+        System.out.println("\n📝 TEST 2: Reopen replays the log");
+        System.out.println("-".repeat(70));
+
+        File replayDir = new File(baseDir, "replay");
+        List<StudentRecord> expected;
+        try (DurableBST db = new DurableBST(replayDir.getPath(), Durability.GROUP)) {
+            for (int i = 0; i < 20000; i++) {
+                db.insert(records.get(i));
+            }
+            for (int i = 0; i < 2000; i++) {
+                db.delete(records.get(i).getMatricNumber());
+            }
+            for (int i = 2000; i < 3000; i++) {
+                StudentRecord old = records.get(i);
+                db.update(new StudentRecord(old.getName() + " (updated)", old.getMatricNumber(), 4.0));
+            }
+            boolean rejected = !db.insert(records.get(5000)) && !db.delete("AIU0000000");
+            System.out.println("  • No-op mutations rejected without logging: " +
+                    (rejected && db.getLog().getLastLsn() == 23000 ? "YES ✓" : "NO ❌"));
+            expected = db.getTree().inOrderTraversal();
+        }
+
+        try (DurableBST reopened = new DurableBST(replayDir.getPath(), Durability.GROUP)) {
+            System.out.println("  • Replayed " + reopened.getReplayedRecords() + " records in " +
+                    String.format("%.1f", reopened.getReplayMillis()) + " ms");
+            System.out.println("  • Same records after reopen: " +
+                    (TestData.sameRecords(expected, reopened.getTree().inOrderTraversal()) ? "YES ✓" : "NO ❌"));
+            System.out.println("  • Tree size: " + reopened.getTree().countNodes() +
+                    (reopened.getTree().countNodes() == 18000 ? " ✓" : " ❌"));
+
+            // Appending after a reopen continues the LSN sequence
+            reopened.insert(records.get(0));
+            System.out.println("  • LSN continues after reopen: " + reopened.getLog().getLastLsn() +
+                    (reopened.getLog().getLastLsn() == 23001 ? " ✓" : " ❌"));
+        }
+
+        // ========== TEST 3: TORN TAIL ==========
+        System.out.println("\n📝 TEST 3: Crash during append (torn tail)");
+        System.out.println("-".repeat(70));
+
+        File tornDir = new File(baseDir, "torn");
+        try (DurableBST db = new DurableBST(tornDir.getPath(), Durability.SYNC)) {
+            for (int i = 0; i < 500; i++) {
+                db.insert(records.get(i));
+            }
+        }
+        File lastSegment = lastSegment(tornDir);
+        long cleanLength = lastSegment.length();
+        try (RandomAccessFile file = new RandomAccessFile(lastSegment, "rw")) {
+            file.seek(file.length());
+            file.write(new byte[]{0, 0, 0, 40, 1, 2, 3, 4, 5, 6}); // Header of a record that never finished
+        }
+        try (DurableBST recovered = new DurableBST(tornDir.getPath(), Durability.SYNC)) {
+            System.out.println("  • Records recovered: " + recovered.getTree().countNodes() +
+                    (recovered.getTree().countNodes() == 500 ? " ✓" : " ❌"));
+            System.out.println("  • Torn bytes truncated: " +
+                    (lastSegment.length() == cleanLength ? "YES ✓" : "NO ❌"));
+        }
+
+        // ========== TEST 4: CORRUPTION ==========
+        System.out.println("\n📝 TEST 4: Corruption inside the log");
+        System.out.println("-".repeat(70));
+
+        File corruptDir = new File(baseDir, "corrupt");
+        try (DurableBST db = new DurableBST(new WriteAheadLog(corruptDir.getPath(), Durability.GROUP,
+                10, 1 << 20, 4096))) {
+            for (int i = 0; i < 1000; i++) {
+                db.insert(records.get(i));
+            }
+        }
+        File[] segments = segments(corruptDir);
+        System.out.println("  • Segments with 4 KB rollover: " + segments.length +
+                (segments.length > 1 ? " ✓" : " ❌"));
+        try (RandomAccessFile file = new RandomAccessFile(segments[0], "rw")) {
+            file.seek(file.length() / 2);
+            int b = file.read();
+            file.seek(file.length() / 2);
+            file.write(b ^ 0x01);
+        }
+        try {
+            DurableBST reopened = new DurableBST(corruptDir.getPath(), Durability.GROUP);
+            reopened.close();
+            System.out.println("  • Corruption detected: NO ❌");
+        } catch (IOException e) {
+            System.out.println("  • Corruption detected: YES ✓ (" + e.getMessage().replace(baseDir.getPath(), "…") + ")");
+        }
+
+        // ========== TEST 5: LOOKUP STATISTICS ==========
+        System.out.println("\n📝 TEST 5: Durable mutations are not counted as lookups");
+        System.out.println("-".repeat(70));
+
+        File statsDir = new File(baseDir, "stats");
+        try (DurableBST db = new DurableBST(statsDir.getPath(), Durability.NONE)) {
+            BST tree = db.getTree();
+            tree.enableMembershipFilter(1000, 0.01);
+            tree.enableLookupCache(100);
+            boolean applied = true;
+            for (int i = 0; i < 100; i++) {
+                applied &= db.insert(records.get(i));
+            }
+            for (int i = 0; i < 50; i++) {
+                applied &= !db.delete("XYZ" + i);                                   // not in the tree
+                StudentRecord old = records.get(i);
+                applied &= db.update(new StudentRecord(old.getName(), old.getMatricNumber(), 3.0));
+                applied &= !db.update(new StudentRecord(old.getName(), "XYZ" + i, 3.0)); // not in the tree
+                applied &= db.delete(records.get(50 + i).getMatricNumber());
+            }
+            System.out.println("  • Mutations applied as expected: " +
+                    (applied && tree.countNodes() == 50 ? "YES ✓" : "NO ❌"));
+            System.out.println("  • Filter rejections/false positives unchanged: " +
+                    (tree.getFilterRejections() == 0 && tree.getFilterFalsePositives() == 0 ? "YES ✓" : "NO ❌"));
+            System.out.println("  • Cache hits/misses unchanged: " +
+                    (tree.getLookupCache().getHits() == 0 && tree.getLookupCache().getMisses() == 0
+                            ? "YES ✓" : "NO ❌"));
+        }
+
+        TestData.deleteRecursively(baseDir);
+
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("✅ WAL TEST COMPLETE");
+        System.out.println("=".repeat(70) + "\n");
+    }
+
+    private static void printThroughput(String label, int count, long nanos, long fsyncs) {
+        System.out.printf("  %-22s %8d %12.0f %10d\n", label, count, count / (nanos / 1e9), fsyncs);
+    }
+
+    private static File[] segments(File dir) {
+        File[] files = dir.listFiles((d, name) -> name.startsWith("wal-") && name.endsWith(".log"));
+        Arrays.sort(files);
+        return files;
+    }
+
+    private static File lastSegment(File dir) {
+        File[] files = segments(dir);
+        return files[files.length - 1];
+    }
+}
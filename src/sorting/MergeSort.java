@@ -2,6 +2,7 @@ package sorting;
 
 import model.StudentRecord;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -12,13 +13,25 @@ import java.util.List;
  *  2. CONQUER: Recursively sort each half
  *  3. MERGE: Merge sorted halves back together
  *
+ * Implementation (works on a StudentRecord[]):
+ *  - Names are read once into a parallel String[] that is sorted along
+ *    with the records (comparisons skip the record dereference)
+ *  - ONE auxiliary buffer of n/2 elements is allocated per sort and
+ *    reused by every merge (only the left half is copied out; the right
+ *    half is merged in place)
+ *  - Ranges of up to INSERTION_SORT_CUTOFF elements use insertion sort
+ *  - If the left half's last name <= the right half's first name the
+ *    halves are already in order and the merge is skipped
+ *    (already-sorted input costs O(n) comparisons); if every left name
+ *    is greater than every right name the halves are just swapped
+ *
  * Time Complexity:
- *  - Best: O(n log n)
+ *  - Best: O(n) - input already sorted (or reversed, with distinct names)
  *  - Average: O(n log n)
  *  - Worst: O(n log n)
  *  → GUARANTEED O(n log n) - ALWAYS!
  *
- * Space Complexity: O(n) - requires temporary array for merging
+ * Space Complexity: O(n) - name array plus one n/2 buffer for merging
  *
  * Stability: STABLE - preserves relative order of equal elements
  *
@@ -30,6 +43,9 @@ import java.util.List;
  */
 public class MergeSort {
 
+    // ============ CONSTANTS ============
+    private static final int INSERTION_SORT_CUTOFF = 24;
+
     /**
      * Sort StudentRecords by Name in ascending alphabetical order (A-Z)
      *
@@ -42,93 +58,159 @@ public class MergeSort {
             return new ArrayList<>(records != null ? records : new ArrayList<>());
         }
 
-        // Create working copy to avoid modifying original
-        List<StudentRecord> copy = new ArrayList<>(records);
+        // Sort an array copy (original list unchanged)
+        StudentRecord[] copy = records.toArray(new StudentRecord[0]);
+        sortByName(copy);
+
+        return new ArrayList<>(Arrays.asList(copy));
+    }
+
+    /**
+     * Sort an array of StudentRecords by Name in place (A-Z)
+     *
+     * @param records Array to sort (null or empty is ignored)
+     */
+    public static void sortByName(StudentRecord[] records) {
+        if (records == null || records.length <= 1) {
+            return;
+        }
+
+        // Names are read once into a parallel array: comparisons then touch
+        // the Strings directly instead of going through each record
+        String[] names = new String[records.length];
+        for (int i = 0; i < records.length; i++) {
+            names[i] = records[i].getName();
+        }
+        sortRange(names, records, 0, records.length - 1);
+    }
 
-        // Start merge sort
-        mergeSortRecursive(copy, 0, copy.size() - 1);
+    /**
+     * Sort names[left...right] and records[left...right] together by name
+     * (also used for the leaf ranges of ParallelMergeSort)
+     *
+     * @param names Sort keys, names[i] == records[i].getName()
+     * @param records Records moved along with their keys
+     * @param left Starting index
+     * @param right Ending index
+     */
+    static void sortRange(String[] names, StudentRecord[] records, int left, int right) {
+        if (right <= left) {
+            return;
+        }
 
-        return copy;
+        // One buffer for the whole sort: holds at most the left half of a merge
+        int auxLength = (right - left + 1) / 2 + 1;
+        mergeSortRecursive(names, records, new String[auxLength], new StudentRecord[auxLength], left, right);
     }
 
     /**
      * Recursive merge sort helper
      * Divides the array and recursively sorts each half
+     * (names[i] is always records[i].getName(); both are moved together)
      *
-     * @param records The list to sort
+     * @param names Sort keys
+     * @param records The array to sort
+     * @param auxNames Shared merge buffer for keys
+     * @param auxRecords Shared merge buffer for records
      * @param left Starting index
      * @param right Ending index
      */
-    private static void mergeSortRecursive(List<StudentRecord> records, int left, int right) {
-        // Base case: single element or empty range is already sorted
-        if (left >= right) {
+    private static void mergeSortRecursive(String[] names, StudentRecord[] records, String[] auxNames,
+                                           StudentRecord[] auxRecords, int left, int right) {
+        // Small range: insertion sort beats further splitting
+        if (right - left < INSERTION_SORT_CUTOFF) {
+            insertionSort(names, records, left, right);
             return;
         }
 
         // Find middle point
         int mid = left + (right - left) / 2;
 
-        // DIVIDE: Recursively sort left half
-        mergeSortRecursive(records, left, mid);
+        // DIVIDE: Recursively sort both halves
+        mergeSortRecursive(names, records, auxNames, auxRecords, left, mid);
+        mergeSortRecursive(names, records, auxNames, auxRecords, mid + 1, right);
+
+        // Halves already in order: nothing to merge
+        if (names[mid].compareTo(names[mid + 1]) <= 0) {
+            return;
+        }
 
-        // DIVIDE: Recursively sort right half
-        mergeSortRecursive(records, mid + 1, right);
+        // Every left name is greater than every right name (e.g. reversed
+        // input): swap the halves without comparing
+        if (names[left].compareTo(names[right]) > 0) {
+            rotate(names, records, auxNames, auxRecords, left, mid, right);
+            return;
+        }
 
         // CONQUER: Merge the sorted halves
-        merge(records, left, mid, right);
+        merge(names, records, auxNames, auxRecords, left, mid, right);
     }
 
     /**
      * Merge two sorted subarrays
      *
      * Merges records[left...mid] and records[mid+1...right]
-     * Both subarrays are already sorted by name
-     *
-     * @param records The list containing both subarrays
-     * @param left Start of first subarray
-     * @param mid End of first subarray
-     * @param right End of second subarray
+     * Both subarrays are already sorted by name. Only the left half is
+     * copied to aux; the right half never moves left of its own unread
+     * elements, so it can be merged from where it is.
      */
-    private static void merge(List<StudentRecord> records, int left, int mid, int right) {
-        // Create temporary arrays for merging
-        List<StudentRecord> leftArr = new ArrayList<>();
-        List<StudentRecord> rightArr = new ArrayList<>();
-
-        // Copy data to temporary arrays
-        for (int i = left; i <= mid; i++) {
-            leftArr.add(records.get(i));
-        }
-        for (int i = mid + 1; i <= right; i++) {
-            rightArr.add(records.get(i));
-        }
+    private static void merge(String[] names, StudentRecord[] records, String[] auxNames,
+                              StudentRecord[] auxRecords, int left, int mid, int right) {
+        int leftLength = mid - left + 1;
+        System.arraycopy(names, left, auxNames, 0, leftLength);
+        System.arraycopy(records, left, auxRecords, 0, leftLength);
 
-        // Merge the temporary arrays back into records
-        int i = 0;      // Index for left array
-        int j = 0;      // Index for right array
-        int k = left;   // Index for main array
+        int i = 0;          // Index into aux (left half)
+        int j = mid + 1;    // Index into right half
+        int k = left;       // Index for main array
 
-        while (i < leftArr.size() && j < rightArr.size()) {
-            // Compare names alphabetically using compareTo()
-            String leftName = leftArr.get(i).getName();
-            String rightName = rightArr.get(j).getName();
-
-            if (leftName.compareTo(rightName) <= 0) {
-                // Left element is smaller or equal (STABLE)
-                records.set(k++, leftArr.get(i++));
+        while (i < leftLength && j <= right) {
+            // <= takes the left element on ties (STABLE)
+            if (auxNames[i].compareTo(names[j]) <= 0) {
+                names[k] = auxNames[i];
+                records[k++] = auxRecords[i++];
             } else {
-                // Right element is smaller
-                records.set(k++, rightArr.get(j++));
+                names[k] = names[j];
+                records[k++] = records[j++];
             }
         }
 
-        // Copy remaining elements from left array
-        while (i < leftArr.size()) {
-            records.set(k++, leftArr.get(i++));
-        }
+        // Remaining left elements; remaining right elements are already in place
+        System.arraycopy(auxNames, i, names, k, leftLength - i);
+        System.arraycopy(auxRecords, i, records, k, leftLength - i);
+    }
+
+    /**
+     * Move records[mid+1...right] in front of records[left...mid]
+     * (only used when no names tie across the halves, so still stable)
+     */
+    private static void rotate(String[] names, StudentRecord[] records, String[] auxNames,
+                               StudentRecord[] auxRecords, int left, int mid, int right) {
+        int leftLength = mid - left + 1;
+        int rightLength = right - mid;
+        System.arraycopy(names, left, auxNames, 0, leftLength);
+        System.arraycopy(records, left, auxRecords, 0, leftLength);
+        System.arraycopy(names, mid + 1, names, left, rightLength);
+        System.arraycopy(records, mid + 1, records, left, rightLength);
+        System.arraycopy(auxNames, 0, names, left + rightLength, leftLength);
+        System.arraycopy(auxRecords, 0, records, left + rightLength, leftLength);
+    }
 
-        // Copy remaining elements from right array
-        while (j < rightArr.size()) {
-            records.set(k++, rightArr.get(j++));
+    /**
+     * Insertion sort records[left...right] by name (stable)
+     */
+    private static void insertionSort(String[] names, StudentRecord[] records, int left, int right) {
+        for (int i = left + 1; i <= right; i++) {
+            String name = names[i];
+            StudentRecord current = records[i];
+            int j = i - 1;
+            while (j >= left && names[j].compareTo(name) > 0) {
+                names[j + 1] = names[j];
+                records[j + 1] = records[j];
+                j--;
+            }
+            names[j + 1] = name;
+            records[j + 1] = current;
         }
     }
 
@@ -156,6 +238,16 @@ public class MergeSort {
         return true;
     }
 
+    /**
+     * Verify that an array is sorted by name
+     *
+     * @param records Array to check
+     * @return true if sorted, false otherwise
+     */
+    public static boolean isSortedByName(StudentRecord[] records) {
+        return records == null || isSortedByName(Arrays.asList(records));
+    }
+
     /**
      * Print sorted results in formatted table
      */
@@ -0,0 +1,402 @@
+package sorting;
+
+import model.StudentRecord;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MULTI-KEY SORT - Sort StudentRecords by a SortSpec using packed keys
+ *
+ * Comparing through a chained Comparator calls getters, Double.compare
+ * and String.compareTo on every comparison. Instead, each record gets a
+ * compact 126-bit sort key ONCE (two longs of 63 bits), built from the
+ * spec's fields in order:
+ *
+ *   CGPA    9 bits  - round(cgpa × 100), 0..400
+ *   NAME    Few distinct values (≤ n / 4, e.g. names on a big roster):
+ *   MATRIC    the value's rank among the sorted distinct values
+ *           Otherwise: b bits per character, first characters only if
+ *             the values do not all fit (b = bits for the largest
+ *             character + 1, 0 marks "past the end" so shorter strings
+ *             sort first)
+ *   DESCENDING fields store (max - value)
+ *
+ * Packing stops at the first field that does not fit completely (a
+ * truncated name, or a CGPA that is not an exact two-decimal value).
+ * Comparing two keys is then two long comparisons:
+ *  - Keys differ  → that is the order (the key is a prefix of the spec)
+ *  - Keys equal   → compare from the first field that was not fully
+ *                   packed on (if all were, the records are equal)
+ *
+ * Sorting: stable merge sort (insertion-sort cutoff, one aux buffer,
+ * merge skipped when halves are in order) moving keys with the records.
+ *
+ * Time Complexity: O(n log n) comparisons, each two long compares
+ *                  unless the packed prefixes tie
+ * Space Complexity: O(n) - keys and aux buffer
+ *
+ * Stability: STABLE - records equal under the spec keep their input order
+ */
+public class MultiKeySort {
+
+    // ============ CONSTANTS ============
+    private static final int WORD_BITS = 63;            // non-negative longs compare with Long.compare
+    private static final int KEY_BITS = 2 * WORD_BITS;
+    private static final int CGPA_BITS = 9;             // 0..400
+    private static final int CGPA_KEYS = 401;
+    private static final int INSERTION_SORT_CUTOFF = 24;
+    private static final int DICTIONARY_RATIO = 4;      // rank-encode if distinct values ≤ n / 4
+    private static final int DICTIONARY_SAMPLE = 4096;  // records sampled to estimate distinct values
+
+    // ============ SORTING ============
+
+    /**
+     * Sort StudentRecords by a multi-key spec
+     *
+     * @param records List of StudentRecords to sort
+     * @param spec Ordering (most significant key first)
+     * @return New sorted List (original list unchanged)
+     */
+    public static List<StudentRecord> sort(List<StudentRecord> records, SortSpec spec) {
+        if (records == null || records.size() <= 1) {
+            return new ArrayList<>(records != null ? records : new ArrayList<>());
+        }
+
+        StudentRecord[] copy = records.toArray(new StudentRecord[0]);
+        sort(copy, spec);
+
+        return new ArrayList<>(Arrays.asList(copy));
+    }
+
+    /**
+     * Sort an array of StudentRecords in place by a multi-key spec
+     *
+     * @param records Array to sort (null or empty is ignored)
+     * @param spec Ordering (most significant key first)
+     */
+    public static void sort(StudentRecord[] records, SortSpec spec) {
+        if (records == null || records.length <= 1) {
+            return;
+        }
+
+        KeyLayout layout = KeyLayout.plan(records, spec);
+        int n = records.length;
+        long[] high = new long[n];
+        long[] low = new long[n];
+        for (int i = 0; i < n; i++) {
+            layout.pack(records[i], high, low, i);
+        }
+
+        Comparator<StudentRecord> tieBreak = layout.isExact() ? null : spec.comparatorFrom(layout.firstInexact);
+        Sorter sorter = new Sorter(records, high, low, tieBreak);
+        sorter.sort(0, n - 1);
+    }
+
+    // ============ KEY LAYOUT ============
+
+    /**
+     * Which fields (and how many characters of each) go into the key
+     */
+    private static final class KeyLayout {
+        private final SortSpec spec;
+        private int packedFields;           // leading spec fields in the key
+        private final int[] charBits;       // per field: bits per character (string fields)
+        private final int[] chars;          // per field: characters packed (string fields)
+        private final List<int[]> ranks;    // per field: rank of each record's value, or null
+        private final int[] rankCounts;     // per field: distinct values (dictionary fields)
+        private final int[] rankBits;       // per field: bits per rank (dictionary fields)
+        private boolean exact;              // every spec field fully packed
+        private int firstInexact;           // first field not fully packed (if not exact)
+        private int usedBits;
+
+        private KeyLayout(SortSpec spec) {
+            this.spec = spec;
+            this.charBits = new int[spec.size()];
+            this.chars = new int[spec.size()];
+            this.ranks = new ArrayList<>();
+            this.rankCounts = new int[spec.size()];
+            this.rankBits = new int[spec.size()];
+            for (int f = 0; f < spec.size(); f++) {
+                ranks.add(null);
+            }
+        }
+
+        /**
+         * Fit as many leading fields as possible into KEY_BITS
+         */
+        static KeyLayout plan(StudentRecord[] records, SortSpec spec) {
+            KeyLayout layout = new KeyLayout(spec);
+            layout.exact = true;
+            for (int f = 0; f < spec.size(); f++) {
+                if (spec.getField(f) == SortSpec.Field.CGPA) {
+                    if (!allTwoDecimalCgpas(records) || layout.usedBits + CGPA_BITS > KEY_BITS) {
+                        layout.exact = false;
+                        layout.firstInexact = f;
+                        return layout;
+                    }
+                    layout.usedBits += CGPA_BITS;
+                    layout.packedFields++;
+                    continue;
+                }
+
+                // Few distinct values: pack the rank, exact in a few bits
+                int[] recordRanks = rankRecords(records, spec.getField(f));
+                if (recordRanks != null) {
+                    int distinct = recordRanks[records.length];
+                    int bits = Math.max(1, 32 - Integer.numberOfLeadingZeros(distinct - 1));
+                    if (layout.usedBits + bits <= KEY_BITS) {
+                        layout.ranks.set(f, recordRanks);
+                        layout.rankCounts[f] = distinct;
+                        layout.rankBits[f] = bits;
+                        layout.usedBits += bits;
+                        layout.packedFields++;
+                        continue;
+                    }
+                }
+
+                int maxLength = 0;
+                int maxChar = 0;
+                for (StudentRecord record : records) {
+                    String text = text(record, spec.getField(f));
+                    maxLength = Math.max(maxLength, text.length());
+                    for (int c = 0; c < text.length(); c++) {
+                        maxChar = Math.max(maxChar, text.charAt(c));
+                    }
+                }
+                int bits = 32 - Integer.numberOfLeadingZeros(maxChar + 1);   // char + 1; 0 = end
+                int fit = Math.min(maxLength, (KEY_BITS - layout.usedBits) / bits);
+                layout.charBits[f] = bits;
+                layout.chars[f] = fit;
+                layout.usedBits += fit * bits;
+                layout.packedFields++;
+                if (fit < maxLength) {
+                    layout.exact = false;
+                    layout.firstInexact = f;
+                    return layout;
+                }
+            }
+            return layout;
+        }
+
+        boolean isExact() {
+            return exact;
+        }
+
+        /**
+         * Write the key of one record into high[i], low[i]
+         */
+        void pack(StudentRecord record, long[] high, long[] low, int i) {
+            long hi = 0;
+            long lo = 0;
+            for (int f = 0; f < packedFields; f++) {
+                boolean descending = spec.isDescending(f);
+                if (spec.getField(f) == SortSpec.Field.CGPA) {
+                    int key = (int) Math.round(record.getCgpa() * 100);
+                    long value = descending ? (CGPA_KEYS - 1 - key) : key;
+                    hi = (hi << CGPA_BITS) | (lo >>> (WORD_BITS - CGPA_BITS));
+                    lo = ((lo << CGPA_BITS) & Long.MAX_VALUE) | value;
+                    continue;
+                }
+
+                int[] recordRanks = ranks.get(f);
+                if (recordRanks != null) {
+                    int bits = rankBits[f];
+                    long value = descending ? (rankCounts[f] - 1 - recordRanks[i]) : recordRanks[i];
+                    hi = (hi << bits) | (lo >>> (WORD_BITS - bits));
+                    lo = ((lo << bits) & Long.MAX_VALUE) | value;
+                    continue;
+                }
+
+                String text = text(record, spec.getField(f));
+                int bits = charBits[f];
+                long mask = (1L << bits) - 1;
+                for (int c = 0; c < chars[f]; c++) {
+                    long value = (c < text.length()) ? text.charAt(c) + 1 : 0;
+                    if (descending) {
+                        value = mask - value;
+                    }
+                    hi = (hi << bits) | (lo >>> (WORD_BITS - bits));
+                    lo = ((lo << bits) & Long.MAX_VALUE) | value;
+                }
+            }
+            high[i] = hi;
+            low[i] = lo;
+        }
+
+        /**
+         * Rank of each record's value among the sorted distinct values
+         * (element n holds the number of distinct values), or null if
+         * there are more than n / DICTIONARY_RATIO distinct values
+         *
+         * A sample is checked first so mostly-unique fields (matric) don't
+         * build a large map only to give up: s values with r repeats
+         * suggest about s² / 2r distinct values in total.
+         */
+        private static int[] rankRecords(StudentRecord[] records, SortSpec.Field field) {
+            int n = records.length;
+            int limit = n / DICTIONARY_RATIO;
+            int sample = Math.min(n, DICTIONARY_SAMPLE);
+            Map<String, Integer> ids = new HashMap<>();
+            for (int i = 0; i < sample; i++) {
+                ids.putIfAbsent(text(records[i], field), ids.size());
+            }
+            long repeats = sample - ids.size();
+            if (repeats == 0 || (long) sample * sample / (2 * repeats) > limit) {
+                return null;
+            }
+
+            // One lookup per record: value → id in order of first appearance
+            int[] result = new int[n + 1];
+            for (int i = 0; i < n; i++) {
+                String value = text(records[i], field);
+                Integer id = ids.get(value);
+                if (id == null) {
+                    if (ids.size() >= limit) {
+                        return null;
+                    }
+                    id = ids.size();
+                    ids.put(value, id);
+                }
+                result[i] = id;
+            }
+
+            // id → rank of the value in sorted order
+            String[] distinct = new String[ids.size()];
+            for (Map.Entry<String, Integer> entry : ids.entrySet()) {
+                distinct[entry.getValue()] = entry.getKey();
+            }
+            Integer[] byValue = new Integer[distinct.length];
+            for (int id = 0; id < byValue.length; id++) {
+                byValue[id] = id;
+            }
+            Arrays.sort(byValue, Comparator.comparing(id -> distinct[id]));
+            int[] rankOfId = new int[distinct.length];
+            for (int rank = 0; rank < byValue.length; rank++) {
+                rankOfId[byValue[rank]] = rank;
+            }
+
+            for (int i = 0; i < n; i++) {
+                result[i] = rankOfId[result[i]];
+            }
+            result[n] = distinct.length;
+            return result;
+        }
+
+        private static String text(StudentRecord record, SortSpec.Field field) {
+            return (field == SortSpec.Field.NAME) ? record.getName() : record.getMatricNumber();
+        }
+
+        private static boolean allTwoDecimalCgpas(StudentRecord[] records) {
+            for (StudentRecord record : records) {
+                double cgpa = record.getCgpa();
+                long key = Math.round(cgpa * 100);
+                if (key < 0 || key >= CGPA_KEYS || Double.compare(key / 100.0, cgpa) != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    // ============ MERGE SORT ON PACKED KEYS ============
+
+    /**
+     * Stable merge sort of records with their keys (high, low)
+     * tieBreak == null: equal keys mean equal records
+     */
+    private static final class Sorter {
+        private final StudentRecord[] records;
+        private final long[] high;
+        private final long[] low;
+        private final Comparator<StudentRecord> tieBreak;
+        private final StudentRecord[] auxRecords;
+        private final long[] auxHigh;
+        private final long[] auxLow;
+
+        Sorter(StudentRecord[] records, long[] high, long[] low, Comparator<StudentRecord> tieBreak) {
+            this.records = records;
+            this.high = high;
+            this.low = low;
+            this.tieBreak = tieBreak;
+            int auxLength = records.length / 2 + 1;
+            this.auxRecords = new StudentRecord[auxLength];
+            this.auxHigh = new long[auxLength];
+            this.auxLow = new long[auxLength];
+        }
+
+        void sort(int left, int right) {
+            if (right - left < INSERTION_SORT_CUTOFF) {
+                insertionSort(left, right);
+                return;
+            }
+            int mid = left + (right - left) / 2;
+            sort(left, mid);
+            sort(mid + 1, right);
+            if (compare(high[mid], low[mid], records[mid], high[mid + 1], low[mid + 1], records[mid + 1]) <= 0) {
+                return;
+            }
+            merge(left, mid, right);
+        }
+
+        /**
+         * Packed keys first; full comparison only when they tie
+         */
+        private int compare(long highA, long lowA, StudentRecord a, long highB, long lowB, StudentRecord b) {
+            if (highA != highB) {
+                return (highA < highB) ? -1 : 1;
+            }
+            if (lowA != lowB) {
+                return (lowA < lowB) ? -1 : 1;
+            }
+            return (tieBreak == null) ? 0 : tieBreak.compare(a, b);
+        }
+
+        private void merge(int left, int mid, int right) {
+            int leftLength = mid - left + 1;
+            System.arraycopy(records, left, auxRecords, 0, leftLength);
+            System.arraycopy(high, left, auxHigh, 0, leftLength);
+            System.arraycopy(low, left, auxLow, 0, leftLength);
+
+            int i = 0;
+            int j = mid + 1;
+            int k = left;
+            while (i < leftLength && j <= right) {
+                // <= takes the left element on ties (STABLE)
+                if (compare(auxHigh[i], auxLow[i], auxRecords[i], high[j], low[j], records[j]) <= 0) {
+                    records[k] = auxRecords[i];
+                    high[k] = auxHigh[i];
+                    low[k++] = auxLow[i++];
+                } else {
+                    records[k] = records[j];
+                    high[k] = high[j];
+                    low[k++] = low[j++];
+                }
+            }
+            System.arraycopy(auxRecords, i, records, k, leftLength - i);
+            System.arraycopy(auxHigh, i, high, k, leftLength - i);
+            System.arraycopy(auxLow, i, low, k, leftLength - i);
+        }
+
+        private void insertionSort(int left, int right) {
+            for (int i = left + 1; i <= right; i++) {
+                StudentRecord record = records[i];
+                long hi = high[i];
+                long lo = low[i];
+                int j = i - 1;
+                while (j >= left && compare(high[j], low[j], records[j], hi, lo, record) > 0) {
+                    records[j + 1] = records[j];
+                    high[j + 1] = high[j];
+                    low[j + 1] = low[j];
+                    j--;
+                }
+                records[j + 1] = record;
+                high[j + 1] = hi;
+                low[j + 1] = lo;
+            }
+        }
+    }
+}
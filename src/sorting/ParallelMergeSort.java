@@ -0,0 +1,268 @@
+package sorting;
+
+import model.StudentRecord;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * PARALLEL MERGE SORT - Sort StudentRecords by Name on several cores
+ *
+ * Same result as MergeSort.sortByName (STABLE, A-Z), but the work is split
+ * into ForkJoin tasks:
+ *
+ *  1. SORT: Ranges above SORT_CUTOFF fork their two halves as tasks;
+ *     smaller ranges are sorted sequentially with MergeSort's
+ *     insertion-sort / single-buffer merge sort
+ *  2. MERGE: Two sorted runs are merged in parallel too, otherwise the
+ *     last merges (n/2 + n/2) would run on one thread:
+ *       - Take the median K of the LONGER run
+ *       - Binary-search K's position in the other run
+ *       - Both "below K" pieces and both "from K" pieces now merge
+ *         independently into the two halves of the output (forked)
+ *     Pieces up to MERGE_CUTOFF elements merge sequentially
+ *
+ * Buffers: the array and one workspace of the same size. Each level of
+ * the sort writes its result into the buffer its parent reads from
+ * (ping-pong), so no level copies data back.
+ *
+ * Stability: equal names from the left run always stay in front of equal
+ * names from the right run (the split search is lower/upper bound
+ * depending on which run the median comes from).
+ *
+ * Time Complexity: O(n log n) work, O(log³ n) span
+ * Space Complexity: O(n) - workspace and name keys
+ *
+ * Usage:
+ *   ParallelMergeSort.sortByName(records);        // all available processors
+ *   ParallelMergeSort.sortByName(records, 4);     // 4 worker threads
+ */
+public class ParallelMergeSort {
+
+    // ============ CONSTANTS ============
+    private static final int SORT_CUTOFF = 1 << 13;   // sequential sort below this
+    private static final int MERGE_CUTOFF = 1 << 13;  // sequential merge below this
+
+    // ============ SORTING ============
+
+    /**
+     * Sort by name in place using one thread per available processor
+     *
+     * @param records Array to sort (null or empty is ignored)
+     */
+    public static void sortByName(StudentRecord[] records) {
+        sortByName(records, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Sort by name in place on a pool of the given size
+     *
+     * @param records Array to sort (null or empty is ignored)
+     * @param threads Number of worker threads
+     * @throws IllegalArgumentException if threads < 1
+     */
+    public static void sortByName(StudentRecord[] records, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be at least 1, got " + threads);
+        }
+        if (records == null || records.length <= 1) {
+            return;
+        }
+        if (records.length <= SORT_CUTOFF) {
+            MergeSort.sortByName(records);
+            return;
+        }
+
+        int n = records.length;
+        Buffers buffers = new Buffers(records, new String[n], new StudentRecord[n], new String[n]);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            pool.invoke(new SortTask(buffers, 0, n, true));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // ============ TASKS ============
+
+    /**
+     * The input array (A) and the workspace (W), each with its name keys
+     */
+    private static final class Buffers {
+        final StudentRecord[] records;
+        final String[] names;
+        final StudentRecord[] workRecords;
+        final String[] workNames;
+
+        Buffers(StudentRecord[] records, String[] names, StudentRecord[] workRecords, String[] workNames) {
+            this.records = records;
+            this.names = names;
+            this.workRecords = workRecords;
+            this.workNames = workNames;
+        }
+    }
+
+    /**
+     * Sort [low, high) of the input, leaving the result in A (intoArray)
+     * or in W. The input range is always read from A: a task's children
+     * write into the other buffer, which the task then merges from.
+     */
+    private static final class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Buffers buffers;
+        private final int low;
+        private final int high;
+        private final boolean intoArray;
+
+        SortTask(Buffers buffers, int low, int high, boolean intoArray) {
+            this.buffers = buffers;
+            this.low = low;
+            this.high = high;
+            this.intoArray = intoArray;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low <= SORT_CUTOFF) {
+                // Leaf: read the keys of this range, sort it in A
+                StudentRecord[] records = buffers.records;
+                String[] names = buffers.names;
+                for (int i = low; i < high; i++) {
+                    names[i] = records[i].getName();
+                }
+                MergeSort.sortRange(names, records, low, high - 1);
+                if (!intoArray) {
+                    System.arraycopy(names, low, buffers.workNames, low, high - low);
+                    System.arraycopy(records, low, buffers.workRecords, low, high - low);
+                }
+                return;
+            }
+
+            // Halves land in the other buffer, then merge into ours
+            int mid = low + (high - low) / 2;
+            invokeAll(new SortTask(buffers, low, mid, !intoArray),
+                    new SortTask(buffers, mid, high, !intoArray));
+
+            if (intoArray) {
+                new MergeTask(buffers.workNames, buffers.workRecords, buffers.names, buffers.records,
+                        low, mid, mid, high, low).compute();
+            } else {
+                new MergeTask(buffers.names, buffers.records, buffers.workNames, buffers.workRecords,
+                        low, mid, mid, high, low).compute();
+            }
+        }
+    }
+
+    /**
+     * Merge src[low1, high1) and src[low2, high2) (both sorted, run 1
+     * first in input order) into dst starting at dstLow
+     */
+    private static final class MergeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final String[] srcNames;
+        private final StudentRecord[] srcRecords;
+        private final String[] dstNames;
+        private final StudentRecord[] dstRecords;
+        private final int low1;
+        private final int high1;
+        private final int low2;
+        private final int high2;
+        private final int dstLow;
+
+        MergeTask(String[] srcNames, StudentRecord[] srcRecords, String[] dstNames, StudentRecord[] dstRecords,
+                  int low1, int high1, int low2, int high2, int dstLow) {
+            this.srcNames = srcNames;
+            this.srcRecords = srcRecords;
+            this.dstNames = dstNames;
+            this.dstRecords = dstRecords;
+            this.low1 = low1;
+            this.high1 = high1;
+            this.low2 = low2;
+            this.high2 = high2;
+            this.dstLow = dstLow;
+        }
+
+        @Override
+        protected void compute() {
+            int length1 = high1 - low1;
+            int length2 = high2 - low2;
+            if (length1 + length2 <= MERGE_CUTOFF) {
+                mergeSequential();
+                return;
+            }
+
+            // Split both runs around the median of the longer one
+            int split1;
+            int split2;
+            if (length1 >= length2) {
+                split1 = low1 + length1 / 2;
+                // Run-2 names equal to the median go AFTER it (stable)
+                split2 = lowerBound(srcNames, low2, high2, srcNames[split1]);
+            } else {
+                split2 = low2 + length2 / 2;
+                // Run-1 names equal to the median go BEFORE it (stable)
+                split1 = upperBound(srcNames, low1, high1, srcNames[split2]);
+            }
+
+            int dstSplit = dstLow + (split1 - low1) + (split2 - low2);
+            invokeAll(new MergeTask(srcNames, srcRecords, dstNames, dstRecords,
+                            low1, split1, low2, split2, dstLow),
+                    new MergeTask(srcNames, srcRecords, dstNames, dstRecords,
+                            split1, high1, split2, high2, dstSplit));
+        }
+
+        private void mergeSequential() {
+            int i = low1;
+            int j = low2;
+            int k = dstLow;
+            while (i < high1 && j < high2) {
+                // <= takes run 1 on ties (STABLE)
+                if (srcNames[i].compareTo(srcNames[j]) <= 0) {
+                    dstNames[k] = srcNames[i];
+                    dstRecords[k++] = srcRecords[i++];
+                } else {
+                    dstNames[k] = srcNames[j];
+                    dstRecords[k++] = srcRecords[j++];
+                }
+            }
+            System.arraycopy(srcNames, i, dstNames, k, high1 - i);
+            System.arraycopy(srcRecords, i, dstRecords, k, high1 - i);
+            k += high1 - i;
+            System.arraycopy(srcNames, j, dstNames, k, high2 - j);
+            System.arraycopy(srcRecords, j, dstRecords, k, high2 - j);
+        }
+    }
+
+    // ============ HELPERS ============
+
+    /**
+     * First index in [low, high) whose name is >= key
+     */
+    private static int lowerBound(String[] names, int low, int high, String key) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (names[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * First index in [low, high) whose name is > key
+     */
+    private static int upperBound(String[] names, int low, int high, String key) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (names[mid].compareTo(key) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
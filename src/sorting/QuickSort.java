@@ -2,24 +2,43 @@ package sorting;
 
 import model.StudentRecord;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * QUICK SORT - Sort StudentRecords by CGPA (Ascending or Descending)
  *
  * Algorithm: Partition-Based Divide & Conquer
- *  1. PARTITION: Choose pivot, partition array
+ *  1. PARTITION: Choose pivot, partition array into THREE parts
  *     - Elements < pivot go LEFT
+ *     - Elements = pivot stay in the MIDDLE (already in final position)
  *     - Elements > pivot go RIGHT
- *  2. CONQUER: Recursively sort left and right partitions
- *  3. COMBINE: Concatenate results
+ *  2. CONQUER: Sort the left and right partitions
+ *  3. COMBINE: Nothing to do (in place)
+ *
+ * Why three-way: CGPA has only ~400 distinct values (0.00-4.00), so a
+ * large roster is mostly duplicates. Two-way partitioning keeps
+ * re-partitioning runs of equal CGPAs; three-way finishes each distinct
+ * value in one pass.
+ *
+ * Implementation (works on a StudentRecord[]):
+ *  - CGPAs are read once into a parallel double[] (negated for
+ *    descending order) that is sorted along with the records
+ *  - Pivot: median of three (first/middle/last); Tukey's ninther
+ *    (median of three medians) for ranges above NINTHER_THRESHOLD.
+ *    Sorted and reversed input get a central pivot instead of the
+ *    extreme one, which made the old last-element pivot O(n²)
+ *  - Tail-recursion elimination: recurse into the SMALLER side, loop on
+ *    the larger, so the stack depth is at most log₂ n
+ *  - Ranges of up to INSERTION_SORT_CUTOFF elements use insertion sort
  *
  * Time Complexity:
- *  - Best: O(n log n) - ideal pivot selection
- *  - Average: O(n log n) - random pivot
- *  - Worst: O(n²) - bad pivot (e.g., already sorted)
+ *  - Best: O(n) - all CGPAs equal (one partition pass)
+ *  - Average: O(n log d) - d = distinct CGPAs (≤ 401)
+ *  - Worst: O(n²) - still possible in theory, but not for sorted,
+ *    reversed or duplicate-heavy input
  *
- * Space Complexity: O(log n) - for recursion stack (in-place sorting)
+ * Space Complexity: O(n) for the key array, O(log n) recursion stack
  *
  * Stability: UNSTABLE - doesn't preserve order of equal elements
  *
@@ -31,6 +50,10 @@ import java.util.List;
  */
 public class QuickSort {
 
+    // ============ CONSTANTS ============
+    private static final int INSERTION_SORT_CUTOFF = 16;
+    private static final int NINTHER_THRESHOLD = 40;
+
     /**
      * Sort StudentRecords by CGPA
      *
@@ -44,99 +67,141 @@ public class QuickSort {
             return new ArrayList<>(records != null ? records : new ArrayList<>());
         }
 
-        // Create working copy to avoid modifying original
-        List<StudentRecord> copy = new ArrayList<>(records);
+        // Sort an array copy (original list unchanged)
+        StudentRecord[] copy = records.toArray(new StudentRecord[0]);
+        sortByCGPA(copy, descending);
 
-        // Start quick sort
-        quickSortRecursive(copy, 0, copy.size() - 1, descending);
-
-        return copy;
+        return new ArrayList<>(Arrays.asList(copy));
     }
 
     /**
-     * Recursive quick sort helper
+     * Sort an array of StudentRecords by CGPA in place
      *
-     * @param records The list to sort
-     * @param low Starting index
-     * @param high Ending index
-     * @param descending true for descending order
+     * @param records Array to sort (null or empty is ignored)
+     * @param descending true for descending (high to low), false for ascending
      */
-    private static void quickSortRecursive(List<StudentRecord> records, int low, int high,
-                                           boolean descending) {
-        // Base case: single element or empty range is already sorted
-        if (low >= high) {
+    public static void sortByCGPA(StudentRecord[] records, boolean descending) {
+        if (records == null || records.length <= 1) {
             return;
         }
 
-        // PARTITION: Get pivot position and partition array
-        int pivotIndex = partition(records, low, high, descending);
-
-        // CONQUER: Recursively sort left partition
-        quickSortRecursive(records, low, pivotIndex - 1, descending);
+        // Keys read once; descending order = ascending order of -CGPA
+        double[] keys = new double[records.length];
+        for (int i = 0; i < records.length; i++) {
+            keys[i] = descending ? -records[i].getCgpa() : records[i].getCgpa();
+        }
 
-        // CONQUER: Recursively sort right partition
-        quickSortRecursive(records, pivotIndex + 1, high, descending);
+        quickSortRecursive(keys, records, 0, records.length - 1);
     }
 
     /**
-     * Partition array around pivot element
+     * Three-way quick sort of keys[low...high] (records move with their keys)
      *
-     * Uses "Lomuto Partition Scheme"
-     *  - Choose last element as pivot
-     *  - Partition so elements < pivot are on left, > pivot on right
-     *  - Return final pivot position
+     * Only the smaller partition is sorted recursively; the loop continues
+     * with the larger one (tail-recursion elimination).
      *
-     * @param records The list to partition
-     * @param low Start index
-     * @param high End index (pivot position)
-     * @param descending true for descending order
-     * @return Final position of pivot
+     * @param keys Sort keys
+     * @param records The array to sort
+     * @param low Starting index
+     * @param high Ending index
      */
-    private static int partition(List<StudentRecord> records, int low, int high, boolean descending) {
-        // Choose rightmost element as pivot
-        double pivotCGPA = records.get(high).getCgpa();
-
-        // Index of smaller element - indicates the right position
-        // of pivot found so far
-        int i = low - 1;
-
-        // Traverse through all elements
-        // Compare each element with pivot
-        for (int j = low; j < high; j++) {
-            double currentCGPA = records.get(j).getCgpa();
+    private static void quickSortRecursive(double[] keys, StudentRecord[] records, int low, int high) {
+        while (high - low >= INSERTION_SORT_CUTOFF) {
+            // PARTITION: [low, lt) < pivot, [lt, gt] == pivot, (gt, high] > pivot
+            double pivot = keys[choosePivot(keys, low, high)];
+            int lt = low;
+            int gt = high;
+            int i = low;
+            while (i <= gt) {
+                double key = keys[i];
+                if (key < pivot) {
+                    swap(keys, records, lt++, i++);
+                } else if (key > pivot) {
+                    swap(keys, records, i, gt--);
+                } else {
+                    i++;
+                }
+            }
 
-            boolean shouldSwap;
-            if (descending) {
-                // For descending: swap if current > pivot (high values first)
-                shouldSwap = currentCGPA > pivotCGPA;
+            // CONQUER: smaller side recursively, larger side in this loop
+            if (lt - low < high - gt) {
+                quickSortRecursive(keys, records, low, lt - 1);
+                low = gt + 1;
             } else {
-                // For ascending: swap if current < pivot (low values first)
-                shouldSwap = currentCGPA < pivotCGPA;
+                quickSortRecursive(keys, records, gt + 1, high);
+                high = lt - 1;
             }
+        }
 
-            if (shouldSwap) {
-                i++;
-                // Swap records[i] and records[j]
-                swap(records, i, j);
+        insertionSort(keys, records, low, high);
+    }
+
+    /**
+     * Pick the pivot index for keys[low...high]
+     * Median of three, or ninther (median of three medians of three)
+     * for larger ranges
+     */
+    private static int choosePivot(double[] keys, int low, int high) {
+        int mid = low + (high - low) / 2;
+        if (high - low + 1 > NINTHER_THRESHOLD) {
+            int step = (high - low + 1) / 8;
+            int first = medianOfThree(keys, low, low + step, low + 2 * step);
+            int middle = medianOfThree(keys, mid - step, mid, mid + step);
+            int last = medianOfThree(keys, high - 2 * step, high - step, high);
+            return medianOfThree(keys, first, middle, last);
+        }
+        return medianOfThree(keys, low, mid, high);
+    }
+
+    /**
+     * Index of the median of keys[a], keys[b], keys[c]
+     */
+    private static int medianOfThree(double[] keys, int a, int b, int c) {
+        if (keys[a] < keys[b]) {
+            if (keys[b] < keys[c]) {
+                return b;
             }
+            return (keys[a] < keys[c]) ? c : a;
+        }
+        if (keys[a] < keys[c]) {
+            return a;
         }
+        return (keys[b] < keys[c]) ? c : b;
+    }
 
-        // Place pivot in its correct position
-        swap(records, i + 1, high);
-        return i + 1;
+    /**
+     * Insertion sort keys[low...high] (small ranges)
+     */
+    private static void insertionSort(double[] keys, StudentRecord[] records, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            double key = keys[i];
+            StudentRecord current = records[i];
+            int j = i - 1;
+            while (j >= low && keys[j] > key) {
+                keys[j + 1] = keys[j];
+                records[j + 1] = records[j];
+                j--;
+            }
+            keys[j + 1] = key;
+            records[j + 1] = current;
+        }
     }
 
     /**
-     * Swap two elements in the list
+     * Swap two elements (key and record together)
      *
-     * @param records The list
+     * @param keys Sort keys
+     * @param records The array
      * @param i Index of first element
      * @param j Index of second element
      */
-    private static void swap(List<StudentRecord> records, int i, int j) {
-        StudentRecord temp = records.get(i);
-        records.set(i, records.get(j));
-        records.set(j, temp);
+    private static void swap(double[] keys, StudentRecord[] records, int i, int j) {
+        double tempKey = keys[i];
+        keys[i] = keys[j];
+        keys[j] = tempKey;
+        StudentRecord temp = records[i];
+        records[i] = records[j];
+        records[j] = temp;
     }
 
     /**
@@ -172,6 +237,17 @@ public class QuickSort {
         return true;
     }
 
+    /**
+     * Verify that an array is sorted by CGPA
+     *
+     * @param records Array to check
+     * @param descending true if should be descending, false if ascending
+     * @return true if sorted correctly, false otherwise
+     */
+    public static boolean isSortedByCGPA(StudentRecord[] records, boolean descending) {
+        return records == null || isSortedByCGPA(Arrays.asList(records), descending);
+    }
+
     /**
      * Print sorted results in formatted table
      */
@@ -0,0 +1,209 @@
+package sorting;
+
+import model.StudentRecord;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * RADIX SORT - Linear-time sorting on fixed-point CGPA (and matric)
+ *
+ * A valid CGPA is 0.00-4.00 with two decimals (StudentRecord.isValid), so
+ * it is one of only 401 keys: round(cgpa × 100). No comparisons needed:
+ *
+ * COUNTING SORT (sortByCGPA):
+ *  1. COUNT: How many records have each of the 401 keys
+ *  2. PREFIX SUM: Turn counts into each key's first output position
+ *  3. PLACE: Walk the input in order, write each record to its key's
+ *     next position (input order kept within a key → STABLE)
+ *
+ * LSD RADIX SORT (sortByCGPAThenMatric):
+ *  Sort by the LEAST significant digit first, each pass a stable
+ *  counting sort - the order from earlier passes survives as tie-break:
+ *   - One pass per matric character, last character first (shorter
+ *     matrics count as padded with a character below all others, so the
+ *     result is String.compareTo order)
+ *   - A final pass on the CGPA key
+ *
+ * If a CGPA is not an exact two-decimal value in 0.00-4.00 the data
+ * does not fit the 401 keys; those calls fall back to a stable
+ * comparison sort (Arrays.sort), so the result is always correct.
+ *
+ * Time Complexity:
+ *  - sortByCGPA: O(n + 401)
+ *  - sortByCGPAThenMatric: O(w × (n + R)) - w = longest matric,
+ *    R = character range used by the matrics
+ *
+ * Space Complexity: O(n) - output buffer
+ *
+ * Stability: STABLE - preserves relative order of equal elements
+ *
+ * Use Case: Large rosters sorted by CGPA, e.g. rank lists
+ */
+public class RadixSort {
+
+    // ============ CONSTANTS ============
+    private static final int CGPA_KEYS = 401;   // 0.00 .. 4.00
+
+    private static final Comparator<StudentRecord> BY_CGPA = Comparator.comparingDouble(StudentRecord::getCgpa);
+
+    // ============ COUNTING SORT BY CGPA ============
+
+    /**
+     * Sort StudentRecords by CGPA (stable)
+     *
+     * @param records List of StudentRecords to sort
+     * @param descending true for descending (high to low), false for ascending
+     * @return New sorted List (original list unchanged)
+     */
+    public static List<StudentRecord> sortByCGPA(List<StudentRecord> records, boolean descending) {
+        if (records == null || records.size() <= 1) {
+            return new ArrayList<>(records != null ? records : new ArrayList<>());
+        }
+
+        StudentRecord[] copy = records.toArray(new StudentRecord[0]);
+        sortByCGPA(copy, descending);
+
+        return new ArrayList<>(Arrays.asList(copy));
+    }
+
+    /**
+     * Sort an array of StudentRecords by CGPA in place (stable)
+     *
+     * @param records Array to sort (null or empty is ignored)
+     * @param descending true for descending (high to low), false for ascending
+     */
+    public static void sortByCGPA(StudentRecord[] records, boolean descending) {
+        if (records == null || records.length <= 1) {
+            return;
+        }
+
+        int[] keys = cgpaKeys(records, descending);
+        if (keys == null) {
+            Arrays.sort(records, descending ? BY_CGPA.reversed() : BY_CGPA);
+            return;
+        }
+
+        StudentRecord[] output = new StudentRecord[records.length];
+        countingPass(records, keys, output, CGPA_KEYS);
+        System.arraycopy(output, 0, records, 0, records.length);
+    }
+
+    // ============ LSD RADIX SORT BY (CGPA, MATRIC) ============
+
+    /**
+     * Sort by CGPA, ties by matric number ascending (stable)
+     * e.g. a rank list: sortByCGPAThenMatric(records, true)
+     *
+     * @param records Array to sort (null or empty is ignored)
+     * @param descending true for CGPA high to low, false for low to high
+     */
+    public static void sortByCGPAThenMatric(StudentRecord[] records, boolean descending) {
+        if (records == null || records.length <= 1) {
+            return;
+        }
+
+        int[] cgpaKeys = cgpaKeys(records, descending);
+        if (cgpaKeys == null) {
+            Comparator<StudentRecord> byCgpa = descending ? BY_CGPA.reversed() : BY_CGPA;
+            Arrays.sort(records, byCgpa.thenComparing(StudentRecord::getMatricNumber));
+            return;
+        }
+
+        int n = records.length;
+        String[] matrics = new String[n];
+        int width = 0;
+        int maxChar = 0;
+        for (int i = 0; i < n; i++) {
+            String matric = records[i].getMatricNumber();
+            matrics[i] = matric;
+            width = Math.max(width, matric.length());
+            for (int c = 0; c < matric.length(); c++) {
+                maxChar = Math.max(maxChar, matric.charAt(c));
+            }
+        }
+
+        // Matric passes, last character first: digit = char + 1, 0 = past the end
+        int radix = maxChar + 2;
+        StudentRecord[] source = records;
+        StudentRecord[] target = new StudentRecord[n];
+        String[] sourceMatrics = matrics;
+        String[] targetMatrics = new String[n];
+        int[] digits = new int[n];
+        int[] count = new int[radix + 1];
+        for (int position = width - 1; position >= 0; position--) {
+            for (int i = 0; i < n; i++) {
+                String matric = sourceMatrics[i];
+                digits[i] = (position < matric.length()) ? matric.charAt(position) + 1 : 0;
+            }
+
+            Arrays.fill(count, 0);
+            for (int i = 0; i < n; i++) {
+                count[digits[i] + 1]++;
+            }
+            for (int d = 0; d < radix; d++) {
+                count[d + 1] += count[d];
+            }
+            for (int i = 0; i < n; i++) {
+                int slot = count[digits[i]]++;
+                target[slot] = source[i];
+                targetMatrics[slot] = sourceMatrics[i];
+            }
+
+            StudentRecord[] swapRecords = source;
+            source = target;
+            target = swapRecords;
+            String[] swapMatrics = sourceMatrics;
+            sourceMatrics = targetMatrics;
+            targetMatrics = swapMatrics;
+        }
+
+        // Final (most significant) pass: CGPA, keys recomputed in current order
+        int[] keys = cgpaKeys(source, descending);
+        countingPass(source, keys, target, CGPA_KEYS);
+        if (target != records) {
+            System.arraycopy(target, 0, records, 0, n);
+        }
+    }
+
+    // ============ HELPERS ============
+
+    /**
+     * Bucket index 0..400 per record (400 - key when descending),
+     * or null if some CGPA is not an exact two-decimal value in range
+     */
+    private static int[] cgpaKeys(StudentRecord[] records, boolean descending) {
+        int[] keys = new int[records.length];
+        for (int i = 0; i < records.length; i++) {
+            double cgpa = records[i].getCgpa();
+            long key = Math.round(cgpa * 100);
+            if (key < 0 || key >= CGPA_KEYS || key / 100.0 != cgpa) {
+                return null;
+            }
+            keys[i] = descending ? (CGPA_KEYS - 1 - (int) key) : (int) key;
+        }
+        return keys;
+    }
+
+    /**
+     * One stable counting-sort pass: records → output ordered by keys
+     */
+    private static void countingPass(StudentRecord[] records, int[] keys, StudentRecord[] output, int buckets) {
+        // COUNT (shifted by one so the prefix sum gives start positions)
+        int[] start = new int[buckets + 1];
+        for (int key : keys) {
+            start[key + 1]++;
+        }
+
+        // PREFIX SUM
+        for (int k = 0; k < buckets; k++) {
+            start[k + 1] += start[k];
+        }
+
+        // PLACE (in input order → stable)
+        for (int i = 0; i < records.length; i++) {
+            output[start[keys[i]]++] = records[i];
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package sorting;
+
+import model.StudentRecord;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * SORT SPEC - Multi-key ordering for StudentRecords
+ *
+ * A list of (field, direction) pairs, most significant first:
+ *
+ *   SortSpec spec = SortSpec.by(SortSpec.Field.CGPA, SortSpec.Direction.DESCENDING)
+ *                           .thenBy(SortSpec.Field.NAME, SortSpec.Direction.ASCENDING)
+ *                           .thenBy(SortSpec.Field.MATRIC, SortSpec.Direction.ASCENDING);
+ *   MultiKeySort.sort(records, spec);
+ *
+ * Specs are immutable: thenBy() returns a new spec.
+ * comparator() gives the equivalent Comparator (names and matrics by
+ * String.compareTo, CGPA by Double.compare).
+ */
+public final class SortSpec {
+
+    /**
+     * Sortable StudentRecord fields
+     */
+    public enum Field {
+        CGPA, NAME, MATRIC
+    }
+
+    /**
+     * Sort direction of one field
+     */
+    public enum Direction {
+        ASCENDING, DESCENDING
+    }
+
+    // ============ FIELDS ============
+    private final List<Field> fields;
+    private final List<Direction> directions;
+    private Comparator<StudentRecord> comparator;   // built on first use
+
+    private SortSpec(List<Field> fields, List<Direction> directions) {
+        this.fields = fields;
+        this.directions = directions;
+    }
+
+    // ============ CONSTRUCTION ============
+
+    /**
+     * Spec with one (most significant) key
+     */
+    public static SortSpec by(Field field, Direction direction) {
+        return new SortSpec(List.of(field), List.of(direction));
+    }
+
+    /**
+     * This spec with one more, less significant key
+     *
+     * @throws IllegalArgumentException if the field is already in the spec
+     */
+    public SortSpec thenBy(Field field, Direction direction) {
+        if (fields.contains(field)) {
+            throw new IllegalArgumentException(field + " is already in the sort spec");
+        }
+        List<Field> newFields = new ArrayList<>(fields);
+        List<Direction> newDirections = new ArrayList<>(directions);
+        newFields.add(field);
+        newDirections.add(direction);
+        return new SortSpec(Collections.unmodifiableList(newFields), Collections.unmodifiableList(newDirections));
+    }
+
+    // ============ QUERIES ============
+
+    /** @return Number of keys */
+    public int size() {
+        return fields.size();
+    }
+
+    public Field getField(int index) {
+        return fields.get(index);
+    }
+
+    public Direction getDirection(int index) {
+        return directions.get(index);
+    }
+
+    public boolean isDescending(int index) {
+        return directions.get(index) == Direction.DESCENDING;
+    }
+
+    /**
+     * @return Comparator with exactly this ordering
+     */
+    public Comparator<StudentRecord> comparator() {
+        if (comparator == null) {
+            comparator = comparatorFrom(0);
+        }
+        return comparator;
+    }
+
+    /**
+     * Comparator over the keys from index first on (used by MultiKeySort
+     * when the leading keys are already known to be equal)
+     */
+    Comparator<StudentRecord> comparatorFrom(int first) {
+        Comparator<StudentRecord> result = null;
+        for (int i = first; i < fields.size(); i++) {
+            Comparator<StudentRecord> key = fieldComparator(fields.get(i));
+            if (isDescending(i)) {
+                key = key.reversed();
+            }
+            result = (result == null) ? key : result.thenComparing(key);
+        }
+        return result;
+    }
+
+    private static Comparator<StudentRecord> fieldComparator(Field field) {
+        switch (field) {
+            case CGPA:
+                return Comparator.comparingDouble(StudentRecord::getCgpa);
+            case NAME:
+                return Comparator.comparing(StudentRecord::getName);
+            default:
+                return Comparator.comparing(StudentRecord::getMatricNumber);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(fields.get(i)).append(isDescending(i) ? " desc" : " asc");
+        }
+        return sb.toString();
+    }
+}
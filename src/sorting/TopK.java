@@ -0,0 +1,312 @@
+package sorting;
+
+import model.StudentRecord;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collector;
+
+/**
+ * TOP-K - The K best students by CGPA, without sorting everyone
+ *
+ * Order: CGPA descending, ties by matric number ascending (a total order,
+ * so every strategy returns exactly the same K records).
+ *
+ * Strategies:
+ *  HEAP   - Bounded min-heap of K records; its root is the worst of the
+ *           current top K. Each record costs one comparison against the
+ *           root unless it belongs in the top K. Works on a stream of
+ *           records (BST iterator, CSV stream) with O(K) memory.
+ *           Time: O(n log K)
+ *  SELECT - Quickselect on a copy of the CGPAs (three-way partitions,
+ *           so the ~400 distinct CGPAs don't degrade it), then only the
+ *           K selected records are sorted. Needs all records at once.
+ *           Time: O(n) average + sorting K
+ *  AUTO   - HEAP while K ≤ n / HEAP_MAX_FRACTION, else SELECT
+ *
+ * Usage:
+ *   List<StudentRecord> top100 = TopK.topByCGPA(records, 100);
+ *   List<StudentRecord> top10  = TopK.topByCGPA(bst.iterator(), 10);
+ *   List<StudentRecord> top50  = stream.collect(TopK.toTopByCGPA(50));
+ */
+public class TopK {
+
+    // ============ CONSTANTS ============
+    private static final int HEAP_MAX_FRACTION = 16;   // AUTO: heap while k ≤ n / 16
+    private static final int HEAP_INITIAL_CAPACITY = 16; // Heap grows towards k as records arrive
+
+    /** Best first: CGPA high to low, then matric A-Z */
+    public static final Comparator<StudentRecord> TOP_ORDER =
+            Comparator.comparingDouble(StudentRecord::getCgpa).reversed()
+                    .thenComparing(StudentRecord::getMatricNumber);
+
+    /**
+     * How to select
+     */
+    public enum Strategy {
+        AUTO, HEAP, SELECT
+    }
+
+    // ============ LISTS ============
+
+    /**
+     * Top K records by CGPA, best first
+     *
+     * @param records Records to choose from (unchanged)
+     * @param k Number of records wanted (fewer if the list is smaller)
+     * @return New list of min(k, size) records
+     */
+    public static List<StudentRecord> topByCGPA(List<StudentRecord> records, int k) {
+        return topByCGPA(records, k, Strategy.AUTO);
+    }
+
+    /**
+     * Top K records by CGPA, best first, with a chosen strategy
+     *
+     * @param records Records to choose from (unchanged)
+     * @param k Number of records wanted (fewer if the list is smaller)
+     * @param strategy HEAP, SELECT or AUTO
+     * @return New list of min(k, size) records
+     * @throws IllegalArgumentException if k < 0
+     */
+    public static List<StudentRecord> topByCGPA(List<StudentRecord> records, int k, Strategy strategy) {
+        checkK(k);
+        if (records == null || records.isEmpty() || k == 0) {
+            return new ArrayList<>();
+        }
+        k = Math.min(k, records.size());
+
+        boolean useHeap = (strategy == Strategy.HEAP) ||
+                (strategy == Strategy.AUTO && k <= records.size() / HEAP_MAX_FRACTION);
+        if (useHeap) {
+            return topByCGPA(records.iterator(), k);
+        }
+        return select(records.toArray(new StudentRecord[0]), k);
+    }
+
+    // ============ STREAMING ============
+
+    /**
+     * Top K records by CGPA from a one-pass source, best first
+     * e.g. TopK.topByCGPA(bst.iterator(), 10) - O(min(k, n)) memory
+     *
+     * @param records Records to consume
+     * @param k Number of records wanted
+     * @return New list of at most k records
+     */
+    public static List<StudentRecord> topByCGPA(Iterator<StudentRecord> records, int k) {
+        Heap heap = new Heap(k);
+        while (records.hasNext()) {
+            heap.offer(records.next());
+        }
+        return heap.result();
+    }
+
+    /**
+     * Stream collector: stream.collect(TopK.toTopByCGPA(k))
+     *
+     * @param k Number of records wanted
+     * @return Collector producing the top k records, best first
+     */
+    public static Collector<StudentRecord, ?, List<StudentRecord>> toTopByCGPA(int k) {
+        checkK(k);
+        return Collector.of(() -> new Heap(k), Heap::offer, Heap::merge, Heap::result);
+    }
+
+    /**
+     * Bounded min-heap holding the best K records seen so far
+     * heap[0] is the WORST of them (the first to be replaced)
+     *
+     * The array starts small and doubles as records arrive, up to k, so a
+     * k larger than the input costs only as much memory as the input.
+     */
+    public static final class Heap {
+        private final int k;
+        private StudentRecord[] heap;
+        private int size;
+
+        /**
+         * @param k Records to keep
+         * @throws IllegalArgumentException if k < 0
+         */
+        public Heap(int k) {
+            checkK(k);
+            this.k = k;
+            this.heap = new StudentRecord[Math.min(k, HEAP_INITIAL_CAPACITY)];
+        }
+
+        /**
+         * Consider one record
+         */
+        public void offer(StudentRecord record) {
+            if (size < k) {
+                if (size == heap.length) {
+                    heap = Arrays.copyOf(heap, (int) Math.min(k, 2L * heap.length));
+                }
+                heap[size] = record;
+                siftUp(size++);
+            } else if (size > 0 && better(record, heap[0])) {
+                heap[0] = record;
+                siftDown(0);
+            }
+        }
+
+        /**
+         * Add every record of another heap (parallel stream combiner)
+         */
+        public Heap merge(Heap other) {
+            for (int i = 0; i < other.size; i++) {
+                offer(other.heap[i]);
+            }
+            return this;
+        }
+
+        /** @return Records kept so far */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * @return The kept records, best first (the heap is unchanged)
+         */
+        public List<StudentRecord> result() {
+            StudentRecord[] sorted = Arrays.copyOf(heap, size);
+            Arrays.sort(sorted, TOP_ORDER);
+            return new ArrayList<>(Arrays.asList(sorted));
+        }
+
+        private void siftUp(int index) {
+            StudentRecord record = heap[index];
+            while (index > 0) {
+                int parent = (index - 1) / 2;
+                if (!better(heap[parent], record)) {
+                    break;
+                }
+                heap[index] = heap[parent];
+                index = parent;
+            }
+            heap[index] = record;
+        }
+
+        private void siftDown(int index) {
+            StudentRecord record = heap[index];
+            int half = size / 2;
+            while (index < half) {
+                // Pick the worse child
+                int child = 2 * index + 1;
+                if (child + 1 < size && better(heap[child], heap[child + 1])) {
+                    child++;
+                }
+                if (!better(record, heap[child])) {
+                    break;
+                }
+                heap[index] = heap[child];
+                index = child;
+            }
+            heap[index] = record;
+        }
+    }
+
+    // ============ QUICKSELECT ============
+
+    /**
+     * Quickselect the k best of records (the array is reordered)
+     */
+    private static List<StudentRecord> select(StudentRecord[] records, int k) {
+        int n = records.length;
+        if (k >= n) {
+            RadixSort.sortByCGPAThenMatric(records, true);
+            return new ArrayList<>(Arrays.asList(records));
+        }
+
+        // Keys: -CGPA, so smaller key = better record
+        double[] keys = new double[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = -records[i].getCgpa();
+        }
+
+        // Narrow [low, high] until position k-1 lies in a block of equal CGPAs
+        int low = 0;
+        int high = n - 1;
+        int tieStart = k - 1;
+        int tieEnd = k - 1;
+        while (low < high) {
+            double pivot = keys[medianOfThree(keys, low, low + (high - low) / 2, high)];
+            int lt = low;
+            int gt = high;
+            int i = low;
+            while (i <= gt) {
+                if (keys[i] < pivot) {
+                    swap(keys, records, lt++, i++);
+                } else if (keys[i] > pivot) {
+                    swap(keys, records, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            if (k - 1 < lt) {
+                high = lt - 1;
+            } else if (k - 1 > gt) {
+                low = gt + 1;
+            } else {
+                tieStart = lt;
+                tieEnd = gt;
+                break;
+            }
+        }
+
+        // Block straddling position k-1 shares one CGPA: lowest matrics win
+        if (tieEnd > tieStart) {
+            Arrays.sort(records, tieStart, tieEnd + 1, Comparator.comparing(StudentRecord::getMatricNumber));
+        }
+
+        // Sort only the selected k
+        StudentRecord[] top = Arrays.copyOf(records, k);
+        RadixSort.sortByCGPAThenMatric(top, true);
+        return new ArrayList<>(Arrays.asList(top));
+    }
+
+    // ============ HELPERS ============
+
+    /**
+     * true if a ranks above b (higher CGPA, or same CGPA and lower matric)
+     */
+    private static boolean better(StudentRecord a, StudentRecord b) {
+        int cgpa = Double.compare(a.getCgpa(), b.getCgpa());
+        if (cgpa != 0) {
+            return cgpa > 0;
+        }
+        return a.getMatricNumber().compareTo(b.getMatricNumber()) < 0;
+    }
+
+    private static int medianOfThree(double[] keys, int a, int b, int c) {
+        if (keys[a] < keys[b]) {
+            if (keys[b] < keys[c]) {
+                return b;
+            }
+            return (keys[a] < keys[c]) ? c : a;
+        }
+        if (keys[a] < keys[c]) {
+            return a;
+        }
+        return (keys[b] < keys[c]) ? c : b;
+    }
+
+    private static void swap(double[] keys, StudentRecord[] records, int i, int j) {
+        double tempKey = keys[i];
+        keys[i] = keys[j];
+        keys[j] = tempKey;
+        StudentRecord temp = records[i];
+        records[i] = records[j];
+        records[j] = temp;
+    }
+
+    private static void checkK(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must be ≥ 0, got " + k);
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package storage;
+
+import model.StudentRecord;
+import tree.BST;
+import tree.Node;
+import tree.TraversalMode;
+import java.io.*;
+import java.nio.file.*;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * BST SNAPSHOT - Compact binary save/reload for tree.BST
+ *
+ * Reloading from CSV means text parsing, validation and n inserts that
+ * each descend the tree. A snapshot stores the records in binary and
+ * rebuilds the tree directly.
+ *
+ * File Format (big-endian):
+ *  HEADER
+ *   - magic    int   'BSTS' (0x42535453)
+ *   - version  short 1
+ *   - layout   byte  0 = PRE_ORDER, 1 = IN_ORDER
+ *   - count    long  number of records
+ *  RECORDS (count times)
+ *   - flags    byte  PRE_ORDER only: bit 0 = has left child, bit 1 = has right child
+ *   - matric   u16 length + modified UTF-8 bytes
+ *   - name     u16 length + modified UTF-8 bytes
+ *   - cgpa     double
+ *  TRAILER
+ *   - crc32    int   checksum of header + records
+ *
+ * Layouts:
+ *  - PRE_ORDER: rebuilds the EXACT same tree shape, linking nodes from the
+ *    child flags without a single key comparison.
+ *  - IN_ORDER:  records are sorted, so the reader bulk-builds a perfectly
+ *    balanced tree (also no comparisons beyond an order check).
+ *
+ * Files are written to a temporary file and atomically renamed, so a crash
+ * never leaves a half-written snapshot under the final name.
+ *
+ * Time Complexity: O(n) write and read
+ */
+public class BSTSnapshot {
+
+    // ============ CONSTANTS ============
+    private static final int MAGIC = 0x42535453; // "BSTS"
+    private static final short VERSION = 1;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final int HAS_LEFT = 1;
+    private static final int HAS_RIGHT = 2;
+
+    /**
+     * Record order inside the snapshot
+     */
+    public enum Layout {
+        PRE_ORDER,
+        IN_ORDER
+    }
+
+    // ============ WRITE ============
+
+    /**
+     * Write a snapshot of the tree
+     *
+     * @param bst Tree to save
+     * @param filename Destination file (e.g., "data/students.snap")
+     * @param layout PRE_ORDER (exact shape) or IN_ORDER (balanced on reload)
+     * @return Number of records written
+     * @throws IOException if the file cannot be written
+     */
+    public static long write(BST bst, String filename, Layout layout) throws IOException {
+        long[] count = new long[1];
+        bst.inOrderVisit(record -> count[0]++, TraversalMode.ITERATIVE);
+
+        writeFile(filename, layout, count[0], out -> {
+            if (layout == Layout.PRE_ORDER) {
+                writePreOrder(bst.getRoot(), out);
+            } else {
+                bst.inOrderVisit(record -> writeRecord(record, out), TraversalMode.ITERATIVE);
+            }
+        });
+        return count[0];
+    }
+
+    /**
+     * Write an IN_ORDER snapshot from records already in ascending matric order
+     * (e.g. a copy captured from a tree that keeps changing while this runs)
+     *
+     * @param sortedRecords Records in ascending matric order (not re-checked here;
+     *                      read() rejects an out-of-order file)
+     * @param filename Destination file
+     * @return Number of records written
+     * @throws IOException if the file cannot be written
+     */
+    public static long writeSorted(List<StudentRecord> sortedRecords, String filename) throws IOException {
+        writeFile(filename, Layout.IN_ORDER, sortedRecords.size(), out -> {
+            for (StudentRecord record : sortedRecords) {
+                writeFields(record, out);
+            }
+        });
+        return sortedRecords.size();
+    }
+
+    /**
+     * Record section writer used by writeFile()
+     */
+    private interface RecordSection {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    /**
+     * Header + records + CRC trailer into a temp file, fsync, atomic rename
+     */
+    private static void writeFile(String filename, Layout layout, long count, RecordSection records)
+            throws IOException {
+        Path target = Paths.get(filename);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+
+        try (FileOutputStream file = new FileOutputStream(temp.toFile())) {
+            CRC32 crc = new CRC32();
+            BufferedOutputStream buffered = new BufferedOutputStream(file, BUFFER_SIZE);
+            DataOutputStream out = new DataOutputStream(new CheckedOutputStream(buffered, crc));
+
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeByte(layout.ordinal());
+            out.writeLong(count);
+            records.write(out);
+            out.flush();
+
+            // Trailer goes around the checksum stream
+            new DataOutputStream(buffered).writeInt((int) crc.getValue());
+            buffered.flush();
+            file.getFD().sync();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Iterative pre-order write (NODE → LEFT → RIGHT) with child flags
+     * Explicit stack: snapshots of skewed trees must not overflow
+     */
+    private static void writePreOrder(Node root, DataOutputStream out) throws IOException {
+        if (root == null) {
+            return;
+        }
+
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+
+            int flags = (node.getLeft() != null ? HAS_LEFT : 0) |
+                    (node.getRight() != null ? HAS_RIGHT : 0);
+            out.writeByte(flags);
+            writeFields(node.getData(), out);
+
+            // Right pushed first so left is written next
+            if (node.getRight() != null) {
+                stack.push(node.getRight());
+            }
+            if (node.getLeft() != null) {
+                stack.push(node.getLeft());
+            }
+        }
+    }
+
+    private static void writeRecord(StudentRecord record, DataOutputStream out) {
+        try {
+            writeFields(record, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeFields(StudentRecord record, DataOutputStream out) throws IOException {
+        out.writeUTF(record.getMatricNumber());
+        out.writeUTF(record.getName());
+        out.writeDouble(record.getCgpa());
+    }
+
+    // ============ READ ============
+
+    /**
+     * Read a snapshot into a new tree
+     *
+     * @param filename Snapshot file
+     * @return Restored BST (verbose output disabled)
+     * @throws IOException if the file is missing, corrupt or an unknown version
+     */
+    public static BST read(String filename) throws IOException {
+        BST bst = new BST();
+        bst.setVerbose(false);
+        readInto(bst, filename);
+        return bst;
+    }
+
+    /**
+     * Replace the contents of an existing tree with a snapshot
+     * (Keeps the tree's membership filter / lookup cache configuration)
+     *
+     * @param bst Tree to overwrite
+     * @param filename Snapshot file
+     * @return Number of records restored
+     * @throws IOException if the file is missing, corrupt or an unknown version
+     */
+    public static long readInto(BST bst, String filename) throws IOException {
+        try (InputStream file = new FileInputStream(filename)) {
+            CRC32 crc = new CRC32();
+            BufferedInputStream buffered = new BufferedInputStream(file, BUFFER_SIZE);
+            DataInputStream in = new DataInputStream(new CheckedInputStream(buffered, crc));
+
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a BST snapshot: " + filename);
+            }
+            short version = in.readShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported snapshot version " + version + " in " + filename);
+            }
+            int layoutCode = in.readByte();
+            if (layoutCode < 0 || layoutCode >= Layout.values().length) {
+                throw new IOException("Unknown snapshot layout " + layoutCode + " in " + filename);
+            }
+            Layout layout = Layout.values()[layoutCode];
+            long count = in.readLong();
+            if (count < 0 || count > Integer.MAX_VALUE) {
+                throw new IOException("Corrupt record count " + count + " in " + filename);
+            }
+
+            Node root = null;
+            List<StudentRecord> sorted = null;
+            if (layout == Layout.PRE_ORDER) {
+                root = readPreOrder(in, count);
+            } else {
+                sorted = new ArrayList<>((int) count);
+                for (long i = 0; i < count; i++) {
+                    sorted.add(readFields(in));
+                }
+            }
+
+            int expected = (int) crc.getValue();
+            int actual = new DataInputStream(buffered).readInt();
+            if (expected != actual) {
+                throw new IOException("Checksum mismatch in " + filename + " (file is corrupt)");
+            }
+
+            if (layout == Layout.PRE_ORDER) {
+                try {
+                    bst.replaceStructure(root, (int) count);
+                } catch (IllegalArgumentException e) {
+                    throw new IOException("Corrupt pre-order snapshot " + filename + ": " + e.getMessage());
+                }
+            } else {
+                try {
+                    bst.bulkLoadSorted(sorted);
+                } catch (IllegalArgumentException e) {
+                    throw new IOException("Corrupt in-order snapshot " + filename + ": " + e.getMessage());
+                }
+            }
+            return count;
+        } catch (EOFException e) {
+            throw new IOException("Truncated snapshot: " + filename, e);
+        }
+    }
+
+    /**
+     * Rebuild the exact shape from pre-order records and child flags
+     *
+     * Keeps a stack of empty child SLOTS: each record fills the top slot,
+     * then pushes its own right and left slots (left on top, because
+     * pre-order continues with the left subtree).
+     */
+    private static Node readPreOrder(DataInputStream in, long count) throws IOException {
+        if (count == 0) {
+            return null;
+        }
+
+        Node root = null;
+        Deque<Slot> slots = new ArrayDeque<>();
+        slots.push(new Slot(null, false));
+
+        for (long i = 0; i < count; i++) {
+            if (slots.isEmpty()) {
+                throw new IOException("Corrupt snapshot: more records than tree slots");
+            }
+            int flags = in.readByte();
+            Node node = new Node(readFields(in));
+
+            Slot slot = slots.pop();
+            Node parent = slot.parent;
+            if (parent == null) {
+                root = node;
+            } else if (slot.right) {
+                parent.setRight(node);
+            } else {
+                parent.setLeft(node);
+            }
+            node.setParent(parent);
+
+            if ((flags & HAS_RIGHT) != 0) {
+                slots.push(new Slot(node, true));
+            }
+            if ((flags & HAS_LEFT) != 0) {
+                slots.push(new Slot(node, false));
+            }
+        }
+
+        if (!slots.isEmpty()) {
+            throw new IOException("Corrupt snapshot: " + slots.size() + " child slots left unfilled");
+        }
+        return root;
+    }
+
+    private static StudentRecord readFields(DataInputStream in) throws IOException {
+        String matric = in.readUTF();
+        String name = in.readUTF();
+        double cgpa = in.readDouble();
+        return new StudentRecord(name, matric, cgpa);
+    }
+
+    /**
+     * An empty child position waiting for the next pre-order record
+     * (parent == null means the root position)
+     */
+    private static final class Slot {
+        final Node parent;
+        final boolean right;
+
+        Slot(Node parent, boolean right) {
+            this.parent = parent;
+            this.right = right;
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * BUFFER POOL - Bounded cache of fixed-size file pages with CLOCK eviction
+ *
+ * Pages live on disk at offset pageId × pageSize. The pool keeps at most
+ * `capacity` of them in memory, already decoded by a PageCodec, so a hit
+ * costs a hash lookup instead of a read + decode.
+ *
+ * Pinning:
+ *  - fetch() / create() return a PINNED frame; it cannot be evicted
+ *  - unpin(frame, dirty) releases it (dirty = page was modified)
+ *  - Callers pin only the pages they are working on (a root-to-leaf path
+ *    at most), so the pool needs just a few more frames than tree height
+ *
+ * CLOCK eviction (second-chance approximation of LRU):
+ *  - Every frame has a reference bit, set on each fetch
+ *  - The clock hand sweeps the frames: a set bit is cleared and the frame
+ *    skipped; the first unpinned frame with a clear bit is the victim
+ *  - Dirty victims are written back before the frame is reused
+ *
+ * Not thread-safe: the owning structure serializes access.
+ *
+ * @param <P> Decoded page type
+ */
+public class BufferPool<P> {
+
+    /**
+     * Converts between a page object and its on-disk bytes
+     */
+    public interface PageCodec<P> {
+        P decode(int pageId, ByteBuffer bytes) throws IOException;
+
+        void encode(P page, ByteBuffer bytes);
+    }
+
+    /**
+     * A slot in the pool holding one decoded page
+     */
+    public static final class Frame<P> {
+        private int pageId = -1;
+        private P page;
+        private int pinCount;
+        private boolean dirty;
+        private boolean referenced;
+
+        public int getPageId() {
+            return pageId;
+        }
+
+        public P getPage() {
+            return page;
+        }
+    }
+
+    // ============ FIELDS ============
+    private final FileChannel channel;
+    private final int pageSize;
+    private final PageCodec<P> codec;
+    private final Frame<P>[] frames;
+    private final Map<Integer, Frame<P>> pageTable;
+    private final ByteBuffer ioBuffer;
+    private int clockHand;
+
+    // Statistics
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long pageReads;
+    private long pageWrites;
+
+    // ============ CONSTRUCTOR ============
+
+    /**
+     * @param channel Open read/write channel of the page file
+     * @param pageSize Bytes per page
+     * @param capacity Maximum pages held in memory
+     * @param codec Page decoder / encoder
+     */
+    public BufferPool(FileChannel channel, int pageSize, int capacity, PageCodec<P> codec) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Buffer pool capacity must be at least 1 page");
+        }
+        this.channel = channel;
+        this.pageSize = pageSize;
+        this.codec = codec;
+        @SuppressWarnings("unchecked")
+        Frame<P>[] slots = (Frame<P>[]) new Frame<?>[capacity];
+        this.frames = slots;
+        for (int i = 0; i < capacity; i++) {
+            frames[i] = new Frame<>();
+        }
+        this.pageTable = new HashMap<>(capacity * 2);
+        this.ioBuffer = ByteBuffer.allocate(pageSize);
+    }
+
+    // ============ PAGE ACCESS ============
+
+    /**
+     * Pin a page, reading it from disk on a miss
+     *
+     * @param pageId Page to fetch
+     * @return Pinned frame (call unpin when done)
+     * @throws IOException if the page cannot be read or a victim cannot be written
+     */
+    public Frame<P> fetch(int pageId) throws IOException {
+        Frame<P> frame = pageTable.get(pageId);
+        if (frame != null) {
+            hits++;
+        } else {
+            misses++;
+            frame = claimFrame();
+            readPage(pageId);
+            P page = codec.decode(pageId, ioBuffer);
+            install(frame, pageId, page);
+        }
+        frame.pinCount++;
+        frame.referenced = true;
+        return frame;
+    }
+
+    /**
+     * Pin a brand-new page without reading it (it is written on eviction/flush)
+     *
+     * @param pageId Newly allocated page
+     * @param page Its initial contents
+     * @return Pinned, dirty frame
+     * @throws IOException if a victim cannot be written
+     */
+    public Frame<P> create(int pageId, P page) throws IOException {
+        Frame<P> frame = pageTable.get(pageId);
+        if (frame == null) {
+            frame = claimFrame();
+            install(frame, pageId, page);
+        } else {
+            frame.page = page; // Reused page still cached: replace its contents
+        }
+        frame.pinCount++;
+        frame.referenced = true;
+        frame.dirty = true;
+        return frame;
+    }
+
+    /**
+     * Release a pin
+     *
+     * @param frame Frame returned by fetch/create
+     * @param dirty true if the page was modified
+     */
+    public void unpin(Frame<P> frame, boolean dirty) {
+        if (frame.pinCount <= 0) {
+            throw new IllegalStateException("Page " + frame.pageId + " is not pinned");
+        }
+        frame.pinCount--;
+        frame.dirty |= dirty;
+    }
+
+    /**
+     * Write every dirty page back to the file
+     *
+     * @throws IOException if a page cannot be written
+     */
+    public void flushAll() throws IOException {
+        for (Frame<P> frame : frames) {
+            if (frame.pageId >= 0 && frame.dirty) {
+                writeBack(frame);
+            }
+        }
+    }
+
+    // ============ EVICTION ============
+
+    /**
+     * Find a frame to reuse: a free one, or the CLOCK victim
+     */
+    private Frame<P> claimFrame() throws IOException {
+        // Two full sweeps clear every reference bit; a third finds nothing new
+        for (int step = 0; step < frames.length * 3; step++) {
+            Frame<P> frame = frames[clockHand];
+            clockHand = (clockHand + 1) % frames.length;
+
+            if (frame.pageId < 0) {
+                return frame;
+            }
+            if (frame.pinCount > 0) {
+                continue;
+            }
+            if (frame.referenced) {
+                frame.referenced = false;
+                continue;
+            }
+            if (frame.dirty) {
+                writeBack(frame);
+            }
+            pageTable.remove(frame.pageId);
+            frame.pageId = -1;
+            frame.page = null;
+            evictions++;
+            return frame;
+        }
+        throw new IllegalStateException("Buffer pool exhausted: all " + frames.length + " frames are pinned");
+    }
+
+    private void install(Frame<P> frame, int pageId, P page) {
+        frame.pageId = pageId;
+        frame.page = page;
+        frame.dirty = false;
+        frame.pinCount = 0;
+        pageTable.put(pageId, frame);
+    }
+
+    // ============ I/O ============
+
+    private void writeBack(Frame<P> frame) throws IOException {
+        ioBuffer.clear();
+        codec.encode(frame.page, ioBuffer);
+        if (ioBuffer.position() > pageSize) {
+            throw new IllegalStateException("Page " + frame.pageId + " overflows " + pageSize + " bytes");
+        }
+        while (ioBuffer.hasRemaining()) {
+            ioBuffer.put((byte) 0); // Zero the unused tail
+        }
+        ioBuffer.flip();
+        long position = (long) frame.pageId * pageSize;
+        while (ioBuffer.hasRemaining()) {
+            channel.write(ioBuffer, position + ioBuffer.position());
+        }
+        frame.dirty = false;
+        pageWrites++;
+    }
+
+    private void readPage(int pageId) throws IOException {
+        ioBuffer.clear();
+        long position = (long) pageId * pageSize;
+        while (ioBuffer.hasRemaining()) {
+            if (channel.read(ioBuffer, position + ioBuffer.position()) < 0) {
+                throw new IOException("Page " + pageId + " is beyond the end of the file");
+            }
+        }
+        ioBuffer.flip();
+        pageReads++;
+    }
+
+    // ============ STATISTICS ============
+
+    public int getCapacity() {
+        return frames.length;
+    }
+
+    public int getResidentPages() {
+        return pageTable.size();
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public double getHitRate() {
+        long total = hits + misses;
+        return (total == 0) ? 0.0 : (double) hits / total;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public long getPageReads() {
+        return pageReads;
+    }
+
+    public long getPageWrites() {
+        return pageWrites;
+    }
+
+    /**
+     * Reset hit/miss/eviction/I-O counters (e.g. between benchmark phases)
+     */
+    public void resetStatistics() {
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+        pageReads = 0;
+        pageWrites = 0;
+    }
+}
@@ -0,0 +1,756 @@
+package storage;
+
+import model.StudentRecord;
+import tree.BST;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * COLUMNAR FILE - Compressed, column-oriented archive of student records
+ *
+ * Row CSV repeats the same prefix, names and digits on every line. This
+ * format stores each field as its own column, encoded for what it holds:
+ *  - MATRIC: split into text prefix + number ("AIU1000042" → "AIU", 1000042);
+ *            consecutive matrics with the same prefix store only the
+ *            zig-zag varint DELTA of the number (usually 1 byte)
+ *  - NAME:   split on spaces; every token ("Aisyah", "Rahman") is stored
+ *            once in a file-wide DICTIONARY, rows store varint token ids
+ *  - CGPA:   16-bit fixed-point hundredths (3.45 → 345); values that are
+ *            not exact hundredths are kept losslessly as an exception
+ *
+ * Records are grouped in BLOCKS of up to 4096 rows; each column of a block
+ * is deflate-compressed separately. The footer index keeps per-block
+ * statistics (row count, min/max CGPA, first/last matric), so a CGPA range
+ * scan skips whole blocks without reading them, and inflates the matric
+ * and name columns only for blocks that actually contain a match.
+ *
+ * File Format (big-endian):
+ *  HEADER   magic int 'BSTC' (0x42535443), version short 1
+ *  BLOCKS   per block: 3 × (raw length int, compressed length int), then
+ *           the compressed MATRIC, NAME and CGPA columns
+ *  FOOTER   dictionary (count int, tokens as UTF), block count int,
+ *           per block: offset long, length int, crc32 int, rows int,
+ *           min/max CGPA double, first/last matric UTF
+ *  TRAILER  footer offset long, footer crc32 int, magic int
+ *
+ * Usage:
+ *   ColumnarFile.write(bst, "archive/students.col");
+ *   try (ColumnarFile file = ColumnarFile.open("archive/students.col")) {
+ *       file.scanCgpaRange(3.50, 4.00, record -> ...);
+ *   }
+ *
+ * Time Complexity: O(n) write and full read; range scans skip blocks
+ */
+public class ColumnarFile implements Closeable {
+
+    // ============ CONSTANTS ============
+    private static final int MAGIC = 0x42535443; // "BSTC"
+    private static final short VERSION = 1;
+    private static final int HEADER_BYTES = 6;
+    private static final int TRAILER_BYTES = 16;
+    private static final int BLOCK_HEADER_BYTES = 24;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    public static final int BLOCK_ROWS = 4096;
+
+    // Matric encodings (low 2 bits of the per-row varint)
+    private static final int MATRIC_DELTA = 0;  // same prefix/width: number delta in the high bits
+    private static final int MATRIC_FULL = 1;   // prefix, width, number follow
+    private static final int MATRIC_RAW = 2;    // whole string follows (no numeric suffix)
+    private static final int MAX_NUMBER_DIGITS = 18;
+
+    // CGPA marker: value is in the exception list, not a 16-bit hundredth
+    private static final int CGPA_EXCEPTION = 0xFFFF;
+
+    // ============ FIELDS (READER) ============
+    private final FileChannel channel;
+    private final String filename;
+    private final String[] dictionary;
+    private final BlockInfo[] blocks;
+    private final long recordCount;
+    private long blocksSkipped;
+    private long blocksRead;
+
+    /**
+     * Footer index entry for one block
+     */
+    private static final class BlockInfo {
+        long offset;
+        int length;
+        int crc;
+        int rows;
+        double minCgpa;
+        double maxCgpa;
+        String firstMatric;
+        String lastMatric;
+    }
+
+    // ============ WRITE ============
+
+    /**
+     * Write every record of a tree (matric order)
+     *
+     * @param bst Tree to archive
+     * @param filename Destination file
+     * @return Number of records written
+     * @throws IOException if the file cannot be written
+     */
+    public static long write(BST bst, String filename) throws IOException {
+        return write((Iterable<StudentRecord>) bst, filename);
+    }
+
+    /**
+     * Write records in the given order
+     * Blocks take rows in this order, so sorting by the scanned column
+     * (e.g. CGPA) makes block statistics tighter and range scans skip more.
+     *
+     * @param records Records to archive
+     * @param filename Destination file
+     * @return Number of records written
+     * @throws IOException if the file cannot be written
+     */
+    public static long write(Iterable<StudentRecord> records, String filename) throws IOException {
+        Path target = Paths.get(filename);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+
+        Map<String, Integer> tokenIds = new HashMap<>();
+        List<String> tokens = new ArrayList<>();
+        List<BlockInfo> index = new ArrayList<>();
+        long count = 0;
+
+        try (FileOutputStream file = new FileOutputStream(temp.toFile())) {
+            CountingOutputStream counted = new CountingOutputStream(new BufferedOutputStream(file, BUFFER_SIZE));
+            DataOutputStream out = new DataOutputStream(counted);
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+
+            Deflater deflater = new Deflater();
+            List<StudentRecord> block = new ArrayList<>(BLOCK_ROWS);
+            for (StudentRecord record : records) {
+                block.add(record);
+                if (block.size() == BLOCK_ROWS) {
+                    index.add(writeBlock(block, out, counted, tokenIds, tokens, deflater));
+                    count += block.size();
+                    block.clear();
+                }
+            }
+            if (!block.isEmpty()) {
+                index.add(writeBlock(block, out, counted, tokenIds, tokens, deflater));
+                count += block.size();
+            }
+            deflater.end();
+
+            // Footer (checksummed) + trailer
+            long footerOffset = counted.count;
+            ByteArrayOutputStream footerBytes = new ByteArrayOutputStream();
+            DataOutputStream footer = new DataOutputStream(footerBytes);
+            footer.writeInt(tokens.size());
+            for (String token : tokens) {
+                footer.writeUTF(token);
+            }
+            footer.writeInt(index.size());
+            for (BlockInfo info : index) {
+                footer.writeLong(info.offset);
+                footer.writeInt(info.length);
+                footer.writeInt(info.crc);
+                footer.writeInt(info.rows);
+                footer.writeDouble(info.minCgpa);
+                footer.writeDouble(info.maxCgpa);
+                footer.writeUTF(info.firstMatric);
+                footer.writeUTF(info.lastMatric);
+            }
+            footer.flush();
+            out.write(footerBytes.toByteArray());
+            out.writeLong(footerOffset);
+            out.writeInt(crc(footerBytes.toByteArray(), footerBytes.size()));
+            out.writeInt(MAGIC);
+            out.flush();
+            file.getFD().sync();
+        }
+
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return count;
+    }
+
+    /**
+     * Encode, compress and write one block; returns its index entry
+     */
+    private static BlockInfo writeBlock(List<StudentRecord> rows, DataOutputStream out, CountingOutputStream counted,
+                                        Map<String, Integer> tokenIds, List<String> tokens,
+                                        Deflater deflater) throws IOException {
+        ByteSink matrics = new ByteSink();
+        ByteSink names = new ByteSink();
+        ByteSink cgpas = new ByteSink();
+        ByteSink exceptions = new ByteSink();
+
+        BlockInfo info = new BlockInfo();
+        info.rows = rows.size();
+        info.minCgpa = Double.POSITIVE_INFINITY;
+        info.maxCgpa = Double.NEGATIVE_INFINITY;
+        info.firstMatric = rows.get(0).getMatricNumber();
+        info.lastMatric = rows.get(rows.size() - 1).getMatricNumber();
+
+        // Previous matric state for delta encoding (reset per block)
+        String previousPrefix = null;
+        int previousWidth = -1;
+        long previousNumber = 0;
+
+        for (StudentRecord record : rows) {
+            // MATRIC
+            String matric = record.getMatricNumber();
+            int split = numericSuffixStart(matric);
+            if (split < 0) {
+                matrics.writeVarLong(MATRIC_RAW);
+                matrics.writeString(matric);
+                previousPrefix = null;
+            } else {
+                String prefix = matric.substring(0, split);
+                int width = paddedWidth(matric, split);
+                long number = Long.parseLong(matric.substring(split));
+                if (prefix.equals(previousPrefix) && width == previousWidth) {
+                    matrics.writeVarLong((zigZag(number - previousNumber) << 2) | MATRIC_DELTA);
+                } else {
+                    matrics.writeVarLong(MATRIC_FULL);
+                    matrics.writeString(prefix);
+                    matrics.writeVarLong(width);
+                    matrics.writeVarLong(number);
+                }
+                previousPrefix = prefix;
+                previousWidth = width;
+                previousNumber = number;
+            }
+
+            // NAME: token ids from the file-wide dictionary
+            String[] parts = record.getName().split(" ", -1);
+            names.writeVarLong(parts.length);
+            for (String part : parts) {
+                Integer id = tokenIds.get(part);
+                if (id == null) {
+                    id = tokens.size();
+                    tokenIds.put(part, id);
+                    tokens.add(part);
+                }
+                names.writeVarLong(id);
+            }
+
+            // CGPA: 16-bit hundredths, exact doubles otherwise
+            double cgpa = record.getCgpa();
+            long hundredths = Math.round(cgpa * 100.0);
+            if (hundredths >= 0 && hundredths < CGPA_EXCEPTION && hundredths / 100.0 == cgpa &&
+                    Double.doubleToRawLongBits(cgpa) != Double.doubleToRawLongBits(-0.0)) {
+                cgpas.writeShort((int) hundredths);
+            } else {
+                cgpas.writeShort(CGPA_EXCEPTION);
+                exceptions.writeLong(Double.doubleToRawLongBits(cgpa));
+            }
+            if (cgpa < info.minCgpa) {
+                info.minCgpa = cgpa;
+            }
+            if (cgpa > info.maxCgpa) {
+                info.maxCgpa = cgpa;
+            }
+        }
+        cgpas.write(exceptions);
+        if (Double.isNaN(info.minCgpa) || Double.isNaN(info.maxCgpa)) {
+            info.minCgpa = Double.NEGATIVE_INFINITY; // NaN rows: never skip this block
+            info.maxCgpa = Double.POSITIVE_INFINITY;
+        }
+
+        byte[][] compressed = {
+                deflate(matrics, deflater), deflate(names, deflater), deflate(cgpas, deflater)
+        };
+        ByteSink block = new ByteSink();
+        block.writeInt(matrics.size);
+        block.writeInt(compressed[0].length);
+        block.writeInt(names.size);
+        block.writeInt(compressed[1].length);
+        block.writeInt(cgpas.size);
+        block.writeInt(compressed[2].length);
+        for (byte[] column : compressed) {
+            block.write(column, column.length);
+        }
+
+        info.offset = counted.count;
+        info.length = block.size;
+        info.crc = crc(block.bytes, block.size);
+        out.write(block.bytes, 0, block.size);
+        return info;
+    }
+
+    // ============ READ ============
+
+    /**
+     * Open a columnar file for reading (loads the footer index only)
+     *
+     * @param filename Columnar file
+     * @return Open reader
+     * @throws IOException if the file is missing, not columnar, or corrupt
+     */
+    public static ColumnarFile open(String filename) throws IOException {
+        FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ);
+        try {
+            return new ColumnarFile(channel, filename);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private ColumnarFile(FileChannel channel, String filename) throws IOException {
+        this.channel = channel;
+        this.filename = filename;
+
+        long size = channel.size();
+        if (size < HEADER_BYTES + TRAILER_BYTES) {
+            throw new IOException("Not a columnar file (too short): " + filename);
+        }
+        ByteBuffer header = readAt(0, HEADER_BYTES);
+        if (header.getInt() != MAGIC || header.getShort() != VERSION) {
+            throw new IOException("Not a columnar file (bad header): " + filename);
+        }
+        ByteBuffer trailer = readAt(size - TRAILER_BYTES, TRAILER_BYTES);
+        long footerOffset = trailer.getLong();
+        int footerCrc = trailer.getInt();
+        if (trailer.getInt() != MAGIC || footerOffset < HEADER_BYTES || footerOffset > size - TRAILER_BYTES) {
+            throw new IOException("Truncated or corrupt columnar file: " + filename);
+        }
+
+        byte[] footerBytes = readAt(footerOffset, (int) (size - TRAILER_BYTES - footerOffset)).array();
+        if (crc(footerBytes, footerBytes.length) != footerCrc) {
+            throw new IOException("Checksum mismatch in footer of " + filename + " (file is corrupt)");
+        }
+        DataInputStream footer = new DataInputStream(new ByteArrayInputStream(footerBytes));
+        dictionary = new String[footer.readInt()];
+        for (int i = 0; i < dictionary.length; i++) {
+            dictionary[i] = footer.readUTF();
+        }
+        blocks = new BlockInfo[footer.readInt()];
+        long total = 0;
+        for (int i = 0; i < blocks.length; i++) {
+            BlockInfo info = new BlockInfo();
+            info.offset = footer.readLong();
+            info.length = footer.readInt();
+            info.crc = footer.readInt();
+            info.rows = footer.readInt();
+            info.minCgpa = footer.readDouble();
+            info.maxCgpa = footer.readDouble();
+            info.firstMatric = footer.readUTF();
+            info.lastMatric = footer.readUTF();
+            blocks[i] = info;
+            total += info.rows;
+        }
+        recordCount = total;
+    }
+
+    /**
+     * Read every record in file order
+     *
+     * @return All records
+     * @throws IOException if a block is unreadable or corrupt
+     */
+    public List<StudentRecord> readAll() throws IOException {
+        List<StudentRecord> records = new ArrayList<>((int) Math.min(recordCount, Integer.MAX_VALUE));
+        Inflater inflater = new Inflater();
+        try {
+            for (BlockInfo info : blocks) {
+                decodeBlock(info, inflater, 0, Double.NaN, records::add);
+            }
+        } finally {
+            inflater.end();
+        }
+        return records;
+    }
+
+    /**
+     * Visit records with minCgpa ≤ CGPA ≤ maxCgpa
+     *
+     * Blocks whose [min, max] CGPA range does not overlap are skipped
+     * without any I/O (see getBlocksSkipped()).
+     *
+     * @param minCgpa Lower bound (inclusive)
+     * @param maxCgpa Upper bound (inclusive)
+     * @param visitor Receives each matching record, in file order
+     * @return Number of matching records
+     * @throws IOException if a block is unreadable or corrupt
+     */
+    public long scanCgpaRange(double minCgpa, double maxCgpa, Consumer<StudentRecord> visitor) throws IOException {
+        long[] matches = new long[1];
+        Inflater inflater = new Inflater();
+        try {
+            for (BlockInfo info : blocks) {
+                if (info.maxCgpa < minCgpa || info.minCgpa > maxCgpa) {
+                    blocksSkipped++;
+                    continue;
+                }
+                decodeBlock(info, inflater, minCgpa, maxCgpa, record -> {
+                    matches[0]++;
+                    visitor.accept(record);
+                });
+            }
+        } finally {
+            inflater.end();
+        }
+        return matches[0];
+    }
+
+    /**
+     * Decode one block, emitting rows whose CGPA is in [minCgpa, maxCgpa]
+     * (maxCgpa NaN = emit every row). The CGPA column is decoded first;
+     * the matric and name columns are inflated only if some row matches.
+     */
+    private void decodeBlock(BlockInfo info, Inflater inflater, double minCgpa, double maxCgpa,
+                             Consumer<StudentRecord> out) throws IOException {
+        blocksRead++;
+        ByteBuffer block = readAt(info.offset, info.length);
+        if (crc(block.array(), info.length) != info.crc) {
+            throw new IOException("Checksum mismatch in block at offset " + info.offset + " of " + filename);
+        }
+        int[] rawLengths = new int[3];
+        int[] compressedLengths = new int[3];
+        for (int c = 0; c < 3; c++) {
+            rawLengths[c] = block.getInt();
+            compressedLengths[c] = block.getInt();
+        }
+        int matricStart = BLOCK_HEADER_BYTES;
+        int nameStart = matricStart + compressedLengths[0];
+        int cgpaStart = nameStart + compressedLengths[1];
+
+        // CGPA column first
+        ByteSource cgpaColumn = inflate(block.array(), cgpaStart, compressedLengths[2], rawLengths[2], inflater);
+        double[] cgpas = new double[info.rows];
+        ByteSource exceptions = cgpaColumn.slice(info.rows * 2);
+        boolean all = Double.isNaN(maxCgpa);
+        boolean[] selected = new boolean[info.rows];
+        int selectedCount = 0;
+        for (int r = 0; r < info.rows; r++) {
+            int hundredths = cgpaColumn.readShort();
+            cgpas[r] = (hundredths == CGPA_EXCEPTION)
+                    ? Double.longBitsToDouble(exceptions.readLong())
+                    : hundredths / 100.0;
+            selected[r] = all || (cgpas[r] >= minCgpa && cgpas[r] <= maxCgpa);
+            if (selected[r]) {
+                selectedCount++;
+            }
+        }
+        if (selectedCount == 0) {
+            return;
+        }
+
+        // Matric and name columns (sequential varints: decode every row)
+        ByteSource matrics = inflate(block.array(), matricStart, compressedLengths[0], rawLengths[0], inflater);
+        ByteSource names = inflate(block.array(), nameStart, compressedLengths[1], rawLengths[1], inflater);
+        String prefix = null;
+        int width = 0;
+        long number = 0;
+        StringBuilder name = new StringBuilder();
+
+        for (int r = 0; r < info.rows; r++) {
+            long code = matrics.readVarLong();
+            String matric;
+            switch ((int) (code & 3)) {
+                case MATRIC_DELTA:
+                    number += unZigZag(code >>> 2);
+                    matric = selected[r] ? formatMatric(prefix, width, number) : null;
+                    break;
+                case MATRIC_FULL:
+                    prefix = matrics.readString();
+                    width = (int) matrics.readVarLong();
+                    number = matrics.readVarLong();
+                    matric = formatMatric(prefix, width, number);
+                    break;
+                case MATRIC_RAW:
+                    matric = matrics.readString();
+                    break;
+                default:
+                    throw new IOException("Corrupt matric column in " + filename);
+            }
+
+            int tokenCount = (int) names.readVarLong();
+            name.setLength(0);
+            for (int t = 0; t < tokenCount; t++) {
+                int id = (int) names.readVarLong();
+                if (id < 0 || id >= dictionary.length) {
+                    throw new IOException("Corrupt name column in " + filename);
+                }
+                if (t > 0) {
+                    name.append(' ');
+                }
+                name.append(dictionary[id]);
+            }
+
+            if (selected[r]) {
+                out.accept(new StudentRecord(name.toString(), matric, cgpas[r]));
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    // ============ STATISTICS ============
+
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    public int getBlockCount() {
+        return blocks.length;
+    }
+
+    public int getDictionarySize() {
+        return dictionary.length;
+    }
+
+    /** @return Blocks skipped by range scans using min/max statistics */
+    public long getBlocksSkipped() {
+        return blocksSkipped;
+    }
+
+    /** @return Blocks read and checksummed so far */
+    public long getBlocksRead() {
+        return blocksRead;
+    }
+
+    // ============ ENCODING HELPERS ============
+
+    /**
+     * @return Start of the trailing digit run, or -1 if the matric has no
+     *         usable numeric suffix (none, or more than 18 digits)
+     */
+    private static int numericSuffixStart(String matric) {
+        int i = matric.length();
+        while (i > 0 && Character.isDigit(matric.charAt(i - 1)) && matric.charAt(i - 1) < 0x80) {
+            i--;
+        }
+        int digits = matric.length() - i;
+        return (digits == 0 || digits > MAX_NUMBER_DIGITS) ? -1 : i;
+    }
+
+    /**
+     * @return Digit count if the number has leading zeros ("007" → 3), else 0
+     */
+    private static int paddedWidth(String matric, int split) {
+        int digits = matric.length() - split;
+        return (digits > 1 && matric.charAt(split) == '0') ? digits : 0;
+    }
+
+    private static String formatMatric(String prefix, int width, long number) {
+        String digits = Long.toString(number);
+        if (digits.length() >= width) {
+            return prefix + digits;
+        }
+        return prefix + "0".repeat(width - digits.length()) + digits;
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static int crc(byte[] bytes, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, length);
+        return (int) crc.getValue();
+    }
+
+    private static byte[] deflate(ByteSink column, Deflater deflater) {
+        deflater.reset();
+        deflater.setInput(column.bytes, 0, column.size);
+        deflater.finish();
+        ByteSink out = new ByteSink();
+        byte[] chunk = new byte[8192];
+        while (!deflater.finished()) {
+            int n = deflater.deflate(chunk);
+            out.write(chunk, n);
+        }
+        byte[] result = new byte[out.size];
+        System.arraycopy(out.bytes, 0, result, 0, out.size);
+        return result;
+    }
+
+    private ByteSource inflate(byte[] source, int offset, int length, int rawLength, Inflater inflater)
+            throws IOException {
+        inflater.reset();
+        inflater.setInput(source, offset, length);
+        byte[] raw = new byte[rawLength];
+        try {
+            int done = 0;
+            while (done < rawLength) {
+                int n = inflater.inflate(raw, done, rawLength - done);
+                if (n == 0 && (inflater.finished() || inflater.needsInput())) {
+                    break;
+                }
+                done += n;
+            }
+            if (done != rawLength) {
+                throw new IOException("Corrupt column (short inflate) in " + filename);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt column in " + filename + ": " + e.getMessage(), e);
+        }
+        return new ByteSource(raw, 0);
+    }
+
+    private ByteBuffer readAt(long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of " + filename);
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Growable byte array with varint / fixed-width writers
+     */
+    private static final class ByteSink {
+        byte[] bytes = new byte[1024];
+        int size;
+
+        void writeByte(int b) {
+            if (size == bytes.length) {
+                bytes = java.util.Arrays.copyOf(bytes, size * 2);
+            }
+            bytes[size++] = (byte) b;
+        }
+
+        void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                writeByte((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            writeByte((int) value);
+        }
+
+        void writeShort(int value) {
+            writeByte(value >>> 8);
+            writeByte(value);
+        }
+
+        void writeInt(int value) {
+            writeShort(value >>> 16);
+            writeShort(value & 0xFFFF);
+        }
+
+        void writeLong(long value) {
+            writeInt((int) (value >>> 32));
+            writeInt((int) value);
+        }
+
+        void writeString(String value) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(utf8.length);
+            write(utf8, utf8.length);
+        }
+
+        void write(byte[] source, int length) {
+            if (size + length > bytes.length) {
+                bytes = java.util.Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + length));
+            }
+            System.arraycopy(source, 0, bytes, size, length);
+            size += length;
+        }
+
+        void write(ByteSink other) {
+            write(other.bytes, other.size);
+        }
+    }
+
+    /**
+     * Reader over a decoded column
+     */
+    private static final class ByteSource {
+        private final byte[] bytes;
+        private int position;
+
+        ByteSource(byte[] bytes, int position) {
+            this.bytes = bytes;
+            this.position = position;
+        }
+
+        ByteSource slice(int offset) {
+            return new ByteSource(bytes, position + offset);
+        }
+
+        long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                if (position >= bytes.length) {
+                    throw new IOException("Corrupt varint (column truncated)");
+                }
+                byte b = bytes[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Corrupt varint (too long)");
+        }
+
+        int readShort() {
+            int value = ((bytes[position] & 0xFF) << 8) | (bytes[position + 1] & 0xFF);
+            position += 2;
+            return value;
+        }
+
+        long readLong() {
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | (bytes[position++] & 0xFF);
+            }
+            return value;
+        }
+
+        String readString() throws IOException {
+            int length = (int) readVarLong();
+            if (length < 0 || position + length > bytes.length) {
+                throw new IOException("Corrupt string (column truncated)");
+            }
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+    }
+
+    /**
+     * Tracks the file offset while writing
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+        long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,404 @@
+package storage;
+
+import model.StudentRecord;
+import tree.BST;
+import tree.TraversalMode;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * DURABLE BST - tree.BST with a write-ahead log in front of every mutation
+ *
+ * insert / delete / update are first appended to the WriteAheadLog, then
+ * applied to the in-memory tree. Opening a DurableBST on an existing log
+ * directory replays the log, so the tree survives a crash or restart.
+ *
+ * Operations that would not change the tree (duplicate insert, delete or
+ * update of a missing key, invalid record) are rejected WITHOUT logging.
+ *
+ * Reads go straight to the tree: getTree().search(...), cursors, traversals.
+ * Mutating the tree directly bypasses the log and is not recoverable.
+ *
+ * Checkpoints (bounded recovery time):
+ *  1. CAPTURE (under the lock, mutations pause): copy the in-order record
+ *     references and the current LSN, and start a new WAL segment
+ *  2. WRITE (background thread, mutations continue): save the copy as
+ *     checkpoint-<LSN>.snap (BSTSnapshot IN_ORDER layout, fsynced, atomic)
+ *  3. TRUNCATE: delete WAL segments ≤ LSN and older checkpoints
+ * On open, the newest checkpoint is loaded and only the WAL tail after its
+ * LSN is replayed. Checkpoints run on demand (checkpoint / checkpointAsync)
+ * or automatically every N logged operations (setCheckpointInterval).
+ *
+ * Example:
+ *   try (DurableBST db = new DurableBST("data/wal", WriteAheadLog.Durability.GROUP)) {
+ *       db.insert(new StudentRecord("Ali Hassan", "AIU105", 3.45));
+ *       db.getTree().search("AIU105");
+ *   }
+ */
+public class DurableBST implements Closeable {
+
+    // ============ CONSTANTS ============
+    private static final String CHECKPOINT_PREFIX = "checkpoint-";
+    private static final String CHECKPOINT_SUFFIX = ".snap";
+
+    // ============ FIELDS ============
+    private final BST tree;
+    private final WriteAheadLog log;
+    private final File directory;
+
+    // Recovery statistics
+    private final long replayedRecords;
+    private final long replayNanos;
+    private final long checkpointLoadNanos;
+
+    // Checkpoint state
+    private volatile long lastCheckpointLsn;     // Newest checkpoint safely on disk
+    private volatile long lastCheckpointNanos;   // Capture + write + truncate time
+    private long capturedLsn;                    // Newest captured (may still be writing)
+    private long checkpointInterval;             // 0 = no automatic checkpoints
+    private CompletableFuture<Long> inFlight;
+    private ExecutorService checkpointer;
+
+    // ============ CONSTRUCTORS ============
+
+    /**
+     * Open a durable tree with default group commit settings
+     *
+     * @param walDirectory Log + checkpoint directory (created if missing, recovered if not empty)
+     * @param durability NONE, GROUP or SYNC
+     * @throws IOException if the log cannot be opened or is corrupt
+     */
+    public DurableBST(String walDirectory, WriteAheadLog.Durability durability) throws IOException {
+        this(new WriteAheadLog(walDirectory, durability));
+    }
+
+    /**
+     * Open a durable tree on an already configured log
+     * The newest checkpoint is loaded, then the WAL records after it are replayed.
+     *
+     * @param log Open write-ahead log (owned by this object from now on)
+     * @throws IOException if the log is corrupt
+     */
+    public DurableBST(WriteAheadLog log) throws IOException {
+        this.tree = new BST();
+        this.tree.setVerbose(false);
+        this.log = log;
+        this.directory = new File(log.getDirectory());
+
+        try {
+            // 1. Newest checkpoint, if any
+            long start = System.nanoTime();
+            File checkpoint = newestCheckpoint();
+            if (checkpoint != null) {
+                BSTSnapshot.readInto(tree, checkpoint.getPath());
+                lastCheckpointLsn = checkpointLsnOf(checkpoint);
+            }
+            this.checkpointLoadNanos = System.nanoTime() - start;
+
+            // 2. WAL tail after the checkpoint
+            start = System.nanoTime();
+            this.replayedRecords = log.replay(lastCheckpointLsn, this::applyLogged);
+            this.replayNanos = System.nanoTime() - start;
+
+            // 3. Number new records after the checkpoint; finish an interrupted truncation
+            log.advanceTo(lastCheckpointLsn);
+            log.truncateBefore(lastCheckpointLsn);
+            capturedLsn = lastCheckpointLsn;
+        } catch (IOException | RuntimeException e) {
+            log.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Apply one replayed log record to the tree
+     */
+    private void applyLogged(long lsn, WriteAheadLog.Operation operation, String matricNumber,
+                             StudentRecord record) {
+        switch (operation) {
+            case INSERT:
+                tree.insert(record);
+                break;
+            case DELETE:
+                tree.delete(matricNumber);
+                break;
+            case UPDATE:
+                tree.update(record);
+                break;
+        }
+    }
+
+    // ============ MUTATIONS ============
+
+    /**
+     * Log, then insert a record
+     *
+     * @param record Record to insert
+     * @return true if inserted, false if invalid or duplicate (nothing logged)
+     * @throws IOException if the log cannot be written (tree unchanged)
+     */
+    public synchronized boolean insert(StudentRecord record) throws IOException {
+        if (record == null || !record.isValid() || tree.contains(record.getMatricNumber())) {
+            return false;
+        }
+        log.append(WriteAheadLog.Operation.INSERT, record);
+        tree.insert(record);
+        maybeCheckpoint();
+        return true;
+    }
+
+    /**
+     * Log, then delete a record
+     *
+     * @param matricNumber Key to delete
+     * @return true if deleted, false if not found (nothing logged)
+     * @throws IOException if the log cannot be written (tree unchanged)
+     */
+    public synchronized boolean delete(String matricNumber) throws IOException {
+        if (matricNumber == null || matricNumber.isEmpty() || !tree.contains(matricNumber)) {
+            return false;
+        }
+        log.appendDelete(matricNumber);
+        tree.delete(matricNumber);
+        maybeCheckpoint();
+        return true;
+    }
+
+    /**
+     * Log, then replace the record stored under an existing key
+     *
+     * @param record New record; its matric number must already be in the tree
+     * @return true if updated, false if invalid or not found (nothing logged)
+     * @throws IOException if the log cannot be written (tree unchanged)
+     */
+    public synchronized boolean update(StudentRecord record) throws IOException {
+        if (record == null || !record.isValid() || !tree.contains(record.getMatricNumber())) {
+            return false;
+        }
+        log.append(WriteAheadLog.Operation.UPDATE, record);
+        tree.update(record);
+        maybeCheckpoint();
+        return true;
+    }
+
+    // ============ DURABILITY ============
+
+    /**
+     * Force every logged mutation to stable storage (any durability mode)
+     */
+    public void sync() throws IOException {
+        log.sync();
+    }
+
+    /**
+     * Wait for a running checkpoint, then flush and close the log
+     * (The in-memory tree stays readable)
+     */
+    @Override
+    public void close() throws IOException {
+        CompletableFuture<Long> running;
+        synchronized (this) {
+            running = inFlight;
+        }
+        if (running != null) {
+            try {
+                running.join();
+            } catch (RuntimeException e) {
+                // Already reported by the checkpoint thread
+            }
+        }
+        synchronized (this) {
+            if (checkpointer != null) {
+                checkpointer.shutdown();
+            }
+            log.close();
+        }
+    }
+
+    // ============ CHECKPOINTS ============
+
+    /**
+     * Take a checkpoint and wait for it to finish
+     *
+     * @return LSN covered by the checkpoint
+     * @throws IOException if the checkpoint cannot be written
+     */
+    public long checkpoint() throws IOException {
+        try {
+            return checkpointAsync().get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("Checkpoint failed - " + e.getCause(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for checkpoint", e);
+        }
+    }
+
+    /**
+     * Start a checkpoint; mutations may continue while it is written
+     *
+     * Only the capture step holds the lock: an O(n) copy of record
+     * references (no record data is copied) plus a WAL segment switch.
+     * If a checkpoint is already running, that one is returned.
+     *
+     * @return Future completing with the checkpoint LSN
+     * @throws IOException if the WAL segment cannot be switched
+     */
+    public synchronized CompletableFuture<Long> checkpointAsync() throws IOException {
+        if (inFlight != null && !inFlight.isDone()) {
+            return inFlight;
+        }
+
+        long start = System.nanoTime();
+        List<StudentRecord> image = tree.inOrderTraversal(TraversalMode.ITERATIVE);
+        long lsn = log.getLastLsn();
+        log.rollover();
+        capturedLsn = lsn;
+
+        if (checkpointer == null) {
+            checkpointer = Executors.newSingleThreadExecutor(task -> {
+                Thread thread = new Thread(task, "bst-checkpoint");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        CompletableFuture<Long> future = new CompletableFuture<>();
+        inFlight = future;
+        checkpointer.execute(() -> {
+            try {
+                writeCheckpoint(image, lsn);
+                lastCheckpointNanos = System.nanoTime() - start;
+                future.complete(lsn);
+            } catch (IOException | RuntimeException e) {
+                System.err.println("❌ ERROR: Checkpoint at LSN " + lsn + " failed - " + e.getMessage());
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Save the image, then drop the WAL segments and checkpoints it replaces
+     * Order matters: the new checkpoint is durable before anything is deleted.
+     */
+    private void writeCheckpoint(List<StudentRecord> image, long lsn) throws IOException {
+        File target = new File(directory, checkpointName(lsn));
+        BSTSnapshot.writeSorted(image, target.getPath());
+        lastCheckpointLsn = lsn;
+
+        log.truncateBefore(lsn);
+        File[] checkpoints = listCheckpoints();
+        for (File checkpoint : checkpoints) {
+            if (checkpointLsnOf(checkpoint) < lsn) {
+                checkpoint.delete();
+            }
+        }
+    }
+
+    /**
+     * Checkpoint automatically after this many logged operations
+     *
+     * @param operations Operations between checkpoints (0 = only on demand)
+     */
+    public synchronized void setCheckpointInterval(long operations) {
+        if (operations < 0) {
+            throw new IllegalArgumentException("Checkpoint interval cannot be negative");
+        }
+        this.checkpointInterval = operations;
+    }
+
+    public synchronized long getCheckpointInterval() {
+        return checkpointInterval;
+    }
+
+    private void maybeCheckpoint() throws IOException {
+        if (checkpointInterval > 0 && log.getLastLsn() - capturedLsn >= checkpointInterval &&
+                (inFlight == null || inFlight.isDone())) {
+            checkpointAsync();
+        }
+    }
+
+    private File newestCheckpoint() {
+        File newest = null;
+        for (File checkpoint : listCheckpoints()) {
+            if (newest == null || checkpointLsnOf(checkpoint) > checkpointLsnOf(newest)) {
+                newest = checkpoint;
+            }
+        }
+        return newest;
+    }
+
+    private File[] listCheckpoints() {
+        File[] files = directory.listFiles((dir, name) ->
+                name.startsWith(CHECKPOINT_PREFIX) && name.endsWith(CHECKPOINT_SUFFIX));
+        return (files == null) ? new File[0] : files;
+    }
+
+    private static long checkpointLsnOf(File checkpoint) {
+        String name = checkpoint.getName();
+        return Long.parseLong(name.substring(CHECKPOINT_PREFIX.length(),
+                name.length() - CHECKPOINT_SUFFIX.length()));
+    }
+
+    private static String checkpointName(long lsn) {
+        return String.format("%s%020d%s", CHECKPOINT_PREFIX, lsn, CHECKPOINT_SUFFIX);
+    }
+
+    // ============ ACCESSORS ============
+
+    /**
+     * @return The in-memory tree (use for reads only)
+     */
+    public BST getTree() {
+        return tree;
+    }
+
+    public WriteAheadLog getLog() {
+        return log;
+    }
+
+    /**
+     * @return Log records applied when this tree was opened (the WAL tail)
+     */
+    public long getReplayedRecords() {
+        return replayedRecords;
+    }
+
+    /**
+     * @return Time spent replaying the WAL tail on open, in milliseconds
+     */
+    public double getReplayMillis() {
+        return replayNanos / 1e6;
+    }
+
+    /**
+     * @return Time spent loading the checkpoint on open, in milliseconds
+     */
+    public double getCheckpointLoadMillis() {
+        return checkpointLoadNanos / 1e6;
+    }
+
+    /**
+     * @return LSN of the newest completed checkpoint (0 if none)
+     */
+    public long getLastCheckpointLsn() {
+        return lastCheckpointLsn;
+    }
+
+    /**
+     * @return Duration of the last checkpoint taken by this object, in milliseconds
+     */
+    public double getLastCheckpointMillis() {
+        return lastCheckpointNanos / 1e6;
+    }
+}
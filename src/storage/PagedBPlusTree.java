@@ -0,0 +1,890 @@
+package storage;
+
+import model.StudentRecord;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * PAGED B+-TREE - Disk-resident student index for data larger than the heap
+ *
+ * Same operations as tree.BST (insert / search / delete / update, plus
+ * in-order and key-range scans), but nodes are 4 KB pages in a file and
+ * only a bounded BufferPool of them is in memory at any time.
+ *
+ * Structure:
+ *  - LEAF pages hold the records, sorted by matric number, and are chained
+ *    both ways (prev / next), so in-order and range scans walk the leaves
+ *    left to right: one page read per ~100 records, sequential in the file
+ *    for data inserted in order
+ *  - INTERNAL pages hold separator keys + child page ids; separator k
+ *    means "keys ≥ k are in the child to the right"
+ *  - A page is split when its encoded size exceeds the page size (records
+ *    are variable-length), so fan-out adapts to key and name lengths
+ *
+ * Deletion removes the record from its leaf. Leaves are not merged while
+ * they still hold records (like many production B-trees); a leaf that
+ * becomes EMPTY is unlinked from its parent and siblings and returned to a
+ * free list, and a root with a single child is collapsed.
+ *
+ * File layout: page 0 = metadata (magic, page size, root, page count,
+ * free list head, record count, height); pages 1.. = tree / free pages.
+ * Page id 0 doubles as "no page" in sibling links.
+ *
+ * Durability: pages reach the file on eviction, flush() and close().
+ * There is no log, so a crash between flushes can leave the file
+ * inconsistent; rebuild from a snapshot / CSV in that case.
+ *
+ * Example:
+ *   try (PagedBPlusTree tree = PagedBPlusTree.open("data/alumni.bpt", 1024)) {
+ *       tree.insert(new StudentRecord("Ali Hassan", "AIU105", 3.45));
+ *       tree.rangeVisit("AIU100", "AIU199", record -> ...);
+ *   }
+ *
+ * Time Complexity: O(log_B n) page accesses per operation (B ≈ 100)
+ */
+public class PagedBPlusTree implements Closeable {
+
+    // ============ CONSTANTS ============
+    public static final int PAGE_SIZE = 4096;
+    public static final int DEFAULT_POOL_PAGES = 1024;
+
+    private static final int MAGIC = 0x42505431; // "BPT1"
+    private static final short VERSION = 1;
+    private static final int NO_PAGE = 0;
+
+    private static final byte FREE = 0;
+    private static final byte LEAF = 1;
+    private static final byte INTERNAL = 2;
+
+    // type, count, prev, next (+ child0 for internal pages)
+    private static final int LEAF_HEADER_BYTES = 11;
+    private static final int INTERNAL_HEADER_BYTES = 15;
+
+    // Largest entry: a split always leaves both halves within one page
+    private static final int MAX_ENTRY_BYTES = (PAGE_SIZE - INTERNAL_HEADER_BYTES) / 4;
+
+    // ============ FIELDS ============
+    private final FileChannel channel;
+    private final String filename;
+    private final BufferPool<Page> pool;
+
+    // Metadata (page 0)
+    private int rootPage;
+    private int pageCount;
+    private int freeListHead;
+    private long recordCount;
+    private int height;
+
+    // Set by insertInto when a record was actually added
+    private boolean inserted;
+
+    /**
+     * Decoded page
+     */
+    static final class Page {
+        byte type;
+        int prev = NO_PAGE;
+        int next = NO_PAGE;                                   // Leaf sibling, or free list link
+        int bytes;                                            // Encoded size
+        final ArrayList<String> keys = new ArrayList<>();
+        final ArrayList<StudentRecord> records = new ArrayList<>();  // LEAF
+        final ArrayList<Integer> children = new ArrayList<>();       // INTERNAL (keys + 1)
+
+        static Page leaf() {
+            Page page = new Page();
+            page.type = LEAF;
+            page.bytes = LEAF_HEADER_BYTES;
+            return page;
+        }
+
+        static Page internal() {
+            Page page = new Page();
+            page.type = INTERNAL;
+            page.bytes = INTERNAL_HEADER_BYTES;
+            return page;
+        }
+
+        boolean isLeaf() {
+            return type == LEAF;
+        }
+    }
+
+    // ============ OPEN / CLOSE ============
+
+    /**
+     * Open (or create) a tree file with the default buffer pool size
+     *
+     * @param filename Page file
+     * @return Open tree
+     * @throws IOException if the file cannot be opened or is not a tree file
+     */
+    public static PagedBPlusTree open(String filename) throws IOException {
+        return open(filename, DEFAULT_POOL_PAGES);
+    }
+
+    /**
+     * Open (or create) a tree file
+     *
+     * @param filename Page file
+     * @param poolPages Buffer pool capacity in pages (memory ≈ poolPages × 4 KB)
+     * @return Open tree
+     * @throws IOException if the file cannot be opened or is not a tree file
+     */
+    public static PagedBPlusTree open(String filename, int poolPages) throws IOException {
+        if (poolPages < 8) {
+            throw new IllegalArgumentException("Buffer pool needs at least 8 pages, got " + poolPages);
+        }
+        FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            return new PagedBPlusTree(channel, filename, poolPages);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private PagedBPlusTree(FileChannel channel, String filename, int poolPages) throws IOException {
+        this.channel = channel;
+        this.filename = filename;
+        this.pool = new BufferPool<>(channel, PAGE_SIZE, poolPages, new PageCodec());
+
+        if (channel.size() == 0) {
+            // New file: metadata + one empty leaf as root
+            pageCount = 1;
+            BufferPool.Frame<Page> root = allocate(Page.leaf());
+            rootPage = root.getPageId();
+            pool.unpin(root, true);
+            height = 1;
+            flush();
+        } else {
+            readMetadata();
+        }
+    }
+
+    /**
+     * Write all dirty pages and the metadata page, then force them to disk
+     *
+     * @throws IOException if the file cannot be written
+     */
+    public synchronized void flush() throws IOException {
+        pool.flushAll();
+        writeMetadata();
+        channel.force(false);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    // ============ SEARCH ============
+
+    /**
+     * Find a record by matric number
+     *
+     * @param matricNumber Key to find
+     * @return The record, or null if absent
+     * @throws IOException if a page cannot be read
+     */
+    public synchronized StudentRecord search(String matricNumber) throws IOException {
+        if (matricNumber == null) {
+            return null;
+        }
+        BufferPool.Frame<Page> frame = findLeaf(matricNumber);
+        try {
+            Page leaf = frame.getPage();
+            int index = indexOf(leaf.keys, matricNumber);
+            return (index >= 0) ? leaf.records.get(index) : null;
+        } finally {
+            pool.unpin(frame, false);
+        }
+    }
+
+    // ============ INSERT ============
+
+    /**
+     * Insert a record (duplicates and invalid records are rejected)
+     *
+     * @param record Record to add
+     * @return true if inserted
+     * @throws IOException if a page cannot be read or written
+     */
+    public synchronized boolean insert(StudentRecord record) throws IOException {
+        if (record == null || !record.isValid()) {
+            return false;
+        }
+        if (leafEntryBytes(record) > MAX_ENTRY_BYTES) {
+            System.err.println("❌ Error: Record " + record.getMatricNumber() + " is too large for a " +
+                    PAGE_SIZE + "-byte page (max " + MAX_ENTRY_BYTES + " bytes)");
+            return false;
+        }
+
+        inserted = false;
+        Split split = insertInto(rootPage, record);
+        if (split != null) {
+            // Root split: the tree grows one level
+            Page newRoot = Page.internal();
+            newRoot.children.add(rootPage);
+            addSeparator(newRoot, 0, split.key, split.rightPage);
+            BufferPool.Frame<Page> frame = allocate(newRoot);
+            rootPage = frame.getPageId();
+            pool.unpin(frame, true);
+            height++;
+        }
+        if (inserted) {
+            recordCount++;
+        }
+        return inserted;
+    }
+
+    /**
+     * Separator + new right sibling produced by a page split
+     */
+    private static final class Split {
+        final String key;
+        final int rightPage;
+
+        Split(String key, int rightPage) {
+            this.key = key;
+            this.rightPage = rightPage;
+        }
+    }
+
+    /**
+     * Insert below pageId; returns the split to apply in the parent, if any
+     * (The page is unpinned while the child is visited, so only a couple
+     * of frames are pinned at a time regardless of height.)
+     */
+    private Split insertInto(int pageId, StudentRecord record) throws IOException {
+        BufferPool.Frame<Page> frame = pool.fetch(pageId);
+        Page page = frame.getPage();
+        String key = record.getMatricNumber();
+
+        if (page.isLeaf()) {
+            int index = indexOf(page.keys, key);
+            if (index >= 0) {
+                pool.unpin(frame, false);
+                return null;
+            }
+            int position = -index - 1;
+            page.keys.add(position, key);
+            page.records.add(position, record);
+            page.bytes += leafEntryBytes(record);
+            inserted = true;
+
+            Split split = (page.bytes > PAGE_SIZE) ? splitLeaf(frame) : null;
+            pool.unpin(frame, true);
+            return split;
+        }
+
+        int childIndex = childIndex(page.keys, key);
+        int childPage = page.children.get(childIndex);
+        pool.unpin(frame, false);
+
+        Split childSplit = insertInto(childPage, record);
+        if (childSplit == null) {
+            return null;
+        }
+
+        frame = pool.fetch(pageId);
+        page = frame.getPage();
+        addSeparator(page, childIndex, childSplit.key, childSplit.rightPage);
+        Split split = (page.bytes > PAGE_SIZE) ? splitInternal(page) : null;
+        pool.unpin(frame, true);
+        return split;
+    }
+
+    /**
+     * Move the upper half (by bytes) of an overflowing leaf to a new page
+     */
+    private Split splitLeaf(BufferPool.Frame<Page> frame) throws IOException {
+        Page left = frame.getPage();
+        int at = splitPoint(left, true);
+
+        Page right = Page.leaf();
+        for (int i = at; i < left.keys.size(); i++) {
+            right.keys.add(left.keys.get(i));
+            right.records.add(left.records.get(i));
+            right.bytes += leafEntryBytes(left.records.get(i));
+        }
+        left.keys.subList(at, left.keys.size()).clear();
+        left.records.subList(at, left.records.size()).clear();
+        left.bytes -= right.bytes - LEAF_HEADER_BYTES;
+
+        // Link: left ⇄ right ⇄ old next
+        BufferPool.Frame<Page> rightFrame = allocate(right);
+        int rightId = rightFrame.getPageId();
+        right.prev = frame.getPageId();
+        right.next = left.next;
+        if (left.next != NO_PAGE) {
+            BufferPool.Frame<Page> nextFrame = pool.fetch(left.next);
+            nextFrame.getPage().prev = rightId;
+            pool.unpin(nextFrame, true);
+        }
+        left.next = rightId;
+        pool.unpin(rightFrame, true);
+
+        return new Split(right.keys.get(0), rightId);
+    }
+
+    /**
+     * Move the upper half of an overflowing internal page to a new page;
+     * the middle key moves up to the parent
+     */
+    private Split splitInternal(Page left) throws IOException {
+        int middle = splitPoint(left, false);
+        String upKey = left.keys.get(middle);
+
+        Page right = Page.internal();
+        right.children.add(left.children.get(middle + 1));
+        for (int i = middle + 1; i < left.keys.size(); i++) {
+            right.keys.add(left.keys.get(i));
+            right.children.add(left.children.get(i + 1));
+            right.bytes += internalEntryBytes(left.keys.get(i));
+        }
+        left.keys.subList(middle, left.keys.size()).clear();
+        left.children.subList(middle + 1, left.children.size()).clear();
+        left.bytes = INTERNAL_HEADER_BYTES;
+        for (String key : left.keys) {
+            left.bytes += internalEntryBytes(key);
+        }
+
+        BufferPool.Frame<Page> rightFrame = allocate(right);
+        pool.unpin(rightFrame, true);
+        return new Split(upKey, rightFrame.getPageId());
+    }
+
+    /**
+     * @return First index of the upper half: about half of the entry bytes
+     *         stay left, and both halves keep at least one entry
+     */
+    private static int splitPoint(Page page, boolean leaf) {
+        int header = leaf ? LEAF_HEADER_BYTES : INTERNAL_HEADER_BYTES;
+        int half = (page.bytes - header) / 2;
+        int size = page.keys.size();
+        int used = 0;
+        int at = 0;
+        while (at < size - 1 && used < half) {
+            used += leaf ? leafEntryBytes(page.records.get(at)) : internalEntryBytes(page.keys.get(at));
+            at++;
+        }
+        // Internal pages push keys[at] up: keep at least one key on the right
+        return leaf ? Math.max(at, 1) : Math.min(Math.max(at, 1), size - 2);
+    }
+
+    private static void addSeparator(Page page, int childIndex, String key, int rightPage) {
+        page.keys.add(childIndex, key);
+        page.children.add(childIndex + 1, rightPage);
+        page.bytes += internalEntryBytes(key);
+    }
+
+    // ============ DELETE ============
+
+    private static final int NOT_FOUND = 0;
+    private static final int REMOVED = 1;
+    private static final int PAGE_FREED = 2;
+
+    /**
+     * Delete a record by matric number
+     *
+     * @param matricNumber Key to remove
+     * @return true if a record was removed
+     * @throws IOException if a page cannot be read or written
+     */
+    public synchronized boolean delete(String matricNumber) throws IOException {
+        if (matricNumber == null || matricNumber.isEmpty()) {
+            return false;
+        }
+        int result = deleteFrom(rootPage, matricNumber);
+        if (result == NOT_FOUND) {
+            return false;
+        }
+        recordCount--;
+        collapseRoot();
+        return true;
+    }
+
+    /**
+     * Delete below pageId
+     *
+     * @return NOT_FOUND, REMOVED, or PAGE_FREED (page emptied and freed:
+     *         the parent must drop its pointer)
+     */
+    private int deleteFrom(int pageId, String key) throws IOException {
+        BufferPool.Frame<Page> frame = pool.fetch(pageId);
+        Page page = frame.getPage();
+
+        if (page.isLeaf()) {
+            int index = indexOf(page.keys, key);
+            if (index < 0) {
+                pool.unpin(frame, false);
+                return NOT_FOUND;
+            }
+            page.bytes -= leafEntryBytes(page.records.get(index));
+            page.keys.remove(index);
+            page.records.remove(index);
+
+            if (page.keys.isEmpty() && pageId != rootPage) {
+                unlinkLeaf(page);
+                freePage(frame);
+                return PAGE_FREED;
+            }
+            pool.unpin(frame, true);
+            return REMOVED;
+        }
+
+        int childIndex = childIndex(page.keys, key);
+        int childPage = page.children.get(childIndex);
+        pool.unpin(frame, false);
+
+        int result = deleteFrom(childPage, key);
+        if (result != PAGE_FREED) {
+            return result;
+        }
+
+        // Child was freed: drop its pointer and one neighbouring separator
+        frame = pool.fetch(pageId);
+        page = frame.getPage();
+        page.children.remove(childIndex);
+        if (!page.keys.isEmpty()) {
+            int keyIndex = (childIndex > 0) ? childIndex - 1 : 0;
+            page.bytes -= internalEntryBytes(page.keys.get(keyIndex));
+            page.keys.remove(keyIndex);
+        }
+
+        if (page.children.isEmpty()) {
+            if (pageId != rootPage) {
+                freePage(frame);
+                return PAGE_FREED;
+            }
+            // Whole tree is empty: the root becomes an empty leaf again
+            Page emptyRoot = Page.leaf();
+            pool.unpin(frame, true);
+            pool.unpin(pool.create(pageId, emptyRoot), true);
+            height = 1;
+            return REMOVED;
+        }
+        pool.unpin(frame, true);
+        return REMOVED;
+    }
+
+    /**
+     * Remove a leaf from the sibling chain
+     */
+    private void unlinkLeaf(Page leaf) throws IOException {
+        if (leaf.prev != NO_PAGE) {
+            BufferPool.Frame<Page> prev = pool.fetch(leaf.prev);
+            prev.getPage().next = leaf.next;
+            pool.unpin(prev, true);
+        }
+        if (leaf.next != NO_PAGE) {
+            BufferPool.Frame<Page> next = pool.fetch(leaf.next);
+            next.getPage().prev = leaf.prev;
+            pool.unpin(next, true);
+        }
+    }
+
+    /**
+     * While the root is an internal page with one child, make that child the root
+     */
+    private void collapseRoot() throws IOException {
+        while (true) {
+            BufferPool.Frame<Page> frame = pool.fetch(rootPage);
+            Page root = frame.getPage();
+            if (root.isLeaf() || root.children.size() != 1) {
+                pool.unpin(frame, false);
+                return;
+            }
+            rootPage = root.children.get(0);
+            freePage(frame);
+            height--;
+        }
+    }
+
+    // ============ UPDATE ============
+
+    /**
+     * Replace the record with the same matric number
+     *
+     * @param record New record contents
+     * @return true if a record was replaced
+     * @throws IOException if a page cannot be read or written
+     */
+    public synchronized boolean update(StudentRecord record) throws IOException {
+        if (record == null || !record.isValid() || leafEntryBytes(record) > MAX_ENTRY_BYTES) {
+            return false;
+        }
+        BufferPool.Frame<Page> frame = findLeaf(record.getMatricNumber());
+        Page leaf = frame.getPage();
+        int index = indexOf(leaf.keys, record.getMatricNumber());
+        if (index < 0) {
+            pool.unpin(frame, false);
+            return false;
+        }
+        int newBytes = leaf.bytes - leafEntryBytes(leaf.records.get(index)) + leafEntryBytes(record);
+        if (newBytes <= PAGE_SIZE) {
+            leaf.records.set(index, record);
+            leaf.bytes = newBytes;
+            pool.unpin(frame, true);
+            return true;
+        }
+        // Larger record no longer fits in place: delete + insert (may split)
+        pool.unpin(frame, false);
+        delete(record.getMatricNumber());
+        return insert(record);
+    }
+
+    // ============ SCANS ============
+
+    /**
+     * Visit records with from ≤ matric ≤ to in key order
+     * Walks the leaf chain after one root-to-leaf descent.
+     *
+     * @param from Lower bound (inclusive), null = first record
+     * @param to Upper bound (inclusive), null = last record
+     * @param visitor Receives each record
+     * @return Number of records visited
+     * @throws IOException if a page cannot be read
+     */
+    public synchronized long rangeVisit(String from, String to, Consumer<StudentRecord> visitor) throws IOException {
+        BufferPool.Frame<Page> frame = (from == null) ? leftmostLeaf() : findLeaf(from);
+        int index = 0;
+        if (from != null) {
+            index = indexOf(frame.getPage().keys, from);
+            if (index < 0) {
+                index = -index - 1;
+            }
+        }
+
+        long visited = 0;
+        while (true) {
+            Page leaf = frame.getPage();
+            for (; index < leaf.keys.size(); index++) {
+                if (to != null && leaf.keys.get(index).compareTo(to) > 0) {
+                    pool.unpin(frame, false);
+                    return visited;
+                }
+                visitor.accept(leaf.records.get(index));
+                visited++;
+            }
+            int next = leaf.next;
+            pool.unpin(frame, false);
+            if (next == NO_PAGE) {
+                return visited;
+            }
+            frame = pool.fetch(next);
+            index = 0;
+        }
+    }
+
+    /**
+     * @return Records with from ≤ matric ≤ to, in key order
+     */
+    public List<StudentRecord> range(String from, String to) throws IOException {
+        List<StudentRecord> result = new ArrayList<>();
+        rangeVisit(from, to, result::add);
+        return result;
+    }
+
+    /**
+     * Visit every record in matric order (sequential leaf scan)
+     */
+    public void inOrderVisit(Consumer<StudentRecord> visitor) throws IOException {
+        rangeVisit(null, null, visitor);
+    }
+
+    // ============ NAVIGATION HELPERS ============
+
+    /**
+     * @return Pinned leaf that would contain key
+     */
+    private BufferPool.Frame<Page> findLeaf(String key) throws IOException {
+        BufferPool.Frame<Page> frame = pool.fetch(rootPage);
+        while (!frame.getPage().isLeaf()) {
+            Page page = frame.getPage();
+            int child = page.children.get(childIndex(page.keys, key));
+            pool.unpin(frame, false);
+            frame = pool.fetch(child);
+        }
+        return frame;
+    }
+
+    private BufferPool.Frame<Page> leftmostLeaf() throws IOException {
+        BufferPool.Frame<Page> frame = pool.fetch(rootPage);
+        while (!frame.getPage().isLeaf()) {
+            int child = frame.getPage().children.get(0);
+            pool.unpin(frame, false);
+            frame = pool.fetch(child);
+        }
+        return frame;
+    }
+
+    /**
+     * Binary search: index of key, or -(insertion point) - 1
+     */
+    private static int indexOf(List<String> keys, String key) {
+        int low = 0;
+        int high = keys.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = keys.get(mid).compareTo(key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * @return Child to follow: number of separators ≤ key
+     */
+    private static int childIndex(List<String> keys, String key) {
+        int index = indexOf(keys, key);
+        return (index >= 0) ? index + 1 : -index - 1;
+    }
+
+    // ============ PAGE ALLOCATION ============
+
+    /**
+     * Allocate a page (reusing the free list first) and pin it with contents
+     */
+    private BufferPool.Frame<Page> allocate(Page page) throws IOException {
+        int pageId;
+        if (freeListHead != NO_PAGE) {
+            pageId = freeListHead;
+            BufferPool.Frame<Page> free = pool.fetch(pageId);
+            freeListHead = free.getPage().next;
+            pool.unpin(free, false);
+        } else {
+            pageId = pageCount++;
+        }
+        return pool.create(pageId, page);
+    }
+
+    /**
+     * Turn a pinned page into a free page and push it on the free list
+     * (unpins the frame)
+     */
+    private void freePage(BufferPool.Frame<Page> frame) {
+        Page page = frame.getPage();
+        page.type = FREE;
+        page.keys.clear();
+        page.records.clear();
+        page.children.clear();
+        page.prev = NO_PAGE;
+        page.next = freeListHead;
+        freeListHead = frame.getPageId();
+        pool.unpin(frame, true);
+    }
+
+    // ============ METADATA ============
+
+    private void writeMetadata() throws IOException {
+        ByteBuffer meta = ByteBuffer.allocate(PAGE_SIZE);
+        meta.putInt(MAGIC);
+        meta.putShort(VERSION);
+        meta.putInt(PAGE_SIZE);
+        meta.putInt(rootPage);
+        meta.putInt(pageCount);
+        meta.putInt(freeListHead);
+        meta.putLong(recordCount);
+        meta.putInt(height);
+        meta.clear();
+        while (meta.hasRemaining()) {
+            channel.write(meta, meta.position());
+        }
+    }
+
+    private void readMetadata() throws IOException {
+        ByteBuffer meta = ByteBuffer.allocate(PAGE_SIZE);
+        while (meta.hasRemaining()) {
+            if (channel.read(meta, meta.position()) < 0) {
+                throw new IOException("Not a B+-tree file (metadata page truncated): " + filename);
+            }
+        }
+        meta.flip();
+        if (meta.getInt() != MAGIC || meta.getShort() != VERSION) {
+            throw new IOException("Not a B+-tree file (bad header): " + filename);
+        }
+        int pageSize = meta.getInt();
+        if (pageSize != PAGE_SIZE) {
+            throw new IOException("Unsupported page size " + pageSize + " in " + filename);
+        }
+        rootPage = meta.getInt();
+        pageCount = meta.getInt();
+        freeListHead = meta.getInt();
+        recordCount = meta.getLong();
+        height = meta.getInt();
+        if (rootPage <= 0 || rootPage >= pageCount) {
+            throw new IOException("Corrupt B+-tree metadata (root page " + rootPage + ") in " + filename);
+        }
+    }
+
+    // ============ ENCODING ============
+
+    private static int leafEntryBytes(StudentRecord record) {
+        return 2 + utf8Length(record.getMatricNumber()) + 2 + utf8Length(record.getName()) + 8;
+    }
+
+    private static int internalEntryBytes(String key) {
+        return 2 + utf8Length(key) + 4;
+    }
+
+    /**
+     * UTF-8 byte length without encoding (unpaired surrogates over-counted: safe)
+     */
+    private static int utf8Length(String text) {
+        int length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (ch < 0x80) {
+                length++;
+            } else if (ch < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(ch)) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Page ⇄ bytes
+     *  LEAF:     type, count short, prev int, next int,
+     *            count × (matric, name as short length + UTF-8, cgpa double)
+     *  INTERNAL: type, count short, 0, 0, child0 int, count × (key, child int)
+     *  FREE:     type, 0, 0, next free page int
+     */
+    private final class PageCodec implements BufferPool.PageCodec<Page> {
+
+        @Override
+        public Page decode(int pageId, ByteBuffer bytes) throws IOException {
+            byte type = bytes.get();
+            int count = bytes.getShort() & 0xFFFF;
+            int prev = bytes.getInt();
+            int next = bytes.getInt();
+
+            Page page;
+            switch (type) {
+                case LEAF:
+                    page = Page.leaf();
+                    for (int i = 0; i < count; i++) {
+                        String matric = getString(bytes, pageId);
+                        String name = getString(bytes, pageId);
+                        StudentRecord record = new StudentRecord(name, matric, bytes.getDouble());
+                        page.keys.add(matric);
+                        page.records.add(record);
+                        page.bytes += leafEntryBytes(record);
+                    }
+                    break;
+                case INTERNAL:
+                    page = Page.internal();
+                    page.children.add(bytes.getInt());
+                    for (int i = 0; i < count; i++) {
+                        String key = getString(bytes, pageId);
+                        page.keys.add(key);
+                        page.children.add(bytes.getInt());
+                        page.bytes += internalEntryBytes(key);
+                    }
+                    break;
+                case FREE:
+                    page = new Page();
+                    page.type = FREE;
+                    break;
+                default:
+                    throw new IOException("Corrupt page " + pageId + " (type " + type + ") in " + filename);
+            }
+            page.prev = prev;
+            page.next = next;
+            return page;
+        }
+
+        @Override
+        public void encode(Page page, ByteBuffer bytes) {
+            bytes.put(page.type);
+            bytes.putShort((short) page.keys.size());
+            bytes.putInt(page.prev);
+            bytes.putInt(page.next);
+            if (page.type == LEAF) {
+                for (StudentRecord record : page.records) {
+                    putString(bytes, record.getMatricNumber());
+                    putString(bytes, record.getName());
+                    bytes.putDouble(record.getCgpa());
+                }
+            } else if (page.type == INTERNAL) {
+                bytes.putInt(page.children.get(0));
+                for (int i = 0; i < page.keys.size(); i++) {
+                    putString(bytes, page.keys.get(i));
+                    bytes.putInt(page.children.get(i + 1));
+                }
+            }
+        }
+
+        private String getString(ByteBuffer bytes, int pageId) throws IOException {
+            int length = bytes.getShort() & 0xFFFF;
+            if (length > bytes.remaining()) {
+                throw new IOException("Corrupt page " + pageId + " (string overruns page) in " + filename);
+            }
+            String value = new String(bytes.array(), bytes.position(), length, StandardCharsets.UTF_8);
+            bytes.position(bytes.position() + length);
+            return value;
+        }
+
+        private void putString(ByteBuffer bytes, String value) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            bytes.putShort((short) utf8.length);
+            bytes.put(utf8);
+        }
+    }
+
+    // ============ STATISTICS ============
+
+    /**
+     * @return Number of records
+     */
+    public synchronized long size() {
+        return recordCount;
+    }
+
+    public synchronized boolean isEmpty() {
+        return recordCount == 0;
+    }
+
+    /**
+     * @return Levels from root to leaves (1 = root is a leaf)
+     */
+    public synchronized int getHeight() {
+        return height;
+    }
+
+    /**
+     * @return Pages in the file, including metadata and free pages
+     */
+    public synchronized int getPageCount() {
+        return pageCount;
+    }
+
+    public BufferPool<?> getBufferPool() {
+        return pool;
+    }
+}
@@ -0,0 +1,651 @@
+package storage;
+
+import model.StudentRecord;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * WRITE-AHEAD LOG - Append-only, checksummed log of tree mutations
+ *
+ * Every insert/update/delete is appended here BEFORE it is applied to the
+ * in-memory tree. After a crash, replaying the log rebuilds the tree.
+ *
+ * Directory layout:
+ *  wal-<first LSN, 20 digits>.log   segments, replayed in name order
+ *
+ * Segment format (big-endian):
+ *  HEADER
+ *   - magic    int   'BWAL' (0x4257414C)
+ *   - version  short 1
+ *  RECORDS
+ *   - length   int   body length in bytes
+ *   - crc32    int   checksum of the body
+ *   - body:
+ *       lsn    long  log sequence number (1, 2, 3, ...)
+ *       op     byte  0 = INSERT, 1 = DELETE, 2 = UPDATE
+ *       matric u16 length + modified UTF-8
+ *       name   u16 length + modified UTF-8  (INSERT/UPDATE only)
+ *       cgpa   double                       (INSERT/UPDATE only)
+ *
+ * Durability modes:
+ *  - NONE:  no fsync; bytes reach the OS when the write buffer fills or on
+ *           close. Fastest, a crash can lose the unflushed tail.
+ *  - GROUP: group commit. fsync when groupCommitBytes are pending or every
+ *           groupCommitMillis (background flusher), whichever comes first.
+ *           A crash loses at most one interval of operations.
+ *  - SYNC:  fsync after every append. Nothing acknowledged is ever lost.
+ *
+ * A crash in the middle of an append leaves a torn record at the end of
+ * the last segment; it fails its length/CRC check and is cut off when the
+ * log is reopened. A bad record anywhere else is reported as corruption.
+ *
+ * Thread-safe: appends and the background flusher share one lock.
+ */
+public class WriteAheadLog implements Closeable {
+
+    // ============ CONSTANTS ============
+    private static final int MAGIC = 0x4257414C; // "BWAL"
+    private static final short VERSION = 1;
+    private static final int HEADER_BYTES = 6;
+    private static final int RECORD_OVERHEAD = 8; // length + crc
+    private static final int MAX_BODY_BYTES = 1 << 20;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final String SEGMENT_PREFIX = "wal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    public static final long DEFAULT_GROUP_COMMIT_MILLIS = 10;
+    public static final int DEFAULT_GROUP_COMMIT_BYTES = 1 << 20;
+    public static final long DEFAULT_SEGMENT_BYTES = 64L << 20;
+
+    /**
+     * When appended records are forced to stable storage
+     */
+    public enum Durability {
+        NONE,
+        GROUP,
+        SYNC
+    }
+
+    /**
+     * Logged tree mutation
+     */
+    public enum Operation {
+        INSERT,
+        DELETE,
+        UPDATE
+    }
+
+    /**
+     * Receives records during replay
+     */
+    public interface ReplayHandler {
+        /**
+         * @param lsn Log sequence number of the record
+         * @param operation Mutation type
+         * @param matricNumber Key of the affected record
+         * @param record Full record for INSERT/UPDATE, null for DELETE
+         */
+        void apply(long lsn, Operation operation, String matricNumber, StudentRecord record);
+    }
+
+    // ============ FIELDS ============
+    private final Path directory;
+    private final Durability durability;
+    private final int groupCommitBytes;
+    private final long segmentBytes;
+
+    // Current segment
+    private FileChannel channel;
+    private Path segmentPath;
+    private long segmentSize;
+    private int segmentRecords;
+
+    // Pending bytes not yet written to the channel
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream(128);
+    private final DataOutputStream bodyOut = new DataOutputStream(body);
+    private final CRC32 crc = new CRC32();
+
+    private long lastLsn;          // Last appended
+    private long durableLsn;       // Last forced to disk
+    private long unsyncedBytes;    // Appended since the last fsync
+    private long appendCount;
+    private long syncCount;
+    private boolean closed;
+
+    private final ScheduledExecutorService flusher;
+    private IOException flusherFailure;
+
+    // ============ CONSTRUCTORS ============
+
+    /**
+     * Open (or create) a log with default group commit settings
+     *
+     * @param directory Directory holding the segments (created if missing)
+     * @param durability NONE, GROUP or SYNC
+     * @throws IOException if the directory cannot be used or a segment is corrupt
+     */
+    public WriteAheadLog(String directory, Durability durability) throws IOException {
+        this(directory, durability, DEFAULT_GROUP_COMMIT_MILLIS, DEFAULT_GROUP_COMMIT_BYTES,
+                DEFAULT_SEGMENT_BYTES);
+    }
+
+    /**
+     * Open (or create) a log
+     *
+     * Existing segments are scanned to find the last LSN; a torn record at
+     * the end of the last segment is truncated. New records go to a new
+     * segment.
+     *
+     * @param directory Directory holding the segments (created if missing)
+     * @param durability NONE, GROUP or SYNC
+     * @param groupCommitMillis GROUP: maximum time between fsyncs
+     * @param groupCommitBytes GROUP: fsync as soon as this many bytes are pending
+     * @param segmentBytes Start a new segment once the current one reaches this size
+     * @throws IOException if the directory cannot be used or a segment is corrupt
+     */
+    public WriteAheadLog(String directory, Durability durability, long groupCommitMillis,
+                         int groupCommitBytes, long segmentBytes) throws IOException {
+        if (groupCommitMillis <= 0 || groupCommitBytes <= 0 || segmentBytes <= HEADER_BYTES) {
+            throw new IllegalArgumentException("Group commit interval, batch size and segment size must be positive");
+        }
+        this.directory = Paths.get(directory);
+        this.durability = durability;
+        this.groupCommitBytes = groupCommitBytes;
+        this.segmentBytes = segmentBytes;
+
+        Files.createDirectories(this.directory);
+        List<Path> segments = listSegments();
+        if (!segments.isEmpty()) {
+            lastLsn = recoverTail(segments.get(segments.size() - 1));
+        }
+        durableLsn = lastLsn;
+        openSegment(lastLsn + 1);
+
+        if (durability == Durability.GROUP) {
+            flusher = Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread thread = new Thread(task, "wal-group-commit");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.scheduleWithFixedDelay(this::backgroundSync, groupCommitMillis, groupCommitMillis,
+                    TimeUnit.MILLISECONDS);
+        } else {
+            flusher = null;
+        }
+    }
+
+    // ============ APPEND ============
+
+    /**
+     * Append an INSERT or UPDATE
+     *
+     * @param operation INSERT or UPDATE
+     * @param record Record being written
+     * @return LSN of the new log record
+     * @throws IOException if the log cannot be written
+     */
+    public synchronized long append(Operation operation, StudentRecord record) throws IOException {
+        if (operation == Operation.DELETE) {
+            throw new IllegalArgumentException("Use appendDelete() for DELETE");
+        }
+        return append(operation, record.getMatricNumber(), record);
+    }
+
+    /**
+     * Append a DELETE
+     *
+     * @param matricNumber Key being deleted
+     * @return LSN of the new log record
+     * @throws IOException if the log cannot be written
+     */
+    public synchronized long appendDelete(String matricNumber) throws IOException {
+        return append(Operation.DELETE, matricNumber, null);
+    }
+
+    private long append(Operation operation, String matricNumber, StudentRecord record) throws IOException {
+        ensureOpen();
+
+        long lsn = lastLsn + 1;
+        body.reset();
+        bodyOut.writeLong(lsn);
+        bodyOut.writeByte(operation.ordinal());
+        bodyOut.writeUTF(matricNumber);
+        if (record != null) {
+            bodyOut.writeUTF(record.getName());
+            bodyOut.writeDouble(record.getCgpa());
+        }
+
+        byte[] bytes = body.toByteArray();
+        int length = bytes.length;
+        crc.reset();
+        crc.update(bytes, 0, length);
+
+        if (buffer.remaining() < RECORD_OVERHEAD + length) {
+            drainBuffer();
+        }
+        if (buffer.remaining() < RECORD_OVERHEAD + length) {
+            throw new IOException("WAL record too large (" + length + " bytes)");
+        }
+        buffer.putInt(length);
+        buffer.putInt((int) crc.getValue());
+        buffer.put(bytes, 0, length);
+
+        lastLsn = lsn;
+        appendCount++;
+        segmentRecords++;
+        segmentSize += RECORD_OVERHEAD + length;
+        unsyncedBytes += RECORD_OVERHEAD + length;
+
+        if (durability == Durability.SYNC ||
+                (durability == Durability.GROUP && unsyncedBytes >= groupCommitBytes)) {
+            force();
+        }
+        if (segmentSize >= segmentBytes) {
+            rollSegment();
+        }
+        return lsn;
+    }
+
+    // ============ DURABILITY ============
+
+    /**
+     * Force every appended record to stable storage now (any mode)
+     *
+     * @throws IOException if the flush or fsync fails
+     */
+    public synchronized void sync() throws IOException {
+        ensureOpen();
+        force();
+    }
+
+    /**
+     * Write pending bytes and fsync the current segment
+     */
+    private void force() throws IOException {
+        drainBuffer();
+        if (durableLsn < lastLsn) {
+            channel.force(false);
+            syncCount++;
+            durableLsn = lastLsn;
+            unsyncedBytes = 0;
+        }
+    }
+
+    /**
+     * GROUP mode: periodic fsync from the flusher thread
+     * A failure is remembered and rethrown by the next append/sync.
+     */
+    private synchronized void backgroundSync() {
+        if (closed || flusherFailure != null) {
+            return;
+        }
+        try {
+            force();
+        } catch (IOException e) {
+            flusherFailure = e;
+        }
+    }
+
+    private void drainBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    // ============ SEGMENTS ============
+
+    /**
+     * Close the current segment (fsynced unless NONE) and start a new one
+     */
+    private void rollSegment() throws IOException {
+        if (durability == Durability.NONE) {
+            drainBuffer();
+        } else {
+            force();
+        }
+        channel.close();
+        openSegment(lastLsn + 1);
+    }
+
+    private void openSegment(long firstLsn) throws IOException {
+        segmentPath = directory.resolve(segmentName(firstLsn));
+        channel = FileChannel.open(segmentPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(MAGIC).putShort(VERSION).flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+        segmentSize = HEADER_BYTES;
+        segmentRecords = 0;
+        if (durability != Durability.NONE) {
+            channel.force(true);
+            syncDirectory();
+        }
+    }
+
+    /**
+     * Make a newly created segment's directory entry durable
+     * (Not supported on every platform - skipped where it fails)
+     */
+    private void syncDirectory() {
+        try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException e) {
+            // Directory fsync is unavailable (e.g. Windows); file data is still forced
+        }
+    }
+
+    /**
+     * @return Segment files in LSN order
+     */
+    List<Path> listSegments() throws IOException {
+        List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory,
+                SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path path : stream) {
+                segments.add(path);
+            }
+        }
+        segments.sort(null); // Fixed-width LSNs sort by name
+        return segments;
+    }
+
+    static long firstLsnOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static String segmentName(long firstLsn) {
+        return String.format("%s%020d%s", SEGMENT_PREFIX, firstLsn, SEGMENT_SUFFIX);
+    }
+
+    /**
+     * Scan the last segment, truncate a torn tail and return its last LSN
+     */
+    private long recoverTail(Path segment) throws IOException {
+        long last = firstLsnOf(segment) - 1;
+        if (Files.size(segment) < HEADER_BYTES) {
+            // Crash while creating the segment: it holds no records
+            Files.delete(segment);
+            return last;
+        }
+        try (FileChannel file = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            SegmentReader reader = new SegmentReader(file, segment);
+            while (reader.next(true)) {
+                last = reader.lsn;
+            }
+            if (reader.validEnd < file.size()) {
+                file.truncate(reader.validEnd);
+                file.force(true);
+            }
+        }
+        return last;
+    }
+
+    // ============ CHECKPOINT SUPPORT ============
+
+    /**
+     * End the current segment so the next record starts a new one
+     * (Used at checkpoint time: every record up to getLastLsn() is then in
+     * segments that can be deleted once the checkpoint is safe on disk.)
+     *
+     * @throws IOException if the segment cannot be written
+     */
+    public synchronized void rollover() throws IOException {
+        ensureOpen();
+        if (segmentRecords > 0) {
+            rollSegment();
+        }
+    }
+
+    /**
+     * Delete whole segments whose records all have LSN ≤ lsn
+     * The current segment is never deleted.
+     *
+     * @param lsn Records up to and including this LSN are no longer needed
+     * @return Number of segments deleted
+     * @throws IOException if a segment cannot be deleted
+     */
+    public synchronized int truncateBefore(long lsn) throws IOException {
+        ensureOpen();
+        List<Path> segments = listSegments();
+        int deleted = 0;
+        for (int i = 0; i + 1 < segments.size(); i++) {
+            Path segment = segments.get(i);
+            if (segment.equals(segmentPath) || firstLsnOf(segments.get(i + 1)) > lsn + 1) {
+                break;
+            }
+            Files.delete(segment);
+            deleted++;
+        }
+        if (deleted > 0 && durability != Durability.NONE) {
+            syncDirectory();
+        }
+        return deleted;
+    }
+
+    /**
+     * Continue numbering after 'lsn' if the log is behind it
+     *
+     * After a checkpoint truncated every record, an empty log would restart
+     * at LSN 1; the owner calls this with the checkpoint LSN so new records
+     * are numbered after it.
+     *
+     * @param lsn Lowest acceptable value for getLastLsn()
+     * @throws IOException if the current segment cannot be replaced
+     */
+    public synchronized void advanceTo(long lsn) throws IOException {
+        ensureOpen();
+        if (lastLsn >= lsn) {
+            return;
+        }
+        if (segmentRecords > 0) {
+            throw new IllegalStateException("Cannot advance LSN past appended records");
+        }
+        buffer.clear();
+        channel.close();
+        Files.deleteIfExists(segmentPath);
+        lastLsn = lsn;
+        durableLsn = lsn;
+        openSegment(lsn + 1);
+    }
+
+    // ============ REPLAY ============
+
+    /**
+     * Replay every record with LSN > afterLsn, in LSN order
+     *
+     * Intended for startup, before new appends. Pending appends are
+     * written out first so the current segment is complete.
+     *
+     * @param afterLsn Skip records up to and including this LSN (0 = all)
+     * @param handler Receives each record
+     * @return Number of records replayed
+     * @throws IOException if a segment is unreadable or corrupt
+     */
+    public synchronized long replay(long afterLsn, ReplayHandler handler) throws IOException {
+        ensureOpen();
+        drainBuffer();
+
+        List<Path> segments = listSegments();
+        long replayed = 0;
+        for (int i = 0; i < segments.size(); i++) {
+            Path segment = segments.get(i);
+            // Skip segments that end before afterLsn
+            if (i + 1 < segments.size() && firstLsnOf(segments.get(i + 1)) <= afterLsn + 1) {
+                continue;
+            }
+            try (FileChannel file = FileChannel.open(segment, StandardOpenOption.READ)) {
+                SegmentReader reader = new SegmentReader(file, segment);
+                while (reader.next(false)) {
+                    if (reader.lsn > afterLsn) {
+                        handler.apply(reader.lsn, reader.operation, reader.matricNumber, reader.record);
+                        replayed++;
+                    }
+                }
+            }
+        }
+        return replayed;
+    }
+
+    /**
+     * Sequential record reader for one segment
+     */
+    private static final class SegmentReader {
+        private final DataInputStream in;
+        private final Path path;
+        private final long size;
+        private final CRC32 crc = new CRC32();
+        private byte[] bytes = new byte[256];
+
+        long validEnd;
+        long lsn;
+        Operation operation;
+        String matricNumber;
+        StudentRecord record;
+
+        SegmentReader(FileChannel file, Path path) throws IOException {
+            this.in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(file), BUFFER_SIZE));
+            this.path = path;
+            this.size = file.size();
+            if (size < HEADER_BYTES || in.readInt() != MAGIC || in.readShort() != VERSION) {
+                throw new IOException("Not a WAL segment (bad header): " + path);
+            }
+            validEnd = HEADER_BYTES;
+        }
+
+        /**
+         * Read the next record
+         *
+         * @param tornTailAllowed true: a bad record ends the segment quietly
+         *        (crash during append); false: it is corruption
+         * @return false at the end of the valid records
+         */
+        boolean next(boolean tornTailAllowed) throws IOException {
+            if (validEnd == size) {
+                return false;
+            }
+            if (size - validEnd >= RECORD_OVERHEAD) {
+                int length = in.readInt();
+                int expected = in.readInt();
+                if (length > 0 && length <= MAX_BODY_BYTES && size - validEnd - RECORD_OVERHEAD >= length) {
+                    if (bytes.length < length) {
+                        bytes = new byte[length];
+                    }
+                    in.readFully(bytes, 0, length);
+                    crc.reset();
+                    crc.update(bytes, 0, length);
+                    if ((int) crc.getValue() == expected) {
+                        decode(length);
+                        validEnd += RECORD_OVERHEAD + length;
+                        return true;
+                    }
+                }
+            }
+            if (tornTailAllowed) {
+                return false;
+            }
+            throw new IOException("Corrupt WAL record at offset " + validEnd + " in " + path);
+        }
+
+        private void decode(int length) throws IOException {
+            DataInputStream body = new DataInputStream(new ByteArrayInputStream(bytes, 0, length));
+            lsn = body.readLong();
+            int op = body.readByte();
+            if (op < 0 || op >= Operation.values().length) {
+                throw new IOException("Unknown WAL operation " + op + " in " + path);
+            }
+            operation = Operation.values()[op];
+            matricNumber = body.readUTF();
+            if (operation == Operation.DELETE) {
+                record = null;
+            } else {
+                String name = body.readUTF();
+                double cgpa = body.readDouble();
+                record = new StudentRecord(name, matricNumber, cgpa);
+            }
+        }
+    }
+
+    // ============ LIFECYCLE ============
+
+    /**
+     * Write out pending records (fsynced unless NONE) and close the log
+     * An empty current segment is removed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        if (flusher != null) {
+            flusher.shutdownNow();
+        }
+        try {
+            if (durability == Durability.NONE) {
+                drainBuffer();
+            } else {
+                force();
+            }
+        } finally {
+            closed = true;
+            channel.close();
+            if (segmentRecords == 0) {
+                Files.deleteIfExists(segmentPath);
+            }
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Write-ahead log is closed: " + directory);
+        }
+        if (flusherFailure != null) {
+            throw new IOException("Group commit failed: " + flusherFailure.getMessage(), flusherFailure);
+        }
+    }
+
+    // ============ STATISTICS ============
+
+    /** @return LSN of the last appended record (0 if none) */
+    public synchronized long getLastLsn() {
+        return lastLsn;
+    }
+
+    /** @return LSN up to which records are known to be on stable storage */
+    public synchronized long getDurableLsn() {
+        return durableLsn;
+    }
+
+    /** @return Records appended since this log was opened */
+    public synchronized long getAppendCount() {
+        return appendCount;
+    }
+
+    /** @return fsync calls since this log was opened */
+    public synchronized long getSyncCount() {
+        return syncCount;
+    }
+
+    public Durability getDurability() {
+        return durability;
+    }
+
+    public String getDirectory() {
+        return directory.toString();
+    }
+}
@@ -2,11 +2,14 @@ package tree;
 
 import model.StudentRecord;
 import java.util.*;
+import utilities.CountingBloomFilter;
+import utilities.LookupCache;
 import utilities.TreeVisualizer;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Queue;
-import java.util.LinkedList;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
 
 /**
  * Binary Search Tree (BST) Implementation for Student Records
@@ -26,11 +29,28 @@ import java.util.LinkedList;
  *  2. SEARCH: Find student by matric number
  *  3. DELETE: Remove student (3 cases: leaf, 1-child, 2-children)
  */
-public class BST {
+public class BST implements Iterable<StudentRecord> {
 
     // ============ ATTRIBUTES ============
     private Node root;
 
+    // Incremented on every structural change (invalidates fingers/cursors)
+    private int modCount;
+
+    // Strategy for in-order walks (traversal + aggregate functions)
+    private TraversalMode traversalMode = TraversalMode.RECURSIVE;
+
+    // Print a line for every insert/delete (disable for bulk loads & benchmarks)
+    private boolean verbose = true;
+
+    // Optional membership filter: rejects definite misses without a descent
+    private CountingBloomFilter membershipFilter;
+    private long filterRejections;
+    private long filterFalsePositives;
+
+    // Optional bounded cache: hot lookups skip the tree descent entirely
+    private LookupCache lookupCache;
+
     // ============ CONSTRUCTORS ============
 
     /**
@@ -64,13 +84,20 @@ public class BST {
         // If tree is empty, create root
         if (root == null) {
             root = new Node(record);
-            System.out.println("✓ Insert: " + record.getMatricNumber() + " (" +
-                    record.getName() + ", CGPA " + record.getCgpa() + ")");
+            if (verbose) {
+                System.out.println("✓ Insert: " + record.getMatricNumber() + " (" +
+                        record.getName() + ", CGPA " + record.getCgpa() + ")");
+            }
+            onInserted(record);
             return true;
         }
 
         // Recursively insert
-        return insertRecursive(root, record);
+        boolean inserted = insertRecursive(root, record);
+        if (inserted) {
+            onInserted(record);
+        }
+        return inserted;
     }
 
     /**
@@ -91,9 +118,13 @@ public class BST {
             // New matric is LESS than current → go LEFT
             if (current.getLeft() == null) {
                 // Found insertion point
-                current.setLeft(new Node(record));
-                System.out.println("✓ Insert: " + record.getMatricNumber() + " (" +
-                        record.getName() + ", CGPA " + record.getCgpa() + ")");
+                Node child = new Node(record);
+                child.setParent(current);
+                current.setLeft(child);
+                if (verbose) {
+                    System.out.println("✓ Insert: " + record.getMatricNumber() + " (" +
+                            record.getName() + ", CGPA " + record.getCgpa() + ")");
+                }
                 return true;
             } else {
                 // Continue left
@@ -104,9 +135,13 @@ public class BST {
             // New matric is GREATER than current → go RIGHT
             if (current.getRight() == null) {
                 // Found insertion point
-                current.setRight(new Node(record));
-                System.out.println("✓ Insert: " + record.getMatricNumber() + " (" +
-                        record.getName() + ", CGPA " + record.getCgpa() + ")");
+                Node child = new Node(record);
+                child.setParent(current);
+                current.setRight(child);
+                if (verbose) {
+                    System.out.println("✓ Insert: " + record.getMatricNumber() + " (" +
+                            record.getName() + ", CGPA " + record.getCgpa() + ")");
+                }
                 return true;
             } else {
                 // Continue right
@@ -115,7 +150,9 @@ public class BST {
 
         } else {
             // comparison == 0 → DUPLICATE MATRIC
-            System.out.println("✗ Insert REJECTED: Duplicate matric number " + newMatric);
+            if (verbose) {
+                System.out.println("✗ Insert REJECTED: Duplicate matric number " + newMatric);
+            }
             return false;
         }
     }
@@ -140,7 +177,43 @@ public class BST {
             return null;
         }
 
-        return searchRecursive(root, matricNumber);
+        // Hot key: answer from the cache without touching the tree
+        if (lookupCache != null) {
+            StudentRecord cached = lookupCache.get(matricNumber);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        // Definite miss: reject in O(k) without touching the tree
+        if (membershipFilter != null && !membershipFilter.mightContain(matricNumber)) {
+            filterRejections++;
+            return null;
+        }
+
+        StudentRecord found = searchRecursive(root, matricNumber);
+        if (found == null && membershipFilter != null) {
+            // Filter said "maybe" but the tree says no
+            filterFalsePositives++;
+        }
+        if (found != null && lookupCache != null) {
+            lookupCache.put(found);
+        }
+        return found;
+    }
+
+    /**
+     * CONTAINS: Is this matric number in the tree?
+     *
+     * Plain descent from the root: unlike search(), it never consults the
+     * membership filter or lookup cache, so existence checks made before a
+     * mutation do not show up in their statistics.
+     *
+     * @param matricNumber The matric number to look for
+     * @return true if a record with this matric number is stored
+     */
+    public boolean contains(String matricNumber) {
+        return matricNumber != null && !matricNumber.isEmpty() && findNode(matricNumber) != null;
     }
 
     /**
@@ -201,8 +274,11 @@ public class BST {
         }
 
         // Check if student exists before attempting deletion
-        if (search(matricNumber) == null) {
-            System.out.println("✗ Delete FAILED: Student " + matricNumber + " not found");
+        // (plain descent: a delete must not count as a filter/cache lookup)
+        if (findNode(matricNumber) == null) {
+            if (verbose) {
+                System.out.println("✗ Delete FAILED: Student " + matricNumber + " not found");
+            }
             return false;
         }
 
@@ -210,13 +286,60 @@ public class BST {
         result[0] = root;
         boolean deleted = deleteRecursive(result, 0, matricNumber);
         root = result[0];
+        if (root != null) {
+            root.setParent(null);
+        }
 
         if (deleted) {
-            System.out.println("✓ Deleted: " + matricNumber);
+            if (verbose) {
+                System.out.println("✓ Deleted: " + matricNumber);
+            }
+            onDeleted(matricNumber);
         }
         return deleted;
     }
 
+    /**
+     * UPDATE: Replace the record stored under an existing matric number
+     *
+     * The tree shape is unchanged (the key is the same), only the node's
+     * data is swapped. Cached copies of the old record are invalidated.
+     *
+     * @param record New record; its matric number must already be in the tree
+     * @return true if updated, false if invalid or not found
+     */
+    public boolean update(StudentRecord record) {
+        // Validate input
+        if (record == null || !record.isValid()) {
+            System.err.println("❌ Cannot update: Invalid student record");
+            return false;
+        }
+
+        Node node = root;
+        while (node != null) {
+            int comparison = record.getMatricNumber().compareTo(node.getData().getMatricNumber());
+            if (comparison == 0) {
+                break;
+            }
+            node = (comparison < 0) ? node.getLeft() : node.getRight();
+        }
+
+        if (node == null) {
+            if (verbose) {
+                System.out.println("✗ Update FAILED: Student " + record.getMatricNumber() + " not found");
+            }
+            return false;
+        }
+
+        node.setData(record);
+        if (verbose) {
+            System.out.println("✓ Updated: " + record.getMatricNumber() + " (" +
+                    record.getName() + ", CGPA " + record.getCgpa() + ")");
+        }
+        onUpdated(record);
+        return true;
+    }
+
     /**
      * Recursive helper for delete operation
      *
@@ -248,6 +371,7 @@ public class BST {
             leftRef[0] = current.getLeft();
             boolean result = deleteRecursive(leftRef, 0, matricNumber);
             current.setLeft(leftRef[0]);
+            linkParent(leftRef[0], current);
             return result;
 
         } else if (comparison > 0) {
@@ -259,6 +383,7 @@ public class BST {
             rightRef[0] = current.getRight();
             boolean result = deleteRecursive(rightRef, 0, matricNumber);
             current.setRight(rightRef[0]);
+            linkParent(rightRef[0], current);
             return result;
 
         } else {
@@ -301,11 +426,21 @@ public class BST {
             rightRef[0] = current.getRight();
             deleteRecursive(rightRef, 0, successorData.getMatricNumber());
             current.setRight(rightRef[0]);
+            linkParent(rightRef[0], current);
 
             return true;
         }
     }
 
+    /**
+     * Point a (possibly replaced) child back at its parent
+     */
+    private void linkParent(Node child, Node parent) {
+        if (child != null) {
+            child.setParent(parent);
+        }
+    }
+
     /**
      * Find the node with minimum matric number in a subtree
      * (Used for finding in-order successor in deletion)
@@ -328,8 +463,562 @@ public class BST {
         return node;
     }
 
+    // ============ BULK CONSTRUCTION ============
+
+    /**
+     * BULK LOAD: Replace the tree with a perfectly balanced tree built
+     * from records already sorted by matric number
+     *
+     * Algorithm: the middle record becomes the root, the left half builds
+     * the left subtree and the right half the right subtree (no comparisons
+     * between records, recursion depth only log₂ n).
+     *
+     * Time Complexity: O(n)
+     *
+     * @param sortedRecords Valid records in STRICTLY ascending matric order
+     * @throws IllegalArgumentException if a record is invalid or out of order
+     */
+    public void bulkLoadSorted(List<StudentRecord> sortedRecords) {
+        for (int i = 0; i < sortedRecords.size(); i++) {
+            StudentRecord record = sortedRecords.get(i);
+            if (record == null || !record.isValid()) {
+                throw new IllegalArgumentException("Invalid record at index " + i);
+            }
+            if (i > 0 && sortedRecords.get(i - 1).getMatricNumber()
+                    .compareTo(record.getMatricNumber()) >= 0) {
+                throw new IllegalArgumentException("Records not in strictly ascending matric order at index " + i);
+            }
+        }
+
+        installStructure(buildBalanced(sortedRecords, 0, sortedRecords.size() - 1, null));
+    }
+
+    /**
+     * Recursive helper for bulk load: build subtree from records[low..high]
+     */
+    private Node buildBalanced(List<StudentRecord> records, int low, int high, Node parent) {
+        if (low > high) {
+            return null;
+        }
+
+        int mid = low + (high - low) / 2;
+        Node node = new Node(records.get(mid));
+        node.setParent(parent);
+        node.setLeft(buildBalanced(records, low, mid - 1, node));
+        node.setRight(buildBalanced(records, mid + 1, high, node));
+        return node;
+    }
+
+    /**
+     * Replace the tree's contents with an already-linked node structure
+     *
+     * Used by storage.BSTSnapshot to restore an exact tree shape without
+     * rebuilding it by insertion. The structure is checked BEFORE anything
+     * is swapped (one iterative in-order walk, O(n)):
+     *  - every node holds a valid record
+     *  - matric numbers strictly ascend in order (this also rejects
+     *    cycles and nodes shared between subtrees)
+     *  - it has exactly expectedSize nodes
+     * Parent links are then re-derived, the membership filter is
+     * re-seeded and the lookup cache is cleared.
+     *
+     * @param newRoot Root of the new structure (null = empty tree)
+     * @param expectedSize Number of nodes the structure must contain
+     * @throws IllegalArgumentException if the structure is not a valid BST
+     *         of expectedSize nodes (the tree is left unchanged)
+     */
+    public void replaceStructure(Node newRoot, int expectedSize) {
+        int size = checkStructure(newRoot, expectedSize);
+        if (size != expectedSize) {
+            throw new IllegalArgumentException("Structure has " + size + " nodes, expected " + expectedSize);
+        }
+        installStructure(newRoot);
+    }
+
+    /**
+     * Iterative in-order walk of a detached structure
+     *
+     * @return Number of nodes
+     * @throws IllegalArgumentException on an invalid record, an order
+     *         violation or more than maxNodes nodes (e.g. a cycle)
+     */
+    private static int checkStructure(Node newRoot, int maxNodes) {
+        Deque<Node> stack = new ArrayDeque<>();
+        Node current = newRoot;
+        String previous = null;
+        int pushed = 0;
+        int visited = 0;
+
+        while (current != null || !stack.isEmpty()) {
+            while (current != null) {
+                if (++pushed > maxNodes) {
+                    throw new IllegalArgumentException("Structure has more than " + maxNodes + " nodes");
+                }
+                stack.push(current);
+                current = current.getLeft();
+            }
+
+            current = stack.pop();
+            StudentRecord record = current.getData();
+            if (record == null || !record.isValid()) {
+                throw new IllegalArgumentException("Invalid record at in-order position " + visited);
+            }
+            if (previous != null && previous.compareTo(record.getMatricNumber()) >= 0) {
+                throw new IllegalArgumentException("Matric numbers not in strictly ascending order at " +
+                        "in-order position " + visited + " (" + previous + " then " +
+                        record.getMatricNumber() + ")");
+            }
+            previous = record.getMatricNumber();
+            visited++;
+            current = current.getRight();
+        }
+        return visited;
+    }
+
+    /**
+     * Install a structure known to be valid (bulkLoadSorted / replaceStructure)
+     */
+    private void installStructure(Node newRoot) {
+        root = newRoot;
+        modCount++;
+
+        if (root != null) {
+            // Iterative walk: restored trees may be skewed (h ≈ n)
+            root.setParent(null);
+            Deque<Node> stack = new ArrayDeque<>();
+            stack.push(root);
+            while (!stack.isEmpty()) {
+                Node node = stack.pop();
+                if (node.getLeft() != null) {
+                    node.getLeft().setParent(node);
+                    stack.push(node.getLeft());
+                }
+                if (node.getRight() != null) {
+                    node.getRight().setParent(node);
+                    stack.push(node.getRight());
+                }
+            }
+        }
+
+        if (membershipFilter != null) {
+            CountingBloomFilter filter = membershipFilter;
+            filter.clear();
+            inOrderVisit(record -> filter.add(record.getMatricNumber()), TraversalMode.ITERATIVE);
+        }
+        if (lookupCache != null) {
+            lookupCache.clear();
+        }
+    }
+
+    /**
+     * Keep auxiliary structures in sync after a successful insert
+     */
+    private void onInserted(StudentRecord record) {
+        modCount++;
+        if (membershipFilter != null) {
+            membershipFilter.add(record.getMatricNumber());
+        }
+    }
+
+    /**
+     * Keep auxiliary structures in sync after a successful delete
+     */
+    private void onDeleted(String matricNumber) {
+        modCount++;
+        if (membershipFilter != null) {
+            membershipFilter.remove(matricNumber);
+        }
+        if (lookupCache != null) {
+            lookupCache.invalidate(matricNumber);
+        }
+    }
+
+    /**
+     * Keep auxiliary structures in sync after a successful update
+     */
+    private void onUpdated(StudentRecord record) {
+        if (lookupCache != null) {
+            lookupCache.invalidate(record.getMatricNumber());
+        }
+    }
+
+    // ============ ORDERED NAVIGATION ============
+
+    /**
+     * SUCCESSOR: Student with the smallest matric number GREATER than the given one
+     * The given matric does not have to exist in the tree.
+     *
+     * Time Complexity: O(h) - one descent from the root
+     *
+     * @param matricNumber Reference matric number
+     * @return Next StudentRecord in matric order, or null if none
+     */
+    public StudentRecord successor(String matricNumber) {
+        if (matricNumber == null) {
+            return null;
+        }
+        Node node = higherNode(matricNumber);
+        return (node == null) ? null : node.getData();
+    }
+
+    /**
+     * PREDECESSOR: Student with the largest matric number LESS than the given one
+     * The given matric does not have to exist in the tree.
+     *
+     * Time Complexity: O(h) - one descent from the root
+     *
+     * @param matricNumber Reference matric number
+     * @return Previous StudentRecord in matric order, or null if none
+     */
+    public StudentRecord predecessor(String matricNumber) {
+        if (matricNumber == null) {
+            return null;
+        }
+        Node node = lowerNode(matricNumber);
+        return (node == null) ? null : node.getData();
+    }
+
+    /**
+     * Create a bidirectional cursor positioned on the first (smallest) record
+     *
+     * @return New RecordCursor (invalid if the tree is empty)
+     */
+    public RecordCursor cursor() {
+        return new RecordCursor(this, firstNode());
+    }
+
+    /**
+     * Create a bidirectional cursor positioned on the first record whose
+     * matric number is >= the given one (useful for paging from a key)
+     *
+     * @param matricNumber Starting matric number
+     * @return New RecordCursor (invalid if no such record)
+     */
+    public RecordCursor cursorAt(String matricNumber) {
+        return new RecordCursor(this, ceilingNode(matricNumber));
+    }
+
+    /**
+     * Iterate records in ascending matric order using parent links
+     * (O(1) amortized per step, no auxiliary stack)
+     *
+     * @return Iterator over all records in in-order sequence
+     */
+    @Override
+    public Iterator<StudentRecord> iterator() {
+        RecordCursor cursor = cursor();
+        return new Iterator<StudentRecord>() {
+            private boolean started = false;
+
+            @Override
+            public boolean hasNext() {
+                return started ? cursor.hasNext() : cursor.isValid();
+            }
+
+            @Override
+            public StudentRecord next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if (started) {
+                    cursor.next();
+                }
+                started = true;
+                return cursor.get();
+            }
+        };
+    }
+
+    /**
+     * In-order successor of a node, using parent links
+     *
+     *  - Has right child: leftmost node of the right subtree
+     *  - Otherwise: climb until we arrive from a LEFT child
+     *
+     * Amortized O(1) over a full traversal (each edge is crossed twice)
+     */
+    static Node successorNode(Node node) {
+        if (node.getRight() != null) {
+            Node current = node.getRight();
+            while (current.getLeft() != null) {
+                current = current.getLeft();
+            }
+            return current;
+        }
+
+        Node child = node;
+        Node parent = node.getParent();
+        while (parent != null && parent.getRight() == child) {
+            child = parent;
+            parent = parent.getParent();
+        }
+        return parent;
+    }
+
+    /**
+     * In-order predecessor of a node, using parent links (mirror of successorNode)
+     */
+    static Node predecessorNode(Node node) {
+        if (node.getLeft() != null) {
+            Node current = node.getLeft();
+            while (current.getRight() != null) {
+                current = current.getRight();
+            }
+            return current;
+        }
+
+        Node child = node;
+        Node parent = node.getParent();
+        while (parent != null && parent.getLeft() == child) {
+            child = parent;
+            parent = parent.getParent();
+        }
+        return parent;
+    }
+
+    /**
+     * @return Node holding exactly this matric, or null
+     */
+    Node findNode(String matricNumber) {
+        Node current = root;
+        while (current != null) {
+            int comparison = matricNumber.compareTo(current.getData().getMatricNumber());
+            if (comparison == 0) {
+                return current;
+            }
+            current = (comparison < 0) ? current.getLeft() : current.getRight();
+        }
+        return null;
+    }
+
+    /**
+     * @return Node with the smallest matric >= key, or null
+     */
+    Node ceilingNode(String matricNumber) {
+        Node current = root;
+        Node candidate = null;
+        while (current != null) {
+            int comparison = matricNumber.compareTo(current.getData().getMatricNumber());
+            if (comparison == 0) {
+                return current;
+            }
+            if (comparison < 0) {
+                candidate = current;
+                current = current.getLeft();
+            } else {
+                current = current.getRight();
+            }
+        }
+        return candidate;
+    }
+
+    /**
+     * @return Node with the largest matric <= key, or null
+     */
+    Node floorNode(String matricNumber) {
+        Node current = root;
+        Node candidate = null;
+        while (current != null) {
+            int comparison = matricNumber.compareTo(current.getData().getMatricNumber());
+            if (comparison == 0) {
+                return current;
+            }
+            if (comparison > 0) {
+                candidate = current;
+                current = current.getRight();
+            } else {
+                current = current.getLeft();
+            }
+        }
+        return candidate;
+    }
+
+    /**
+     * @return Node with the smallest matric > key, or null
+     */
+    Node higherNode(String matricNumber) {
+        Node current = root;
+        Node candidate = null;
+        while (current != null) {
+            if (matricNumber.compareTo(current.getData().getMatricNumber()) < 0) {
+                candidate = current;
+                current = current.getLeft();
+            } else {
+                current = current.getRight();
+            }
+        }
+        return candidate;
+    }
+
+    /**
+     * @return Node with the largest matric < key, or null
+     */
+    Node lowerNode(String matricNumber) {
+        Node current = root;
+        Node candidate = null;
+        while (current != null) {
+            if (matricNumber.compareTo(current.getData().getMatricNumber()) > 0) {
+                candidate = current;
+                current = current.getRight();
+            } else {
+                current = current.getLeft();
+            }
+        }
+        return candidate;
+    }
+
+    /**
+     * @return Node with the smallest matric number, or null if empty
+     */
+    Node firstNode() {
+        return findMinNode(root);
+    }
+
+    /**
+     * @return Node with the largest matric number, or null if empty
+     */
+    Node lastNode() {
+        return findMaxNode(root);
+    }
+
+    // ============ FINGER SEARCH ============
+
+    /**
+     * Create a finger: a search cursor that starts each lookup from the
+     * previously visited path instead of the root.
+     * Use for batches of nearly ascending (or descending) matric numbers.
+     *
+     * @return New Finger over this tree
+     */
+    public Finger finger() {
+        return new Finger(this);
+    }
+
+    /**
+     * @return Structural modification counter (used by fingers and cursors)
+     */
+    int getModCount() {
+        return modCount;
+    }
+
+    // ============ MEMBERSHIP FILTER ============
+
+    /**
+     * Enable a counting Bloom filter in front of search()
+     *
+     * Lookups for matric numbers that were never inserted (typos, deleted
+     * students) are rejected in O(k) instead of a root-to-leaf descent.
+     * The filter is seeded with every record already in the tree and is
+     * kept in sync by insert() and delete().
+     *
+     * @param expectedRecords Expected number of records in the tree
+     * @param falsePositiveRate Target false-positive rate (e.g., 0.01)
+     */
+    public void enableMembershipFilter(int expectedRecords, double falsePositiveRate) {
+        membershipFilter = new CountingBloomFilter(expectedRecords, falsePositiveRate);
+        filterRejections = 0;
+        filterFalsePositives = 0;
+
+        CountingBloomFilter filter = membershipFilter;
+        inOrderVisit(record -> filter.add(record.getMatricNumber()), TraversalMode.ITERATIVE);
+    }
+
+    /**
+     * Remove the membership filter (search() always descends the tree)
+     */
+    public void disableMembershipFilter() {
+        membershipFilter = null;
+    }
+
+    /**
+     * @return true if a membership filter is active
+     */
+    public boolean hasMembershipFilter() {
+        return membershipFilter != null;
+    }
+
+    /**
+     * @return The active membership filter, or null if disabled
+     */
+    public CountingBloomFilter getMembershipFilter() {
+        return membershipFilter;
+    }
+
+    /**
+     * @return Number of lookups rejected by the filter without a tree descent
+     */
+    public long getFilterRejections() {
+        return filterRejections;
+    }
+
+    /**
+     * @return Number of lookups the filter let through that were still misses
+     */
+    public long getFilterFalsePositives() {
+        return filterFalsePositives;
+    }
+
+    /**
+     * Observed false-positive rate of the membership filter
+     *
+     * FP rate = false positives / (false positives + rejections)
+     * i.e. the fraction of lookups for ABSENT keys that still descended the tree
+     *
+     * @return Observed false-positive rate, or 0.0 if no misses were seen
+     */
+    public double getFilterFalsePositiveRate() {
+        long negatives = filterFalsePositives + filterRejections;
+        return (negatives == 0) ? 0.0 : (double) filterFalsePositives / negatives;
+    }
+
+    // ============ LOOKUP CACHE ============
+
+    /**
+     * Enable a bounded W-TinyLFU cache in front of search()
+     *
+     * Hits return without a tree descent. Entries are invalidated by
+     * delete() and update(), so the cache never serves stale records.
+     *
+     * @param capacity Maximum number of cached records (2 to LookupCache.MAX_CAPACITY)
+     * @throws IllegalArgumentException if capacity is out of range
+     */
+    public void enableLookupCache(int capacity) {
+        lookupCache = new LookupCache(capacity);
+    }
+
+    /**
+     * Remove the lookup cache (search() always descends the tree)
+     */
+    public void disableLookupCache() {
+        lookupCache = null;
+    }
+
+    /**
+     * @return The active lookup cache (for hit/miss/eviction counters), or null
+     */
+    public LookupCache getLookupCache() {
+        return lookupCache;
+    }
+
     // ============ UTILITY METHODS ============
 
+    /**
+     * Enable or disable per-operation console output
+     * Disable for bulk loads and benchmarks, where printing dominates run time
+     *
+     * @param verbose true to print a line for every insert/delete
+     */
+    public void setVerbose(boolean verbose) {
+        this.verbose = verbose;
+    }
+
+    /**
+     * @return true if per-operation console output is enabled
+     */
+    public boolean isVerbose() {
+        return verbose;
+    }
+
     /**
      * Check if the tree is empty
      * @return true if root is null
@@ -351,7 +1040,13 @@ public class BST {
      * @return number of nodes
      */
     public int countNodes() {
-        return countNodesRecursive(root);
+        if (traversalMode == TraversalMode.RECURSIVE) {
+            return countNodesRecursive(root);
+        }
+
+        int[] count = new int[1];
+        inOrderVisit(record -> count[0]++);
+        return count[0];
     }
 
     /**
@@ -371,10 +1066,22 @@ public class BST {
      * Single node = height 0
      * Empty tree = height -1
      *
+     * Uses the mode set with setTraversalMode():
+     *  RECURSIVE - O(h) call stack (overflows on skewed trees)
+     *  ITERATIVE - level-by-level queue, O(w) heap memory
+     *  MORRIS    - threaded walk tracking depth, O(1) memory
+     *
      * @return height of tree
      */
     public int getHeight() {
-        return getHeightRecursive(root);
+        switch (traversalMode) {
+            case ITERATIVE:
+                return getHeightIterative();
+            case MORRIS:
+                return getHeightMorris();
+            default:
+                return getHeightRecursive(root);
+        }
     }
 
     /**
@@ -392,6 +1099,76 @@ public class BST {
         return 1 + Math.max(leftHeight, rightHeight);
     }
 
+    /**
+     * Height by counting BFS levels (no recursion)
+     */
+    private int getHeightIterative() {
+        int height = -1;
+        if (root == null) {
+            return height;
+        }
+
+        ArrayDeque<Node> queue = new ArrayDeque<>();
+        queue.add(root);
+        while (!queue.isEmpty()) {
+            // Everything currently queued is one level
+            int levelSize = queue.size();
+            for (int i = 0; i < levelSize; i++) {
+                Node current = queue.poll();
+                if (current.getLeft() != null) {
+                    queue.add(current.getLeft());
+                }
+                if (current.getRight() != null) {
+                    queue.add(current.getRight());
+                }
+            }
+            height++;
+        }
+        return height;
+    }
+
+    /**
+     * Height with a Morris walk (see inOrderMorris) that tracks the depth
+     * of the current node. Following a thread back from a predecessor
+     * found 'steps' edges below current lands at depth - steps - 1.
+     * Every thread is removed again, so the tree is unchanged.
+     */
+    private int getHeightMorris() {
+        Node current = root;
+        int depth = 0;
+        int height = -1;
+
+        while (current != null) {
+            if (current.getLeft() == null) {
+                height = Math.max(height, depth);
+                current = current.getRight();
+                depth++;   // corrected below if this was a thread
+                continue;
+            }
+
+            Node predecessor = current.getLeft();
+            int steps = 1;
+            while (predecessor.getRight() != null && predecessor.getRight() != current) {
+                predecessor = predecessor.getRight();
+                steps++;
+            }
+
+            if (predecessor.getRight() == null) {
+                predecessor.setRight(current);
+                current = current.getLeft();
+                depth++;
+            } else {
+                // Came back up the thread from the predecessor
+                predecessor.setRight(null);
+                depth -= steps + 1;
+                height = Math.max(height, depth);
+                current = current.getRight();
+                depth++;
+            }
+        }
+        return height;
+    }
+
     /**
      * Find the student with minimum matric number
      * @return StudentRecord with smallest matric, or null if tree empty
@@ -431,10 +1208,27 @@ public class BST {
      * Verify that the tree maintains BST property
      * For each node: all left children < node < all right children
      *
+     * ITERATIVE / MORRIS modes (see setTraversalMode) check instead that
+     * the in-order walk is strictly increasing - equivalent, and without
+     * recursion.
+     *
      * @return true if valid BST, false otherwise
      */
     public boolean isValidBST() {
-        return isValidBSTRecursive(root, null, null);
+        if (traversalMode == TraversalMode.RECURSIVE) {
+            return isValidBSTRecursive(root, null, null);
+        }
+
+        String[] previous = new String[1];
+        boolean[] valid = {true};
+        inOrderVisit(record -> {
+            String matric = record.getMatricNumber();
+            if (previous[0] != null && matric.compareTo(previous[0]) <= 0) {
+                valid[0] = false;
+            }
+            previous[0] = matric;
+        });
+        return valid[0];
     }
 
     /**
@@ -488,31 +1282,184 @@ public class BST {
      *
      * Time Complexity: O(n) - visits each node once
      * Space Complexity: O(h) - recursion stack, h = height
+     *                   (O(1) with TraversalMode.MORRIS)
+     *
+     * Uses the mode set with setTraversalMode() (default RECURSIVE).
      *
      * @return List of StudentRecords in sorted order by matric
      */
     public List<StudentRecord> inOrderTraversal() {
+        return inOrderTraversal(traversalMode);
+    }
+
+    /**
+     * IN-ORDER TRAVERSAL with an explicit traversal mode
+     *
+     * @param mode RECURSIVE, ITERATIVE or MORRIS
+     * @return List of StudentRecords in sorted order by matric
+     */
+    public List<StudentRecord> inOrderTraversal(TraversalMode mode) {
         List<StudentRecord> result = new ArrayList<>();
-        inOrderRecursive(root, result);
+        inOrderVisit(result::add, mode);
         return result;
     }
 
+    /**
+     * Visit every record in ascending matric order using the current mode
+     *
+     * @param visitor Called once per record
+     */
+    public void inOrderVisit(Consumer<StudentRecord> visitor) {
+        inOrderVisit(visitor, traversalMode);
+    }
+
+    /**
+     * Visit every record in ascending matric order
+     *
+     * @param visitor Called once per record
+     * @param mode RECURSIVE, ITERATIVE or MORRIS
+     */
+    public void inOrderVisit(Consumer<StudentRecord> visitor, TraversalMode mode) {
+        switch (mode) {
+            case ITERATIVE:
+                inOrderIterative(visitor);
+                break;
+            case MORRIS:
+                inOrderMorris(visitor);
+                break;
+            default:
+                inOrderRecursive(root, visitor);
+                break;
+        }
+    }
+
+    /**
+     * Select the traversal strategy used by inOrderTraversal(),
+     * inOrderVisit(), countNodes(), getHeight(), getLeafCount(),
+     * isValidBST() and linearSearchByCGPA()
+     *
+     * @param mode RECURSIVE (default), ITERATIVE or MORRIS
+     */
+    public void setTraversalMode(TraversalMode mode) {
+        this.traversalMode = (mode == null) ? TraversalMode.RECURSIVE : mode;
+    }
+
+    /**
+     * @return Current traversal strategy
+     */
+    public TraversalMode getTraversalMode() {
+        return traversalMode;
+    }
+
     /**
      * Recursive helper for in-order traversal
      */
-    private void inOrderRecursive(Node node, List<StudentRecord> result) {
+    private void inOrderRecursive(Node node, Consumer<StudentRecord> visitor) {
         if (node == null) {
             return;
         }
 
         // LEFT
-        inOrderRecursive(node.getLeft(), result);
+        inOrderRecursive(node.getLeft(), visitor);
 
         // NODE
-        result.add(node.getData());
+        visitor.accept(node.getData());
 
         // RIGHT
-        inOrderRecursive(node.getRight(), result);
+        inOrderRecursive(node.getRight(), visitor);
+    }
+
+    /**
+     * Iterative in-order traversal with an explicit heap stack
+     * Space: O(h) heap memory, but no call-stack overflow
+     */
+    private void inOrderIterative(Consumer<StudentRecord> visitor) {
+        Deque<Node> stack = new ArrayDeque<>();
+        Node current = root;
+
+        while (current != null || !stack.isEmpty()) {
+            // Go as far LEFT as possible
+            while (current != null) {
+                stack.push(current);
+                current = current.getLeft();
+            }
+
+            // NODE
+            current = stack.pop();
+            visitor.accept(current.getData());
+
+            // RIGHT
+            current = current.getRight();
+        }
+    }
+
+    /**
+     * MORRIS in-order traversal - O(1) auxiliary memory
+     *
+     * Algorithm:
+     *  1. If current has no left child: visit it, go RIGHT
+     *  2. Otherwise find its in-order predecessor (rightmost node of left subtree)
+     *     a) predecessor.right == null: create THREAD predecessor.right = current,
+     *        then go LEFT
+     *     b) predecessor.right == current: we came back via the thread -
+     *        remove it (restore null), visit current, go RIGHT
+     *
+     * Every thread created is removed before the walk finishes, so the tree
+     * is unchanged afterwards. Parent links are never touched.
+     * If the visitor throws, the walk continues WITHOUT visiting to restore
+     * all links, then the exception is rethrown.
+     *
+     * Time Complexity: O(n) - each edge is walked at most 3 times
+     */
+    private void inOrderMorris(Consumer<StudentRecord> visitor) {
+        Node current = root;
+        RuntimeException failure = null;
+
+        while (current != null) {
+            if (current.getLeft() == null) {
+                failure = visitSafely(visitor, current, failure);
+                current = current.getRight();
+                continue;
+            }
+
+            // Find in-order predecessor
+            Node predecessor = current.getLeft();
+            while (predecessor.getRight() != null && predecessor.getRight() != current) {
+                predecessor = predecessor.getRight();
+            }
+
+            if (predecessor.getRight() == null) {
+                // First arrival: thread back to current, descend left
+                predecessor.setRight(current);
+                current = current.getLeft();
+            } else {
+                // Second arrival via thread: restore link, visit, go right
+                predecessor.setRight(null);
+                failure = visitSafely(visitor, current, failure);
+                current = current.getRight();
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Visit a node unless an earlier visit already failed
+     * @return The first failure seen so far (or null)
+     */
+    private RuntimeException visitSafely(Consumer<StudentRecord> visitor, Node node,
+                                         RuntimeException failure) {
+        if (failure != null) {
+            return failure;
+        }
+        try {
+            visitor.accept(node.getData());
+            return null;
+        } catch (RuntimeException e) {
+            return e;
+        }
     }
 
     /**
@@ -634,8 +1581,8 @@ public class BST {
             return result;
         }
 
-        // Use a Queue for BFS
-        Queue<Node> queue = new LinkedList<>();
+        // Use a Queue for BFS (array-backed: no node allocation per element)
+        Queue<Node> queue = new ArrayDeque<>();
         queue.add(root);
 
         while (!queue.isEmpty()) {
@@ -657,6 +1604,71 @@ public class BST {
         return result;
     }
 
+    /**
+     * LEVEL-ORDER BY DEPTH: Stream every record with its depth in one BFS
+     *
+     * Records arrive level by level (depth 0, then 1, ...), left to right.
+     * Replaces calling getNodesAtDepth(d) for every d, which costs
+     * O(n·h) - O(n²) on skewed trees.
+     *
+     * Time Complexity: O(n) - single pass
+     * Space Complexity: O(w) where w = max width (array-backed queue)
+     *
+     * @param visitor Called with (record, depth) for every node
+     */
+    public void forEachLevelOrder(ObjIntConsumer<StudentRecord> visitor) {
+        if (root == null) {
+            return;
+        }
+
+        ArrayDeque<Node> queue = new ArrayDeque<>();
+        queue.add(root);
+        int depth = 0;
+
+        while (!queue.isEmpty()) {
+            // Everything currently queued belongs to this depth
+            int levelSize = queue.size();
+            for (int i = 0; i < levelSize; i++) {
+                Node current = queue.poll();
+                visitor.accept(current.getData(), depth);
+
+                if (current.getLeft() != null) {
+                    queue.add(current.getLeft());
+                }
+                if (current.getRight() != null) {
+                    queue.add(current.getRight());
+                }
+            }
+            depth++;
+        }
+    }
+
+    /**
+     * Get ALL levels at once: element d holds the records at depth d
+     *
+     * Single BFS equivalent of calling getNodesAtDepth(d) for d = 0..height
+     *
+     * Example tree:        AIU105          → [[AIU105],
+     *                      /      \            [AIU101, AIU110],
+     *                   AIU101   AIU110        [AIU103, AIU108]]
+     *                     /       /
+     *                  AIU103  AIU108
+     *
+     * Time Complexity: O(n)
+     *
+     * @return List of levels (empty list for an empty tree)
+     */
+    public List<List<StudentRecord>> getLevels() {
+        List<List<StudentRecord>> levels = new ArrayList<>();
+        forEachLevelOrder((record, depth) -> {
+            if (depth == levels.size()) {
+                levels.add(new ArrayList<>());
+            }
+            levels.get(depth).add(record);
+        });
+        return levels;
+    }
+
     /**
      * PRINT TRAVERSALS - Display all 4 traversals in formatted output
      * Useful for debugging and verification
@@ -958,6 +1970,7 @@ public class BST {
 
     /**
      * Get all nodes at a specific depth level
+     * (To get every level, use getLevels() - one pass instead of h passes)
      *
      * @param depth The depth level (0 = root level)
      * @return List of StudentRecords at that depth
@@ -1161,10 +2174,20 @@ public class BST {
 
     /**
      * Get leaf node count
+     * Uses the mode set with setTraversalMode() (ITERATIVE: explicit
+     * stack, MORRIS: O(1) threaded walk)
+     *
      * @return Number of leaf nodes (nodes with no children)
      */
     public int getLeafCount() {
-        return getLeafCountRecursive(root);
+        switch (traversalMode) {
+            case ITERATIVE:
+                return getLeafCountIterative();
+            case MORRIS:
+                return getLeafCountMorris();
+            default:
+                return getLeafCountRecursive(root);
+        }
     }
 
     /**
@@ -1183,6 +2206,74 @@ public class BST {
                 getLeafCountRecursive(node.getRight());
     }
 
+    /**
+     * Leaf count with an explicit heap stack
+     */
+    private int getLeafCountIterative() {
+        int leaves = 0;
+        if (root == null) {
+            return leaves;
+        }
+
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Node current = stack.pop();
+            if (current.isLeaf()) {
+                leaves++;
+            }
+            if (current.getRight() != null) {
+                stack.push(current.getRight());
+            }
+            if (current.getLeft() != null) {
+                stack.push(current.getLeft());
+            }
+        }
+        return leaves;
+    }
+
+    /**
+     * Leaf count with a Morris walk (see inOrderMorris)
+     *
+     * While threads are in place a leaf's right link may point back at an
+     * ancestor, so isLeaf() can't be used. Instead:
+     *  - a predecessor whose thread is being removed is a leaf if it has
+     *    no left child (its real right link is null)
+     *  - the last node of the walk (right link null, no thread) is a leaf
+     *    if it has no left child
+     */
+    private int getLeafCountMorris() {
+        Node current = root;
+        int leaves = 0;
+
+        while (current != null) {
+            if (current.getLeft() == null) {
+                if (current.getRight() == null) {
+                    leaves++;
+                }
+                current = current.getRight();
+                continue;
+            }
+
+            Node predecessor = current.getLeft();
+            while (predecessor.getRight() != null && predecessor.getRight() != current) {
+                predecessor = predecessor.getRight();
+            }
+
+            if (predecessor.getRight() == null) {
+                predecessor.setRight(current);
+                current = current.getLeft();
+            } else {
+                predecessor.setRight(null);
+                if (predecessor.getLeft() == null) {
+                    leaves++;
+                }
+                current = current.getRight();
+            }
+        }
+        return leaves;
+    }
+
     /**
      * Get internal node count (non-leaf nodes)
      * @return Number of internal nodes
@@ -1193,7 +2284,15 @@ public class BST {
 
     public List<StudentRecord> linearSearchByCGPA(double minCGPA) {
         List<StudentRecord> results = new ArrayList<>();
-        linearSearchHelper(root, minCGPA, results);
+        if (traversalMode == TraversalMode.RECURSIVE) {
+            linearSearchHelper(root, minCGPA, results);
+        } else {
+            inOrderVisit(record -> {
+                if (record.getCgpa() >= minCGPA) {
+                    results.add(record);
+                }
+            });
+        }
         return results;
     }
 
@@ -0,0 +1,814 @@
+package tree;
+
+import model.StudentRecord;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * B-TREE - High-fanout in-memory alternative to the binary BST
+ *
+ * A BST search follows one pointer per level, and every Node lives in its
+ * own heap object: at 10M records that is ~24 dependent cache misses. This
+ * tree (B+-tree variant) stores 16-64 keys per node, so the same search
+ * visits only 4-6 nodes and does the rest of its comparisons inside arrays.
+ *
+ * Node layout:
+ *  - keys[]      matric Strings (sorted)
+ *  - packed[]    long per key: 8 bytes of the key AFTER the prefix shared by
+ *                all keys of the node ("AIU10000|42" → bytes of "42")
+ *  - prefixLength  length of that shared prefix
+ *
+ * The in-node binary search compares packed longs (one contiguous
+ * primitive array, no String dereference). Only when two packed values
+ * are equal (keys that agree on 8 more chars) is the String compared.
+ * The packing is order-preserving: chars < 0xFF become one byte, the first
+ * char ≥ 0xFF becomes 0xFF and ends the packed value, short keys pad
+ * with 0. So different packed values always order like the Strings.
+ *
+ * Structure (B+-tree):
+ *  - LEAVES hold keys + records and are linked left to right (in-order
+ *    iteration is a linked-list walk)
+ *  - INTERNAL nodes hold separators: keys ≥ separator go right
+ *  - Nodes split at maxKeys + 1; delete borrows from or merges with a
+ *    sibling below maxKeys / 2, so height stays ⌈log_B n⌉
+ *
+ * Same API as BST: insert / search / delete / update, in-order traversal,
+ * iteration, findMin / findMax, bulkLoadSorted.
+ *
+ * Time Complexity: O(log n) for insert / search / delete (never degrades
+ * with sorted input, unlike the unbalanced BST)
+ */
+public class BTree implements Iterable<StudentRecord> {
+
+    // ============ CONSTANTS ============
+    public static final int MIN_FANOUT = 16;
+    public static final int MAX_FANOUT = 64;
+    public static final int DEFAULT_MAX_KEYS = 32;
+
+    private static final int PACKED_CHARS = 8;
+
+    // ============ ATTRIBUTES ============
+    private final int maxKeys;
+    private final int minKeys;
+    private BTreeNode root;
+    private BTreeNode firstLeaf;
+    private int size;
+    private int height;
+    private boolean verbose = true;
+
+    // Set by insertRecursive / deleteRecursive when the tree changed
+    private boolean changed;
+
+    // Key pushed up by the most recent internal node split
+    private String pendingSeparator;
+
+    /**
+     * One node: parallel key / packed-key arrays, plus records (leaf) or
+     * children (internal). Arrays have one spare slot for the overflow
+     * that triggers a split.
+     */
+    static final class BTreeNode {
+        final String[] keys;
+        final long[] packed;
+        final StudentRecord[] records;   // Leaf only
+        final BTreeNode[] children;      // Internal only (count + 1 used)
+        BTreeNode next;                  // Leaf chain
+        int count;
+        int prefixLength;
+
+        BTreeNode(int maxKeys, boolean leaf) {
+            keys = new String[maxKeys + 1];
+            packed = new long[maxKeys + 1];
+            records = leaf ? new StudentRecord[maxKeys + 1] : null;
+            children = leaf ? null : new BTreeNode[maxKeys + 2];
+        }
+
+        boolean isLeaf() {
+            return children == null;
+        }
+
+        /**
+         * Position of key: index if present, else -(insertion point) - 1
+         */
+        int find(String key) {
+            if (count == 0) {
+                return -1;
+            }
+            // Keys outside the shared prefix sort before or after the whole node
+            String first = keys[0];
+            for (int i = 0; i < prefixLength; i++) {
+                if (i >= key.length()) {
+                    return -1;
+                }
+                char a = key.charAt(i);
+                char b = first.charAt(i);
+                if (a != b) {
+                    return (a < b) ? -1 : -(count + 1);
+                }
+            }
+
+            long target = pack(key, prefixLength);
+            int low = 0;
+            int high = count - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                long value = packed[mid];
+                int cmp;
+                if (value != target) {
+                    cmp = (value < target) ? -1 : 1;
+                } else {
+                    cmp = keys[mid].compareTo(key);
+                }
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        /**
+         * @return Child slot to follow for key: number of separators ≤ key
+         */
+        int childIndex(String key) {
+            int index = find(key);
+            return (index >= 0) ? index + 1 : -index - 1;
+        }
+
+        /**
+         * Insert key at position (caller shifts records / children)
+         */
+        void insertKey(int position, String key) {
+            System.arraycopy(keys, position, keys, position + 1, count - position);
+            System.arraycopy(packed, position, packed, position + 1, count - position);
+            keys[position] = key;
+            count++;
+            if (count == 1 || ((position == 0 || position == count - 1) &&
+                    commonPrefix(keys[0], keys[count - 1]) < prefixLength)) {
+                repack();
+            } else {
+                packed[position] = pack(key, prefixLength);
+            }
+        }
+
+        void removeKey(int position) {
+            System.arraycopy(keys, position + 1, keys, position, count - position - 1);
+            System.arraycopy(packed, position + 1, packed, position, count - position - 1);
+            count--;
+            keys[count] = null;
+        }
+
+        void setKey(int position, String key) {
+            keys[position] = key;
+            if (commonPrefix(keys[0], keys[count - 1]) < prefixLength) {
+                repack();
+            } else {
+                packed[position] = pack(key, prefixLength);
+            }
+        }
+
+        /**
+         * Recompute the shared prefix (first vs last key: they are sorted)
+         * and every packed value. O(count); needed after splits and merges.
+         */
+        void repack() {
+            prefixLength = (count == 0) ? 0 : commonPrefix(keys[0], keys[count - 1]);
+            for (int i = 0; i < count; i++) {
+                packed[i] = pack(keys[i], prefixLength);
+            }
+        }
+    }
+
+    // ============ CONSTRUCTORS ============
+
+    /**
+     * Create an empty B-tree with 32 keys per node
+     */
+    public BTree() {
+        this(DEFAULT_MAX_KEYS);
+    }
+
+    /**
+     * Create an empty B-tree
+     *
+     * @param maxKeys Keys per node, 16 to 64
+     */
+    public BTree(int maxKeys) {
+        if (maxKeys < MIN_FANOUT || maxKeys > MAX_FANOUT) {
+            throw new IllegalArgumentException("maxKeys must be between " + MIN_FANOUT + " and " +
+                    MAX_FANOUT + ", got " + maxKeys);
+        }
+        this.maxKeys = maxKeys;
+        this.minKeys = maxKeys / 2;
+        clear();
+    }
+
+    /**
+     * Remove every record
+     */
+    public void clear() {
+        root = new BTreeNode(maxKeys, true);
+        firstLeaf = root;
+        size = 0;
+        height = 1;
+    }
+
+    // ============ CORE OPERATIONS ============
+
+    /**
+     * INSERT: Add a new student record (duplicates rejected)
+     *
+     * @param record The StudentRecord to insert
+     * @return true if inserted successfully, false if duplicate
+     */
+    public boolean insert(StudentRecord record) {
+        if (record == null || !record.isValid()) {
+            System.err.println("❌ Cannot insert: Invalid student record");
+            return false;
+        }
+
+        changed = false;
+        BTreeNode sibling = insertRecursive(root, record);
+        if (sibling != null) {
+            // Root split: tree grows one level
+            BTreeNode newRoot = new BTreeNode(maxKeys, false);
+            newRoot.children[0] = root;
+            newRoot.children[1] = sibling;
+            newRoot.insertKey(0, separatorOf(sibling));
+            root = newRoot;
+            height++;
+        }
+
+        if (changed) {
+            size++;
+            if (verbose) {
+                System.out.println("✓ Insert: " + record.getMatricNumber() + " (" +
+                        record.getName() + ", CGPA " + record.getCgpa() + ")");
+            }
+        } else if (verbose) {
+            System.out.println("✗ Insert REJECTED: Duplicate matric number " + record.getMatricNumber());
+        }
+        return changed;
+    }
+
+    /**
+     * Insert below node; returns the new right sibling if node split
+     */
+    private BTreeNode insertRecursive(BTreeNode node, StudentRecord record) {
+        String key = record.getMatricNumber();
+
+        if (node.isLeaf()) {
+            int index = node.find(key);
+            if (index >= 0) {
+                return null;
+            }
+            int position = -index - 1;
+            System.arraycopy(node.records, position, node.records, position + 1, node.count - position);
+            node.records[position] = record;
+            node.insertKey(position, key);
+            changed = true;
+            return (node.count > maxKeys) ? splitLeaf(node) : null;
+        }
+
+        int childIndex = node.childIndex(key);
+        BTreeNode sibling = insertRecursive(node.children[childIndex], record);
+        if (sibling == null) {
+            return null;
+        }
+        System.arraycopy(node.children, childIndex + 1, node.children, childIndex + 2, node.count - childIndex);
+        node.children[childIndex + 1] = sibling;
+        node.insertKey(childIndex, separatorOf(sibling));
+        return (node.count > maxKeys) ? splitInternal(node) : null;
+    }
+
+    /**
+     * Separator for a new right sibling: its smallest key
+     * (for internal siblings, the key that was pushed up)
+     */
+    private String separatorOf(BTreeNode sibling) {
+        return sibling.isLeaf() ? sibling.keys[0] : pendingSeparator;
+    }
+
+    private BTreeNode splitLeaf(BTreeNode left) {
+        int keep = left.count / 2;
+        BTreeNode right = new BTreeNode(maxKeys, true);
+        right.count = left.count - keep;
+        System.arraycopy(left.keys, keep, right.keys, 0, right.count);
+        System.arraycopy(left.records, keep, right.records, 0, right.count);
+        clearTail(left, keep);
+        left.count = keep;
+        left.repack();
+        right.repack();
+
+        right.next = left.next;
+        left.next = right;
+        return right;
+    }
+
+    private BTreeNode splitInternal(BTreeNode left) {
+        int middle = left.count / 2;
+        BTreeNode right = new BTreeNode(maxKeys, false);
+        right.count = left.count - middle - 1;
+        System.arraycopy(left.keys, middle + 1, right.keys, 0, right.count);
+        System.arraycopy(left.children, middle + 1, right.children, 0, right.count + 1);
+        pendingSeparator = left.keys[middle];
+        clearTail(left, middle);
+        left.count = middle;
+        left.repack();
+        right.repack();
+        return right;
+    }
+
+    /**
+     * Null out slots from position on (lets the GC reclaim moved entries)
+     */
+    private static void clearTail(BTreeNode node, int from) {
+        for (int i = from; i < node.count; i++) {
+            node.keys[i] = null;
+            if (node.isLeaf()) {
+                node.records[i] = null;
+            } else {
+                node.children[i + 1] = null;
+            }
+        }
+    }
+
+    /**
+     * SEARCH: Find a student by matric number
+     *
+     * @param matricNumber The matric number to search for
+     * @return StudentRecord if found, null if not found
+     */
+    public StudentRecord search(String matricNumber) {
+        if (matricNumber == null || matricNumber.isEmpty()) {
+            System.err.println("❌ Cannot search: Invalid matric number");
+            return null;
+        }
+
+        BTreeNode node = root;
+        while (!node.isLeaf()) {
+            node = node.children[node.childIndex(matricNumber)];
+        }
+        int index = node.find(matricNumber);
+        return (index >= 0) ? node.records[index] : null;
+    }
+
+    /**
+     * UPDATE: Replace the record stored under an existing matric number
+     *
+     * @param record New record; its matric number must already be in the tree
+     * @return true if updated, false if invalid or not found
+     */
+    public boolean update(StudentRecord record) {
+        if (record == null || !record.isValid()) {
+            System.err.println("❌ Cannot update: Invalid student record");
+            return false;
+        }
+
+        BTreeNode node = root;
+        while (!node.isLeaf()) {
+            node = node.children[node.childIndex(record.getMatricNumber())];
+        }
+        int index = node.find(record.getMatricNumber());
+        if (index < 0) {
+            return false;
+        }
+        node.records[index] = record;
+        return true;
+    }
+
+    /**
+     * DELETE: Remove a student by matric number
+     *
+     * Underfull nodes (fewer than maxKeys / 2 keys) borrow one entry from
+     * a sibling, or merge with it when the sibling has none to spare.
+     *
+     * @param matricNumber The matric number to delete
+     * @return true if deleted successfully, false if not found
+     */
+    public boolean delete(String matricNumber) {
+        if (matricNumber == null || matricNumber.isEmpty()) {
+            System.err.println("❌ Cannot delete: Invalid matric number");
+            return false;
+        }
+
+        changed = false;
+        deleteRecursive(root, matricNumber);
+        if (!changed) {
+            if (verbose) {
+                System.out.println("✗ Delete FAILED: Student " + matricNumber + " not found");
+            }
+            return false;
+        }
+
+        // Root with a single child: tree shrinks one level
+        if (!root.isLeaf() && root.count == 0) {
+            root = root.children[0];
+            height--;
+        }
+        size--;
+        if (verbose) {
+            System.out.println("✓ Deleted: " + matricNumber);
+        }
+        return true;
+    }
+
+    private void deleteRecursive(BTreeNode node, String key) {
+        if (node.isLeaf()) {
+            int index = node.find(key);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(node.records, index + 1, node.records, index, node.count - index - 1);
+            node.records[node.count - 1] = null;
+            node.removeKey(index);
+            changed = true;
+            return;
+        }
+
+        int childIndex = node.childIndex(key);
+        BTreeNode child = node.children[childIndex];
+        deleteRecursive(child, key);
+        if (changed && child.count < minKeys) {
+            rebalance(node, childIndex);
+        }
+    }
+
+    /**
+     * Fix an underfull child: borrow from a sibling with spare keys,
+     * otherwise merge with a sibling
+     */
+    private void rebalance(BTreeNode parent, int childIndex) {
+        BTreeNode child = parent.children[childIndex];
+        BTreeNode left = (childIndex > 0) ? parent.children[childIndex - 1] : null;
+        BTreeNode right = (childIndex < parent.count) ? parent.children[childIndex + 1] : null;
+
+        if (left != null && left.count > minKeys) {
+            borrowFromLeft(parent, childIndex, left, child);
+        } else if (right != null && right.count > minKeys) {
+            borrowFromRight(parent, childIndex, child, right);
+        } else if (left != null) {
+            merge(parent, childIndex - 1, left, child);
+        } else if (right != null) {
+            merge(parent, childIndex, child, right);
+        }
+    }
+
+    private void borrowFromLeft(BTreeNode parent, int childIndex, BTreeNode left, BTreeNode child) {
+        int last = left.count - 1;
+        if (child.isLeaf()) {
+            System.arraycopy(child.records, 0, child.records, 1, child.count);
+            child.records[0] = left.records[last];
+            child.insertKey(0, left.keys[last]);
+            left.records[last] = null;
+            left.removeKey(last);
+            parent.setKey(childIndex - 1, child.keys[0]);
+        } else {
+            // Separator rotates down into child, left's last key rotates up
+            System.arraycopy(child.children, 0, child.children, 1, child.count + 1);
+            child.children[0] = left.children[last + 1];
+            child.insertKey(0, parent.keys[childIndex - 1]);
+            parent.setKey(childIndex - 1, left.keys[last]);
+            left.children[last + 1] = null;
+            left.removeKey(last);
+        }
+    }
+
+    private void borrowFromRight(BTreeNode parent, int childIndex, BTreeNode child, BTreeNode right) {
+        if (child.isLeaf()) {
+            child.records[child.count] = right.records[0];
+            child.insertKey(child.count, right.keys[0]);
+            System.arraycopy(right.records, 1, right.records, 0, right.count - 1);
+            right.records[right.count - 1] = null;
+            right.removeKey(0);
+            parent.setKey(childIndex, right.keys[0]);
+        } else {
+            child.children[child.count + 1] = right.children[0];
+            child.insertKey(child.count, parent.keys[childIndex]);
+            parent.setKey(childIndex, right.keys[0]);
+            System.arraycopy(right.children, 1, right.children, 0, right.count);
+            right.children[right.count] = null;
+            right.removeKey(0);
+        }
+    }
+
+    /**
+     * Merge right into left and drop separator `separatorIndex` from parent
+     */
+    private void merge(BTreeNode parent, int separatorIndex, BTreeNode left, BTreeNode right) {
+        if (left.isLeaf()) {
+            System.arraycopy(right.keys, 0, left.keys, left.count, right.count);
+            System.arraycopy(right.records, 0, left.records, left.count, right.count);
+            left.count += right.count;
+            left.next = right.next;
+        } else {
+            left.keys[left.count] = parent.keys[separatorIndex];
+            System.arraycopy(right.keys, 0, left.keys, left.count + 1, right.count);
+            System.arraycopy(right.children, 0, left.children, left.count + 1, right.count + 1);
+            left.count += right.count + 1;
+        }
+        left.repack();
+
+        System.arraycopy(parent.children, separatorIndex + 2, parent.children, separatorIndex + 1,
+                parent.count - separatorIndex - 1);
+        parent.children[parent.count] = null;
+        parent.removeKey(separatorIndex);
+    }
+
+    // ============ BULK LOAD ============
+
+    /**
+     * Replace the contents with records already sorted by matric number
+     * Leaves are filled to 3/4 and internal levels built bottom-up: O(n).
+     *
+     * @param sortedRecords Valid records in STRICTLY ascending matric order
+     * @throws IllegalArgumentException if a record is invalid or out of order
+     */
+    public void bulkLoadSorted(List<StudentRecord> sortedRecords) {
+        for (int i = 0; i < sortedRecords.size(); i++) {
+            StudentRecord record = sortedRecords.get(i);
+            if (record == null || !record.isValid()) {
+                throw new IllegalArgumentException("Invalid record at index " + i);
+            }
+            if (i > 0 && sortedRecords.get(i - 1).getMatricNumber()
+                    .compareTo(record.getMatricNumber()) >= 0) {
+                throw new IllegalArgumentException("Records not in strictly ascending matric order at index " + i);
+            }
+        }
+
+        clear();
+        if (sortedRecords.isEmpty()) {
+            return;
+        }
+
+        // Leaves (last two are balanced so neither is underfull)
+        int fill = Math.max(minKeys, maxKeys * 3 / 4);
+        List<BTreeNode> level = new ArrayList<>();
+        List<String> separators = new ArrayList<>();
+        int n = sortedRecords.size();
+        int start = 0;
+        while (start < n) {
+            int take = lastNodeSize(n - start, fill, maxKeys, minKeys);
+            BTreeNode leaf = new BTreeNode(maxKeys, true);
+            for (int i = 0; i < take; i++) {
+                StudentRecord record = sortedRecords.get(start + i);
+                leaf.keys[i] = record.getMatricNumber();
+                leaf.records[i] = record;
+            }
+            leaf.count = take;
+            leaf.repack();
+            if (!level.isEmpty()) {
+                level.get(level.size() - 1).next = leaf;
+                separators.add(leaf.keys[0]);
+            }
+            level.add(leaf);
+            start += take;
+        }
+        firstLeaf = level.get(0);
+
+        // Internal levels: each node takes fill + 1 children
+        while (level.size() > 1) {
+            List<BTreeNode> parents = new ArrayList<>();
+            List<String> parentSeparators = new ArrayList<>();
+            int index = 0;
+            while (index < level.size()) {
+                int take = lastNodeSize(level.size() - index, fill + 1, maxKeys + 1, minKeys + 1);
+                BTreeNode parent = new BTreeNode(maxKeys, false);
+                for (int i = 0; i < take; i++) {
+                    parent.children[i] = level.get(index + i);
+                    if (i > 0) {
+                        parent.keys[i - 1] = separators.get(index + i - 1);
+                    }
+                }
+                parent.count = take - 1;
+                parent.repack();
+                if (index > 0) {
+                    parentSeparators.add(separators.get(index - 1));
+                }
+                parents.add(parent);
+                index += take;
+            }
+            level = parents;
+            separators = parentSeparators;
+            height++;
+        }
+        root = level.get(0);
+        size = n;
+    }
+
+    /**
+     * Entries for the next bulk-loaded node: `fill`, unless that would leave
+     * fewer than `min` for the last node (then take all, or split evenly)
+     */
+    private static int lastNodeSize(int remaining, int fill, int max, int min) {
+        int take = Math.min(fill, remaining);
+        int rest = remaining - take;
+        if (rest > 0 && rest < min) {
+            take = (remaining <= max) ? remaining : (remaining + 1) / 2;
+        }
+        return take;
+    }
+
+    // ============ TRAVERSAL ============
+
+    /**
+     * @return All records in ascending matric order
+     */
+    public List<StudentRecord> inOrderTraversal() {
+        List<StudentRecord> result = new ArrayList<>(size);
+        inOrderVisit(result::add);
+        return result;
+    }
+
+    /**
+     * Visit every record in ascending matric order (leaf chain walk)
+     *
+     * @param visitor Called once per record
+     */
+    public void inOrderVisit(Consumer<StudentRecord> visitor) {
+        for (BTreeNode leaf = firstLeaf; leaf != null; leaf = leaf.next) {
+            for (int i = 0; i < leaf.count; i++) {
+                visitor.accept(leaf.records[i]);
+            }
+        }
+    }
+
+    /**
+     * Iterate records in ascending matric order
+     * (not fail-fast: do not modify the tree while iterating)
+     */
+    @Override
+    public Iterator<StudentRecord> iterator() {
+        return new Iterator<StudentRecord>() {
+            private BTreeNode leaf = firstLeaf;
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                while (leaf != null && index >= leaf.count) {
+                    leaf = leaf.next;
+                    index = 0;
+                }
+                return leaf != null;
+            }
+
+            @Override
+            public StudentRecord next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return leaf.records[index++];
+            }
+        };
+    }
+
+    /**
+     * @return Record with the smallest matric number, or null if empty
+     */
+    public StudentRecord findMin() {
+        return (size == 0) ? null : firstLeaf.records[0];
+    }
+
+    /**
+     * @return Record with the largest matric number, or null if empty
+     */
+    public StudentRecord findMax() {
+        if (size == 0) {
+            return null;
+        }
+        BTreeNode node = root;
+        while (!node.isLeaf()) {
+            node = node.children[node.count];
+        }
+        return node.records[node.count - 1];
+    }
+
+    // ============ KEY PACKING ============
+
+    /**
+     * Order-preserving 8-char key fragment starting at offset
+     * (sign bit flipped so signed long comparison = unsigned byte order)
+     */
+    static long pack(String key, int offset) {
+        long value = 0;
+        int end = Math.min(key.length(), offset + PACKED_CHARS);
+        int i = offset;
+        for (; i < end; i++) {
+            char ch = key.charAt(i);
+            if (ch >= 0xFF) {
+                value = (value << 8) | 0xFF;
+                i++;
+                break;
+            }
+            value = (value << 8) | ch;
+        }
+        value <<= 8 * (offset + PACKED_CHARS - i); // Pad short / stopped keys with 0
+        return value ^ Long.MIN_VALUE;
+    }
+
+    private static int commonPrefix(String a, String b) {
+        int limit = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < limit && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+
+    // ============ STATISTICS ============
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return Levels from root to leaves (1 = root is a leaf)
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    public int getMaxKeys() {
+        return maxKeys;
+    }
+
+    /**
+     * Print a line for every insert/delete (disable for bulk loads & benchmarks)
+     */
+    public void setVerbose(boolean verbose) {
+        this.verbose = verbose;
+    }
+
+    public boolean isVerbose() {
+        return verbose;
+    }
+
+    /**
+     * Check ordering, separator bounds, node fill, packed keys, uniform
+     * leaf depth and the leaf chain
+     *
+     * @return true if every B-tree invariant holds
+     */
+    public boolean isValidBTree() {
+        int[] leafDepth = {-1};
+        List<BTreeNode> leaves = new ArrayList<>();
+        if (!validate(root, null, null, 1, leafDepth, leaves)) {
+            return false;
+        }
+        BTreeNode leaf = firstLeaf;
+        int count = 0;
+        for (BTreeNode expected : leaves) {
+            if (leaf != expected) {
+                return false;
+            }
+            count += leaf.count;
+            leaf = leaf.next;
+        }
+        return leaf == null && count == size && leafDepth[0] == height;
+    }
+
+    private boolean validate(BTreeNode node, String low, String high, int depth,
+                             int[] leafDepth, List<BTreeNode> leaves) {
+        if (node != root && node.count < minKeys) {
+            return false;
+        }
+        if (node.count > maxKeys || (node.count > 0 &&
+                node.prefixLength > commonPrefix(node.keys[0], node.keys[node.count - 1]))) {
+            return false;
+        }
+        for (int i = 0; i < node.count; i++) {
+            String key = node.keys[i];
+            if (node.packed[i] != pack(key, node.prefixLength) ||
+                    (i > 0 && node.keys[i - 1].compareTo(key) >= 0) ||
+                    (low != null && key.compareTo(low) < 0) ||
+                    (high != null && key.compareTo(high) >= 0)) {
+                return false;
+            }
+        }
+        if (node.isLeaf()) {
+            if (leafDepth[0] < 0) {
+                leafDepth[0] = depth;
+            }
+            leaves.add(node);
+            return leafDepth[0] == depth;
+        }
+        for (int i = 0; i <= node.count; i++) {
+            String childLow = (i == 0) ? low : node.keys[i - 1];
+            String childHigh = (i == node.count) ? high : node.keys[i];
+            if (!validate(node.children[i], childLow, childHigh, depth + 1, leafDepth, leaves)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
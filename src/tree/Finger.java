@@ -0,0 +1,161 @@
+package tree;
+
+import model.StudentRecord;
+
+/**
+ * FINGER - Search cursor that remembers the last visited path
+ *
+ * A normal BST search always starts at the root. Batch jobs often look up
+ * keys in nearly ascending order (AIU2001, AIU2003, AIU2004, ...), so the
+ * next key usually lives close to the previous one.
+ *
+ * The finger keeps the root-to-node path of the last lookup, together with
+ * the key range (low, high) that each node's subtree covers:
+ *
+ *  1. CLIMB: pop nodes from the path while the new key falls outside
+ *     the subtree's range
+ *  2. DESCEND: search downward from the lowest subtree that contains the key
+ *
+ * Time Complexity: O(climb + descend) - the path from the previous node
+ * up to the lowest common ancestor of the old and new key, then down to
+ * the new key. That is bounded by the height of that common-ancestor path
+ * (at most 2 × tree height, so O(n) on a skewed tree), NOT by O(log d):
+ * even neighbouring keys can meet only at the root. What the finger does
+ * save is the shared part of the path - on nearly ascending batches most
+ * lookups stay inside a small subtree, and a full ascending sweep walks
+ * each edge at most twice (O(n + h) total, like an in-order walk).
+ *
+ * If the tree's structure changes (insert/delete), the stored path is
+ * discarded and the next lookup starts again from the root.
+ *
+ * Example:
+ *  Finger finger = bst.finger();
+ *  finger.search("AIU2001");   // full descent from root
+ *  finger.search("AIU2003");   // climbs 1-2 levels, descends 1-2 levels
+ */
+public class Finger {
+
+    // ============ ATTRIBUTES ============
+    private final BST tree;
+
+    // Path from root: path[0] = root, path[depth - 1] = last visited node
+    private Node[] path;
+    private String[] lowBounds;   // exclusive lower bound of path[i]'s subtree (null = -∞)
+    private String[] highBounds;  // exclusive upper bound of path[i]'s subtree (null = +∞)
+    private int depth;
+
+    private int expectedModCount;
+    private int lastVisitCount;
+
+    // ============ CONSTRUCTORS ============
+
+    /**
+     * Create a finger over the given tree (use BST.finger())
+     *
+     * @param tree The tree to search
+     */
+    Finger(BST tree) {
+        this.tree = tree;
+        this.path = new Node[16];
+        this.lowBounds = new String[16];
+        this.highBounds = new String[16];
+        this.depth = 0;
+        this.expectedModCount = tree.getModCount();
+    }
+
+    // ============ CORE OPERATIONS ============
+
+    /**
+     * Find a student, starting from the last visited path
+     *
+     * @param matricNumber The matric number to search for
+     * @return StudentRecord if found, null if not found
+     */
+    public StudentRecord search(String matricNumber) {
+        lastVisitCount = 0;
+
+        if (matricNumber == null || matricNumber.isEmpty()) {
+            System.err.println("❌ Cannot search: Invalid matric number");
+            return null;
+        }
+
+        // Structure changed (or first use): restart from the root
+        if (depth == 0 || expectedModCount != tree.getModCount()) {
+            reset();
+            if (tree.getRoot() == null) {
+                return null;
+            }
+            push(tree.getRoot(), null, null);
+        }
+
+        // CLIMB: keep the deepest path node whose subtree range contains the key
+        while (depth > 1 && !inRange(matricNumber, lowBounds[depth - 1], highBounds[depth - 1])) {
+            depth--;
+        }
+
+        // DESCEND from there
+        Node current = path[depth - 1];
+        while (true) {
+            lastVisitCount++;
+            int comparison = matricNumber.compareTo(current.getData().getMatricNumber());
+
+            if (comparison == 0) {
+                return current.getData();
+            }
+
+            Node next = (comparison < 0) ? current.getLeft() : current.getRight();
+            if (next == null) {
+                return null;
+            }
+
+            String currentMatric = current.getData().getMatricNumber();
+            if (comparison < 0) {
+                push(next, lowBounds[depth - 1], currentMatric);
+            } else {
+                push(next, currentMatric, highBounds[depth - 1]);
+            }
+            current = next;
+        }
+    }
+
+    /**
+     * Forget the stored path (next search starts from the root)
+     */
+    public void reset() {
+        depth = 0;
+        expectedModCount = tree.getModCount();
+    }
+
+    /**
+     * @return Number of nodes compared during the most recent search
+     */
+    public int getLastVisitCount() {
+        return lastVisitCount;
+    }
+
+    // ============ HELPERS ============
+
+    /**
+     * Check low < key < high (null bounds are unbounded)
+     */
+    private static boolean inRange(String key, String low, String high) {
+        return (low == null || key.compareTo(low) > 0) &&
+                (high == null || key.compareTo(high) < 0);
+    }
+
+    /**
+     * Append a node and its subtree range to the path (grows arrays as needed)
+     */
+    private void push(Node node, String low, String high) {
+        if (depth == path.length) {
+            int newLength = path.length * 2;
+            path = java.util.Arrays.copyOf(path, newLength);
+            lowBounds = java.util.Arrays.copyOf(lowBounds, newLength);
+            highBounds = java.util.Arrays.copyOf(highBounds, newLength);
+        }
+        path[depth] = node;
+        lowBounds[depth] = low;
+        highBounds[depth] = high;
+        depth++;
+    }
+}
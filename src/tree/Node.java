@@ -8,6 +8,9 @@ import model.StudentRecord;
  *  - data: A StudentRecord object
  *  - left: Reference to left child node (smaller matric numbers)
  *  - right: Reference to right child node (larger matric numbers)
+ *  - parent: Reference to parent node (null for the root)
+ *    Maintained by BST insert/delete; enables O(1) amortized
+ *    successor/predecessor stepping without an auxiliary stack
  *
  * BST Property:
  *  - If student.matric < node.matric → goes to LEFT subtree
@@ -20,12 +23,13 @@ public class Node {
     private StudentRecord data;
     private Node left;
     private Node right;
+    private Node parent;
 
     // ============ CONSTRUCTORS ============
 
     /**
      * Create a new Node with the given StudentRecord
-     * Initializes left and right pointers to null
+     * Initializes left, right and parent pointers to null
      *
      * @param data The StudentRecord to store in this node
      */
@@ -33,6 +37,7 @@ public class Node {
         this.data = data;
         this.left = null;
         this.right = null;
+        this.parent = null;
     }
 
     // ============ GETTERS ============
@@ -58,6 +63,13 @@ public class Node {
         return right;
     }
 
+    /**
+     * @return The parent node (or null if this is the root)
+     */
+    public Node getParent() {
+        return parent;
+    }
+
     // ============ SETTERS ============
 
     /**
@@ -84,6 +96,17 @@ public class Node {
         this.right = right;
     }
 
+    /**
+     * Set the parent node
+     * Child setters do NOT update this link (traversals such as Morris
+     * temporarily rewire child pointers and must leave parents intact)
+     *
+     * @param parent The new parent node (null for the root)
+     */
+    public void setParent(Node parent) {
+        this.parent = parent;
+    }
+
     // ============ UTILITY METHODS ============
 
     /**
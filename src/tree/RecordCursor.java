@@ -0,0 +1,188 @@
+package tree;
+
+import model.StudentRecord;
+
+/**
+ * RECORD CURSOR - Bidirectional in-order navigation over a BST
+ *
+ * Designed for paging UIs: position the cursor on a key, then step
+ * forwards or backwards one record at a time.
+ *
+ * Each step follows parent links (see Node.getParent), so:
+ *  - No auxiliary stack is needed
+ *  - A single step is O(h) worst case, but O(1) amortized over a scan
+ *    (every edge is crossed at most twice in each direction)
+ *
+ * If the tree is modified (insert/delete) the cursor re-seeks by its
+ * current matric number on the next step; if that record was deleted,
+ * the step lands on its in-order neighbour.
+ *
+ * Example (page of 10 starting at AIU2000):
+ *  RecordCursor cursor = bst.cursorAt("AIU2000");
+ *  for (int i = 0; i < 10 && cursor.isValid(); i++, cursor.next()) {
+ *      show(cursor.get());
+ *  }
+ */
+public class RecordCursor {
+
+    // ============ ATTRIBUTES ============
+    private final BST tree;
+    private Node current;
+    private String currentKey;
+    private int expectedModCount;
+
+    // ============ CONSTRUCTORS ============
+
+    /**
+     * Create a cursor on the given node (use BST.cursor()/cursorAt())
+     *
+     * @param tree The tree being navigated
+     * @param start Starting node (null = invalid cursor)
+     */
+    RecordCursor(BST tree, Node start) {
+        this.tree = tree;
+        moveTo(start);
+    }
+
+    // ============ POSITION ============
+
+    /**
+     * @return true if the cursor is positioned on a record
+     */
+    public boolean isValid() {
+        return currentKey != null;
+    }
+
+    /**
+     * @return The record under the cursor, or null if invalid
+     */
+    public StudentRecord get() {
+        if (currentKey == null) {
+            return null;
+        }
+        revalidate();
+        return (current == null) ? null : current.getData();
+    }
+
+    /**
+     * Move to the first record with matric >= the given one
+     *
+     * @param matricNumber Target matric number
+     * @return true if positioned on a record
+     */
+    public boolean seek(String matricNumber) {
+        moveTo(tree.ceilingNode(matricNumber));
+        return isValid();
+    }
+
+    /**
+     * Move to the smallest record in the tree
+     * @return true if positioned on a record
+     */
+    public boolean first() {
+        moveTo(tree.firstNode());
+        return isValid();
+    }
+
+    /**
+     * Move to the largest record in the tree
+     * @return true if positioned on a record
+     */
+    public boolean last() {
+        moveTo(tree.lastNode());
+        return isValid();
+    }
+
+    // ============ STEPPING ============
+
+    /**
+     * @return true if a record follows the current one
+     */
+    public boolean hasNext() {
+        if (currentKey == null) {
+            return false;
+        }
+        if (isStale()) {
+            return tree.higherNode(currentKey) != null;
+        }
+        return BST.successorNode(current) != null;
+    }
+
+    /**
+     * @return true if a record precedes the current one
+     */
+    public boolean hasPrevious() {
+        if (currentKey == null) {
+            return false;
+        }
+        if (isStale()) {
+            return tree.lowerNode(currentKey) != null;
+        }
+        return BST.predecessorNode(current) != null;
+    }
+
+    /**
+     * Step to the next record in ascending matric order
+     *
+     * @return true if moved onto a record, false if ran off the end
+     */
+    public boolean next() {
+        if (currentKey == null) {
+            return false;
+        }
+        if (isStale()) {
+            moveTo(tree.higherNode(currentKey));
+        } else {
+            moveTo(BST.successorNode(current));
+        }
+        return isValid();
+    }
+
+    /**
+     * Step to the previous record in ascending matric order
+     *
+     * @return true if moved onto a record, false if ran off the start
+     */
+    public boolean previous() {
+        if (currentKey == null) {
+            return false;
+        }
+        if (isStale()) {
+            moveTo(tree.lowerNode(currentKey));
+        } else {
+            moveTo(BST.predecessorNode(current));
+        }
+        return isValid();
+    }
+
+    // ============ HELPERS ============
+
+    private void moveTo(Node node) {
+        current = node;
+        currentKey = (node == null) ? null : node.getData().getMatricNumber();
+        expectedModCount = tree.getModCount();
+    }
+
+    /**
+     * Tree structure changed since the cursor last moved?
+     * (Delete may move records between nodes, so node references are not trusted)
+     */
+    private boolean isStale() {
+        return expectedModCount != tree.getModCount();
+    }
+
+    /**
+     * Re-find the current key's node after a modification
+     */
+    private void revalidate() {
+        if (isStale()) {
+            Node found = tree.findNode(currentKey);
+            current = found;
+            if (found != null) {
+                expectedModCount = tree.getModCount();
+            }
+            // If the record was deleted the cursor stays stale, so
+            // next()/previous() re-seek relative to the remembered key
+        }
+    }
+}
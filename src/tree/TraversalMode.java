@@ -0,0 +1,18 @@
+package tree;
+
+/**
+ * TRAVERSAL MODE - How BST walks its nodes in order
+ *
+ *  RECURSIVE: Classic recursion. O(h) call stack - overflows on skewed
+ *             trees where h ≈ n.
+ *  ITERATIVE: Explicit stack on the heap. Still O(h) memory, but no
+ *             StackOverflowError.
+ *  MORRIS:    Morris threading. O(1) auxiliary memory: temporarily points
+ *             each left subtree's rightmost node back at its ancestor, then
+ *             restores every link before the traversal returns.
+ */
+public enum TraversalMode {
+    RECURSIVE,
+    ITERATIVE,
+    MORRIS
+}
@@ -1,8 +1,17 @@
 package utilities;
 
 import model.StudentRecord;
+import tree.BST;
 import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * CSVDataLoader handles reading student records from a CSV file.
@@ -17,13 +26,18 @@ import java.util.*;
  *  - Skips header row automatically
  *  - Validates each record before adding
  *  - Handles malformed data gracefully
- *  - Reports statistics (loaded, skipped, errors)
+ *  - Reports statistics (loaded, skipped, errors per category); invalid
+ *    lines are collected in a LoadReport with a bounded sample instead of
+ *    one console line each. The report-taking overloads print nothing.
+ *  - Streaming mode (streamFromCSV / forEachRecord / loadIntoTree) that
+ *    never holds more than one record, for files larger than memory
+ *  - Delta mode (applyDelta) that merges a new sorted export into an
+ *    existing tree and applies only the changed rows
  */
 public class CSVDataLoader {
 
     // ============ CONSTANTS ============
-    private static final String CSV_DELIMITER = ",";
-    private static final int EXPECTED_FIELDS = 3; // matric, name, cgpa
+    private static final int CHUNKS_PER_THREAD = 4; // parallel load balancing
 
     // ============ STATIC METHODS ============
 
@@ -34,53 +48,34 @@ public class CSVDataLoader {
      * @return Array of StudentRecord objects, empty array if file not found
      */
     public static StudentRecord[] loadFromCSV(String filename) {
-        List<StudentRecord> recordList = new ArrayList<>();
-        int lineNumber = 0;
-        int skippedCount = 0;
-        int errorCount = 0;
-
-        try (BufferedReader reader = new BufferedReader(new FileReader(filename))) {
-            String line;
-
-            while ((line = reader.readLine()) != null) {
-                lineNumber++;
-
-                // Skip empty lines
-                if (line.trim().isEmpty()) {
-                    skippedCount++;
-                    continue;
-                }
+        LoadReport report = new LoadReport(filename);
+        StudentRecord[] records = loadFromCSV(filename, report);
+        report.print();
+        return records;
+    }
 
-                // Skip header row (first non-empty line with "matric" in it)
-                if (lineNumber == 1 && line.toLowerCase().contains("matric")) {
-                    skippedCount++;
-                    continue;
-                }
+    /**
+     * Load student records from a CSV file without printing anything
+     *
+     * @param filename Path to the CSV file (e.g., "data/students.csv")
+     * @param report Receives counts, error categories and sampled errors
+     * @return Array of StudentRecord objects, empty array if the file could not be read
+     */
+    public static StudentRecord[] loadFromCSV(String filename, LoadReport report) {
+        List<StudentRecord> recordList = new ArrayList<>();
 
-                try {
-                    StudentRecord record = parseCSVLine(line);
-
-                    if (record != null && record.isValid()) {
-                        recordList.add(record);
-                    } else {
-                        errorCount++;
-                        System.err.println("⚠️  Line " + lineNumber + ": Invalid record data - " + line);
-                    }
-                } catch (Exception e) {
-                    errorCount++;
-                    System.err.println("⚠️  Line " + lineNumber + ": Parse error - " + e.getMessage());
-                }
+        try (CSVRecordReader reader = new CSVRecordReader(filename, report)) {
+            while (reader.hasNext()) {
+                recordList.add(reader.next());
+            }
+            if (reader.hasFailed()) {
+                return new StudentRecord[0];
             }
-
-            // Print loading statistics
-            printLoadingStatistics(filename, recordList.size(), skippedCount, errorCount);
 
         } catch (FileNotFoundException e) {
-            System.err.println("❌ ERROR: File not found - " + filename);
-            System.err.println("   Please ensure the file exists at: " + new File(filename).getAbsolutePath());
             return new StudentRecord[0];
         } catch (IOException e) {
-            System.err.println("❌ ERROR: Unable to read file - " + e.getMessage());
+            report.recordFailure(e.getMessage());
             return new StudentRecord[0];
         }
 
@@ -88,61 +83,255 @@ public class CSVDataLoader {
         return recordList.toArray(new StudentRecord[0]);
     }
 
+    // ============ STREAMING ============
+
     /**
-     * Parse a single CSV line into a StudentRecord
+     * Stream student records from a CSV file without loading them all
+     *
+     * Records are parsed lazily as the stream is consumed, so memory stays
+     * bounded regardless of file size. The stream MUST be closed (use
+     * try-with-resources); closing it prints the loading report.
      *
-     * Expected format: "matric,name,cgpa"
-     * Example: "AIU105,Ali Hassan,3.45"
+     * Example:
+     *   try (Stream<StudentRecord> records = CSVDataLoader.streamFromCSV(file)) {
+     *       records.filter(r -> r.getCgpa() >= 3.5).forEach(bst::insert);
+     *   }
      *
-     * @param line The CSV line to parse
-     * @return StudentRecord object, or null if parsing fails
-     * @throws NumberFormatException if CGPA cannot be parsed as double
+     * @param filename Path to the CSV file (e.g., "data/students.csv")
+     * @return Lazy stream of valid records, empty stream if file not found
      */
-    private static StudentRecord parseCSVLine(String line) throws NumberFormatException {
-        // Split by comma
-        String[] parts = line.split(CSV_DELIMITER);
-
-        // Validate field count
-        if (parts.length != EXPECTED_FIELDS) {
-            throw new IllegalArgumentException(
-                    "Expected " + EXPECTED_FIELDS + " fields, got " + parts.length
-            );
+    public static Stream<StudentRecord> streamFromCSV(String filename) {
+        CSVRecordReader reader;
+        try {
+            reader = new CSVRecordReader(filename);
+        } catch (FileNotFoundException e) {
+            LoadReport report = new LoadReport(filename);
+            report.recordFileNotFound();
+            report.print();
+            return Stream.empty();
         }
 
-        // Extract and trim fields
-        String matric = parts[0].trim();
-        String name = parts[1].trim();
-        String cgpaStr = parts[2].trim();
+        return reader.stream().onClose(() -> reader.getReport().print());
+    }
+
+    /**
+     * Pass every valid record in a CSV file to a callback, one at a time
+     *
+     * @param filename Path to the CSV file (e.g., "data/students.csv")
+     * @param consumer Called once per valid record, in file order
+     * @return Number of records passed to the consumer (0 if file not found)
+     */
+    public static int forEachRecord(String filename, Consumer<StudentRecord> consumer) {
+        LoadReport report = new LoadReport(filename);
+        int count = forEachRecord(filename, consumer, report);
+        report.print();
+        return count;
+    }
 
-        // Validate non-empty fields
-        if (matric.isEmpty() || name.isEmpty() || cgpaStr.isEmpty()) {
-            throw new IllegalArgumentException("One or more fields are empty");
+    /**
+     * Pass every valid record to a callback without printing anything
+     *
+     * @param filename Path to the CSV file (e.g., "data/students.csv")
+     * @param consumer Called once per valid record, in file order
+     * @param report Receives counts, error categories and sampled errors
+     * @return Number of records passed to the consumer (0 if file not found)
+     */
+    public static int forEachRecord(String filename, Consumer<StudentRecord> consumer, LoadReport report) {
+        try (CSVRecordReader reader = new CSVRecordReader(filename, report)) {
+            while (reader.hasNext()) {
+                consumer.accept(reader.next());
+            }
+            return reader.getLoadedCount();
+        } catch (FileNotFoundException e) {
+            return 0;
+        } catch (IOException e) {
+            report.recordFailure(e.getMessage());
+            return 0;
         }
+    }
 
-        // Parse CGPA as double
-        double cgpa = Double.parseDouble(cgpaStr);
+    /**
+     * Insert every valid record in a CSV file straight into a tree
+     * (No intermediate list or array - only one record is held at a time)
+     *
+     * @param filename Path to the CSV file (e.g., "data/students.csv")
+     * @param bst Tree to insert into (duplicates are rejected by BST.insert)
+     * @return Number of records read from the file (0 if file not found)
+     */
+    public static int loadIntoTree(String filename, BST bst) {
+        return forEachRecord(filename, bst::insert);
+    }
 
-        // Create and return StudentRecord
-        return new StudentRecord(name, matric, cgpa);
+    /**
+     * Load student records from a CSV file using memory mapping
+     *
+     * Same validation and result as loadFromCSV(), but faster on large files:
+     *  - The file is mapped with FileChannel.map (no read() copies)
+     *  - Delimiters are scanned directly in bytes (no UTF-16 decoding per line)
+     *  - Only the matric and name fields become Strings
+     *
+     * Files larger than 1 GB are mapped in line-aligned chunks.
+     * The file is expected to be UTF-8.
+     *
+     * @param filename Path to the CSV file (e.g., "data/students.csv")
+     * @return Array of StudentRecord objects, empty array if file not found
+     */
+    public static StudentRecord[] loadFromCSVMapped(String filename) {
+        LoadReport report = new LoadReport(filename);
+        StudentRecord[] records = loadMapped(filename, 1, report);
+        report.print();
+        return records;
     }
 
     /**
-     * Print loading statistics to console
+     * Memory-mapped load without printing anything
+     *
+     * @param filename Path to the CSV file (e.g., "data/students.csv")
+     * @param report Receives counts, error categories and sampled errors
+     * @return Array of StudentRecord objects, empty array if the file could not be read
      */
-    private static void printLoadingStatistics(String filename, int loaded,
-                                               int skipped, int errors) {
-        System.out.println("\n" + "=".repeat(50));
-        System.out.println("📂 CSV LOADING REPORT");
-        System.out.println("=".repeat(50));
-        System.out.println("File: " + filename);
-        System.out.println("✓ Loaded:  " + loaded + " records");
-        if (skipped > 0) {
-            System.out.println("⊘ Skipped: " + skipped + " lines (headers/empty)");
+    public static StudentRecord[] loadFromCSVMapped(String filename, LoadReport report) {
+        return loadMapped(filename, 1, report);
+    }
+
+    /**
+     * Load student records from a CSV file, parsing chunks in parallel
+     *
+     * The file is split into byte ranges that end on a newline, so every
+     * chunk holds whole lines (LF or CRLF line endings). Chunks are parsed on a ForkJoinPool and the
+     * results are merged in file order: the returned array and the report
+     * (counts, and sampled errors with absolute line numbers) are the
+     * same as loadFromCSV() and loadFromCSVMapped().
+     *
+     * Each thread gets several chunks so a slow chunk doesn't leave the
+     * other threads idle at the end.
+     *
+     * @param filename Path to the CSV file (e.g., "data/students.csv")
+     * @param threads Number of parser threads (1 = same as loadFromCSVMapped)
+     * @return Array of StudentRecord objects, empty array if file not found
+     * @throws IllegalArgumentException if threads < 1
+     */
+    public static StudentRecord[] loadFromCSVParallel(String filename, int threads) {
+        LoadReport report = new LoadReport(filename);
+        StudentRecord[] records = loadFromCSVParallel(filename, threads, report);
+        report.print();
+        return records;
+    }
+
+    /**
+     * Parallel load without printing anything
+     *
+     * @param filename Path to the CSV file (e.g., "data/students.csv")
+     * @param threads Number of parser threads (1 = same as loadFromCSVMapped)
+     * @param report Receives counts, error categories and sampled errors
+     * @return Array of StudentRecord objects, empty array if the file could not be read
+     * @throws IllegalArgumentException if threads < 1
+     */
+    public static StudentRecord[] loadFromCSVParallel(String filename, int threads, LoadReport report) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be at least 1, got " + threads);
         }
-        if (errors > 0) {
-            System.out.println("✗ Errors:  " + errors + " records (invalid)");
+        return loadMapped(filename, threads, report);
+    }
+
+    /**
+     * Load in parallel using one thread per available processor
+     *
+     * @param filename Path to the CSV file (e.g., "data/students.csv")
+     * @return Array of StudentRecord objects, empty array if file not found
+     */
+    public static StudentRecord[] loadFromCSVParallel(String filename) {
+        return loadFromCSVParallel(filename, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Shared implementation of the mapped loaders
+     * threads == 1 parses chunks one at a time on the calling thread.
+     * Each chunk keeps at most report.getMaxSamples() errors, so the merged
+     * sample is bounded too.
+     */
+    private static StudentRecord[] loadMapped(String filename, int threads, LoadReport report) {
+        List<StudentRecord> recordList = new ArrayList<>();
+        long lineNumber = 0;
+        int maxSamples = report.getMaxSamples();
+
+        ForkJoinPool pool = (threads > 1) ? new ForkJoinPool(threads) : null;
+        try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ)) {
+            long[] bounds = MappedCSVParser.chunkBoundaries(channel,
+                    (threads > 1) ? threads * CHUNKS_PER_THREAD : 1);
+
+            // Parallel: submit every chunk up front, then collect in file order
+            List<ForkJoinTask<MappedCSVParser.Chunk>> tasks = new ArrayList<>();
+            if (pool != null) {
+                for (int i = 0; i + 1 < bounds.length; i++) {
+                    long chunkStart = bounds[i];
+                    long chunkEnd = bounds[i + 1];
+                    tasks.add(pool.submit(() -> MappedCSVParser.parseChunk(channel, chunkStart, chunkEnd,
+                            maxSamples)));
+                }
+            }
+
+            for (int i = 0; i + 1 < bounds.length; i++) {
+                MappedCSVParser.Chunk chunk = (pool != null)
+                        ? joinChunk(tasks.get(i))
+                        : MappedCSVParser.parseChunk(channel, bounds[i], bounds[i + 1], maxSamples);
+
+                // Chunk line numbers are local: offset by the lines before it
+                report.merge(chunk.report, lineNumber);
+                recordList.addAll(chunk.records);
+                lineNumber += chunk.report.getLineCount();
+            }
+
+        } catch (java.nio.file.NoSuchFileException e) {
+            report.recordFileNotFound();
+            return new StudentRecord[0];
+        } catch (IOException e) {
+            report.recordFailure(e.getMessage());
+            return new StudentRecord[0];
+        } finally {
+            if (pool != null) {
+                pool.shutdownNow();
+            }
         }
-        System.out.println("=".repeat(50) + "\n");
+
+        // Convert list to array
+        return recordList.toArray(new StudentRecord[0]);
+    }
+
+    /**
+     * Wait for a parallel chunk, unwrapping an IOException from the worker
+     */
+    private static MappedCSVParser.Chunk joinChunk(ForkJoinTask<MappedCSVParser.Chunk> task) throws IOException {
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("Parser thread failed - " + e.getCause(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while parsing", e);
+        }
+    }
+
+    // ============ DELTA ============
+
+    /**
+     * Update a tree from a new full export, touching only changed rows
+     *
+     * The file must be sorted by matric number; it is merged against the
+     * tree's in-order sequence (see CSVDeltaApplier). Nothing is changed if
+     * the file is unsorted, has invalid rows or cannot be read completely.
+     *
+     * @param filename Path to the CSV file (complete data set, ascending matric)
+     * @param bst Tree to bring in line with the file
+     * @return Inserted / updated / deleted / unchanged counts
+     */
+    public static CSVDeltaApplier.Result applyDelta(String filename, BST bst) {
+        CSVDeltaApplier.Result result = CSVDeltaApplier.apply(filename, bst);
+        CSVDeltaApplier.printReport(filename, result);
+        return result;
     }
 
     /**
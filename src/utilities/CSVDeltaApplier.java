@@ -0,0 +1,236 @@
+package utilities;
+
+import model.StudentRecord;
+import tree.BST;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * CSV DELTA APPLIER - Bring a tree in line with a new full CSV export
+ *
+ * The registrar re-sends the whole file every night although only ~1% of
+ * rows change. Instead of rebuilding the tree, the new file (sorted by
+ * matric number) is merged against the tree's in-order iterator, like the
+ * merge step of merge sort:
+ *
+ *   file key < tree key  →  INSERT (new student)
+ *   file key > tree key  →  DELETE (student no longer in the file)
+ *   keys equal           →  UPDATE if name or CGPA changed, else untouched
+ *
+ * Both sides are read sequentially and only the changes are collected
+ * (memory ∝ number of changes, not file size). Changes are applied only
+ * after the whole file was read successfully - a file that is unsorted,
+ * has invalid rows or fails mid-read would otherwise turn every missing
+ * row into a delete, so in those cases the tree is left untouched.
+ *
+ * Inserts are applied middle-first, so a run of new consecutive matric
+ * numbers does not grow a degenerate chain in the unbalanced BST.
+ *
+ * Usage:
+ *   CSVDeltaApplier.Result result = CSVDataLoader.applyDelta("data/students.csv", bst);
+ *   if (result.isApplied()) { ... result.getTouched() ... }
+ *
+ * apply() prints nothing: a rejected delta is reported only through
+ * Result.getFailure() (CSVDataLoader.applyDelta prints it via printReport).
+ *
+ * Time Complexity: O(n) merge + O(c log n) to apply c changes
+ */
+public class CSVDeltaApplier {
+
+    /**
+     * Outcome of one delta run
+     */
+    public static final class Result {
+        private int inserted;
+        private int updated;
+        private int deleted;
+        private int unchanged;
+        private int fileRecords;
+        private boolean applied;
+        private String failure;
+
+        public int getInserted() {
+            return inserted;
+        }
+
+        public int getUpdated() {
+            return updated;
+        }
+
+        public int getDeleted() {
+            return deleted;
+        }
+
+        public int getUnchanged() {
+            return unchanged;
+        }
+
+        /**
+         * @return Valid records read from the file
+         */
+        public int getFileRecords() {
+            return fileRecords;
+        }
+
+        /**
+         * @return Rows changed in the tree (inserted + updated + deleted)
+         */
+        public int getTouched() {
+            return inserted + updated + deleted;
+        }
+
+        /**
+         * @return true if the changes were applied (false = tree untouched)
+         */
+        public boolean isApplied() {
+            return applied;
+        }
+
+        /**
+         * @return Why the delta was rejected, or null if applied
+         */
+        public String getFailure() {
+            return failure;
+        }
+    }
+
+    // ============ APPLY ============
+
+    /**
+     * Merge a CSV file sorted by matric number into a tree
+     *
+     * @param filename CSV file with the complete new data set, ascending matric order
+     * @param bst Tree to update
+     * @return What was (or would have been) changed
+     */
+    public static Result apply(String filename, BST bst) {
+        Result result = new Result();
+        List<StudentRecord> inserts = new ArrayList<>();
+        List<StudentRecord> updates = new ArrayList<>();
+        List<String> deletes = new ArrayList<>();
+
+        try (CSVRecordReader reader = new CSVRecordReader(filename)) {
+            Iterator<StudentRecord> treeRecords = bst.iterator();
+            StudentRecord current = treeRecords.hasNext() ? treeRecords.next() : null;
+            String previousKey = null;
+
+            while (reader.hasNext()) {
+                StudentRecord incoming = reader.next();
+                String key = incoming.getMatricNumber();
+                if (previousKey != null && previousKey.compareTo(key) >= 0) {
+                    return reject(result, "File is not sorted by matric number at line " +
+                            reader.getLineNumber() + " (" + previousKey + " then " + key + ")");
+                }
+                previousKey = key;
+
+                // Tree records before this key are gone from the file
+                while (current != null && current.getMatricNumber().compareTo(key) < 0) {
+                    deletes.add(current.getMatricNumber());
+                    current = treeRecords.hasNext() ? treeRecords.next() : null;
+                }
+
+                if (current != null && current.getMatricNumber().equals(key)) {
+                    if (sameContents(current, incoming)) {
+                        result.unchanged++;
+                    } else {
+                        updates.add(incoming);
+                    }
+                    current = treeRecords.hasNext() ? treeRecords.next() : null;
+                } else {
+                    inserts.add(incoming);
+                }
+            }
+            while (current != null) {
+                deletes.add(current.getMatricNumber());
+                current = treeRecords.hasNext() ? treeRecords.next() : null;
+            }
+
+            result.fileRecords = reader.getLoadedCount();
+            if (reader.hasFailed()) {
+                return reject(result, "File could not be read completely");
+            }
+            if (reader.getErrorCount() > 0) {
+                return reject(result, reader.getErrorCount() + " invalid row(s); " +
+                        "their students would be deleted");
+            }
+        } catch (FileNotFoundException e) {
+            return reject(result, "File not found - " + filename);
+        } catch (IOException e) {
+            return reject(result, "Unable to read file - " + e.getMessage());
+        }
+
+        // Whole file merged cleanly: apply the changes
+        boolean verbose = bst.isVerbose();
+        bst.setVerbose(false);
+        try {
+            for (String matric : deletes) {
+                if (bst.delete(matric)) {
+                    result.deleted++;
+                }
+            }
+            for (StudentRecord record : updates) {
+                if (bst.update(record)) {
+                    result.updated++;
+                }
+            }
+            result.inserted = insertMiddleFirst(bst, inserts, 0, inserts.size() - 1);
+        } finally {
+            bst.setVerbose(verbose);
+        }
+        result.applied = true;
+        return result;
+    }
+
+    /**
+     * Insert sorted records median-first (recursion depth log₂ c)
+     */
+    private static int insertMiddleFirst(BST bst, List<StudentRecord> sorted, int low, int high) {
+        if (low > high) {
+            return 0;
+        }
+        int mid = low + (high - low) / 2;
+        int inserted = bst.insert(sorted.get(mid)) ? 1 : 0;
+        return inserted + insertMiddleFirst(bst, sorted, low, mid - 1) +
+                insertMiddleFirst(bst, sorted, mid + 1, high);
+    }
+
+    private static boolean sameContents(StudentRecord a, StudentRecord b) {
+        return a.getName().equals(b.getName()) && Double.compare(a.getCgpa(), b.getCgpa()) == 0;
+    }
+
+    private static Result reject(Result result, String failure) {
+        result.failure = failure;
+        result.applied = false;
+        result.inserted = 0;
+        result.updated = 0;
+        result.deleted = 0;
+        return result;
+    }
+
+    // ============ REPORTING ============
+
+    /**
+     * Print the delta report to console
+     */
+    public static void printReport(String filename, Result result) {
+        System.out.println("\n" + "=".repeat(50));
+        System.out.println("📂 CSV DELTA REPORT");
+        System.out.println("=".repeat(50));
+        System.out.println("File: " + filename);
+        if (!result.isApplied()) {
+            System.out.println("✗ Not applied: " + result.getFailure());
+            System.out.println("=".repeat(50) + "\n");
+            return;
+        }
+        System.out.println("✓ Inserted:  " + result.getInserted());
+        System.out.println("✓ Updated:   " + result.getUpdated());
+        System.out.println("✓ Deleted:   " + result.getDeleted());
+        System.out.println("= Unchanged: " + result.getUnchanged());
+        System.out.printf("Touched %d of %d rows (%.2f%%)\n", result.getTouched(), result.getFileRecords(),
+                result.getFileRecords() == 0 ? 0.0 : 100.0 * result.getTouched() / result.getFileRecords());
+        System.out.println("=".repeat(50) + "\n");
+    }
+}
@@ -0,0 +1,251 @@
+package utilities;
+
+import model.StudentRecord;
+import tree.BST;
+import tree.TraversalMode;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+/**
+ * CSV EXPORTER - High-throughput CSV writing
+ *
+ * StudentRecord.toCSVString() calls String.format for every record, which
+ * dominates the cost of exporting millions of rows. This exporter:
+ *  - Encodes matric and name straight into a reusable byte buffer
+ *    (ASCII fast path, UTF-8 otherwise)
+ *  - Formats CGPA with integer arithmetic on hundredths
+ *  - Writes the buffer through a FileChannel in 64 KB blocks
+ *
+ * Every row is byte-identical to toCSVString() (UTF-8 encoded):
+ *  - %.2f rounds HALF_UP from the shortest decimal form of the double
+ *    (what BigDecimal.valueOf gives). Values that land near a half-hundredth
+ *    are formatted with BigDecimal.valueOf(cgpa).setScale(2, HALF_UP).
+ *  - If the default locale formats numbers with anything other than ASCII
+ *    digits and '.', each row falls back to toCSVString() itself.
+ *
+ * File layout: "matric,name,cgpa" header, then one row per record, '\n' endings.
+ *
+ * Usage:
+ *   CSVExporter.exportToCSV(bst, "data/export.csv");   // whole tree, in order
+ *
+ *   try (CSVExporter exporter = new CSVExporter("data/export.csv")) {
+ *       exporter.write(record);                         // any record source
+ *   }
+ */
+public class CSVExporter implements Closeable {
+
+    // ============ CONSTANTS ============
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int MAX_ROW_BYTES = 4096;  // Space reserved for one fast-path row
+    private static final String HEADER = "matric,name,cgpa";
+    private static final byte NEWLINE = '\n';
+
+    // Values this close to a half-hundredth use the exact BigDecimal path
+    private static final double HALF_TOLERANCE = 1e-6;
+    private static final double FAST_LIMIT = 1e6; // cgpa × 100 still exact to ~1e-8
+
+    // ============ FIELDS ============
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final boolean plainDecimal;
+    private long rowCount;
+
+    // ============ CONSTRUCTOR ============
+
+    /**
+     * Create (or overwrite) a CSV file and write the header
+     *
+     * @param filename Destination file (e.g., "data/export.csv")
+     * @throws IOException if the file cannot be created
+     */
+    public CSVExporter(String filename) throws IOException {
+        this.channel = FileChannel.open(Paths.get(filename), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(Locale.getDefault(Locale.Category.FORMAT));
+        this.plainDecimal = symbols.getZeroDigit() == '0' && symbols.getDecimalSeparator() == '.';
+
+        putString(HEADER);
+        buffer.put(NEWLINE);
+    }
+
+    // ============ EXPORT ============
+
+    /**
+     * Export a whole tree in matric order
+     * (Iterative in-order walk: safe for skewed trees)
+     *
+     * @param bst Tree to export
+     * @param filename Destination file
+     * @return Number of rows written
+     * @throws IOException if the file cannot be written
+     */
+    public static long exportToCSV(BST bst, String filename) throws IOException {
+        try (CSVExporter exporter = new CSVExporter(filename)) {
+            bst.inOrderVisit(record -> {
+                try {
+                    exporter.write(record);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, TraversalMode.ITERATIVE);
+            return exporter.getRowCount();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Append one row (same bytes as record.toCSVString() + '\n')
+     *
+     * @param record Record to write
+     * @throws IOException if the buffer cannot be flushed
+     */
+    public void write(StudentRecord record) throws IOException {
+        if (buffer.remaining() < MAX_ROW_BYTES) {
+            flushBuffer();
+        }
+
+        if (!plainDecimal || !fits(record)) {
+            putString(record.toCSVString());
+            if (!buffer.hasRemaining()) {
+                flushBuffer();
+            }
+        } else {
+            putString(record.getMatricNumber());
+            buffer.put((byte) ',');
+            putString(record.getName());
+            buffer.put((byte) ',');
+            putCgpa(record.getCgpa());
+        }
+        buffer.put(NEWLINE);
+        rowCount++;
+    }
+
+    /**
+     * @return Rows written so far (header not counted)
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Write any buffered rows and close the file
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flushBuffer();
+        } finally {
+            channel.close();
+        }
+    }
+
+    // ============ FORMATTING ============
+
+    /**
+     * Format CGPA like "%.2f" (HALF_UP on the shortest decimal form)
+     * Caller guarantees 0 ≤ cgpa < FAST_LIMIT (see fits()).
+     */
+    private void putCgpa(double cgpa) {
+        long hundredths;
+        double scaled = cgpa * 100.0;
+        double fraction = scaled - Math.floor(scaled);
+
+        if (Math.abs(fraction - 0.5) > HALF_TOLERANCE) {
+            // Not near a tie: nearest hundredth is unambiguous
+            hundredths = Math.round(scaled);
+        } else {
+            hundredths = BigDecimal.valueOf(cgpa).setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        }
+
+        putLong(hundredths / 100);
+        buffer.put((byte) '.');
+        int fractionDigits = (int) (hundredths % 100);
+        buffer.put((byte) ('0' + fractionDigits / 10));
+        buffer.put((byte) ('0' + fractionDigits % 10));
+    }
+
+    /**
+     * Write a non-negative long in decimal
+     */
+    private void putLong(long value) {
+        if (value < 10) {
+            buffer.put((byte) ('0' + value));
+            return;
+        }
+        int start = buffer.position();
+        while (value > 0) {
+            buffer.put((byte) ('0' + value % 10));
+            value /= 10;
+        }
+        // Digits were written least significant first: reverse them
+        for (int i = start, j = buffer.position() - 1; i < j; i++, j--) {
+            byte swap = buffer.get(i);
+            buffer.put(i, buffer.get(j));
+            buffer.put(j, swap);
+        }
+    }
+
+    /**
+     * Encode a String as UTF-8 into the buffer (ASCII copied char by char)
+     */
+    private void putString(String text) throws IOException {
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char ch = text.charAt(i);
+            if (ch >= 0x80) {
+                putBytes(text.substring(i).getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            if (!buffer.hasRemaining()) {
+                flushBuffer();
+            }
+            buffer.put((byte) ch);
+        }
+    }
+
+    private void putBytes(byte[] bytes) throws IOException {
+        if (bytes.length > buffer.remaining()) {
+            flushBuffer();
+            if (bytes.length > buffer.remaining()) {
+                writeFully(ByteBuffer.wrap(bytes));
+                return;
+            }
+        }
+        buffer.put(bytes);
+    }
+
+    /**
+     * @return true if the row certainly fits in the buffer's reserved space
+     *         and CGPA can be formatted without toCSVString()
+     */
+    private static boolean fits(StudentRecord record) {
+        return record.getMatricNumber().length() + record.getName().length() < MAX_ROW_BYTES / 4 &&
+                !Double.isNaN(record.getCgpa()) &&
+                Double.compare(record.getCgpa(), 0.0) >= 0 && record.getCgpa() < FAST_LIMIT; // excludes -0.0
+    }
+
+    // ============ I/O ============
+
+    private void flushBuffer() throws IOException {
+        buffer.flip();
+        writeFully(buffer);
+        buffer.clear();
+    }
+
+    private void writeFully(ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package utilities;
+
+import model.StudentRecord;
+
+/**
+ * CSV LINE PARSER - Allocation-minimal field splitting and fixed-point CGPA
+ *
+ * Replaces the String.split / trim / Double.parseDouble pipeline:
+ *  - split() records field boundaries as int offsets into the line
+ *    (no regex, no String[] and no substring per field)
+ *  - Fields are trimmed by moving offsets, not by copying
+ *  - parseHundredths() reads CGPA as fixed-point hundredths
+ *    ("3.45" → 345) with plain integer arithmetic
+ *  - Strings are created only for the fields that are actually kept
+ *
+ * Quoted fields (RFC 4180 style):
+ *  - A field whose first non-blank character is '"' is quoted
+ *  - Commas inside quotes do not split: "Tan, Mei Ling" is one field
+ *  - A doubled quote inside quotes is a literal quote: "Ali ""Al"" Hassan"
+ *  - An unclosed quote is an error ("Unterminated quoted field")
+ *
+ * Malformed lines throw CSVParseException, which carries the
+ * LoadReport.ErrorCategory the loaders count the line under.
+ *
+ * Compatibility with the old String.split(",") behaviour:
+ *  - Trailing empty fields are not counted ("a,b,c," has 3 fields)
+ *  - Unquoted lines split exactly as before
+ *
+ * One instance is reused for every line; it is NOT thread-safe.
+ */
+public class CSVLineParser {
+
+    // ============ CONSTANTS ============
+    private static final char DELIMITER = ',';
+    private static final char QUOTE = '"';
+    private static final int EXPECTED_FIELDS = 3; // matric, name, cgpa
+
+    // ============ FIELDS ============
+    private CharSequence line;
+    private int[] starts = new int[8];      // Trimmed field start offsets
+    private int[] ends = new int[8];        // Trimmed field end offsets
+    private boolean[] quoted = new boolean[8];
+    private int fieldCount;
+
+    // ============ SPLITTING ============
+
+    /**
+     * Split a line into fields (boundaries only, nothing is copied)
+     *
+     * @param line CSV line without the line terminator
+     * @return Number of fields (trailing empty fields are not counted)
+     * @throws CSVParseException (UNTERMINATED_QUOTE) if a quoted field is not closed
+     */
+    public int split(CharSequence line) {
+        this.line = line;
+        int length = line.length();
+        int fields = 0;
+        int kept = 0;
+        int position = 0;
+
+        while (true) {
+            int fieldStart = position;
+            int contentStart = skipSpace(line, position, length);
+            boolean isQuoted = contentStart < length && line.charAt(contentStart) == QUOTE;
+
+            // Find the delimiter that ends this field
+            int fieldEnd;
+            if (isQuoted) {
+                int i = contentStart + 1;
+                while (true) {
+                    if (i >= length) {
+                        throw new CSVParseException(LoadReport.ErrorCategory.UNTERMINATED_QUOTE,
+                                "Unterminated quoted field");
+                    }
+                    if (line.charAt(i) == QUOTE) {
+                        if (i + 1 < length && line.charAt(i + 1) == QUOTE) {
+                            i += 2; // Escaped quote
+                            continue;
+                        }
+                        break;      // Closing quote
+                    }
+                    i++;
+                }
+                fieldEnd = i + 1;
+                while (fieldEnd < length && line.charAt(fieldEnd) != DELIMITER) {
+                    fieldEnd++;
+                }
+            } else {
+                fieldEnd = position;
+                while (fieldEnd < length && line.charAt(fieldEnd) != DELIMITER) {
+                    fieldEnd++;
+                }
+            }
+
+            ensureCapacity(fields + 1);
+            starts[fields] = contentStart;
+            ends[fields] = trimEnd(line, contentStart, fieldEnd);
+            quoted[fields] = isQuoted && ends[fields] - starts[fields] >= 2 &&
+                    line.charAt(ends[fields] - 1) == QUOTE;
+            fields++;
+            if (fieldEnd > fieldStart) {
+                kept = fields;
+            }
+
+            if (fieldEnd >= length) {
+                break;
+            }
+            position = fieldEnd + 1;
+        }
+
+        fieldCount = kept;
+        return kept;
+    }
+
+    /**
+     * @return Number of fields found by the last split()
+     */
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * @return true if field i is empty after trimming (and unquoting)
+     */
+    public boolean isFieldEmpty(int i) {
+        checkField(i);
+        return quoted[i] ? ends[i] - starts[i] == 2 : ends[i] == starts[i];
+    }
+
+    /**
+     * Trimmed, unquoted value of field i
+     * (The only method that allocates a String)
+     */
+    public String field(int i) {
+        checkField(i);
+        if (!quoted[i]) {
+            return line.subSequence(starts[i], ends[i]).toString();
+        }
+
+        // Strip the surrounding quotes and collapse doubled quotes
+        return unescapeQuotes(line, starts[i] + 1, ends[i] - 1);
+    }
+
+    /**
+     * Text of [start, end) with each doubled quote collapsed to one
+     * (the inside of a quoted field; also used by MappedCSVParser)
+     */
+    static String unescapeQuotes(CharSequence text, int start, int end) {
+        StringBuilder value = new StringBuilder(end - start);
+        for (int c = start; c < end; c++) {
+            char ch = text.charAt(c);
+            value.append(ch);
+            if (ch == QUOTE && c + 1 < end && text.charAt(c + 1) == QUOTE) {
+                c++;
+            }
+        }
+        return value.toString();
+    }
+
+    /**
+     * Field i as fixed-point hundredths (see parseHundredths)
+     */
+    public int fieldHundredths(int i) {
+        checkField(i);
+        int start = quoted[i] ? starts[i] + 1 : starts[i];
+        int end = quoted[i] ? ends[i] - 1 : ends[i];
+        return parseHundredths(line, skipSpace(line, start, end), trimEnd(line, start, end));
+    }
+
+    /**
+     * Field i as a double
+     * Plain "d.dd" values go through parseHundredths (exact: hundredths / 100.0
+     * is the correctly rounded double, identical to Double.parseDouble);
+     * anything else (exponents, signs, 3+ decimals) falls back to Double.parseDouble.
+     *
+     * @throws NumberFormatException if the field is not a number
+     */
+    public double fieldDouble(int i) {
+        try {
+            return fieldHundredths(i) / 100.0;
+        } catch (NumberFormatException e) {
+            return Double.parseDouble(field(i));
+        }
+    }
+
+    // ============ RECORD PARSING ============
+
+    /**
+     * Parse a "matric,name,cgpa" line into a StudentRecord
+     * Error messages match the old CSVDataLoader.parseCSVLine().
+     *
+     * @param line The CSV line to parse
+     * @return StudentRecord (validity is NOT checked - call isValid())
+     * @throws CSVParseException for a wrong field count (FIELD_COUNT), empty
+     *         fields (EMPTY_FIELD) or an unterminated quote (UNTERMINATED_QUOTE)
+     * @throws NumberFormatException if CGPA cannot be parsed
+     */
+    public StudentRecord parseRecord(CharSequence line) {
+        int fields = split(line);
+        if (fields != EXPECTED_FIELDS) {
+            throw new CSVParseException(LoadReport.ErrorCategory.FIELD_COUNT,
+                    "Expected " + EXPECTED_FIELDS + " fields, got " + fields
+            );
+        }
+        if (isFieldEmpty(0) || isFieldEmpty(1) || isFieldEmpty(2)) {
+            throw new CSVParseException(LoadReport.ErrorCategory.EMPTY_FIELD, "One or more fields are empty");
+        }
+
+        double cgpa = fieldDouble(2);
+        return new StudentRecord(field(1), field(0), cgpa);
+    }
+
+    // ============ FIXED-POINT CGPA ============
+
+    /**
+     * Parse [digits][.digits] with at most 2 decimals as hundredths
+     *
+     * Examples: "3.45" → 345, "3.5" → 350, "4" → 400, ".5" → 50
+     *
+     * @param text Characters to read
+     * @param start First character (inclusive)
+     * @param end Last character (exclusive)
+     * @return Value × 100
+     * @throws NumberFormatException if the text is not in that form
+     */
+    public static int parseHundredths(CharSequence text, int start, int end) {
+        int value = 0;
+        int digits = 0;
+        int fractionDigits = -1; // -1 = no decimal point yet
+
+        for (int i = start; i < end; i++) {
+            char ch = text.charAt(i);
+            if (ch >= '0' && ch <= '9') {
+                if (fractionDigits >= 0) {
+                    if (fractionDigits == 2) {
+                        throw notFixedPoint(text, start, end);
+                    }
+                    fractionDigits++;
+                }
+                value = value * 10 + (ch - '0');
+                if (++digits > 9) {
+                    throw notFixedPoint(text, start, end);
+                }
+            } else if (ch == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+            } else {
+                throw notFixedPoint(text, start, end);
+            }
+        }
+
+        if (digits == 0) {
+            throw notFixedPoint(text, start, end);
+        }
+        // Scale to hundredths: "3" → 300, "3.4" → 340, "3.45" → 345
+        int scale = (fractionDigits <= 0) ? 2 : 2 - fractionDigits;
+        for (int s = 0; s < scale; s++) {
+            value *= 10;
+        }
+        return value;
+    }
+
+    /**
+     * Convenience overload for a whole string
+     */
+    public static int parseHundredths(CharSequence text) {
+        return parseHundredths(text, 0, text.length());
+    }
+
+    // ============ HELPER METHODS ============
+
+    private static NumberFormatException notFixedPoint(CharSequence text, int start, int end) {
+        return new NumberFormatException("Not a fixed-point CGPA: \"" + text.subSequence(start, end) + "\"");
+    }
+
+    private static int skipSpace(CharSequence text, int start, int end) {
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private static int trimEnd(CharSequence text, int start, int end) {
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    private void checkField(int i) {
+        if (i < 0 || i >= fieldCount) {
+            throw new IndexOutOfBoundsException("Field " + i + " of " + fieldCount);
+        }
+    }
+
+    private void ensureCapacity(int count) {
+        if (count > starts.length) {
+            int size = starts.length * 2;
+            starts = java.util.Arrays.copyOf(starts, size);
+            ends = java.util.Arrays.copyOf(ends, size);
+            quoted = java.util.Arrays.copyOf(quoted, size);
+        }
+    }
+}
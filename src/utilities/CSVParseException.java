@@ -0,0 +1,34 @@
+package utilities;
+
+/**
+ * CSV PARSE EXCEPTION - A malformed CSV line, with the reason as a category
+ *
+ * Thrown by CSVLineParser for a wrong field count, an empty field or an
+ * unterminated quote. Loaders count the line under getCategory(), so the
+ * category never depends on the wording of the message (or on the data
+ * quoted in it). A non-numeric CGPA is still a NumberFormatException.
+ *
+ * Extends IllegalArgumentException, so existing catch blocks still work.
+ */
+public class CSVParseException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final LoadReport.ErrorCategory category;
+
+    /**
+     * @param category Why the line was rejected
+     * @param message Detail message
+     */
+    public CSVParseException(LoadReport.ErrorCategory category, String message) {
+        super(message);
+        this.category = category;
+    }
+
+    /**
+     * @return Why the line was rejected
+     */
+    public LoadReport.ErrorCategory getCategory() {
+        return category;
+    }
+}
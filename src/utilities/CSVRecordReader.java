@@ -0,0 +1,204 @@
+package utilities;
+
+import model.StudentRecord;
+import java.io.*;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * CSV RECORD READER - Streaming, one-record-at-a-time CSV reading
+ *
+ * loadFromCSV() collects every record into a list and then copies it into
+ * an array, so peak memory is more than twice the data. This reader
+ * parses ONE line per next() call: only the current line and record are
+ * held, so memory stays bounded no matter how large the file is.
+ *
+ * Validation and header/empty-line skipping are the same as
+ * CSVDataLoader.loadFromCSV() (which is built on this reader). Invalid
+ * lines are NOT printed: they are counted in the reader's LoadReport,
+ * which keeps a bounded sample with line numbers (see getReport()).
+ *
+ * Usage:
+ *   try (CSVRecordReader reader = new CSVRecordReader("data/students.csv")) {
+ *       while (reader.hasNext()) {
+ *           bst.insert(reader.next());
+ *       }
+ *   }
+ *
+ * Or through CSVDataLoader.streamFromCSV() / forEachRecord() / loadIntoTree().
+ */
+public class CSVRecordReader implements Iterator<StudentRecord>, Closeable {
+
+    // ============ FIELDS ============
+    private final BufferedReader reader;
+    private final CSVLineParser parser = new CSVLineParser();
+    private StudentRecord nextRecord;   // Parsed ahead by hasNext()
+    private boolean finished;
+
+    // Statistics
+    private final LoadReport report;
+    private int lineNumber;
+
+    // ============ CONSTRUCTOR ============
+
+    /**
+     * Open a CSV file for streaming
+     *
+     * @param filename Path to the CSV file (e.g., "data/students.csv")
+     * @throws FileNotFoundException if the file does not exist
+     */
+    public CSVRecordReader(String filename) throws FileNotFoundException {
+        this(filename, new LoadReport(filename));
+    }
+
+    /**
+     * Open a CSV file for streaming, recording into the given report
+     *
+     * @param filename Path to the CSV file (e.g., "data/students.csv")
+     * @param report Receives counts, error categories and sampled errors
+     * @throws FileNotFoundException if the file does not exist (also recorded in the report)
+     */
+    public CSVRecordReader(String filename, LoadReport report) throws FileNotFoundException {
+        this.report = report;
+        try {
+            this.reader = new BufferedReader(new FileReader(filename));
+        } catch (FileNotFoundException e) {
+            report.recordFileNotFound();
+            throw e;
+        }
+    }
+
+    // ============ ITERATION ============
+
+    /**
+     * Read ahead to the next valid record
+     * Invalid lines are recorded in the report and skipped.
+     * A read error is recorded and ends the iteration (see hasFailed()).
+     */
+    @Override
+    public boolean hasNext() {
+        while (nextRecord == null && !finished) {
+            String line;
+            try {
+                line = reader.readLine();
+            } catch (IOException e) {
+                report.recordFailure(e.getMessage());
+                finished = true;
+                break;
+            }
+            if (line == null) {
+                finished = true;
+                break;
+            }
+            lineNumber++;
+            report.lineRead();
+
+            // Skip empty lines
+            if (line.trim().isEmpty()) {
+                report.recordSkipped();
+                continue;
+            }
+
+            // Skip header row (first non-empty line with "matric" in it)
+            if (lineNumber == 1 && line.toLowerCase().contains("matric")) {
+                report.recordSkipped();
+                continue;
+            }
+
+            try {
+                StudentRecord record = parser.parseRecord(line);
+
+                if (record != null && record.isValid()) {
+                    nextRecord = record;
+                    report.recordLoaded();
+                } else {
+                    // Only build the message if the sample still has room
+                    report.recordError(lineNumber, LoadReport.ErrorCategory.INVALID_RECORD,
+                            report.keepsNextError() ? "Invalid record data - " + line : null);
+                }
+            } catch (NumberFormatException e) {
+                report.recordError(lineNumber, LoadReport.ErrorCategory.BAD_CGPA,
+                        report.keepsNextError() ? "Parse error - " + e.getMessage() : null);
+            } catch (CSVParseException e) {
+                report.recordError(lineNumber, e.getCategory(),
+                        report.keepsNextError() ? "Parse error - " + e.getMessage() : null);
+            }
+        }
+        return nextRecord != null;
+    }
+
+    /**
+     * @return Next valid record
+     * @throws NoSuchElementException if there are no more records
+     */
+    @Override
+    public StudentRecord next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more records (line " + lineNumber + ")");
+        }
+        StudentRecord record = nextRecord;
+        nextRecord = null;
+        return record;
+    }
+
+    /**
+     * Lazy sequential stream over the remaining records
+     * Closing the stream closes this reader.
+     */
+    public Stream<StudentRecord> stream() {
+        Spliterator<StudentRecord> spliterator = Spliterators.spliteratorUnknownSize(this,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::closeQuietly);
+    }
+
+    @Override
+    public void close() throws IOException {
+        finished = true;
+        nextRecord = null;
+        reader.close();
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException e) {
+            System.err.println("❌ ERROR: Unable to close file - " + e.getMessage());
+        }
+    }
+
+    // ============ STATISTICS ============
+
+    /** @return Lines read so far (including skipped and invalid lines) */
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    /** @return Valid records returned (or read ahead) so far */
+    public int getLoadedCount() {
+        return (int) report.getLoadedCount();
+    }
+
+    /** @return Header and empty lines skipped so far */
+    public int getSkippedCount() {
+        return (int) report.getSkippedCount();
+    }
+
+    /** @return Invalid lines found so far */
+    public int getErrorCount() {
+        return (int) report.getErrorCount();
+    }
+
+    /** @return true if reading stopped because of an I/O error */
+    public boolean hasFailed() {
+        return report.hasFailed();
+    }
+
+    /** @return Counts, error categories and sampled errors so far */
+    public LoadReport getReport() {
+        return report;
+    }
+}
@@ -0,0 +1,198 @@
+package utilities;
+
+/**
+ * COUNTING BLOOM FILTER - Probabilistic set membership for matric numbers
+ *
+ * A plain Bloom filter answers "definitely NOT present" or "MAYBE present"
+ * using k hash positions in a bit array. It cannot support deletes, because
+ * clearing a bit could erase evidence of another key hashed to the same slot.
+ *
+ * The counting variant replaces each bit with a small counter:
+ *  - add(key):    increment the k counters
+ *  - remove(key): decrement the k counters
+ *  - mightContain(key): true only if ALL k counters are > 0
+ *
+ * Counters saturate at 255. A saturated counter is never decremented again,
+ * so the filter can never produce a false negative.
+ *
+ * Sizing (for n expected keys and target false-positive rate p):
+ *  - m = -n * ln(p) / (ln 2)²   counters
+ *  - k = (m / n) * ln 2         hash functions
+ *
+ * Time Complexity: O(k) per operation - independent of tree size
+ * Space Complexity: O(m) bytes
+ *
+ * Example (n = 10,000, p = 1%):
+ *  m ≈ 95,851 counters (~94 KB), k = 7
+ */
+public class CountingBloomFilter {
+
+    // ============ CONSTANTS ============
+    private static final int MAX_COUNT = 0xFF;
+
+    // ============ ATTRIBUTES ============
+    private final byte[] counters;
+    private final int hashCount;
+    private int keyCount;
+
+    // ============ CONSTRUCTORS ============
+
+    /**
+     * Create a filter sized for the expected number of keys
+     *
+     * @param expectedKeys Number of keys the filter should hold (e.g., 10000)
+     * @param falsePositiveRate Target false-positive probability (0 < p < 1)
+     */
+    public CountingBloomFilter(int expectedKeys, double falsePositiveRate) {
+        if (expectedKeys <= 0) {
+            throw new IllegalArgumentException("Expected keys must be positive: " + expectedKeys);
+        }
+        if (falsePositiveRate <= 0.0 || falsePositiveRate >= 1.0) {
+            throw new IllegalArgumentException("False-positive rate must be in (0, 1): " + falsePositiveRate);
+        }
+
+        double ln2 = Math.log(2);
+        long size = (long) Math.ceil(-expectedKeys * Math.log(falsePositiveRate) / (ln2 * ln2));
+        size = Math.max(64, Math.min(size, Integer.MAX_VALUE - 8));
+
+        this.counters = new byte[(int) size];
+        this.hashCount = Math.max(1, (int) Math.round((double) size / expectedKeys * ln2));
+        this.keyCount = 0;
+    }
+
+    // ============ CORE OPERATIONS ============
+
+    /**
+     * Record a key in the filter
+     * @param key Matric number to add
+     */
+    public void add(String key) {
+        long hash = hash64(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 0; i < hashCount; i++) {
+            int index = indexFor(h1, h2, i);
+            int count = counters[index] & 0xFF;
+            if (count < MAX_COUNT) {
+                counters[index] = (byte) (count + 1);
+            }
+        }
+        keyCount++;
+    }
+
+    /**
+     * Remove a key previously added with add()
+     * Must only be called for keys that are actually present,
+     * otherwise other keys could become false negatives.
+     *
+     * @param key Matric number to remove
+     */
+    public void remove(String key) {
+        long hash = hash64(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 0; i < hashCount; i++) {
+            int index = indexFor(h1, h2, i);
+            int count = counters[index] & 0xFF;
+            // Saturated counters stay saturated (no false negatives)
+            if (count > 0 && count < MAX_COUNT) {
+                counters[index] = (byte) (count - 1);
+            }
+        }
+        if (keyCount > 0) {
+            keyCount--;
+        }
+    }
+
+    /**
+     * Check whether a key MAY be present
+     *
+     * @param key Matric number to test
+     * @return false if the key is definitely absent, true if it may be present
+     */
+    public boolean mightContain(String key) {
+        long hash = hash64(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 0; i < hashCount; i++) {
+            if (counters[indexFor(h1, h2, i)] == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reset all counters to zero
+     */
+    public void clear() {
+        java.util.Arrays.fill(counters, (byte) 0);
+        keyCount = 0;
+    }
+
+    // ============ METRICS ============
+
+    /**
+     * Theoretical false-positive probability for the current key count
+     * Formula: (1 - e^(-k * n / m))^k
+     *
+     * @return Expected false-positive rate
+     */
+    public double getExpectedFalsePositiveRate() {
+        double exponent = -(double) hashCount * keyCount / counters.length;
+        return Math.pow(1.0 - Math.exp(exponent), hashCount);
+    }
+
+    /**
+     * @return Number of counters (m)
+     */
+    public int getCounterCount() {
+        return counters.length;
+    }
+
+    /**
+     * @return Number of hash functions (k)
+     */
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    /**
+     * @return Number of keys currently recorded (n)
+     */
+    public int getKeyCount() {
+        return keyCount;
+    }
+
+    // ============ HASHING ============
+
+    /**
+     * Double hashing (Kirsch-Mitzenmacher): index_i = h1 + i * h2 (mod m)
+     */
+    private int indexFor(int h1, int h2, int i) {
+        int combined = h1 + i * h2;
+        return (combined & Integer.MAX_VALUE) % counters.length;
+    }
+
+    /**
+     * 64-bit FNV-1a over the key's characters, followed by a
+     * MurmurHash3 finalizer so sequential matric numbers spread evenly
+     */
+    private static long hash64(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+
+        h ^= (h >>> 33);
+        h *= 0xff51afd7ed558ccdL;
+        h ^= (h >>> 33);
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= (h >>> 33);
+        return h;
+    }
+}
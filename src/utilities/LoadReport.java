@@ -0,0 +1,306 @@
+package utilities;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LOAD REPORT - Structured outcome of loading one CSV file
+ *
+ * Loaders used to print one System.err line per bad row; a corrupt
+ * multi-million-line feed then floods the console and loads at console
+ * speed. Loaders now record into a LoadReport instead:
+ *  - Counts: lines, loaded, skipped (header/empty), invalid
+ *  - Invalid rows per ErrorCategory
+ *  - The FIRST maxSamples errors with line number and message
+ *    (later errors are only counted: memory stays bounded)
+ *  - Read failure (file missing / I/O error), if any
+ *
+ * Nothing is printed while loading. Callers inspect the report, or call
+ * print() for the console summary that loadFromCSV(filename) shows.
+ *
+ * Usage:
+ *   LoadReport report = new LoadReport("data/students.csv");
+ *   StudentRecord[] records = CSVDataLoader.loadFromCSV("data/students.csv", report);
+ *   if (report.getErrorCount(LoadReport.ErrorCategory.BAD_CGPA) > 0) { ... }
+ */
+public class LoadReport {
+
+    // ============ CONSTANTS ============
+    public static final int DEFAULT_MAX_SAMPLES = 20;
+
+    /**
+     * Why a row was rejected
+     */
+    public enum ErrorCategory {
+        FIELD_COUNT("wrong number of fields"),
+        EMPTY_FIELD("empty field"),
+        UNTERMINATED_QUOTE("unterminated quoted field"),
+        BAD_CGPA("CGPA is not a number"),
+        INVALID_RECORD("invalid values (e.g. CGPA outside 0.00-4.00)");
+
+        private final String description;
+
+        ErrorCategory(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    /**
+     * One sampled error
+     */
+    public static final class LoadError {
+        private final long lineNumber;
+        private final ErrorCategory category;
+        private final String message;
+
+        LoadError(long lineNumber, ErrorCategory category, String message) {
+            this.lineNumber = lineNumber;
+            this.category = category;
+            this.message = message;
+        }
+
+        public long getLineNumber() {
+            return lineNumber;
+        }
+
+        public ErrorCategory getCategory() {
+            return category;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return "Line " + lineNumber + ": " + message;
+        }
+    }
+
+    // ============ FIELDS ============
+    private final String filename;
+    private final int maxSamples;
+    private final long[] categoryCounts = new long[ErrorCategory.values().length];
+    private final List<LoadError> samples = new ArrayList<>();
+    private long lineCount;
+    private long loadedCount;
+    private long skippedCount;
+    private long errorCount;
+    private String failure;
+    private boolean fileNotFound;
+
+    // ============ CONSTRUCTORS ============
+
+    /**
+     * @param filename File being loaded (for messages)
+     */
+    public LoadReport(String filename) {
+        this(filename, DEFAULT_MAX_SAMPLES);
+    }
+
+    /**
+     * @param filename File being loaded (for messages)
+     * @param maxSamples Errors kept with line numbers (0 = counts only)
+     */
+    public LoadReport(String filename, int maxSamples) {
+        if (maxSamples < 0) {
+            throw new IllegalArgumentException("maxSamples must be ≥ 0, got " + maxSamples);
+        }
+        this.filename = filename;
+        this.maxSamples = maxSamples;
+    }
+
+    // ============ RECORDING (used by the loaders) ============
+
+    void lineRead() {
+        lineCount++;
+    }
+
+    void recordLoaded() {
+        loadedCount++;
+    }
+
+    void recordSkipped() {
+        skippedCount++;
+    }
+
+    /**
+     * @return true if the next recordError() keeps its message in the
+     *         sample (loaders build the message only then)
+     */
+    boolean keepsNextError() {
+        return samples.size() < maxSamples;
+    }
+
+    /**
+     * Count an invalid row; keep it in the sample while there is room
+     *
+     * @param message Detail message (may be null when keepsNextError() is false)
+     */
+    void recordError(long lineNumber, ErrorCategory category, String message) {
+        errorCount++;
+        categoryCounts[category.ordinal()]++;
+        if (samples.size() < maxSamples) {
+            samples.add(new LoadError(lineNumber, category, message));
+        }
+    }
+
+    void recordFailure(String message) {
+        if (failure == null) {
+            failure = message;
+        }
+    }
+
+    void recordFileNotFound() {
+        fileNotFound = true;
+        recordFailure("File not found - " + filename);
+    }
+
+    /**
+     * Add a chunk's report, whose line numbers start at 1 for the chunk
+     * (parallel loading: chunks are merged in file order)
+     *
+     * @param chunk Report of the chunk
+     * @param lineOffset Lines in the file before the chunk
+     */
+    void merge(LoadReport chunk, long lineOffset) {
+        lineCount += chunk.lineCount;
+        loadedCount += chunk.loadedCount;
+        skippedCount += chunk.skippedCount;
+        errorCount += chunk.errorCount;
+        for (int i = 0; i < categoryCounts.length; i++) {
+            categoryCounts[i] += chunk.categoryCounts[i];
+        }
+        for (LoadError error : chunk.samples) {
+            if (samples.size() >= maxSamples) {
+                break;
+            }
+            samples.add(new LoadError(error.lineNumber + lineOffset, error.category, error.message));
+        }
+        if (chunk.failure != null) {
+            recordFailure(chunk.failure);
+        }
+    }
+
+    // ============ QUERIES ============
+
+    public String getFilename() {
+        return filename;
+    }
+
+    /** @return Lines read (including skipped and invalid lines) */
+    public long getLineCount() {
+        return lineCount;
+    }
+
+    /** @return Valid records loaded */
+    public long getLoadedCount() {
+        return loadedCount;
+    }
+
+    /** @return Header and empty lines skipped */
+    public long getSkippedCount() {
+        return skippedCount;
+    }
+
+    /** @return Invalid rows (all of them, not just the sample) */
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    /** @return Invalid rows of one category */
+    public long getErrorCount(ErrorCategory category) {
+        return categoryCounts[category.ordinal()];
+    }
+
+    /** @return Non-zero category counts, in category order */
+    public Map<ErrorCategory, Long> getErrorCounts() {
+        Map<ErrorCategory, Long> counts = new EnumMap<>(ErrorCategory.class);
+        for (ErrorCategory category : ErrorCategory.values()) {
+            if (categoryCounts[category.ordinal()] > 0) {
+                counts.put(category, categoryCounts[category.ordinal()]);
+            }
+        }
+        return counts;
+    }
+
+    /** @return The first errors (at most getMaxSamples()), in line order */
+    public List<LoadError> getErrorSample() {
+        return Collections.unmodifiableList(samples);
+    }
+
+    public int getMaxSamples() {
+        return maxSamples;
+    }
+
+    /** @return true if loading stopped early (file missing or I/O error) */
+    public boolean hasFailed() {
+        return failure != null;
+    }
+
+    public boolean isFileNotFound() {
+        return fileNotFound;
+    }
+
+    /** @return Why loading stopped, or null */
+    public String getFailure() {
+        return failure;
+    }
+
+    // ============ OUTPUT ============
+
+    /**
+     * Print the console summary: failure message, or counts, categories
+     * and the sampled errors
+     */
+    public void print() {
+        if (hasFailed()) {
+            System.err.println("❌ ERROR: " + (fileNotFound ? failure : "Unable to read file - " + failure));
+            if (fileNotFound) {
+                System.err.println("   Please ensure the file exists at: " + new File(filename).getAbsolutePath());
+            }
+            return;
+        }
+
+        for (LoadError error : samples) {
+            System.err.println("⚠️  " + error);
+        }
+        if (errorCount > samples.size()) {
+            System.err.println("⚠️  ... " + (errorCount - samples.size()) + " more invalid lines not shown");
+        }
+
+        System.out.println("\n" + "=".repeat(50));
+        System.out.println("📂 CSV LOADING REPORT");
+        System.out.println("=".repeat(50));
+        System.out.println("File: " + filename);
+        System.out.println("✓ Loaded:  " + loadedCount + " records");
+        if (skippedCount > 0) {
+            System.out.println("⊘ Skipped: " + skippedCount + " lines (headers/empty)");
+        }
+        if (errorCount > 0) {
+            System.out.println("✗ Errors:  " + errorCount + " records (invalid)");
+            for (Map.Entry<ErrorCategory, Long> entry : getErrorCounts().entrySet()) {
+                System.out.printf("    %-20s %d (%s)\n", entry.getKey(), entry.getValue(),
+                        entry.getKey().getDescription());
+            }
+        }
+        System.out.println("=".repeat(50) + "\n");
+    }
+
+    @Override
+    public String toString() {
+        if (hasFailed()) {
+            return "LoadReport[" + filename + ": failed - " + failure + "]";
+        }
+        return "LoadReport[" + filename + ": " + loadedCount + " loaded, " + skippedCount + " skipped, " +
+                errorCount + " invalid " + getErrorCounts() + "]";
+    }
+}
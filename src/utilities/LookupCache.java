@@ -0,0 +1,282 @@
+package utilities;
+
+import model.StudentRecord;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LOOKUP CACHE - Bounded W-TinyLFU cache for hot matric lookups
+ *
+ * Structure:
+ *  - WINDOW (≈1% of capacity): small LRU that admits every new entry.
+ *    Absorbs bursts of brand-new keys.
+ *  - MAIN (≈99% of capacity): LRU protected by a TinyLFU admission filter.
+ *  - FREQUENCY SKETCH: Count-Min sketch estimating how often each key
+ *    was requested recently (counters are halved periodically = aging).
+ *
+ * Admission:
+ *  When the window overflows, its LRU entry (the CANDIDATE) competes with
+ *  the LRU entry of main (the VICTIM). The candidate is admitted only if
+ *  its estimated frequency is higher; otherwise it is discarded.
+ *  This keeps one-hit wonders from flushing genuinely hot records.
+ *
+ * Time Complexity: O(1) per get/put/invalidate
+ * Space Complexity: O(capacity) entries + O(capacity) sketch bytes
+ */
+public class LookupCache {
+
+    // ============ CONSTANTS ============
+    private static final int SKETCH_DEPTH = 4;
+    private static final int MAX_FREQUENCY = 15;
+    private static final int SAMPLE_FACTOR = 10;
+
+    /** Largest capacity: the aging sample (SAMPLE_FACTOR × capacity) must fit in an int */
+    public static final int MAX_CAPACITY = Integer.MAX_VALUE / SAMPLE_FACTOR;
+
+    // ============ ATTRIBUTES ============
+    private final int capacity;
+    private final int windowCapacity;
+    private final int mainCapacity;
+
+    private final LinkedHashMap<String, StudentRecord> window;
+    private final LinkedHashMap<String, StudentRecord> main;
+
+    // Count-Min sketch (SKETCH_DEPTH rows of 'sketchWidth' counters)
+    private final byte[] sketch;
+    private final int sketchMask;
+    private final int sampleSize;
+    private int sampleCount;
+
+    // Statistics
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    // ============ CONSTRUCTORS ============
+
+    /**
+     * Create a cache holding at most 'capacity' records
+     *
+     * @param capacity Maximum number of cached records (2 to MAX_CAPACITY)
+     * @throws IllegalArgumentException if capacity is out of range
+     */
+    public LookupCache(int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("Cache capacity must be at least 2: " + capacity);
+        }
+        if (capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Cache capacity must be at most " + MAX_CAPACITY + ": " + capacity);
+        }
+
+        this.capacity = capacity;
+        this.windowCapacity = Math.max(1, capacity / 100);
+        this.mainCapacity = capacity - windowCapacity;
+
+        this.window = new LinkedHashMap<>(16, 0.75f, true);
+        this.main = new LinkedHashMap<>(16, 0.75f, true);
+
+        int width = Integer.highestOneBit(Math.max(16, capacity - 1) << 1);
+        this.sketch = new byte[SKETCH_DEPTH * width];
+        this.sketchMask = width - 1;
+        this.sampleSize = SAMPLE_FACTOR * capacity;
+        this.sampleCount = 0;
+    }
+
+    // ============ CORE OPERATIONS ============
+
+    /**
+     * Look up a cached record and record the access in the frequency sketch
+     *
+     * @param matricNumber Key to look up
+     * @return Cached StudentRecord, or null on a miss
+     */
+    public StudentRecord get(String matricNumber) {
+        recordAccess(matricNumber);
+
+        StudentRecord record = window.get(matricNumber);
+        if (record == null) {
+            record = main.get(matricNumber);
+        }
+
+        if (record != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return record;
+    }
+
+    /**
+     * Offer a record that was just fetched from the tree
+     * New entries enter the window; overflow competes for a slot in main.
+     *
+     * @param record Record to cache (keyed by matric number)
+     */
+    public void put(StudentRecord record) {
+        String key = record.getMatricNumber();
+
+        if (main.containsKey(key)) {
+            main.put(key, record);
+            return;
+        }
+
+        window.put(key, record);
+        if (window.size() <= windowCapacity) {
+            return;
+        }
+
+        // Window overflow: its LRU entry becomes the admission candidate
+        Map.Entry<String, StudentRecord> candidate = removeEldest(window);
+
+        if (main.size() < mainCapacity) {
+            main.put(candidate.getKey(), candidate.getValue());
+            return;
+        }
+
+        // TinyLFU: admit the candidate only if it is requested more often
+        String victimKey = main.keySet().iterator().next();
+        if (frequency(candidate.getKey()) > frequency(victimKey)) {
+            main.remove(victimKey);
+            main.put(candidate.getKey(), candidate.getValue());
+        }
+        evictions++;
+    }
+
+    /**
+     * Drop a key from the cache (call on delete or record update)
+     *
+     * @param matricNumber Key to invalidate
+     */
+    public void invalidate(String matricNumber) {
+        if (window.remove(matricNumber) == null) {
+            main.remove(matricNumber);
+        }
+    }
+
+    /**
+     * Remove every cached entry (statistics and sketch are kept)
+     */
+    public void clear() {
+        window.clear();
+        main.clear();
+    }
+
+    // ============ STATISTICS ============
+
+    /**
+     * @return Number of get() calls answered from the cache
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return Number of get() calls that missed the cache
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return Number of entries pushed out (victim evicted or candidate rejected)
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * @return Hit ratio in [0, 1], or 0.0 before any lookup
+     */
+    public double getHitRate() {
+        long total = hits + misses;
+        return (total == 0) ? 0.0 : (double) hits / total;
+    }
+
+    /**
+     * @return Number of records currently cached
+     */
+    public int size() {
+        return window.size() + main.size();
+    }
+
+    /**
+     * @return Maximum number of records the cache holds
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Reset hit/miss/eviction counters
+     */
+    public void resetStatistics() {
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    // ============ FREQUENCY SKETCH ============
+
+    /**
+     * Increment the key's counters in every sketch row (saturating at 15)
+     * After 'sampleSize' increments all counters are halved, so old
+     * popularity fades and the sketch follows the current workload.
+     */
+    private void recordAccess(String key) {
+        int hash = spread(key.hashCode());
+        boolean incremented = false;
+
+        for (int row = 0; row < SKETCH_DEPTH; row++) {
+            int index = indexOf(hash, row);
+            if (sketch[index] < MAX_FREQUENCY) {
+                sketch[index]++;
+                incremented = true;
+            }
+        }
+
+        if (incremented && ++sampleCount >= sampleSize) {
+            for (int i = 0; i < sketch.length; i++) {
+                sketch[i] = (byte) (sketch[i] >>> 1);
+            }
+            sampleCount /= 2;
+        }
+    }
+
+    /**
+     * Estimated access frequency = minimum counter across rows
+     */
+    private int frequency(String key) {
+        int hash = spread(key.hashCode());
+        int min = MAX_FREQUENCY;
+
+        for (int row = 0; row < SKETCH_DEPTH; row++) {
+            min = Math.min(min, sketch[indexOf(hash, row)]);
+        }
+        return min;
+    }
+
+    /**
+     * Counter index for a row: re-mix the hash with a per-row seed
+     */
+    private int indexOf(int hash, int row) {
+        int h = (hash + row) * 0x9E3779B9;
+        h ^= (h >>> 16);
+        return row * (sketchMask + 1) + (h & sketchMask);
+    }
+
+    private static int spread(int h) {
+        h ^= (h >>> 16);
+        h *= 0x45d9f3b;
+        h ^= (h >>> 16);
+        return h;
+    }
+
+    private static Map.Entry<String, StudentRecord> removeEldest(LinkedHashMap<String, StudentRecord> map) {
+        Iterator<Map.Entry<String, StudentRecord>> it = map.entrySet().iterator();
+        Map.Entry<String, StudentRecord> first = it.next();
+        Map.Entry<String, StudentRecord> eldest = Map.entry(first.getKey(), first.getValue());
+        it.remove();
+        return eldest;
+    }
+}
@@ -0,0 +1,389 @@
+package utilities;
+
+import model.StudentRecord;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MAPPED CSV PARSER - Byte-level CSV scanning over memory-mapped files
+ *
+ * Used by CSVDataLoader.loadFromCSVMapped(). Instead of decoding every
+ * byte into UTF-16 and creating a String per line, the parser:
+ *  - Scans ',' and '\n' delimiters directly in the mapped bytes
+ *    (a '\r' before '\n' is dropped, so CRLF files parse like LF files)
+ *  - Trims fields by moving indices (no trim() copies)
+ *  - Parses CGPA straight from the bytes
+ *  - Creates Strings ONLY for the matric and name fields that are kept
+ *
+ * Validation and quoting rules are identical to CSVLineParser.parseRecord():
+ * exactly 3 fields, none empty after trimming, CGPA numeric, record valid.
+ *
+ * A file is processed as one or more CHUNKS: byte ranges that end right
+ * after a '\n' (or at end of file), so no line is ever split.
+ */
+final class MappedCSVParser {
+
+    // ============ CONSTANTS ============
+    private static final byte COMMA = ',';
+    private static final byte NEWLINE = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final byte QUOTE = '"';
+    private static final int EXPECTED_FIELDS = 3;
+
+    // Largest mapping per chunk (a single MappedByteBuffer is limited to 2 GB)
+    static final long MAX_CHUNK_BYTES = 1L << 30;
+
+    // Powers of ten that are exact doubles (fast CGPA path)
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15
+    };
+
+    private MappedCSVParser() {
+    }
+
+    /**
+     * Result of parsing one chunk
+     * Line numbers in the report are LOCAL (1 = first line of the chunk).
+     */
+    static final class Chunk {
+        final List<StudentRecord> records = new ArrayList<>();
+        final LoadReport report;
+
+        Chunk(int maxSamples) {
+            report = new LoadReport(null, maxSamples);
+        }
+    }
+
+    // ============ CHUNKING ============
+
+    /**
+     * Split [0, fileSize) into ranges of at most MAX_CHUNK_BYTES that each
+     * end right after a newline (the last range ends at end of file)
+     *
+     * @param channel Open file channel
+     * @param targetChunks Desired number of chunks (≥ 1)
+     * @return Chunk boundaries: chunk i is [bounds[i], bounds[i + 1])
+     */
+    static long[] chunkBoundaries(FileChannel channel, int targetChunks) throws IOException {
+        long size = channel.size();
+        long chunkSize = Math.max(1, Math.min(MAX_CHUNK_BYTES, (size + targetChunks - 1) / targetChunks));
+
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        long start = 0;
+        ByteBuffer probe = ByteBuffer.allocate(8192);
+
+        while (start < size) {
+            long end = start + chunkSize;
+            if (end >= size) {
+                end = size;
+            } else {
+                end = nextLineStart(channel, end - 1, probe);
+                if (end - start > MAX_CHUNK_BYTES) {
+                    throw new IOException("Line longer than " + MAX_CHUNK_BYTES + " bytes near offset " + start);
+                }
+            }
+            bounds.add(end);
+            start = end;
+        }
+
+        long[] result = new long[bounds.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = bounds.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * @return Offset just after the first '\n' at or after 'from' (or file size)
+     */
+    private static long nextLineStart(FileChannel channel, long from, ByteBuffer probe) throws IOException {
+        long position = from;
+        while (true) {
+            probe.clear();
+            int read = channel.read(probe, position);
+            if (read <= 0) {
+                return channel.size();
+            }
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == NEWLINE) {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+    }
+
+    /**
+     * Map and parse one chunk of the file
+     *
+     * @param channel Open file channel
+     * @param start First byte of the chunk (must be a line start)
+     * @param end One past the last byte of the chunk
+     * @param maxSamples Errors to keep with line numbers (others only counted)
+     * @return Parsed chunk
+     */
+    static Chunk parseChunk(FileChannel channel, long start, long end, int maxSamples) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        return parse(buffer, start == 0, maxSamples);
+    }
+
+    // ============ PARSING ============
+
+    /**
+     * Parse every line in the buffer
+     *
+     * @param buffer Bytes of whole lines
+     * @param atFileStart true if the buffer begins at byte 0 (header detection)
+     * @param maxSamples Errors to keep with line numbers (others only counted)
+     * @return Parsed chunk
+     */
+    static Chunk parse(ByteBuffer buffer, boolean atFileStart, int maxSamples) {
+        Chunk chunk = new Chunk(maxSamples);
+        LoadReport report = chunk.report;
+        byte[] scratch = new byte[256];
+        int limit = buffer.limit();
+        int[] fieldStarts = new int[EXPECTED_FIELDS];
+        int[] fieldEnds = new int[EXPECTED_FIELDS];
+        boolean[] quoted = new boolean[EXPECTED_FIELDS];
+
+        int lineStart = 0;
+        while (lineStart < limit) {
+            // Find end of line
+            int lineEnd = lineStart;
+            while (lineEnd < limit && buffer.get(lineEnd) != NEWLINE) {
+                lineEnd++;
+            }
+            int next = lineEnd + 1;
+            // CRLF: drop the '\r' like BufferedReader.readLine() does
+            if (lineEnd > lineStart && buffer.get(lineEnd - 1) == CARRIAGE_RETURN) {
+                lineEnd--;
+            }
+            report.lineRead();
+
+            // Skip empty (whitespace-only) lines
+            int trimmedStart = skipSpace(buffer, lineStart, lineEnd);
+            if (trimmedStart == lineEnd) {
+                report.recordSkipped();
+                lineStart = next;
+                continue;
+            }
+
+            // Skip header row (first line containing "matric")
+            if (atFileStart && report.getLineCount() == 1 &&
+                    decode(buffer, lineStart, lineEnd, scratch).toLowerCase().contains("matric")) {
+                report.recordSkipped();
+                lineStart = next;
+                continue;
+            }
+
+            if (parseLine(buffer, lineStart, lineEnd, fieldStarts, fieldEnds, quoted, scratch, chunk.records,
+                    report)) {
+                report.recordLoaded();
+            }
+            lineStart = next;
+        }
+
+        return chunk;
+    }
+
+    /**
+     * Parse one line into a record and add it to 'out'
+     * An invalid line is recorded in the report under its ErrorCategory
+     * (the same category CSVLineParser / CSVRecordReader would give it).
+     *
+     * @return true if a record was added, false if the line was invalid
+     */
+    private static boolean parseLine(ByteBuffer buffer, int start, int end,
+                                     int[] fieldStarts, int[] fieldEnds, boolean[] quoted, byte[] scratch,
+                                     List<StudentRecord> out, LoadReport report) {
+        // Split on commas outside quotes; like String.split, trailing
+        // zero-length fields are dropped (same rules as CSVLineParser)
+        int fields = 0;
+        int kept = 0;
+        int position = start;
+        while (true) {
+            int fieldStart = position;
+            int fieldEnd = skipSpace(buffer, position, end);
+            if (fieldEnd < end && buffer.get(fieldEnd) == QUOTE) {
+                fieldEnd = closingQuote(buffer, fieldEnd + 1, end);
+                if (fieldEnd < 0) {
+                    return reject(report, LoadReport.ErrorCategory.UNTERMINATED_QUOTE,
+                            "Parse error - Unterminated quoted field");
+                }
+            }
+            while (fieldEnd < end && buffer.get(fieldEnd) != COMMA) {
+                fieldEnd++;
+            }
+
+            if (fields < EXPECTED_FIELDS) {
+                fieldStarts[fields] = fieldStart;
+                fieldEnds[fields] = fieldEnd;
+            }
+            fields++;
+            if (fieldEnd > fieldStart) {
+                kept = fields;
+            }
+            if (fieldEnd >= end) {
+                break;
+            }
+            position = fieldEnd + 1;
+        }
+
+        if (kept != EXPECTED_FIELDS) {
+            return reject(report, LoadReport.ErrorCategory.FIELD_COUNT, report.keepsNextError()
+                    ? "Parse error - Expected " + EXPECTED_FIELDS + " fields, got " + kept : null);
+        }
+
+        // Trim fields by moving indices, then strip surrounding quotes
+        for (int f = 0; f < EXPECTED_FIELDS; f++) {
+            fieldStarts[f] = skipSpace(buffer, fieldStarts[f], fieldEnds[f]);
+            fieldEnds[f] = trimEnd(buffer, fieldStarts[f], fieldEnds[f]);
+            quoted[f] = false;
+            if (fieldEnds[f] - fieldStarts[f] >= 2 && buffer.get(fieldStarts[f]) == QUOTE &&
+                    buffer.get(fieldEnds[f] - 1) == QUOTE) {
+                quoted[f] = true;
+                fieldStarts[f]++;
+                fieldEnds[f]--;
+            }
+            if (fieldStarts[f] == fieldEnds[f]) {
+                return reject(report, LoadReport.ErrorCategory.EMPTY_FIELD,
+                        "Parse error - One or more fields are empty");
+            }
+        }
+
+        double cgpa;
+        try {
+            cgpa = parseDouble(buffer, fieldStarts[2], fieldEnds[2], quoted[2], scratch);
+        } catch (NumberFormatException e) {
+            return reject(report, LoadReport.ErrorCategory.BAD_CGPA,
+                    report.keepsNextError() ? "Parse error - " + e.getMessage() : null);
+        }
+
+        String matric = decodeField(buffer, fieldStarts[0], fieldEnds[0], quoted[0], scratch);
+        String name = decodeField(buffer, fieldStarts[1], fieldEnds[1], quoted[1], scratch);
+        StudentRecord record = new StudentRecord(name, matric, cgpa);
+
+        if (!record.isValid()) {
+            return reject(report, LoadReport.ErrorCategory.INVALID_RECORD, report.keepsNextError()
+                    ? "Invalid record data - " + decode(buffer, start, end, scratch) : null);
+        }
+        out.add(record);
+        return true;
+    }
+
+    /**
+     * Record the current line as invalid
+     *
+     * @param message Detail message (null once the report's sample is full)
+     * @return false (for "return reject(...)")
+     */
+    private static boolean reject(LoadReport report, LoadReport.ErrorCategory category, String message) {
+        report.recordError(report.getLineCount(), category, message);
+        return false;
+    }
+
+    /**
+     * @return Index just after the quote that closes a quoted field opened
+     *         before 'from' ("" is an escaped quote), or -1 if unclosed
+     */
+    private static int closingQuote(ByteBuffer buffer, int from, int end) {
+        for (int i = from; i < end; i++) {
+            if (buffer.get(i) == QUOTE) {
+                if (i + 1 < end && buffer.get(i + 1) == QUOTE) {
+                    i++;
+                } else {
+                    return i + 1;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Decode a field, collapsing doubled quotes if it was quoted
+     * (same unescaping as CSVLineParser.field())
+     */
+    private static String decodeField(ByteBuffer buffer, int start, int end, boolean quoted, byte[] scratch) {
+        String value = decode(buffer, start, end, scratch);
+        return quoted ? CSVLineParser.unescapeQuotes(value, 0, value.length()) : value;
+    }
+
+    /**
+     * Parse a decimal number from bytes
+     *
+     * Fast path: [digits][.digits] with ≤ 15 digits. Both mantissa and 10^k
+     * are exact doubles, so mantissa / 10^k is one correctly rounded
+     * division and equals
+     * Double.parseDouble() exactly. Anything else falls back to
+     * Double.parseDouble() on the decoded field (doubled quotes collapsed
+     * if quoted, so error messages match CSVLineParser.fieldDouble()).
+     *
+     * @return Parsed value
+     * @throws NumberFormatException if the bytes are not a number
+     */
+    static double parseDouble(ByteBuffer buffer, int start, int end, boolean quoted, byte[] scratch) {
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = 0;
+        boolean seenPoint = false;
+        boolean fast = true;
+
+        for (int i = start; i < end && fast; i++) {
+            byte b = buffer.get(i);
+            if (b >= '0' && b <= '9') {
+                mantissa = mantissa * 10 + (b - '0');
+                digits++;
+                if (seenPoint) {
+                    fractionDigits++;
+                }
+            } else if (b == '.' && !seenPoint) {
+                seenPoint = true;
+            } else {
+                fast = false;
+            }
+        }
+
+        if (fast && digits > 0 && digits <= 15) {
+            return mantissa / POWERS_OF_TEN[fractionDigits];
+        }
+
+        return Double.parseDouble(decodeField(buffer, start, end, quoted, scratch));
+    }
+
+    /**
+     * @return Index of first byte in [start, end) that is not whitespace (≤ ' '), or end
+     */
+    private static int skipSpace(ByteBuffer buffer, int start, int end) {
+        while (start < end && (buffer.get(start) & 0xFF) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * @return New end index after dropping trailing whitespace (≤ ' ')
+     */
+    private static int trimEnd(ByteBuffer buffer, int start, int end) {
+        while (end > start && (buffer.get(end - 1) & 0xFF) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Decode bytes [start, end) as UTF-8 via a reusable scratch array
+     */
+    private static String decode(ByteBuffer buffer, int start, int end, byte[] scratch) {
+        int length = end - start;
+        byte[] bytes = (length <= scratch.length) ? scratch : new byte[length];
+        buffer.get(start, bytes, 0, length);
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+}
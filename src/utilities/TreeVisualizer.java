@@ -97,39 +97,19 @@ public class TreeVisualizer {
         }
 
         System.out.println();
-        Queue<Node> queue = new LinkedList<>();
-        queue.add(bst.getRoot());
-        int level = 0;
-        int nodesInLevel = 1;
-        int nodesInNextLevel = 0;
-
-        while (!queue.isEmpty()) {
-            System.out.print("Level " + level + ": ");
-
-            for (int i = 0; i < nodesInLevel; i++) {
-                Node node = queue.poll();
-
-                if (node != null) {
-                    StudentRecord data = node.getData();
-                    System.out.print(data.getMatricNumber() + " ");
-
-                    // Add children to queue
-                    if (node.getLeft() != null) {
-                        queue.add(node.getLeft());
-                        nodesInNextLevel++;
-                    }
-                    if (node.getRight() != null) {
-                        queue.add(node.getRight());
-                        nodesInNextLevel++;
-                    }
+        // Single BFS pass; a new depth starts a new line
+        int[] currentLevel = {-1};
+        bst.forEachLevelOrder((data, depth) -> {
+            if (depth != currentLevel[0]) {
+                if (currentLevel[0] >= 0) {
+                    System.out.println();
                 }
+                System.out.print("Level " + depth + ": ");
+                currentLevel[0] = depth;
             }
-
-            System.out.println();
-            nodesInLevel = nodesInNextLevel;
-            nodesInNextLevel = 0;
-            level++;
-        }
+            System.out.print(data.getMatricNumber() + " ");
+        });
+        System.out.println();
         System.out.println();
     }
 